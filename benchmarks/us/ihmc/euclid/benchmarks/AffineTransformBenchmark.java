@@ -0,0 +1,172 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.GIMBAL_LOCK;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.INPUT_INDEX_MASK;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.NEAR_IDENTITY;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.NUMBER_OF_INPUTS;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.RANDOM;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3DArray;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * Benchmarks the main operations of {@link AffineTransform}.
+ * <p>
+ * The operations {@code multiply} and {@code multiplyInvertOther} are performed on a copy of the
+ * input transform, such that the inputs do not drift from one invocation to another. The cost of
+ * the copy is then included in the measurement.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AffineTransformBenchmark
+{
+   /** The number of points used for the batch transformations. */
+   public static final int NUMBER_OF_POINTS = 1000;
+
+   @Param({NEAR_IDENTITY, RANDOM, GIMBAL_LOCK})
+   public String distribution;
+
+   private final AffineTransform[] transforms = new AffineTransform[NUMBER_OF_INPUTS];
+   private final AffineTransform[] otherTransforms = new AffineTransform[NUMBER_OF_INPUTS];
+   private final Point3D[] points = new Point3D[NUMBER_OF_INPUTS];
+   private final Vector3D[] vectors = new Vector3D[NUMBER_OF_INPUTS];
+   private final Quaternion[] quaternions = new Quaternion[NUMBER_OF_INPUTS];
+   private final Point3DArray pointArray = new Point3DArray(NUMBER_OF_POINTS);
+
+   private final AffineTransform transformResult = new AffineTransform();
+   private final Point3D pointResult = new Point3D();
+   private final Vector3D vectorResult = new Vector3D();
+   private final Quaternion quaternionResult = new Quaternion();
+   private final Point3DArray pointArrayResult = new Point3DArray(NUMBER_OF_POINTS);
+
+   private int index = 0;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+
+      for (int i = 0; i < NUMBER_OF_INPUTS; i++)
+      {
+         transforms[i] = BenchmarkInputTools.nextAffineTransform(random, distribution);
+         otherTransforms[i] = BenchmarkInputTools.nextAffineTransform(random, distribution);
+         points[i] = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         vectors[i] = EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0);
+         quaternions[i] = BenchmarkInputTools.nextQuaternion(random, distribution);
+      }
+
+      for (int i = 0; i < NUMBER_OF_POINTS; i++)
+         pointArray.add(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+   }
+
+   private int nextIndex()
+   {
+      index = (index + 1) & INPUT_INDEX_MASK;
+      return index;
+   }
+
+   @Benchmark
+   public Point3D transformPoint3D()
+   {
+      int i = nextIndex();
+      transforms[i].transform(points[i], pointResult);
+      return pointResult;
+   }
+
+   @Benchmark
+   public Point3D inverseTransformPoint3D()
+   {
+      int i = nextIndex();
+      transforms[i].inverseTransform(points[i], pointResult);
+      return pointResult;
+   }
+
+   @Benchmark
+   public Vector3D transformVector3D()
+   {
+      int i = nextIndex();
+      transforms[i].transform(vectors[i], vectorResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Vector3D inverseTransformVector3D()
+   {
+      int i = nextIndex();
+      transforms[i].inverseTransform(vectors[i], vectorResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Quaternion transformQuaternion()
+   {
+      int i = nextIndex();
+      transforms[i].transform(quaternions[i], quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public Quaternion inverseTransformQuaternion()
+   {
+      int i = nextIndex();
+      transforms[i].inverseTransform(quaternions[i], quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public AffineTransform multiply()
+   {
+      int i = nextIndex();
+      transformResult.set(transforms[i]);
+      transformResult.multiply(otherTransforms[i]);
+      return transformResult;
+   }
+
+   @Benchmark
+   public AffineTransform multiplyInvertOther()
+   {
+      int i = nextIndex();
+      transformResult.set(transforms[i]);
+      transformResult.multiplyInvertOther(otherTransforms[i]);
+      return transformResult;
+   }
+
+   @Benchmark
+   public Point3DArray transformPoint3DArray()
+   {
+      transforms[nextIndex()].transform(pointArray, pointArrayResult);
+      return pointArrayResult;
+   }
+
+   @Benchmark
+   public Point3DArray inverseTransformPoint3DArray()
+   {
+      transforms[nextIndex()].inverseTransform(pointArray, pointArrayResult);
+      return pointArrayResult;
+   }
+}
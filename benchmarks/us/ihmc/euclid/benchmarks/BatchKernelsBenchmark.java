@@ -0,0 +1,109 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.simd.BatchKernels;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * Compares the scalar and the default {@link BatchKernels}.
+ * <p>
+ * The default kernels are only vectorized when the benchmark runs on Java 17 or later with the Java
+ * 17 classes first on the class path, and with the JVM option
+ * {@code --add-modules jdk.incubator.vector}, which can be passed to the benchmark forks with the
+ * JMH option {@code -jvmArgsAppend}. Otherwise both variants measure the scalar kernels.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchKernelsBenchmark
+{
+   @Param({"SCALAR", "DEFAULT"})
+   public String kernelsType;
+   @Param({"1024", "1000000"})
+   public int size;
+
+   private BatchKernels kernels;
+   private double m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz;
+   private double[] x, y, z, s;
+   private double[] xResult, yResult, zResult, sResult;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+      kernels = "SCALAR".equals(kernelsType) ? BatchKernels.getScalar() : BatchKernels.getDefault();
+      RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+      m00 = transform.getM00();
+      m01 = transform.getM01();
+      m02 = transform.getM02();
+      m10 = transform.getM10();
+      m11 = transform.getM11();
+      m12 = transform.getM12();
+      m20 = transform.getM20();
+      m21 = transform.getM21();
+      m22 = transform.getM22();
+      tx = transform.getM03();
+      ty = transform.getM13();
+      tz = transform.getM23();
+      x = new double[size];
+      y = new double[size];
+      z = new double[size];
+      s = new double[size];
+      xResult = new double[size];
+      yResult = new double[size];
+      zResult = new double[size];
+      sResult = new double[size];
+
+      for (int i = 0; i < size; i++)
+      {
+         Quaternion quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+         x[i] = quaternion.getX();
+         y[i] = quaternion.getY();
+         z[i] = quaternion.getZ();
+         s[i] = quaternion.getS();
+      }
+   }
+
+   @Benchmark
+   public double[] transform()
+   {
+      kernels.transform(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, x, y, z, xResult, yResult, zResult, 0, size);
+      return xResult;
+   }
+
+   @Benchmark
+   public double[] normalizeQuaternions()
+   {
+      kernels.normalizeQuaternions(x, y, z, s, 0, size);
+      return x;
+   }
+
+   @Benchmark
+   public double[] multiplyQuaternions()
+   {
+      kernels.multiplyQuaternions(x, y, z, s, x, y, z, s, xResult, yResult, zResult, sResult, 0, size);
+      return xResult;
+   }
+}
@@ -0,0 +1,134 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.RANDOM;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.rotationConversion.QuaternionConversion;
+import us.ihmc.euclid.rotationConversion.RotationMatrixConversion;
+import us.ihmc.euclid.rotationConversion.YawPitchRollConversion;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * Compares the batch conversions over packed arrays against calling the single conversions on each
+ * element of an array of objects.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchRotationConversionBenchmark
+{
+   @Param({"1024", "100000"})
+   public int size;
+
+   private Quaternion[] quaternions;
+   private RotationMatrix[] rotationMatrices;
+   private double[] packedQuaternions;
+   private double[] packedRotationMatrices;
+
+   private final double[] yawPitchRollResult = new double[3];
+   private final Quaternion quaternionResult = new Quaternion();
+   private final RotationMatrix rotationMatrixResult = new RotationMatrix();
+   private double[] packedYawPitchRollsResult;
+   private double[] packedQuaternionsResult;
+   private double[] packedRotationMatricesResult;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+      quaternions = new Quaternion[size];
+      rotationMatrices = new RotationMatrix[size];
+      packedQuaternions = new double[4 * size];
+      packedRotationMatrices = new double[9 * size];
+      packedYawPitchRollsResult = new double[3 * size];
+      packedQuaternionsResult = new double[4 * size];
+      packedRotationMatricesResult = new double[9 * size];
+
+      for (int i = 0; i < size; i++)
+      {
+         double[] yawPitchRoll = BenchmarkInputTools.nextYawPitchRoll(random, RANDOM);
+         quaternions[i] = new Quaternion();
+         quaternions[i].setYawPitchRoll(yawPitchRoll);
+         quaternions[i].get(4 * i, packedQuaternions);
+         rotationMatrices[i] = new RotationMatrix();
+         rotationMatrices[i].setYawPitchRoll(yawPitchRoll);
+         rotationMatrices[i].get(9 * i, packedRotationMatrices);
+      }
+   }
+
+   @Benchmark
+   public double quaternionToYawPitchRollLoop()
+   {
+      double sum = 0.0;
+      for (int i = 0; i < size; i++)
+      {
+         YawPitchRollConversion.convertQuaternionToYawPitchRoll(quaternions[i], yawPitchRollResult);
+         sum += yawPitchRollResult[0];
+      }
+      return sum;
+   }
+
+   @Benchmark
+   public double[] quaternionToYawPitchRollBatch()
+   {
+      YawPitchRollConversion.convertQuaternionsToYawPitchRolls(packedQuaternions, packedYawPitchRollsResult, 0, size);
+      return packedYawPitchRollsResult;
+   }
+
+   @Benchmark
+   public double quaternionToMatrixLoop()
+   {
+      double sum = 0.0;
+      for (int i = 0; i < size; i++)
+      {
+         RotationMatrixConversion.convertQuaternionToMatrix(quaternions[i], rotationMatrixResult);
+         sum += rotationMatrixResult.getM00();
+      }
+      return sum;
+   }
+
+   @Benchmark
+   public double[] quaternionToMatrixBatch()
+   {
+      RotationMatrixConversion.convertQuaternionsToMatrices(packedQuaternions, packedRotationMatricesResult, 0, size);
+      return packedRotationMatricesResult;
+   }
+
+   @Benchmark
+   public double matrixToQuaternionLoop()
+   {
+      double sum = 0.0;
+      for (int i = 0; i < size; i++)
+      {
+         QuaternionConversion.convertMatrixToQuaternion(rotationMatrices[i], quaternionResult);
+         sum += quaternionResult.getS();
+      }
+      return sum;
+   }
+
+   @Benchmark
+   public double[] matrixToQuaternionBatch()
+   {
+      QuaternionConversion.convertMatricesToQuaternions(packedRotationMatrices, packedQuaternionsResult, 0, size);
+      return packedQuaternionsResult;
+   }
+}
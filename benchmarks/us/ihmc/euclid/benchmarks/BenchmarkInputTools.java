@@ -0,0 +1,190 @@
+package us.ihmc.euclid.benchmarks;
+
+import java.util.Random;
+
+import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * This class provides the input distributions used to parameterize the benchmarks.
+ * <p>
+ * Each benchmark generates its inputs from one of the following distributions:
+ * <ul>
+ * <li>{@link #NEAR_IDENTITY}: orientations with an angle smaller than
+ * {@link #NEAR_IDENTITY_MAX_ANGLE} on each axis, this is where the conversions hit their
+ * small-angle branches.
+ * <li>{@link #RANDOM}: orientations uniformly distributed in yaw-pitch-roll space.
+ * <li>{@link #GIMBAL_LOCK}: orientations with a pitch angle within
+ * {@link #GIMBAL_LOCK_MAX_PITCH_OFFSET} of &plusmn;<i>pi</i>/2, this is where the yaw-pitch-roll
+ * conversions become singular.
+ * </ul>
+ * </p>
+ * <p>
+ * The benchmarks pre-generate {@link #NUMBER_OF_INPUTS} inputs and cycle through them such that
+ * the measurement is not biased by a single input being constantly reused.
+ * </p>
+ */
+public abstract class BenchmarkInputTools
+{
+   /** Name of the distribution of orientations close to the identity. */
+   public static final String NEAR_IDENTITY = "NEAR_IDENTITY";
+   /** Name of the distribution of orientations uniformly spread in yaw-pitch-roll space. */
+   public static final String RANDOM = "RANDOM";
+   /** Name of the distribution of orientations close to the gimbal lock of yaw-pitch-roll angles. */
+   public static final String GIMBAL_LOCK = "GIMBAL_LOCK";
+
+   /** The maximum angle about each axis for the {@link #NEAR_IDENTITY} distribution. */
+   public static final double NEAR_IDENTITY_MAX_ANGLE = 1.0e-4;
+   /** The maximum distance of the pitch angle from &plusmn;<i>pi</i>/2 for {@link #GIMBAL_LOCK}. */
+   public static final double GIMBAL_LOCK_MAX_PITCH_OFFSET = 1.0e-6;
+   /** The number of inputs generated per benchmark, it has to be a power of 2. */
+   public static final int NUMBER_OF_INPUTS = 1024;
+   /** The mask to use to cycle through the inputs. */
+   public static final int INPUT_INDEX_MASK = NUMBER_OF_INPUTS - 1;
+   /** The seed used to generate the inputs such that runs are reproducible. */
+   public static final long SEED = 3245L;
+
+   /**
+    * Generates random yaw-pitch-roll angles from the given distribution.
+    *
+    * @param random the random generator to use.
+    * @param distribution the name of the distribution to use.
+    * @return the random yaw-pitch-roll angles.
+    * @throws IllegalArgumentException if {@code distribution} is unknown.
+    */
+   public static double[] nextYawPitchRoll(Random random, String distribution)
+   {
+      switch (distribution)
+      {
+      case NEAR_IDENTITY:
+         return EuclidCoreRandomTools.nextYawPitchRoll(random, NEAR_IDENTITY_MAX_ANGLE, NEAR_IDENTITY_MAX_ANGLE, NEAR_IDENTITY_MAX_ANGLE);
+      case RANDOM:
+         return EuclidCoreRandomTools.nextYawPitchRoll(random);
+      case GIMBAL_LOCK:
+         double yaw = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+         double pitch = (random.nextBoolean() ? 1.0 : -1.0) * (Math.PI / 2.0 - GIMBAL_LOCK_MAX_PITCH_OFFSET * random.nextDouble());
+         double roll = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+         return new double[] {yaw, pitch, roll};
+      default:
+         throw new IllegalArgumentException("Unknown distribution: " + distribution);
+      }
+   }
+
+   /**
+    * Generates a random quaternion from the given distribution.
+    *
+    * @param random the random generator to use.
+    * @param distribution the name of the distribution to use.
+    * @return the random quaternion.
+    * @throws IllegalArgumentException if {@code distribution} is unknown.
+    */
+   public static Quaternion nextQuaternion(Random random, String distribution)
+   {
+      Quaternion quaternion = new Quaternion();
+      quaternion.setYawPitchRoll(nextYawPitchRoll(random, distribution));
+      return quaternion;
+   }
+
+   /**
+    * Generates a random rotation matrix from the given distribution.
+    *
+    * @param random the random generator to use.
+    * @param distribution the name of the distribution to use.
+    * @return the random rotation matrix.
+    * @throws IllegalArgumentException if {@code distribution} is unknown.
+    */
+   public static RotationMatrix nextRotationMatrix(Random random, String distribution)
+   {
+      RotationMatrix rotationMatrix = new RotationMatrix();
+      rotationMatrix.setYawPitchRoll(nextYawPitchRoll(random, distribution));
+      return rotationMatrix;
+   }
+
+   /**
+    * Generates a random axis-angle from the given distribution.
+    *
+    * @param random the random generator to use.
+    * @param distribution the name of the distribution to use.
+    * @return the random axis-angle.
+    * @throws IllegalArgumentException if {@code distribution} is unknown.
+    */
+   public static AxisAngle nextAxisAngle(Random random, String distribution)
+   {
+      AxisAngle axisAngle = new AxisAngle();
+      axisAngle.setYawPitchRoll(nextYawPitchRoll(random, distribution));
+      return axisAngle;
+   }
+
+   /**
+    * Generates a random rotation vector from the given distribution.
+    *
+    * @param random the random generator to use.
+    * @param distribution the name of the distribution to use.
+    * @return the random rotation vector.
+    * @throws IllegalArgumentException if {@code distribution} is unknown.
+    */
+   public static Vector3D nextRotationVector(Random random, String distribution)
+   {
+      Vector3D rotationVector = new Vector3D();
+      nextQuaternion(random, distribution).getRotationVector(rotationVector);
+      return rotationVector;
+   }
+
+   /**
+    * Generates a random rigid-body transform which rotation is generated from the given
+    * distribution.
+    *
+    * @param random the random generator to use.
+    * @param distribution the name of the distribution to use for the rotation part.
+    * @return the random rigid-body transform.
+    * @throws IllegalArgumentException if {@code distribution} is unknown.
+    */
+   public static RigidBodyTransform nextRigidBodyTransform(Random random, String distribution)
+   {
+      RigidBodyTransform transform = new RigidBodyTransform();
+      transform.setRotationYawPitchRoll(nextYawPitchRoll(random, distribution));
+      transform.setTranslation(EuclidCoreRandomTools.nextVector3D(random));
+      return transform;
+   }
+
+   /**
+    * Generates a random quaternion-based transform which rotation is generated from the given
+    * distribution.
+    *
+    * @param random the random generator to use.
+    * @param distribution the name of the distribution to use for the rotation part.
+    * @return the random quaternion-based transform.
+    * @throws IllegalArgumentException if {@code distribution} is unknown.
+    */
+   public static QuaternionBasedTransform nextQuaternionBasedTransform(Random random, String distribution)
+   {
+      QuaternionBasedTransform transform = new QuaternionBasedTransform();
+      transform.setRotationYawPitchRoll(nextYawPitchRoll(random, distribution));
+      transform.setTranslation(EuclidCoreRandomTools.nextVector3D(random));
+      return transform;
+   }
+
+   /**
+    * Generates a random affine transform which rotation is generated from the given distribution.
+    *
+    * @param random the random generator to use.
+    * @param distribution the name of the distribution to use for the rotation part.
+    * @return the random affine transform.
+    * @throws IllegalArgumentException if {@code distribution} is unknown.
+    */
+   public static AffineTransform nextAffineTransform(Random random, String distribution)
+   {
+      AffineTransform transform = new AffineTransform();
+      transform.setRotationYawPitchRoll(nextYawPitchRoll(random, distribution));
+      transform.setScale(EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0), EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0),
+                         EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0));
+      transform.setTranslation(EuclidCoreRandomTools.nextVector3D(random));
+      return transform;
+   }
+}
@@ -0,0 +1,158 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.GIMBAL_LOCK;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.INPUT_INDEX_MASK;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.NEAR_IDENTITY;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.NUMBER_OF_INPUTS;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.RANDOM;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.DualQuaternion;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+/**
+ * Compares {@link DualQuaternion} against {@link QuaternionBasedTransform} and
+ * {@link RigidBodyTransform} for composing transforms, transforming points, and interpolating
+ * transforms.
+ * <p>
+ * The three representations are initialized with the same transforms. The compositions are
+ * performed on a copy of the input transform, such that the inputs do not drift from one
+ * invocation to another.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DualQuaternionBenchmark
+{
+   @Param({NEAR_IDENTITY, RANDOM, GIMBAL_LOCK})
+   public String distribution;
+
+   private final DualQuaternion[] dualQuaternions = new DualQuaternion[NUMBER_OF_INPUTS];
+   private final DualQuaternion[] otherDualQuaternions = new DualQuaternion[NUMBER_OF_INPUTS];
+   private final QuaternionBasedTransform[] quaternionBasedTransforms = new QuaternionBasedTransform[NUMBER_OF_INPUTS];
+   private final QuaternionBasedTransform[] otherQuaternionBasedTransforms = new QuaternionBasedTransform[NUMBER_OF_INPUTS];
+   private final RigidBodyTransform[] rigidBodyTransforms = new RigidBodyTransform[NUMBER_OF_INPUTS];
+   private final RigidBodyTransform[] otherRigidBodyTransforms = new RigidBodyTransform[NUMBER_OF_INPUTS];
+   private final Point3D[] points = new Point3D[NUMBER_OF_INPUTS];
+   private final double[] alphas = new double[NUMBER_OF_INPUTS];
+
+   private final DualQuaternion dualQuaternionResult = new DualQuaternion();
+   private final QuaternionBasedTransform quaternionBasedTransformResult = new QuaternionBasedTransform();
+   private final RigidBodyTransform rigidBodyTransformResult = new RigidBodyTransform();
+   private final Point3D pointResult = new Point3D();
+
+   private int index = 0;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+
+      for (int i = 0; i < NUMBER_OF_INPUTS; i++)
+      {
+         quaternionBasedTransforms[i] = BenchmarkInputTools.nextQuaternionBasedTransform(random, distribution);
+         otherQuaternionBasedTransforms[i] = BenchmarkInputTools.nextQuaternionBasedTransform(random, distribution);
+         dualQuaternions[i] = new DualQuaternion(quaternionBasedTransforms[i]);
+         otherDualQuaternions[i] = new DualQuaternion(otherQuaternionBasedTransforms[i]);
+         rigidBodyTransforms[i] = new RigidBodyTransform(quaternionBasedTransforms[i]);
+         otherRigidBodyTransforms[i] = new RigidBodyTransform(otherQuaternionBasedTransforms[i]);
+         points[i] = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         alphas[i] = random.nextDouble();
+      }
+   }
+
+   private int nextIndex()
+   {
+      index = (index + 1) & INPUT_INDEX_MASK;
+      return index;
+   }
+
+   @Benchmark
+   public DualQuaternion composeDualQuaternion()
+   {
+      int i = nextIndex();
+      dualQuaternionResult.set(dualQuaternions[i]);
+      dualQuaternionResult.multiply(otherDualQuaternions[i]);
+      return dualQuaternionResult;
+   }
+
+   @Benchmark
+   public QuaternionBasedTransform composeQuaternionBasedTransform()
+   {
+      int i = nextIndex();
+      quaternionBasedTransformResult.set(quaternionBasedTransforms[i]);
+      quaternionBasedTransformResult.multiply(otherQuaternionBasedTransforms[i]);
+      return quaternionBasedTransformResult;
+   }
+
+   @Benchmark
+   public RigidBodyTransform composeRigidBodyTransform()
+   {
+      int i = nextIndex();
+      rigidBodyTransformResult.set(rigidBodyTransforms[i]);
+      rigidBodyTransformResult.multiply(otherRigidBodyTransforms[i]);
+      return rigidBodyTransformResult;
+   }
+
+   @Benchmark
+   public Point3D transformPoint3DDualQuaternion()
+   {
+      int i = nextIndex();
+      dualQuaternions[i].transform(points[i], pointResult);
+      return pointResult;
+   }
+
+   @Benchmark
+   public Point3D transformPoint3DQuaternionBasedTransform()
+   {
+      int i = nextIndex();
+      quaternionBasedTransforms[i].transform(points[i], pointResult);
+      return pointResult;
+   }
+
+   @Benchmark
+   public Point3D transformPoint3DRigidBodyTransform()
+   {
+      int i = nextIndex();
+      rigidBodyTransforms[i].transform(points[i], pointResult);
+      return pointResult;
+   }
+
+   @Benchmark
+   public DualQuaternion interpolateDualQuaternion()
+   {
+      int i = nextIndex();
+      dualQuaternionResult.interpolate(dualQuaternions[i], otherDualQuaternions[i], alphas[i]);
+      return dualQuaternionResult;
+   }
+
+   @Benchmark
+   public QuaternionBasedTransform interpolateQuaternionBasedTransform()
+   {
+      int i = nextIndex();
+      quaternionBasedTransformResult.interpolate(quaternionBasedTransforms[i], otherQuaternionBasedTransforms[i], alphas[i]);
+      return quaternionBasedTransformResult;
+   }
+}
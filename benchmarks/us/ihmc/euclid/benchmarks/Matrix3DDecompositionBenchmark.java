@@ -0,0 +1,144 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.INPUT_INDEX_MASK;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.NUMBER_OF_INPUTS;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.factory.DecompositionFactory;
+import org.ejml.interfaces.decomposition.EigenDecomposition;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition;
+import org.ejml.ops.CommonOps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.Matrix3DTools;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+/**
+ * Benchmarks the 3-by-3 decompositions of {@link Matrix3DTools} against the equivalent EJML path,
+ * i.e. copying the matrix into a {@link DenseMatrix64F}, running the general decomposition and
+ * copying the result back.
+ * <p>
+ * The EJML decompositions are created once and reused such that only the cost of the copies and
+ * of the decompositions is measured.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Matrix3DDecompositionBenchmark
+{
+   private final Matrix3D[] matrices = new Matrix3D[NUMBER_OF_INPUTS];
+   private final Matrix3D[] symmetricMatrices = new Matrix3D[NUMBER_OF_INPUTS];
+
+   private final RotationMatrix rotationResult = new RotationMatrix();
+   private final RotationMatrix otherRotationResult = new RotationMatrix();
+   private final Matrix3D matrixResult = new Matrix3D();
+   private final Vector3D vectorResult = new Vector3D();
+
+   private final DenseMatrix64F denseMatrix = new DenseMatrix64F(3, 3);
+   private final DenseMatrix64F denseResult = new DenseMatrix64F(3, 3);
+   private final EigenDecomposition<DenseMatrix64F> ejmlEigen = DecompositionFactory.eig(3, true, true);
+   private final SingularValueDecomposition<DenseMatrix64F> ejmlSVD = DecompositionFactory.svd(3, 3, true, true, false);
+
+   private int index = 0;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+
+      for (int i = 0; i < NUMBER_OF_INPUTS; i++)
+      {
+         matrices[i] = EuclidCoreRandomTools.nextMatrix3D(random, 10.0);
+         symmetricMatrices[i] = new Matrix3D();
+         Matrix3DTools.multiplyTransposeLeft(matrices[i], matrices[i], symmetricMatrices[i]);
+      }
+   }
+
+   private int nextIndex()
+   {
+      index = (index + 1) & INPUT_INDEX_MASK;
+      return index;
+   }
+
+   @Benchmark
+   public Vector3D symmetricEigenDecomposition()
+   {
+      Matrix3DTools.computeSymmetricEigenDecomposition(symmetricMatrices[nextIndex()], rotationResult, vectorResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Vector3D symmetricEigenDecompositionEJML()
+   {
+      symmetricMatrices[nextIndex()].get(denseMatrix);
+      ejmlEigen.decompose(denseMatrix);
+      vectorResult.set(ejmlEigen.getEigenvalue(0).getReal(), ejmlEigen.getEigenvalue(1).getReal(), ejmlEigen.getEigenvalue(2).getReal());
+      for (int i = 0; i < 3; i++)
+      {
+         DenseMatrix64F eigenVector = ejmlEigen.getEigenVector(i);
+         for (int row = 0; row < 3; row++)
+            denseResult.set(row, i, eigenVector.get(row));
+      }
+      matrixResult.set(denseResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Vector3D singularValueDecomposition()
+   {
+      Matrix3DTools.computeSingularValueDecomposition(matrices[nextIndex()], rotationResult, vectorResult, otherRotationResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Vector3D singularValueDecompositionEJML()
+   {
+      matrices[nextIndex()].get(denseMatrix);
+      ejmlSVD.decompose(denseMatrix);
+      double[] singularValues = ejmlSVD.getSingularValues();
+      vectorResult.set(singularValues[0], singularValues[1], singularValues[2]);
+      matrixResult.set(ejmlSVD.getU(denseResult, false));
+      matrixResult.set(ejmlSVD.getV(denseResult, false));
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Matrix3D polarDecomposition()
+   {
+      Matrix3DTools.computePolarDecomposition(matrices[nextIndex()], rotationResult, matrixResult);
+      return matrixResult;
+   }
+
+   @Benchmark
+   public Matrix3D polarDecompositionEJML()
+   {
+      // Orthogonal polar factor only: Q = U V^T.
+      matrices[nextIndex()].get(denseMatrix);
+      ejmlSVD.decompose(denseMatrix);
+      DenseMatrix64F u = ejmlSVD.getU(null, false);
+      DenseMatrix64F v = ejmlSVD.getV(null, false);
+      CommonOps.multTransB(u, v, denseResult);
+      matrixResult.set(denseResult);
+      return matrixResult;
+   }
+}
@@ -0,0 +1,177 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.INPUT_INDEX_MASK;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.NUMBER_OF_INPUTS;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.Matrix3DTools;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
+
+/**
+ * Benchmarks the main operations of {@link Matrix3DTools}.
+ * <p>
+ * The input of the normalization is a rotation matrix which coefficients have been perturbed by
+ * up to {@value #NORMALIZATION_PERTURBATION}. The normalization is performed on a copy of the
+ * input, the cost of the copy is then included in the measurement.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Matrix3DToolsBenchmark
+{
+   /** The maximum perturbation applied on each coefficient of the matrices to normalize. */
+   public static final double NORMALIZATION_PERTURBATION = 1.0e-3;
+   /** The number of right-hand sides used for the batch linear solves. */
+   public static final int NUMBER_OF_VECTORS = 1000;
+
+   private final Matrix3D[] matrices = new Matrix3D[NUMBER_OF_INPUTS];
+   private final Matrix3D[] otherMatrices = new Matrix3D[NUMBER_OF_INPUTS];
+   private final Matrix3D[] perturbedRotationMatrices = new Matrix3D[NUMBER_OF_INPUTS];
+   private final Matrix3D[] symmetricMatrices = new Matrix3D[NUMBER_OF_INPUTS];
+   private final Vector3D[] vectors = new Vector3D[NUMBER_OF_INPUTS];
+   private final Vector3DArray vectorArray = new Vector3DArray(NUMBER_OF_VECTORS);
+
+   private final Matrix3D matrixResult = new Matrix3D();
+   private final Vector3D vectorResult = new Vector3D();
+   private final Vector3DArray vectorArrayResult = new Vector3DArray(NUMBER_OF_VECTORS);
+
+   private int index = 0;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+
+      for (int i = 0; i < NUMBER_OF_INPUTS; i++)
+      {
+         matrices[i] = EuclidCoreRandomTools.nextMatrix3D(random);
+         otherMatrices[i] = EuclidCoreRandomTools.nextMatrix3D(random);
+         RotationMatrix rotationMatrix = EuclidCoreRandomTools.nextRotationMatrix(random);
+         perturbedRotationMatrices[i] = new Matrix3D(rotationMatrix);
+         perturbedRotationMatrices[i].add(EuclidCoreRandomTools.nextMatrix3D(random, NORMALIZATION_PERTURBATION));
+         vectors[i] = EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0);
+         symmetricMatrices[i] = new Matrix3D();
+         Matrix3DTools.multiplyTransposeLeft(matrices[i], matrices[i], symmetricMatrices[i]);
+         symmetricMatrices[i].setM00(symmetricMatrices[i].getM00() + 0.1);
+         symmetricMatrices[i].setM11(symmetricMatrices[i].getM11() + 0.1);
+         symmetricMatrices[i].setM22(symmetricMatrices[i].getM22() + 0.1);
+      }
+
+      for (int i = 0; i < NUMBER_OF_VECTORS; i++)
+         vectorArray.add(EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0));
+   }
+
+   private int nextIndex()
+   {
+      index = (index + 1) & INPUT_INDEX_MASK;
+      return index;
+   }
+
+   @Benchmark
+   public Matrix3D multiply()
+   {
+      int i = nextIndex();
+      Matrix3DTools.multiply(matrices[i], otherMatrices[i], matrixResult);
+      return matrixResult;
+   }
+
+   @Benchmark
+   public Matrix3D multiplyInvertLeft()
+   {
+      int i = nextIndex();
+      Matrix3DTools.multiplyInvertLeft(matrices[i], otherMatrices[i], matrixResult);
+      return matrixResult;
+   }
+
+   @Benchmark
+   public Matrix3D invert()
+   {
+      Matrix3DTools.invert(matrices[nextIndex()], matrixResult);
+      return matrixResult;
+   }
+
+   @Benchmark
+   public Matrix3D normalize()
+   {
+      matrixResult.set(perturbedRotationMatrices[nextIndex()]);
+      Matrix3DTools.normalize(matrixResult);
+      return matrixResult;
+   }
+
+   @Benchmark
+   public Vector3D transformTuple3D()
+   {
+      int i = nextIndex();
+      Matrix3DTools.transform(matrices[i], vectors[i], vectorResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Vector3D inverseTransformTuple3D()
+   {
+      int i = nextIndex();
+      Matrix3DTools.inverseTransform(matrices[i], vectors[i], vectorResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Vector3D solve()
+   {
+      int i = nextIndex();
+      Matrix3DTools.solve(matrices[i], vectors[i], vectorResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Vector3D solveSymmetricPositiveDefinite()
+   {
+      int i = nextIndex();
+      Matrix3DTools.solveSymmetricPositiveDefinite(symmetricMatrices[i], vectors[i], vectorResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Vector3D invertAndTransform()
+   {
+      int i = nextIndex();
+      Matrix3DTools.invert(matrices[i], matrixResult);
+      Matrix3DTools.transform(matrixResult, vectors[i], vectorResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Vector3DArray solveTuple3DArray()
+   {
+      Matrix3DTools.solve(matrices[nextIndex()], vectorArray, vectorArrayResult);
+      return vectorArrayResult;
+   }
+
+   @Benchmark
+   public Vector3DArray solveSymmetricPositiveDefiniteTuple3DArray()
+   {
+      Matrix3DTools.solveSymmetricPositiveDefinite(symmetricMatrices[nextIndex()], vectorArray, vectorArrayResult);
+      return vectorArrayResult;
+   }
+}
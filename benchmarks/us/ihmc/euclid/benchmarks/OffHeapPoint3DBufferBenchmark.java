@@ -0,0 +1,108 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.offHeap.OffHeapPoint3DBuffer;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3DArray;
+
+/**
+ * Compares transforming a large set of points stored as {@link Point3D} objects, in a
+ * {@link Point3DArray}, and in an {@link OffHeapPoint3DBuffer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OffHeapPoint3DBufferBenchmark
+{
+   @Param({"1000", "1000000"})
+   public int numberOfPoints;
+
+   private RigidBodyTransform transform;
+   private Point3D[] pointObjects;
+   private Point3D[] pointObjectsResult;
+   private Point3DArray pointArray;
+   private Point3DArray pointArrayResult;
+   private OffHeapPoint3DBuffer pointBuffer;
+   private OffHeapPoint3DBuffer pointBufferResult;
+   private OffHeapPoint3DBuffer.Cursor cursor;
+   private OffHeapPoint3DBuffer.Cursor cursorResult;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+      transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+      pointObjects = new Point3D[numberOfPoints];
+      pointObjectsResult = new Point3D[numberOfPoints];
+      pointArray = new Point3DArray(numberOfPoints);
+      pointArrayResult = new Point3DArray(numberOfPoints);
+      pointBuffer = new OffHeapPoint3DBuffer(numberOfPoints);
+      pointBufferResult = new OffHeapPoint3DBuffer(numberOfPoints);
+      pointBufferResult.setSize(numberOfPoints);
+      cursor = pointBuffer.newCursor();
+      cursorResult = pointBufferResult.newCursor();
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         pointObjects[i] = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         pointObjectsResult[i] = new Point3D();
+         pointArray.add(pointObjects[i]);
+         pointBuffer.add(pointObjects[i]);
+      }
+   }
+
+   @Benchmark
+   public Point3D[] transformPoint3DObjects()
+   {
+      for (int i = 0; i < numberOfPoints; i++)
+         transform.transform(pointObjects[i], pointObjectsResult[i]);
+      return pointObjectsResult;
+   }
+
+   @Benchmark
+   public Point3DArray transformPoint3DArray()
+   {
+      transform.transform(pointArray, pointArrayResult);
+      return pointArrayResult;
+   }
+
+   @Benchmark
+   public OffHeapPoint3DBuffer transformOffHeapPoint3DBuffer()
+   {
+      transform.transform(pointBuffer, pointBufferResult);
+      return pointBufferResult;
+   }
+
+   @Benchmark
+   public OffHeapPoint3DBuffer transformOffHeapPoint3DBufferWithCursors()
+   {
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         cursor.setIndex(i);
+         cursorResult.setIndex(i);
+         transform.transform(cursor, cursorResult);
+      }
+      return pointBufferResult;
+   }
+}
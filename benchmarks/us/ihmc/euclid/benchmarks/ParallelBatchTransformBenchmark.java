@@ -0,0 +1,119 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.concurrent.ParallelBatchExecutor;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3DArray;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
+
+/**
+ * Measures how the batch transforms of large point and vector arrays scale with the number of
+ * threads of a {@link ParallelBatchExecutor}.
+ * <p>
+ * The {@code parallelism} parameter should be adjusted to the number of cores of the machine
+ * running the benchmark, a parallelism of {@code 1} gives the sequential reference.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelBatchTransformBenchmark
+{
+   @Param({"1", "2", "4", "8"})
+   public int parallelism;
+   @Param({"5000000"})
+   public int numberOfTuples;
+
+   private ParallelBatchExecutor executor;
+   private RigidBodyTransform rigidBodyTransform;
+   private QuaternionBasedTransform quaternionBasedTransform;
+   private AffineTransform affineTransform;
+   private Point3DArray points;
+   private Point3DArray pointsResult;
+   private Vector3DArray vectors;
+   private Vector3DArray vectorsResult;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+      executor = new ParallelBatchExecutor(parallelism);
+      rigidBodyTransform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+      quaternionBasedTransform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+      affineTransform = EuclidCoreRandomTools.nextAffineTransform(random);
+      points = new Point3DArray(numberOfTuples);
+      pointsResult = new Point3DArray(numberOfTuples);
+      vectors = new Vector3DArray(numberOfTuples);
+      vectorsResult = new Vector3DArray(numberOfTuples);
+
+      for (int i = 0; i < numberOfTuples; i++)
+      {
+         points.add(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+         vectors.add(EuclidCoreRandomTools.nextVector3D(random));
+      }
+   }
+
+   @TearDown
+   public void tearDown()
+   {
+      executor.shutdown();
+   }
+
+   @Benchmark
+   public Point3DArray transformPointsWithRigidBodyTransform()
+   {
+      rigidBodyTransform.transform(points, pointsResult, executor);
+      return pointsResult;
+   }
+
+   @Benchmark
+   public Point3DArray inverseTransformPointsWithRigidBodyTransform()
+   {
+      rigidBodyTransform.inverseTransform(points, pointsResult, executor);
+      return pointsResult;
+   }
+
+   @Benchmark
+   public Point3DArray transformPointsWithQuaternionBasedTransform()
+   {
+      quaternionBasedTransform.transform(points, pointsResult, executor);
+      return pointsResult;
+   }
+
+   @Benchmark
+   public Point3DArray transformPointsWithAffineTransform()
+   {
+      affineTransform.transform(points, pointsResult, executor);
+      return pointsResult;
+   }
+
+   @Benchmark
+   public Vector3DArray transformVectorsWithRigidBodyTransform()
+   {
+      rigidBodyTransform.transform(vectors, vectorsResult, executor);
+      return vectorsResult;
+   }
+}
@@ -0,0 +1,77 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3DStatistics;
+
+/**
+ * Compares the per-point accumulation of {@link Point3DStatistics} against its batch accumulation
+ * over structure-of-arrays coordinates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Point3DStatisticsBenchmark
+{
+   private static final int NUMBER_OF_POINTS = 4096;
+
+   private final Point3D[] points = new Point3D[NUMBER_OF_POINTS];
+   private final double[] xs = new double[NUMBER_OF_POINTS];
+   private final double[] ys = new double[NUMBER_OF_POINTS];
+   private final double[] zs = new double[NUMBER_OF_POINTS];
+   private final Point3DStatistics statistics = new Point3DStatistics();
+   private final Matrix3D covariance = new Matrix3D();
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+
+      for (int i = 0; i < NUMBER_OF_POINTS; i++)
+      {
+         points[i] = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         xs[i] = points[i].getX();
+         ys[i] = points[i].getY();
+         zs[i] = points[i].getZ();
+      }
+   }
+
+   @Benchmark
+   public Matrix3D addPointByPoint()
+   {
+      statistics.clear();
+      for (int i = 0; i < NUMBER_OF_POINTS; i++)
+         statistics.add(points[i]);
+      statistics.getCovariance(covariance);
+      return covariance;
+   }
+
+   @Benchmark
+   public Matrix3D addBatch()
+   {
+      statistics.clear();
+      statistics.add(xs, ys, zs, 0, NUMBER_OF_POINTS);
+      statistics.getCovariance(covariance);
+      return covariance;
+   }
+}
@@ -0,0 +1,90 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.orientation.PreparedRotation;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * Compares rotating many vectors with a quaternion against rotating them with a
+ * {@link PreparedRotation}, including the cost of preparing the rotation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PreparedRotationBenchmark
+{
+   @Param({"16", "1024"})
+   public int size;
+
+   private final PreparedRotation preparedRotation = new PreparedRotation();
+   private Quaternion quaternion;
+   private Vector3D[] vectors;
+   private Vector3D[] vectorsResult;
+   private Vector3DArray vectorArray;
+   private Vector3DArray vectorArrayResult;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+      quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+      vectors = new Vector3D[size];
+      vectorsResult = new Vector3D[size];
+      vectorArray = new Vector3DArray(size);
+      vectorArrayResult = new Vector3DArray(size);
+
+      for (int i = 0; i < size; i++)
+      {
+         vectors[i] = EuclidCoreRandomTools.nextVector3D(random);
+         vectorsResult[i] = new Vector3D();
+         vectorArray.add(vectors[i]);
+      }
+   }
+
+   @Benchmark
+   public Vector3D[] quaternionTransform()
+   {
+      for (int i = 0; i < size; i++)
+         quaternion.transform(vectors[i], vectorsResult[i]);
+      return vectorsResult;
+   }
+
+   @Benchmark
+   public Vector3D[] preparedRotationTransform()
+   {
+      preparedRotation.set(quaternion);
+      for (int i = 0; i < size; i++)
+         preparedRotation.transform(vectors[i], vectorsResult[i]);
+      return vectorsResult;
+   }
+
+   @Benchmark
+   public Vector3DArray preparedRotationTransformArray()
+   {
+      preparedRotation.set(quaternion);
+      preparedRotation.transform(vectorArray, vectorArrayResult);
+      return vectorArrayResult;
+   }
+}
@@ -0,0 +1,115 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.QuaternionInterpolator;
+
+/**
+ * Compares the exact SLERP of {@link Quaternion} against the fast SLERP and the NLERP, and against
+ * the {@link QuaternionInterpolator} when resampling the same pair of quaternions for many
+ * percentages.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QuaternionInterpolationBenchmark
+{
+   private static final int NUMBER_OF_ALPHAS = 1024;
+
+   private final Quaternion q0 = new Quaternion();
+   private final Quaternion qf = new Quaternion();
+   private final Quaternion result = new Quaternion();
+   private final QuaternionInterpolator interpolator = new QuaternionInterpolator();
+   private final double[] alphas = new double[NUMBER_OF_ALPHAS];
+   private final double[] packedResults = new double[4 * NUMBER_OF_ALPHAS];
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+      q0.set(EuclidCoreRandomTools.nextQuaternion(random));
+      qf.set(EuclidCoreRandomTools.nextQuaternion(random));
+
+      for (int i = 0; i < NUMBER_OF_ALPHAS; i++)
+         alphas[i] = (double) i / (NUMBER_OF_ALPHAS - 1);
+   }
+
+   @Benchmark
+   public double slerp()
+   {
+      double sum = 0.0;
+      for (int i = 0; i < NUMBER_OF_ALPHAS; i++)
+      {
+         result.interpolate(q0, qf, alphas[i]);
+         sum += result.getS();
+      }
+      return sum;
+   }
+
+   @Benchmark
+   public double fastSlerp()
+   {
+      double sum = 0.0;
+      for (int i = 0; i < NUMBER_OF_ALPHAS; i++)
+      {
+         result.interpolateFast(q0, qf, alphas[i]);
+         sum += result.getS();
+      }
+      return sum;
+   }
+
+   @Benchmark
+   public double nlerp()
+   {
+      double sum = 0.0;
+      for (int i = 0; i < NUMBER_OF_ALPHAS; i++)
+      {
+         result.interpolateNormalized(q0, qf, alphas[i]);
+         sum += result.getS();
+      }
+      return sum;
+   }
+
+   @Benchmark
+   public double[] interpolatorSlerp()
+   {
+      interpolator.set(q0, qf);
+      interpolator.interpolate(alphas, packedResults, 0, NUMBER_OF_ALPHAS);
+      return packedResults;
+   }
+
+   @Benchmark
+   public double[] interpolatorFastSlerp()
+   {
+      interpolator.set(q0, qf);
+      interpolator.interpolateFast(alphas, packedResults, 0, NUMBER_OF_ALPHAS);
+      return packedResults;
+   }
+
+   @Benchmark
+   public double[] interpolatorNlerp()
+   {
+      interpolator.set(q0, qf);
+      interpolator.interpolateNormalized(alphas, packedResults, 0, NUMBER_OF_ALPHAS);
+      return packedResults;
+   }
+}
@@ -0,0 +1,156 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.GIMBAL_LOCK;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.INPUT_INDEX_MASK;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.NEAR_IDENTITY;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.NUMBER_OF_INPUTS;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.RANDOM;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.QuaternionTools;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * Benchmarks the main operations of {@link QuaternionTools}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QuaternionToolsBenchmark
+{
+   @Param({NEAR_IDENTITY, RANDOM, GIMBAL_LOCK})
+   public String distribution;
+
+   private final Quaternion[] quaternions = new Quaternion[NUMBER_OF_INPUTS];
+   private final Quaternion[] otherQuaternions = new Quaternion[NUMBER_OF_INPUTS];
+   private final RotationMatrix[] rotationMatrices = new RotationMatrix[NUMBER_OF_INPUTS];
+   private final Vector3D[] vectors = new Vector3D[NUMBER_OF_INPUTS];
+   private final double[] angles = new double[NUMBER_OF_INPUTS];
+
+   private final Quaternion quaternionResult = new Quaternion();
+   private final RotationMatrix rotationMatrixResult = new RotationMatrix();
+   private final Vector3D vectorResult = new Vector3D();
+
+   private int index = 0;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+
+      for (int i = 0; i < NUMBER_OF_INPUTS; i++)
+      {
+         quaternions[i] = BenchmarkInputTools.nextQuaternion(random, distribution);
+         otherQuaternions[i] = BenchmarkInputTools.nextQuaternion(random, distribution);
+         rotationMatrices[i] = BenchmarkInputTools.nextRotationMatrix(random, distribution);
+         vectors[i] = EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0);
+         angles[i] = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+      }
+   }
+
+   private int nextIndex()
+   {
+      index = (index + 1) & INPUT_INDEX_MASK;
+      return index;
+   }
+
+   @Benchmark
+   public Quaternion multiply()
+   {
+      int i = nextIndex();
+      QuaternionTools.multiply(quaternions[i], otherQuaternions[i], quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public Quaternion multiplyConjugateLeft()
+   {
+      int i = nextIndex();
+      QuaternionTools.multiplyConjugateLeft(quaternions[i], otherQuaternions[i], quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public Quaternion multiplyConjugateRight()
+   {
+      int i = nextIndex();
+      QuaternionTools.multiplyConjugateRight(quaternions[i], otherQuaternions[i], quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public Quaternion multiplyWithRotationMatrix()
+   {
+      int i = nextIndex();
+      QuaternionTools.multiply(quaternions[i], false, rotationMatrices[i], false, quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public Vector3D transformTuple3D()
+   {
+      int i = nextIndex();
+      QuaternionTools.transform(quaternions[i], vectors[i], vectorResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Vector3D inverseTransformTuple3D()
+   {
+      int i = nextIndex();
+      QuaternionTools.inverseTransform(quaternions[i], vectors[i], vectorResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Quaternion transformQuaternion()
+   {
+      int i = nextIndex();
+      QuaternionTools.transform(quaternions[i], otherQuaternions[i], quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public RotationMatrix transformRotationMatrix()
+   {
+      int i = nextIndex();
+      QuaternionTools.transform(quaternions[i], rotationMatrices[i], rotationMatrixResult);
+      return rotationMatrixResult;
+   }
+
+   @Benchmark
+   public Quaternion appendYawRotation()
+   {
+      int i = nextIndex();
+      QuaternionTools.appendYawRotation(quaternions[i], angles[i], quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public double distancePrecise()
+   {
+      int i = nextIndex();
+      return QuaternionTools.distancePrecise(quaternions[i], otherQuaternions[i]);
+   }
+}
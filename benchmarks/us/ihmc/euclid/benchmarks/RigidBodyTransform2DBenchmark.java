@@ -0,0 +1,105 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.INPUT_INDEX_MASK;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.NUMBER_OF_INPUTS;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform2D;
+import us.ihmc.euclid.tuple2D.Point2D;
+
+/**
+ * Compares {@link RigidBodyTransform2D} against {@link RigidBodyTransform} for transforming 2D
+ * points one at a time and in batches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RigidBodyTransform2DBenchmark
+{
+   private final RigidBodyTransform2D[] transforms2D = new RigidBodyTransform2D[NUMBER_OF_INPUTS];
+   private final RigidBodyTransform[] rigidBodyTransforms = new RigidBodyTransform[NUMBER_OF_INPUTS];
+   private final Point2D[] points = new Point2D[NUMBER_OF_INPUTS];
+   private final double[] xs = new double[NUMBER_OF_INPUTS];
+   private final double[] ys = new double[NUMBER_OF_INPUTS];
+
+   private final Point2D pointResult = new Point2D();
+   private final double[] xsResult = new double[NUMBER_OF_INPUTS];
+   private final double[] ysResult = new double[NUMBER_OF_INPUTS];
+
+   private int index = 0;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+
+      for (int i = 0; i < NUMBER_OF_INPUTS; i++)
+      {
+         transforms2D[i] = new RigidBodyTransform2D(EuclidCoreRandomTools.nextDouble(random, Math.PI), EuclidCoreRandomTools.nextDouble(random, 10.0),
+                                                    EuclidCoreRandomTools.nextDouble(random, 10.0));
+         rigidBodyTransforms[i] = new RigidBodyTransform();
+         transforms2D[i].get(rigidBodyTransforms[i]);
+         points[i] = EuclidCoreRandomTools.nextPoint2D(random, 10.0);
+         xs[i] = points[i].getX();
+         ys[i] = points[i].getY();
+      }
+   }
+
+   private int nextIndex()
+   {
+      index = (index + 1) & INPUT_INDEX_MASK;
+      return index;
+   }
+
+   @Benchmark
+   public Point2D transformPoint2DRigidBodyTransform2D()
+   {
+      int i = nextIndex();
+      transforms2D[i].transform(points[i], pointResult);
+      return pointResult;
+   }
+
+   @Benchmark
+   public Point2D transformPoint2DRigidBodyTransform()
+   {
+      int i = nextIndex();
+      rigidBodyTransforms[i].transform(points[i], pointResult, true);
+      return pointResult;
+   }
+
+   @Benchmark
+   public double[] transformPointsRigidBodyTransform2D()
+   {
+      transforms2D[nextIndex()].transformPoints(xs, ys, xsResult, ysResult, NUMBER_OF_INPUTS);
+      return xsResult;
+   }
+
+   @Benchmark
+   public Point2D transformPointsRigidBodyTransform()
+   {
+      RigidBodyTransform transform = rigidBodyTransforms[nextIndex()];
+
+      for (int i = 0; i < NUMBER_OF_INPUTS; i++)
+         transform.transform(points[i], pointResult, true);
+      return pointResult;
+   }
+}
@@ -0,0 +1,233 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.GIMBAL_LOCK;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.INPUT_INDEX_MASK;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.NEAR_IDENTITY;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.NUMBER_OF_INPUTS;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.RANDOM;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.rotationConversion.AxisAngleConversion;
+import us.ihmc.euclid.rotationConversion.QuaternionConversion;
+import us.ihmc.euclid.rotationConversion.RotationMatrixConversion;
+import us.ihmc.euclid.rotationConversion.RotationVectorConversion;
+import us.ihmc.euclid.rotationConversion.YawPitchRollConversion;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * Benchmarks the conversions provided by {@link AxisAngleConversion},
+ * {@link QuaternionConversion}, {@link RotationMatrixConversion},
+ * {@link RotationVectorConversion}, and {@link YawPitchRollConversion}.
+ * <p>
+ * All the input orientations of a given run describe the same set of rotations, such that the
+ * results of different conversions can be compared against each other.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RotationConversionBenchmark
+{
+   @Param({NEAR_IDENTITY, RANDOM, GIMBAL_LOCK})
+   public String distribution;
+
+   private final double[][] yawPitchRolls = new double[NUMBER_OF_INPUTS][];
+   private final AxisAngle[] axisAngles = new AxisAngle[NUMBER_OF_INPUTS];
+   private final Quaternion[] quaternions = new Quaternion[NUMBER_OF_INPUTS];
+   private final RotationMatrix[] rotationMatrices = new RotationMatrix[NUMBER_OF_INPUTS];
+   private final Vector3D[] rotationVectors = new Vector3D[NUMBER_OF_INPUTS];
+
+   private final double[] yawPitchRollResult = new double[3];
+   private final AxisAngle axisAngleResult = new AxisAngle();
+   private final Quaternion quaternionResult = new Quaternion();
+   private final RotationMatrix rotationMatrixResult = new RotationMatrix();
+   private final Vector3D rotationVectorResult = new Vector3D();
+
+   private int index = 0;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+
+      for (int i = 0; i < NUMBER_OF_INPUTS; i++)
+      {
+         yawPitchRolls[i] = BenchmarkInputTools.nextYawPitchRoll(random, distribution);
+         axisAngles[i] = new AxisAngle();
+         axisAngles[i].setYawPitchRoll(yawPitchRolls[i]);
+         quaternions[i] = new Quaternion();
+         quaternions[i].setYawPitchRoll(yawPitchRolls[i]);
+         rotationMatrices[i] = new RotationMatrix();
+         rotationMatrices[i].setYawPitchRoll(yawPitchRolls[i]);
+         rotationVectors[i] = new Vector3D();
+         quaternions[i].getRotationVector(rotationVectors[i]);
+      }
+   }
+
+   private int nextIndex()
+   {
+      index = (index + 1) & INPUT_INDEX_MASK;
+      return index;
+   }
+
+   @Benchmark
+   public AxisAngle quaternionToAxisAngle()
+   {
+      AxisAngleConversion.convertQuaternionToAxisAngle(quaternions[nextIndex()], axisAngleResult);
+      return axisAngleResult;
+   }
+
+   @Benchmark
+   public AxisAngle matrixToAxisAngle()
+   {
+      AxisAngleConversion.convertMatrixToAxisAngle(rotationMatrices[nextIndex()], axisAngleResult);
+      return axisAngleResult;
+   }
+
+   @Benchmark
+   public AxisAngle rotationVectorToAxisAngle()
+   {
+      AxisAngleConversion.convertRotationVectorToAxisAngle(rotationVectors[nextIndex()], axisAngleResult);
+      return axisAngleResult;
+   }
+
+   @Benchmark
+   public AxisAngle yawPitchRollToAxisAngle()
+   {
+      AxisAngleConversion.convertYawPitchRollToAxisAngle(yawPitchRolls[nextIndex()], axisAngleResult);
+      return axisAngleResult;
+   }
+
+   @Benchmark
+   public Quaternion axisAngleToQuaternion()
+   {
+      QuaternionConversion.convertAxisAngleToQuaternion(axisAngles[nextIndex()], quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public Quaternion matrixToQuaternion()
+   {
+      QuaternionConversion.convertMatrixToQuaternion(rotationMatrices[nextIndex()], quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public Quaternion rotationVectorToQuaternion()
+   {
+      QuaternionConversion.convertRotationVectorToQuaternion(rotationVectors[nextIndex()], quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public Quaternion yawPitchRollToQuaternion()
+   {
+      QuaternionConversion.convertYawPitchRollToQuaternion(yawPitchRolls[nextIndex()], quaternionResult);
+      return quaternionResult;
+   }
+
+   @Benchmark
+   public RotationMatrix axisAngleToMatrix()
+   {
+      RotationMatrixConversion.convertAxisAngleToMatrix(axisAngles[nextIndex()], rotationMatrixResult);
+      return rotationMatrixResult;
+   }
+
+   @Benchmark
+   public RotationMatrix quaternionToMatrix()
+   {
+      RotationMatrixConversion.convertQuaternionToMatrix(quaternions[nextIndex()], rotationMatrixResult);
+      return rotationMatrixResult;
+   }
+
+   @Benchmark
+   public RotationMatrix rotationVectorToMatrix()
+   {
+      RotationMatrixConversion.convertRotationVectorToMatrix(rotationVectors[nextIndex()], rotationMatrixResult);
+      return rotationMatrixResult;
+   }
+
+   @Benchmark
+   public RotationMatrix yawPitchRollToMatrix()
+   {
+      RotationMatrixConversion.convertYawPitchRollToMatrix(yawPitchRolls[nextIndex()], rotationMatrixResult);
+      return rotationMatrixResult;
+   }
+
+   @Benchmark
+   public Vector3D axisAngleToRotationVector()
+   {
+      RotationVectorConversion.convertAxisAngleToRotationVector(axisAngles[nextIndex()], rotationVectorResult);
+      return rotationVectorResult;
+   }
+
+   @Benchmark
+   public Vector3D quaternionToRotationVector()
+   {
+      RotationVectorConversion.convertQuaternionToRotationVector(quaternions[nextIndex()], rotationVectorResult);
+      return rotationVectorResult;
+   }
+
+   @Benchmark
+   public Vector3D matrixToRotationVector()
+   {
+      RotationVectorConversion.convertMatrixToRotationVector(rotationMatrices[nextIndex()], rotationVectorResult);
+      return rotationVectorResult;
+   }
+
+   @Benchmark
+   public Vector3D yawPitchRollToRotationVector()
+   {
+      RotationVectorConversion.convertYawPitchRollToRotationVector(yawPitchRolls[nextIndex()], rotationVectorResult);
+      return rotationVectorResult;
+   }
+
+   @Benchmark
+   public double[] axisAngleToYawPitchRoll()
+   {
+      YawPitchRollConversion.convertAxisAngleToYawPitchRoll(axisAngles[nextIndex()], yawPitchRollResult);
+      return yawPitchRollResult;
+   }
+
+   @Benchmark
+   public double[] quaternionToYawPitchRoll()
+   {
+      YawPitchRollConversion.convertQuaternionToYawPitchRoll(quaternions[nextIndex()], yawPitchRollResult);
+      return yawPitchRollResult;
+   }
+
+   @Benchmark
+   public double[] matrixToYawPitchRoll()
+   {
+      YawPitchRollConversion.convertMatrixToYawPitchRoll(rotationMatrices[nextIndex()], yawPitchRollResult);
+      return yawPitchRollResult;
+   }
+
+   @Benchmark
+   public double[] rotationVectorToYawPitchRoll()
+   {
+      YawPitchRollConversion.convertRotationVectorToYawPitchRoll(rotationVectors[nextIndex()], yawPitchRollResult);
+      return yawPitchRollResult;
+   }
+}
@@ -0,0 +1,124 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.INPUT_INDEX_MASK;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.NUMBER_OF_INPUTS;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.matrix.RotationMatrixNormalizer;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.Matrix3DTools;
+
+/**
+ * Compares the cost and the accuracy of the {@link RotationMatrixNormalizer} strategies.
+ * <p>
+ * The inputs are rotation matrices corrupted by a random matrix which coefficients are bounded by
+ * {@link #corruption}. The accuracy of each strategy is printed when the trial ends as the maximum
+ * orthonormality error, i.e. max |R<sup>T</sup> R - I|, and the maximum distance to the closest
+ * rotation matrix, i.e. the polar factor of the input.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RotationMatrixNormalizerBenchmark
+{
+   @Param({"GRAM_SCHMIDT", "FIRST_ORDER", "POLAR"})
+   public String normalizerName;
+
+   @Param({"1.0e-12", "1.0e-3"})
+   public double corruption;
+
+   private RotationMatrixNormalizer normalizer;
+   private final Matrix3D[] inputs = new Matrix3D[NUMBER_OF_INPUTS];
+   private final Matrix3D output = new Matrix3D();
+   private int index = 0;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+
+      if (normalizerName.equals("FIRST_ORDER"))
+         normalizer = RotationMatrixNormalizer.getFirstOrder();
+      else if (normalizerName.equals("POLAR"))
+         normalizer = RotationMatrixNormalizer.getPolar();
+      else
+         normalizer = RotationMatrixNormalizer.getGramSchmidt();
+
+      for (int i = 0; i < NUMBER_OF_INPUTS; i++)
+      {
+         inputs[i] = new Matrix3D(EuclidCoreRandomTools.nextRotationMatrix(random));
+         inputs[i].add(EuclidCoreRandomTools.nextMatrix3D(random, corruption));
+      }
+   }
+
+   @Benchmark
+   public Matrix3D normalize()
+   {
+      output.set(inputs[index++ & INPUT_INDEX_MASK]);
+      normalizer.normalize(output);
+      return output;
+   }
+
+   @TearDown(Level.Trial)
+   public void printAccuracy()
+   {
+      Matrix3D normalized = new Matrix3D();
+      Matrix3D closest = new Matrix3D();
+      Matrix3D product = new Matrix3D();
+      double maxOrthonormalityError = 0.0;
+      double maxDistanceToClosest = 0.0;
+
+      for (Matrix3D input : inputs)
+      {
+         normalized.set(input);
+         normalizer.normalize(normalized);
+         closest.set(input);
+         Matrix3DTools.normalizePolar(closest);
+
+         Matrix3DTools.multiplyTransposeLeft(normalized, normalized, product);
+         product.setM00(product.getM00() - 1.0);
+         product.setM11(product.getM11() - 1.0);
+         product.setM22(product.getM22() - 1.0);
+         maxOrthonormalityError = Math.max(maxOrthonormalityError, maxAbsElement(product));
+         product.sub(normalized, closest);
+         maxDistanceToClosest = Math.max(maxDistanceToClosest, maxAbsElement(product));
+      }
+
+      System.out.println();
+      System.out.println(normalizer + " (corruption = " + corruption + "): max |R^T R - I| = " + maxOrthonormalityError
+            + ", max distance to closest rotation = " + maxDistanceToClosest);
+   }
+
+   private static double maxAbsElement(Matrix3D matrix)
+   {
+      double max = 0.0;
+      for (int row = 0; row < 3; row++)
+      {
+         for (int column = 0; column < 3; column++)
+            max = Math.max(max, Math.abs(matrix.getElement(row, column)));
+      }
+      return max;
+   }
+}
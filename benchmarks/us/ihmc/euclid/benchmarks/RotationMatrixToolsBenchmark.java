@@ -0,0 +1,133 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.GIMBAL_LOCK;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.INPUT_INDEX_MASK;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.NEAR_IDENTITY;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.NUMBER_OF_INPUTS;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.RANDOM;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.RotationMatrixTools;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * Benchmarks the main operations of {@link RotationMatrixTools}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RotationMatrixToolsBenchmark
+{
+   @Param({NEAR_IDENTITY, RANDOM, GIMBAL_LOCK})
+   public String distribution;
+
+   private final RotationMatrix[] rotationMatrices = new RotationMatrix[NUMBER_OF_INPUTS];
+   private final RotationMatrix[] otherRotationMatrices = new RotationMatrix[NUMBER_OF_INPUTS];
+   private final Quaternion[] quaternions = new Quaternion[NUMBER_OF_INPUTS];
+   private final Vector3D[] vectors = new Vector3D[NUMBER_OF_INPUTS];
+   private final double[] angles = new double[NUMBER_OF_INPUTS];
+   private final double[] alphas = new double[NUMBER_OF_INPUTS];
+
+   private final RotationMatrix rotationMatrixResult = new RotationMatrix();
+   private final Vector3D vectorResult = new Vector3D();
+
+   private int index = 0;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+
+      for (int i = 0; i < NUMBER_OF_INPUTS; i++)
+      {
+         rotationMatrices[i] = BenchmarkInputTools.nextRotationMatrix(random, distribution);
+         otherRotationMatrices[i] = BenchmarkInputTools.nextRotationMatrix(random, distribution);
+         quaternions[i] = BenchmarkInputTools.nextQuaternion(random, distribution);
+         vectors[i] = EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0);
+         angles[i] = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+         alphas[i] = random.nextDouble();
+      }
+   }
+
+   private int nextIndex()
+   {
+      index = (index + 1) & INPUT_INDEX_MASK;
+      return index;
+   }
+
+   @Benchmark
+   public RotationMatrix multiply()
+   {
+      int i = nextIndex();
+      RotationMatrixTools.multiply(rotationMatrices[i], otherRotationMatrices[i], rotationMatrixResult);
+      return rotationMatrixResult;
+   }
+
+   @Benchmark
+   public RotationMatrix multiplyTransposeLeft()
+   {
+      int i = nextIndex();
+      RotationMatrixTools.multiplyTransposeLeft(rotationMatrices[i], otherRotationMatrices[i], rotationMatrixResult);
+      return rotationMatrixResult;
+   }
+
+   @Benchmark
+   public RotationMatrix multiplyWithQuaternion()
+   {
+      int i = nextIndex();
+      RotationMatrixTools.multiply(rotationMatrices[i], false, quaternions[i], false, rotationMatrixResult);
+      return rotationMatrixResult;
+   }
+
+   @Benchmark
+   public RotationMatrix appendYawRotation()
+   {
+      int i = nextIndex();
+      RotationMatrixTools.appendYawRotation(rotationMatrices[i], angles[i], rotationMatrixResult);
+      return rotationMatrixResult;
+   }
+
+   @Benchmark
+   public Vector3D applyYawRotation()
+   {
+      int i = nextIndex();
+      RotationMatrixTools.applyYawRotation(angles[i], vectors[i], vectorResult);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public RotationMatrix interpolate()
+   {
+      int i = nextIndex();
+      RotationMatrixTools.interpolate(rotationMatrices[i], otherRotationMatrices[i], alphas[i], rotationMatrixResult);
+      return rotationMatrixResult;
+   }
+
+   @Benchmark
+   public double distance()
+   {
+      int i = nextIndex();
+      return RotationMatrixTools.distance(rotationMatrices[i], otherRotationMatrices[i]);
+   }
+}
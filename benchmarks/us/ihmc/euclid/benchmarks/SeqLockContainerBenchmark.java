@@ -0,0 +1,161 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.INPUT_INDEX_MASK;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.NUMBER_OF_INPUTS;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.concurrent.SeqLockContainer;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * Benchmarks the publication of a {@link RigidBodyTransform} from one writer thread to several
+ * reader threads using a {@link SeqLockContainer}, a {@code synchronized} block, and a
+ * {@link ReadWriteLock}.
+ * <p>
+ * Each group runs 1 writer thread continuously publishing new transforms and
+ * {@value #NUMBER_OF_READERS} reader threads continuously copying the last published transform.
+ * The scores of the writer and of the readers are reported separately.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeqLockContainerBenchmark
+{
+   /** The number of reader threads per group. */
+   public static final int NUMBER_OF_READERS = 3;
+
+   @State(Scope.Group)
+   public static class SharedState
+   {
+      private final SeqLockContainer<RigidBodyTransform> seqLockContainer = new SeqLockContainer<>(new RigidBodyTransform());
+      private final RigidBodyTransform synchronizedTransform = new RigidBodyTransform();
+      private final RigidBodyTransform readWriteLockTransform = new RigidBodyTransform();
+      private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+   }
+
+   @State(Scope.Thread)
+   public static class WriterState
+   {
+      private final RigidBodyTransform[] transforms = new RigidBodyTransform[NUMBER_OF_INPUTS];
+      private int index = 0;
+
+      @Setup
+      public void setup()
+      {
+         Random random = new Random(SEED);
+
+         for (int i = 0; i < NUMBER_OF_INPUTS; i++)
+            transforms[i] = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+      }
+
+      private RigidBodyTransform next()
+      {
+         index = (index + 1) & INPUT_INDEX_MASK;
+         return transforms[index];
+      }
+   }
+
+   @State(Scope.Thread)
+   public static class ReaderState
+   {
+      private final RigidBodyTransform transform = new RigidBodyTransform();
+   }
+
+   @Benchmark
+   @Group("seqLock")
+   @GroupThreads(1)
+   public void seqLockWrite(SharedState shared, WriterState writer)
+   {
+      shared.seqLockContainer.set(writer.next());
+   }
+
+   @Benchmark
+   @Group("seqLock")
+   @GroupThreads(NUMBER_OF_READERS)
+   public RigidBodyTransform seqLockRead(SharedState shared, ReaderState reader)
+   {
+      shared.seqLockContainer.get(reader.transform);
+      return reader.transform;
+   }
+
+   @Benchmark
+   @Group("synchronized")
+   @GroupThreads(1)
+   public void synchronizedWrite(SharedState shared, WriterState writer)
+   {
+      RigidBodyTransform next = writer.next();
+
+      synchronized (shared.synchronizedTransform)
+      {
+         shared.synchronizedTransform.set(next);
+      }
+   }
+
+   @Benchmark
+   @Group("synchronized")
+   @GroupThreads(NUMBER_OF_READERS)
+   public RigidBodyTransform synchronizedRead(SharedState shared, ReaderState reader)
+   {
+      synchronized (shared.synchronizedTransform)
+      {
+         reader.transform.set(shared.synchronizedTransform);
+      }
+      return reader.transform;
+   }
+
+   @Benchmark
+   @Group("readWriteLock")
+   @GroupThreads(1)
+   public void readWriteLockWrite(SharedState shared, WriterState writer)
+   {
+      RigidBodyTransform next = writer.next();
+      shared.readWriteLock.writeLock().lock();
+      try
+      {
+         shared.readWriteLockTransform.set(next);
+      }
+      finally
+      {
+         shared.readWriteLock.writeLock().unlock();
+      }
+   }
+
+   @Benchmark
+   @Group("readWriteLock")
+   @GroupThreads(NUMBER_OF_READERS)
+   public RigidBodyTransform readWriteLockRead(SharedState shared, ReaderState reader)
+   {
+      shared.readWriteLock.readLock().lock();
+      try
+      {
+         reader.transform.set(shared.readWriteLockTransform);
+      }
+      finally
+      {
+         shared.readWriteLock.readLock().unlock();
+      }
+      return reader.transform;
+   }
+}
@@ -0,0 +1,119 @@
+package us.ihmc.euclid.benchmarks;
+
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.INPUT_INDEX_MASK;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.NUMBER_OF_INPUTS;
+import static us.ihmc.euclid.benchmarks.BenchmarkInputTools.SEED;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+/**
+ * Benchmarks the main operations on 3D tuples.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Tuple3DBenchmark
+{
+   private final Point3D[] points = new Point3D[NUMBER_OF_INPUTS];
+   private final Point3D[] otherPoints = new Point3D[NUMBER_OF_INPUTS];
+   private final Vector3D[] vectors = new Vector3D[NUMBER_OF_INPUTS];
+   private final Vector3D[] otherVectors = new Vector3D[NUMBER_OF_INPUTS];
+   private final double[] alphas = new double[NUMBER_OF_INPUTS];
+
+   private final Point3D pointResult = new Point3D();
+   private final Vector3D vectorResult = new Vector3D();
+
+   private int index = 0;
+
+   @Setup
+   public void setup()
+   {
+      Random random = new Random(SEED);
+
+      for (int i = 0; i < NUMBER_OF_INPUTS; i++)
+      {
+         points[i] = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         otherPoints[i] = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         vectors[i] = EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0);
+         otherVectors[i] = EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0);
+         alphas[i] = random.nextDouble();
+      }
+   }
+
+   private int nextIndex()
+   {
+      index = (index + 1) & INPUT_INDEX_MASK;
+      return index;
+   }
+
+   @Benchmark
+   public Point3D add()
+   {
+      int i = nextIndex();
+      pointResult.add(points[i], vectors[i]);
+      return pointResult;
+   }
+
+   @Benchmark
+   public Point3D interpolate()
+   {
+      int i = nextIndex();
+      pointResult.interpolate(points[i], otherPoints[i], alphas[i]);
+      return pointResult;
+   }
+
+   @Benchmark
+   public double distance()
+   {
+      int i = nextIndex();
+      return points[i].distance(otherPoints[i]);
+   }
+
+   @Benchmark
+   public double dot()
+   {
+      int i = nextIndex();
+      return vectors[i].dot(otherVectors[i]);
+   }
+
+   @Benchmark
+   public Vector3D cross()
+   {
+      int i = nextIndex();
+      vectorResult.cross(vectors[i], otherVectors[i]);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public Vector3D normalize()
+   {
+      vectorResult.setAndNormalize(vectors[nextIndex()]);
+      return vectorResult;
+   }
+
+   @Benchmark
+   public double angle()
+   {
+      int i = nextIndex();
+      return vectors[i].angle(otherVectors[i]);
+   }
+}
@@ -0,0 +1,33 @@
+package us.ihmc.euclid.simd;
+
+/**
+ * Selects the implementation returned by {@link BatchKernels#getDefault()}.
+ * <p>
+ * This is the Java 17 version of the loader. The vectorized kernels are loaded reflectively such
+ * that this class links even when the module {@code jdk.incubator.vector} is not enabled, in which
+ * case the scalar kernels are used.
+ * </p>
+ */
+final class BatchKernelsLoader
+{
+   private static final String VECTORIZED_KERNELS_CLASS_NAME = "us.ihmc.euclid.simd.VectorBatchKernels";
+
+   private BatchKernelsLoader()
+   {
+   }
+
+   static BatchKernels load(BatchKernels scalarKernels)
+   {
+      try
+      {
+         BatchKernels vectorizedKernels = (BatchKernels) Class.forName(VECTORIZED_KERNELS_CLASS_NAME).getDeclaredConstructor().newInstance();
+         // Without hardware support, the Vector API emulates each vector with scalar operations.
+         return vectorizedKernels.isVectorized() ? vectorizedKernels : scalarKernels;
+      }
+      catch (ReflectiveOperationException | LinkageError e)
+      {
+         // The module jdk.incubator.vector is not enabled.
+         return scalarKernels;
+      }
+   }
+}
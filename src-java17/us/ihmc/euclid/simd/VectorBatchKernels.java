@@ -0,0 +1,145 @@
+package us.ihmc.euclid.simd;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementation of {@link BatchKernels} based on the Vector API.
+ * <p>
+ * The elements are processed by groups of the preferred vector length of the platform, e.g. 4
+ * doubles with AVX2 or 8 doubles with AVX-512, and the remaining elements are processed with the
+ * scalar loops of {@link ScalarBatchKernels}. The operations are the same and are performed in the
+ * same order as the scalar loops, such that the results are bit-for-bit identical.
+ * </p>
+ * <p>
+ * This class is only part of the Java 17 layer of the multi-release JAR and is instantiated by
+ * {@link BatchKernelsLoader} when the module {@code jdk.incubator.vector} is enabled.
+ * </p>
+ */
+final class VectorBatchKernels extends BatchKernels
+{
+   private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+   VectorBatchKernels()
+   {
+   }
+
+   @Override
+   public boolean isVectorized()
+   {
+      return SPECIES.length() > 1;
+   }
+
+   @Override
+   public void transform(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22, double tx, double ty,
+                         double tz, double[] xOriginal, double[] yOriginal, double[] zOriginal, double[] xTransformed, double[] yTransformed,
+                         double[] zTransformed, int startIndex, int endIndex)
+   {
+      int i = startIndex;
+      int upperBound = startIndex + SPECIES.loopBound(endIndex - startIndex);
+
+      for (; i < upperBound; i += SPECIES.length())
+      {
+         DoubleVector x = DoubleVector.fromArray(SPECIES, xOriginal, i);
+         DoubleVector y = DoubleVector.fromArray(SPECIES, yOriginal, i);
+         DoubleVector z = DoubleVector.fromArray(SPECIES, zOriginal, i);
+         x.mul(m00).add(y.mul(m01)).add(z.mul(m02)).add(tx).intoArray(xTransformed, i);
+         x.mul(m10).add(y.mul(m11)).add(z.mul(m12)).add(ty).intoArray(yTransformed, i);
+         x.mul(m20).add(y.mul(m21)).add(z.mul(m22)).add(tz).intoArray(zTransformed, i);
+      }
+
+      ScalarBatchKernels.transformRange(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, xOriginal, yOriginal, zOriginal, xTransformed, yTransformed,
+                                        zTransformed, i, endIndex);
+   }
+
+   @Override
+   public void translateThenTransform(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22, double tx,
+                                      double ty, double tz, double[] xOriginal, double[] yOriginal, double[] zOriginal, double[] xTransformed,
+                                      double[] yTransformed, double[] zTransformed, int startIndex, int endIndex)
+   {
+      int i = startIndex;
+      int upperBound = startIndex + SPECIES.loopBound(endIndex - startIndex);
+
+      for (; i < upperBound; i += SPECIES.length())
+      {
+         DoubleVector x = DoubleVector.fromArray(SPECIES, xOriginal, i).add(tx);
+         DoubleVector y = DoubleVector.fromArray(SPECIES, yOriginal, i).add(ty);
+         DoubleVector z = DoubleVector.fromArray(SPECIES, zOriginal, i).add(tz);
+         x.mul(m00).add(y.mul(m01)).add(z.mul(m02)).intoArray(xTransformed, i);
+         x.mul(m10).add(y.mul(m11)).add(z.mul(m12)).intoArray(yTransformed, i);
+         x.mul(m20).add(y.mul(m21)).add(z.mul(m22)).intoArray(zTransformed, i);
+      }
+
+      ScalarBatchKernels.translateThenTransformRange(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, xOriginal, yOriginal, zOriginal, xTransformed,
+                                                     yTransformed, zTransformed, i, endIndex);
+   }
+
+   @Override
+   public void translate(double tx, double ty, double tz, double[] xOriginal, double[] yOriginal, double[] zOriginal, double[] xTransformed,
+                         double[] yTransformed, double[] zTransformed, int startIndex, int endIndex)
+   {
+      int i = startIndex;
+      int upperBound = startIndex + SPECIES.loopBound(endIndex - startIndex);
+
+      for (; i < upperBound; i += SPECIES.length())
+      {
+         DoubleVector.fromArray(SPECIES, xOriginal, i).add(tx).intoArray(xTransformed, i);
+         DoubleVector.fromArray(SPECIES, yOriginal, i).add(ty).intoArray(yTransformed, i);
+         DoubleVector.fromArray(SPECIES, zOriginal, i).add(tz).intoArray(zTransformed, i);
+      }
+
+      ScalarBatchKernels.translateRange(tx, ty, tz, xOriginal, yOriginal, zOriginal, xTransformed, yTransformed, zTransformed, i, endIndex);
+   }
+
+   @Override
+   public void normalizeQuaternions(double[] qx, double[] qy, double[] qz, double[] qs, int startIndex, int endIndex)
+   {
+      int i = startIndex;
+      int upperBound = startIndex + SPECIES.loopBound(endIndex - startIndex);
+
+      for (; i < upperBound; i += SPECIES.length())
+      {
+         DoubleVector x = DoubleVector.fromArray(SPECIES, qx, i);
+         DoubleVector y = DoubleVector.fromArray(SPECIES, qy, i);
+         DoubleVector z = DoubleVector.fromArray(SPECIES, qz, i);
+         DoubleVector s = DoubleVector.fromArray(SPECIES, qs, i);
+         DoubleVector norm = x.mul(x).add(y.mul(y)).add(z.mul(z)).add(s.mul(s)).lanewise(VectorOperators.SQRT);
+         VectorMask<Double> isZero = norm.compare(VectorOperators.EQ, 0.0);
+         DoubleVector invNorm = DoubleVector.broadcast(SPECIES, 1.0).div(norm);
+         x.mul(invNorm).blend(0.0, isZero).intoArray(qx, i);
+         y.mul(invNorm).blend(0.0, isZero).intoArray(qy, i);
+         z.mul(invNorm).blend(0.0, isZero).intoArray(qz, i);
+         s.mul(invNorm).blend(1.0, isZero).intoArray(qs, i);
+      }
+
+      ScalarBatchKernels.normalizeQuaternionsRange(qx, qy, qz, qs, i, endIndex);
+   }
+
+   @Override
+   public void multiplyQuaternions(double[] q1x, double[] q1y, double[] q1z, double[] q1s, double[] q2x, double[] q2y, double[] q2z, double[] q2s,
+                                   double[] qxResult, double[] qyResult, double[] qzResult, double[] qsResult, int startIndex, int endIndex)
+   {
+      int i = startIndex;
+      int upperBound = startIndex + SPECIES.loopBound(endIndex - startIndex);
+
+      for (; i < upperBound; i += SPECIES.length())
+      {
+         DoubleVector x1 = DoubleVector.fromArray(SPECIES, q1x, i);
+         DoubleVector y1 = DoubleVector.fromArray(SPECIES, q1y, i);
+         DoubleVector z1 = DoubleVector.fromArray(SPECIES, q1z, i);
+         DoubleVector s1 = DoubleVector.fromArray(SPECIES, q1s, i);
+         DoubleVector x2 = DoubleVector.fromArray(SPECIES, q2x, i);
+         DoubleVector y2 = DoubleVector.fromArray(SPECIES, q2y, i);
+         DoubleVector z2 = DoubleVector.fromArray(SPECIES, q2z, i);
+         DoubleVector s2 = DoubleVector.fromArray(SPECIES, q2s, i);
+         s1.mul(x2).add(x1.mul(s2)).add(y1.mul(z2)).sub(z1.mul(y2)).intoArray(qxResult, i);
+         s1.mul(y2).sub(x1.mul(z2)).add(y1.mul(s2)).add(z1.mul(x2)).intoArray(qyResult, i);
+         s1.mul(z2).add(x1.mul(y2)).sub(y1.mul(x2)).add(z1.mul(s2)).intoArray(qzResult, i);
+         s1.mul(s2).sub(x1.mul(x2)).sub(y1.mul(y2)).sub(z1.mul(z2)).intoArray(qsResult, i);
+      }
+
+      ScalarBatchKernels.multiplyQuaternionsRange(q1x, q1y, q1z, q1s, q2x, q2y, q2z, q2s, qxResult, qyResult, qzResult, qsResult, i, endIndex);
+   }
+}
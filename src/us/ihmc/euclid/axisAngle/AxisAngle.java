@@ -199,14 +199,10 @@ public class AxisAngle implements AxisAngleBasics, EpsilonComparable<AxisAngle>,
    @Override
    public boolean equals(Object object)
    {
-      try
-      {
+      if (object instanceof AxisAngle)
          return equals((AxisAngle) object);
-      }
-      catch (ClassCastException e)
-      {
+      else
          return false;
-      }
    }
 
    /**
@@ -0,0 +1,229 @@
+package us.ihmc.euclid.concurrent;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A {@code ParallelBatchExecutor} splits a batch operation over a range of indices into chunks that
+ * are processed concurrently by the threads of a {@link ForkJoinPool}.
+ * <p>
+ * It is meant for operations on large sets of elements, such as transforming a point cloud of
+ * millions of points, see for instance
+ * {@link us.ihmc.euclid.transform.RigidBodyTransform#transform(us.ihmc.euclid.tuple3D.Point3DArray, us.ihmc.euclid.tuple3D.Point3DArray, ParallelBatchExecutor)}.
+ * The operation itself is described by a {@link RangeKernel} which is applied on disjoint
+ * sub-ranges of indices, each element has to be processed independently from the others.
+ * </p>
+ * <p>
+ * The range is recursively halved until the sub-ranges are no larger than the chunk size, which
+ * should be chosen such that the data touched by one chunk fits in the per-core cache. Below the
+ * sequential threshold, the operation is performed in the calling thread, avoiding the cost of
+ * dispatching to the pool for batches that are too small to benefit from it.
+ * </p>
+ * <p>
+ * An executor can be shared by several threads. However, changing its settings while it is in use
+ * is not thread-safe.
+ * </p>
+ */
+public class ParallelBatchExecutor
+{
+   /** The default number of elements below which the operation is performed sequentially. */
+   public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 15;
+   /**
+    * The default number of elements processed by a single task. With 3D tuples, a chunk touches
+    * about 200 kilobytes, i.e. the order of magnitude of a per-core L2 cache.
+    */
+   public static final int DEFAULT_CHUNK_SIZE = 1 << 12;
+
+   /**
+    * The operation performed by a {@link ParallelBatchExecutor}.
+    */
+   public static interface RangeKernel
+   {
+      /**
+       * Applies the operation on the elements with an index in [{@code startIndex},
+       * {@code endIndex}[.
+       * <p>
+       * This method is called concurrently on disjoint ranges and should not modify any state
+       * shared with other ranges.
+       * </p>
+       *
+       * @param startIndex the index of the first element to process, inclusive.
+       * @param endIndex the index of the last element to process, exclusive.
+       */
+      void apply(int startIndex, int endIndex);
+   }
+
+   private final ForkJoinPool pool;
+   private final boolean ownsPool;
+   private int sequentialThreshold = DEFAULT_SEQUENTIAL_THRESHOLD;
+   private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+   /**
+    * Creates a new executor that relies on the {@link ForkJoinPool#commonPool() common pool}.
+    */
+   public ParallelBatchExecutor()
+   {
+      this(ForkJoinPool.commonPool(), false);
+   }
+
+   /**
+    * Creates a new executor with its own pool of threads.
+    * <p>
+    * The threads of the pool should be released with {@link #shutdown()} once this executor is no
+    * longer needed.
+    * </p>
+    *
+    * @param parallelism the number of threads to use, a value of {@code 1} results in all the
+    *           operations being performed sequentially in the calling thread.
+    * @throws IllegalArgumentException if {@code parallelism} is not strictly positive.
+    */
+   public ParallelBatchExecutor(int parallelism)
+   {
+      this(newPool(parallelism), true);
+   }
+
+   /**
+    * Creates a new executor that relies on the given pool.
+    *
+    * @param pool the pool to use. Not modified.
+    */
+   public ParallelBatchExecutor(ForkJoinPool pool)
+   {
+      this(pool, false);
+   }
+
+   private ParallelBatchExecutor(ForkJoinPool pool, boolean ownsPool)
+   {
+      this.pool = pool;
+      this.ownsPool = ownsPool;
+   }
+
+   private static ForkJoinPool newPool(int parallelism)
+   {
+      if (parallelism < 1)
+         throw new IllegalArgumentException("The parallelism has to be strictly positive: " + parallelism);
+      // No thread is needed when everything is performed in the calling thread.
+      return parallelism == 1 ? null : new ForkJoinPool(parallelism);
+   }
+
+   /**
+    * Applies the given kernel on all the indices in [0, {@code size}[.
+    * <p>
+    * This method returns once the kernel has been applied on the entire range.
+    * </p>
+    *
+    * @param size the number of elements to process.
+    * @param kernel the operation to perform. Not modified.
+    */
+   public void execute(int size, RangeKernel kernel)
+   {
+      if (size <= 0)
+         return;
+
+      if (size < sequentialThreshold || getParallelism() == 1)
+         kernel.apply(0, size);
+      else
+         pool.invoke(new RangeTask(kernel, 0, size, chunkSize));
+   }
+
+   /**
+    * Sets the number of elements below which the operations are performed sequentially in the
+    * calling thread.
+    *
+    * @param sequentialThreshold the new threshold.
+    */
+   public void setSequentialThreshold(int sequentialThreshold)
+   {
+      this.sequentialThreshold = sequentialThreshold;
+   }
+
+   /**
+    * Sets the maximum number of elements processed by a single task.
+    *
+    * @param chunkSize the new chunk size.
+    * @throws IllegalArgumentException if {@code chunkSize} is not strictly positive.
+    */
+   public void setChunkSize(int chunkSize)
+   {
+      if (chunkSize < 1)
+         throw new IllegalArgumentException("The chunk size has to be strictly positive: " + chunkSize);
+      this.chunkSize = chunkSize;
+   }
+
+   /**
+    * Gets the number of elements below which the operations are performed sequentially.
+    *
+    * @return the sequential threshold.
+    */
+   public int getSequentialThreshold()
+   {
+      return sequentialThreshold;
+   }
+
+   /**
+    * Gets the maximum number of elements processed by a single task.
+    *
+    * @return the chunk size.
+    */
+   public int getChunkSize()
+   {
+      return chunkSize;
+   }
+
+   /**
+    * Gets the number of threads used by this executor.
+    *
+    * @return the parallelism.
+    */
+   public int getParallelism()
+   {
+      return pool == null ? 1 : pool.getParallelism();
+   }
+
+   /**
+    * Releases the threads of this executor when it owns its pool.
+    * <p>
+    * This method has no effect when this executor relies on the common pool or on a pool provided
+    * at construction.
+    * </p>
+    */
+   public void shutdown()
+   {
+      if (ownsPool && pool != null)
+         pool.shutdown();
+   }
+
+   @SuppressWarnings("serial")
+   private static class RangeTask extends RecursiveAction
+   {
+      private final RangeKernel kernel;
+      private final int startIndex;
+      private final int endIndex;
+      private final int chunkSize;
+
+      private RangeTask(RangeKernel kernel, int startIndex, int endIndex, int chunkSize)
+      {
+         this.kernel = kernel;
+         this.startIndex = startIndex;
+         this.endIndex = endIndex;
+         this.chunkSize = chunkSize;
+      }
+
+      @Override
+      protected void compute()
+      {
+         int length = endIndex - startIndex;
+
+         if (length <= chunkSize)
+         {
+            kernel.apply(startIndex, endIndex);
+            return;
+         }
+
+         // Split on a multiple of the chunk size such that all the chunks but the last are full.
+         int numberOfChunks = (length + chunkSize - 1) / chunkSize;
+         int middleIndex = startIndex + (numberOfChunks / 2) * chunkSize;
+         invokeAll(new RangeTask(kernel, startIndex, middleIndex, chunkSize), new RangeTask(kernel, middleIndex, endIndex, chunkSize));
+      }
+   }
+}
@@ -0,0 +1,127 @@
+package us.ihmc.euclid.concurrent;
+
+import java.util.concurrent.locks.StampedLock;
+
+import us.ihmc.euclid.interfaces.GeometryObject;
+import us.ihmc.euclid.interfaces.Settable;
+
+/**
+ * A {@code SeqLockContainer} holds a value, typically a {@link GeometryObject}, that is published by
+ * a single writer thread and read by any number of reader threads.
+ * <p>
+ * The container implements a sequence lock: every write increments a sequence number before and
+ * after modifying the value, and a reader copies the value into its own instance and then checks
+ * that the sequence number has not changed in the meantime. When it has, the copy may be torn and
+ * the reader simply retries. As a result:
+ * <ul>
+ * <li>readers never acquire any lock and never block the writer,
+ * <li>readers never block each other,
+ * <li>neither the writer nor the readers generate garbage.
+ * </ul>
+ * </p>
+ * <p>
+ * The sequence number and the memory fences it requires are provided by the optimistic read mode of
+ * a {@link StampedLock}.
+ * </p>
+ * <p>
+ * Readers can starve if the writer publishes faster than a reader can copy the value. This
+ * container is meant for objects that are cheap to copy, i.e. any geometry object of this library,
+ * published at a rate far below the time it takes to copy them.
+ * </p>
+ * @param <T> the type of the value held by this container.
+ */
+public class SeqLockContainer<T extends Settable<T>>
+{
+   private final StampedLock sequenceLock = new StampedLock();
+   /** The internal storage of the published value. */
+   private final T value;
+
+   /**
+    * Creates a new container.
+    * <p>
+    * The given object is used as the internal storage of this container and should not be accessed
+    * afterwards. The container initially holds its current value.
+    * </p>
+    *
+    * @param storage the object to use as internal storage. Modified.
+    */
+   public SeqLockContainer(T storage)
+   {
+      value = storage;
+   }
+
+   /**
+    * Publishes a new value.
+    * <p>
+    * This method is intended to be called from a single writer thread. Concurrent calls from
+    * several threads are serialized.
+    * </p>
+    *
+    * @param newValue the value to publish. Not modified.
+    */
+   public void set(T newValue)
+   {
+      long stamp = sequenceLock.writeLock();
+      try
+      {
+         value.set(newValue);
+      }
+      finally
+      {
+         sequenceLock.unlockWrite(stamp);
+      }
+   }
+
+   /**
+    * Copies the last published value into {@code valueToPack}.
+    * <p>
+    * This method never blocks: it retries the copy until it was not interleaved with a write.
+    * </p>
+    *
+    * @param valueToPack the object in which the last published value is stored. Modified.
+    * @return the number of times the copy had to be retried because of a concurrent write.
+    */
+   public int get(T valueToPack)
+   {
+      int numberOfRetries = 0;
+
+      while (!tryGet(valueToPack))
+      {
+         numberOfRetries++;
+
+         if (sequenceLock.isWriteLocked())
+            Thread.yield();
+      }
+
+      return numberOfRetries;
+   }
+
+   /**
+    * Attempts once to copy the last published value into {@code valueToPack}.
+    *
+    * @param valueToPack the object in which the last published value is stored. Modified, its
+    *           content is undefined if this method returns {@code false}.
+    * @return {@code true} if the copy was not interleaved with a write, {@code false} otherwise.
+    */
+   public boolean tryGet(T valueToPack)
+   {
+      long stamp = sequenceLock.tryOptimisticRead();
+
+      if (stamp == 0L)
+         return false;
+
+      try
+      {
+         valueToPack.set(value);
+      }
+      catch (RuntimeException e)
+      {
+         // The value may have been read in an inconsistent state, only a consistent read can be trusted to throw.
+         if (sequenceLock.validate(stamp))
+            throw e;
+         return false;
+      }
+
+      return sequenceLock.validate(stamp);
+   }
+}
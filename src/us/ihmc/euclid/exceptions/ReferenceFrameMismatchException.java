@@ -0,0 +1,43 @@
+package us.ihmc.euclid.exceptions;
+
+import us.ihmc.euclid.referenceFrame.ReferenceFrame;
+
+/**
+ * {@code RuntimeException} dedicated to operations involving reference frames. It is thrown when
+ * two reference frames are expected to belong to the same tree, i.e. to share the same root
+ * frame, but do not.
+ */
+public class ReferenceFrameMismatchException extends RuntimeException
+{
+   private static final long serialVersionUID = -2379052247493923182L;
+
+   /**
+    * Constructs an {@code ReferenceFrameMismatchException} with no detail message.
+    */
+   public ReferenceFrameMismatchException()
+   {
+      super();
+   }
+
+   /**
+    * Constructs an {@code ReferenceFrameMismatchException} with the specified detail message.
+    *
+    * @param message the detail message.
+    */
+   public ReferenceFrameMismatchException(String message)
+   {
+      super(message);
+   }
+
+   /**
+    * Constructs an {@code ReferenceFrameMismatchException} with a default detail message
+    * outputting the names of the given frames.
+    *
+    * @param frame the first frame to be displayed in the detail message. Not modified.
+    * @param otherFrame the second frame to be displayed in the detail message. Not modified.
+    */
+   public ReferenceFrameMismatchException(ReferenceFrame frame, ReferenceFrame otherFrame)
+   {
+      super("The frames " + frame.getName() + " and " + otherFrame.getName() + " do not share the same root frame.");
+   }
+}
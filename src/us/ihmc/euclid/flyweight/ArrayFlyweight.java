@@ -0,0 +1,136 @@
+package us.ihmc.euclid.flyweight;
+
+/**
+ * Base class for the flyweight views over primitive arrays.
+ * <p>
+ * A flyweight view is a geometry object that does not hold its own components but instead reads
+ * and writes them directly in an array. The view is positioned on one element of the array at a
+ * time and can be moved from one element to another with {@link #moveTo(int)}, such that a single
+ * view can walk through an entire array without allocating an object per element.
+ * </p>
+ * <p>
+ * The layout of the array is described by:
+ * <ul>
+ * <li>the start offset: the position in the array of the first component of the first element.
+ * <li>the stride: the distance in the array between the first components of two consecutive
+ * elements. It is equal to the number of components of the geometry when the elements are packed.
+ * </ul>
+ * The components of an element are always expected to be contiguous.
+ * </p>
+ */
+public abstract class ArrayFlyweight
+{
+   /** The number of components of one element, for instance 3 for a 3D tuple. */
+   private final int numberOfComponents;
+   /** The length of the array currently wrapped. */
+   private int arrayLength;
+   /** The position in the array of the first component of the first element. */
+   private int startOffset;
+   /** The distance in the array between two consecutive elements. */
+   private int stride;
+   /** The index of the element this view is positioned on. */
+   private int index;
+   /** The position in the array of the first component of the current element. */
+   protected int offset;
+
+   /**
+    * Creates a new flyweight for a geometry with the given number of components.
+    *
+    * @param numberOfComponents the number of components of one element.
+    */
+   protected ArrayFlyweight(int numberOfComponents)
+   {
+      this.numberOfComponents = numberOfComponents;
+   }
+
+   /**
+    * Sets up the layout of the array to view and positions this view on the first element.
+    * <p>
+    * To be called by the subclasses when wrapping a new array.
+    * </p>
+    *
+    * @param arrayLength the length of the new array.
+    * @param startOffset the position in the array of the first component of the first element.
+    * @param stride the distance in the array between two consecutive elements.
+    * @throws IllegalArgumentException if {@code startOffset} is negative or if {@code stride} is
+    *            less than the number of components.
+    */
+   protected void setLayout(int arrayLength, int startOffset, int stride)
+   {
+      if (startOffset < 0)
+         throw new IllegalArgumentException("The start offset cannot be negative: " + startOffset);
+      if (stride < numberOfComponents)
+         throw new IllegalArgumentException("The stride should at least be " + numberOfComponents + ", but is: " + stride);
+
+      this.arrayLength = arrayLength;
+      this.startOffset = startOffset;
+      this.stride = stride;
+      index = 0;
+      offset = startOffset;
+   }
+
+   /**
+    * Positions this view on the {@code index}<sup>th</sup> element of the array.
+    *
+    * @param index the index of the element to view.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void moveTo(int index)
+   {
+      if (index < 0 || index >= size())
+         throw new IndexOutOfBoundsException("index should be in [0, " + size() + "[, but is: " + index);
+      this.index = index;
+      offset = startOffset + index * stride;
+   }
+
+   /**
+    * Gets the number of elements that can be viewed in the current array.
+    *
+    * @return the number of elements.
+    */
+   public int size()
+   {
+      int remaining = arrayLength - startOffset - numberOfComponents;
+      return remaining < 0 ? 0 : remaining / stride + 1;
+   }
+
+   /**
+    * Gets the index of the element this view is positioned on.
+    *
+    * @return the index of the current element.
+    */
+   public int getIndex()
+   {
+      return index;
+   }
+
+   /**
+    * Gets the position in the array of the first component of the current element.
+    *
+    * @return the offset of the current element.
+    */
+   public int getOffset()
+   {
+      return offset;
+   }
+
+   /**
+    * Gets the position in the array of the first component of the first element.
+    *
+    * @return the start offset.
+    */
+   public int getStartOffset()
+   {
+      return startOffset;
+   }
+
+   /**
+    * Gets the distance in the array between two consecutive elements.
+    *
+    * @return the stride.
+    */
+   public int getStride()
+   {
+      return stride;
+   }
+}
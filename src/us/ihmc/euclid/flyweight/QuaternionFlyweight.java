@@ -0,0 +1,138 @@
+package us.ihmc.euclid.flyweight;
+
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
+
+/**
+ * A {@code QuaternionFlyweight} is a {@link QuaternionBasics} that reads and writes its components
+ * directly in a {@code double[]}.
+ * <p>
+ * The components of each quaternion are expected to be stored in the order {@code x, y, z, s}.
+ * This view allows to run the existing quaternion algorithms, such as the ones in
+ * {@link us.ihmc.euclid.tools.QuaternionTools}, over packed data without creating an object per
+ * element. See {@link ArrayFlyweight} for a description of the array layout.
+ * </p>
+ */
+public class QuaternionFlyweight extends ArrayFlyweight implements QuaternionBasics
+{
+   /** The number of components of a quaternion. */
+   public static final int NUMBER_OF_COMPONENTS = 4;
+
+   /** The array holding the components. */
+   private double[] array;
+
+   /**
+    * Creates a new view over the given array of packed quaternions and positions it on the first
+    * element.
+    *
+    * @param array the array to view. Its content is shared with this view.
+    */
+   public QuaternionFlyweight(double[] array)
+   {
+      this(array, 0, NUMBER_OF_COMPONENTS);
+   }
+
+   /**
+    * Creates a new view over the given array and positions it on the first element.
+    *
+    * @param array the array to view. Its content is shared with this view.
+    * @param startOffset the position in the array of the first component of the first element.
+    * @param stride the distance in the array between two consecutive elements.
+    * @throws IllegalArgumentException if {@code startOffset} is negative or if {@code stride} is
+    *            less than {@value #NUMBER_OF_COMPONENTS}.
+    */
+   public QuaternionFlyweight(double[] array, int startOffset, int stride)
+   {
+      super(NUMBER_OF_COMPONENTS);
+      wrap(array, startOffset, stride);
+   }
+
+   /**
+    * Changes the array viewed and positions this view on the first element.
+    * <p>
+    * The elements are expected to be packed, i.e. the start offset is zero and the stride is
+    * {@value #NUMBER_OF_COMPONENTS}.
+    * </p>
+    *
+    * @param array the array to view. Its content is shared with this view.
+    */
+   public void wrap(double[] array)
+   {
+      wrap(array, 0, NUMBER_OF_COMPONENTS);
+   }
+
+   /**
+    * Changes the array viewed and positions this view on the first element.
+    *
+    * @param array the array to view. Its content is shared with this view.
+    * @param startOffset the position in the array of the first component of the first element.
+    * @param stride the distance in the array between two consecutive elements.
+    * @throws IllegalArgumentException if {@code startOffset} is negative or if {@code stride} is
+    *            less than {@value #NUMBER_OF_COMPONENTS}.
+    */
+   public void wrap(double[] array, int startOffset, int stride)
+   {
+      setLayout(array.length, startOffset, stride);
+      this.array = array;
+   }
+
+   /**
+    * Gets the array this view is currently viewing.
+    *
+    * @return the reference to the array.
+    */
+   public double[] getArray()
+   {
+      return array;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void setUnsafe(double qx, double qy, double qz, double qs)
+   {
+      array[offset] = qx;
+      array[offset + 1] = qy;
+      array[offset + 2] = qz;
+      array[offset + 3] = qs;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getX()
+   {
+      return array[offset];
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getY()
+   {
+      return array[offset + 1];
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getZ()
+   {
+      return array[offset + 2];
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getS()
+   {
+      return array[offset + 3];
+   }
+
+   /**
+    * Provides a {@code String} representation of the quaternion this view is positioned on as
+    * follows: (x, y, z, s).
+    *
+    * @return the {@code String} representing the current quaternion.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidCoreIOTools.getTuple4DString(this);
+   }
+}
@@ -0,0 +1,127 @@
+package us.ihmc.euclid.flyweight;
+
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+
+/**
+ * Base class for the flyweight views of 3D tuples over a {@code double[]}.
+ * <p>
+ * See {@link ArrayFlyweight} for a description of the array layout.
+ * </p>
+ */
+public abstract class Tuple3DFlyweight extends ArrayFlyweight implements Tuple3DBasics
+{
+   /** The number of components of a 3D tuple. */
+   public static final int NUMBER_OF_COMPONENTS = 3;
+
+   /** The array holding the components. */
+   private double[] array;
+
+   /**
+    * Creates a new view over the given array and positions it on the first element.
+    *
+    * @param array the array to view. Its content is shared with this view.
+    * @param startOffset the position in the array of the first component of the first element.
+    * @param stride the distance in the array between two consecutive elements.
+    * @throws IllegalArgumentException if {@code startOffset} is negative or if {@code stride} is
+    *            less than {@value #NUMBER_OF_COMPONENTS}.
+    */
+   protected Tuple3DFlyweight(double[] array, int startOffset, int stride)
+   {
+      super(NUMBER_OF_COMPONENTS);
+      wrap(array, startOffset, stride);
+   }
+
+   /**
+    * Changes the array viewed and positions this view on the first element.
+    * <p>
+    * The elements are expected to be packed, i.e. the start offset is zero and the stride is
+    * {@value #NUMBER_OF_COMPONENTS}.
+    * </p>
+    *
+    * @param array the array to view. Its content is shared with this view.
+    */
+   public void wrap(double[] array)
+   {
+      wrap(array, 0, NUMBER_OF_COMPONENTS);
+   }
+
+   /**
+    * Changes the array viewed and positions this view on the first element.
+    *
+    * @param array the array to view. Its content is shared with this view.
+    * @param startOffset the position in the array of the first component of the first element.
+    * @param stride the distance in the array between two consecutive elements.
+    * @throws IllegalArgumentException if {@code startOffset} is negative or if {@code stride} is
+    *            less than {@value #NUMBER_OF_COMPONENTS}.
+    */
+   public void wrap(double[] array, int startOffset, int stride)
+   {
+      setLayout(array.length, startOffset, stride);
+      this.array = array;
+   }
+
+   /**
+    * Gets the array this view is currently viewing.
+    *
+    * @return the reference to the array.
+    */
+   public double[] getArray()
+   {
+      return array;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void setX(double x)
+   {
+      array[offset] = x;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void setY(double y)
+   {
+      array[offset + 1] = y;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void setZ(double z)
+   {
+      array[offset + 2] = z;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getX()
+   {
+      return array[offset];
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getY()
+   {
+      return array[offset + 1];
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getZ()
+   {
+      return array[offset + 2];
+   }
+
+   /**
+    * Provides a {@code String} representation of the tuple this view is positioned on as follows:
+    * (x, y, z).
+    *
+    * @return the {@code String} representing the current tuple.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidCoreIOTools.getTuple3DString(this);
+   }
+}
@@ -0,0 +1,39 @@
+package us.ihmc.euclid.flyweight;
+
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+
+/**
+ * A {@code Vector3DFlyweight32} is a {@link Vector3DBasics} that reads and writes its coordinates
+ * directly in a {@code float[]}.
+ * <p>
+ * This view allows to run the existing 3D vector algorithms over packed data without creating an
+ * object per element. See {@link ArrayFlyweight} for a description of the array layout.
+ * </p>
+ */
+public class Vector3DFlyweight32 extends Tuple3DFlyweight32 implements Vector3DBasics
+{
+   /**
+    * Creates a new view over the given array of packed vectors and positions it on the first
+    * element.
+    *
+    * @param array the array to view. Its content is shared with this view.
+    */
+   public Vector3DFlyweight32(float[] array)
+   {
+      this(array, 0, NUMBER_OF_COMPONENTS);
+   }
+
+   /**
+    * Creates a new view over the given array and positions it on the first element.
+    *
+    * @param array the array to view. Its content is shared with this view.
+    * @param startOffset the position in the array of the first component of the first element.
+    * @param stride the distance in the array between two consecutive elements.
+    * @throws IllegalArgumentException if {@code startOffset} is negative or if {@code stride} is
+    *            less than {@value #NUMBER_OF_COMPONENTS}.
+    */
+   public Vector3DFlyweight32(float[] array, int startOffset, int stride)
+   {
+      super(array, startOffset, stride);
+   }
+}
@@ -11,8 +11,9 @@ import us.ihmc.euclid.orientation.interfaces.Orientation3DBasics;
 import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
 import us.ihmc.euclid.rotationConversion.RotationMatrixConversion;
 import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
 import us.ihmc.euclid.tools.EuclidHashCodeTools;
-import us.ihmc.euclid.tools.Matrix3DTools;
+import us.ihmc.euclid.tools.Matrix3DFeatures;
 import us.ihmc.euclid.tools.RotationMatrixTools;
 import us.ihmc.euclid.transform.interfaces.Transform;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
@@ -60,6 +61,42 @@ public class RotationMatrix implements Matrix3DBasics, RotationMatrixReadOnly, O
    /** The 3rd row 3rd column coefficient of this matrix. */
    private double m22;
 
+   /**
+    * Conservative upper bound of the orthonormality error introduced by a single product of two
+    * rotation matrices, i.e. the sum of the rounding errors of three products and two sums with
+    * some margin.
+    */
+   public static final double NORMALIZATION_DRIFT_PER_OPERATION = 8.0 * Math.ulp(1.0);
+   /**
+    * The maximum tolerance that can be used for the lazy normalization. It is kept well below
+    * {@link Matrix3DFeatures#EPS_CHECK_ROTATION} such that a matrix that has not been normalized
+    * yet still passes the checks for being a rotation matrix.
+    */
+   public static final double MAX_LAZY_NORMALIZATION_TOLERANCE = 1.0e-9;
+
+   /**
+    * The tolerance on the accumulated orthonormality error before this matrix is normalized. When
+    * zero, the lazy normalization is disabled and this matrix is normalized after every operation.
+    */
+   private double lazyNormalizationTolerance = 0.0;
+   /** The number of operations that have been performed since this matrix was last normalized. */
+   private int numberOfOperationsSinceNormalization = 0;
+   /** The strategy used to normalize this matrix. */
+   private RotationMatrixNormalizer normalizer = RotationMatrixNormalizer.getGramSchmidt();
+
+   /**
+    * Cached value of {@link #isZeroOrientation()}, updated every time the coefficients of this
+    * matrix are modified.
+    */
+   private boolean isZeroOrientation;
+   /**
+    * Cached value of {@link #isMatrix2D()}, updated every time the coefficients of this matrix are
+    * modified.
+    */
+   private boolean isMatrix2D;
+   /** The number of times the coefficients of this matrix have been modified. */
+   private long modificationCount = 0;
+
    /**
     * Create a new rotation matrix initialized to identity.
     */
@@ -172,15 +209,173 @@ public class RotationMatrix implements Matrix3DBasics, RotationMatrixReadOnly, O
    }
 
    /**
-    * Orthonormalization of the rotation matrix using the
-    * <a href="https://en.wikipedia.org/wiki/Gram%E2%80%93Schmidt_process"> Gram-Schmidt method</a>.
+    * Orthonormalization of the rotation matrix using the normalizer of this matrix.
+    * <p>
+    * By default, the
+    * <a href="https://en.wikipedia.org/wiki/Gram%E2%80%93Schmidt_process"> Gram-Schmidt method</a>
+    * is used, see {@link #setNormalizer(RotationMatrixNormalizer)} to change it.
+    * </p>
     *
     * @throws NotARotationMatrixException if the orthonormalization failed.
     */
    @Override
    public void normalize()
    {
-      Matrix3DTools.normalize(this);
+      normalizer.normalize(this);
+   }
+
+   /**
+    * Sets the strategy used to normalize this matrix.
+    * <p>
+    * The normalizer is used by {@link #normalize()} and by all the operations of this matrix that
+    * normalize it, including when the lazy normalization is enabled.
+    * </p>
+    *
+    * @param normalizer the new normalizer for this matrix. Not modified.
+    * @see RotationMatrixNormalizer
+    */
+   public void setNormalizer(RotationMatrixNormalizer normalizer)
+   {
+      this.normalizer = normalizer;
+   }
+
+   /**
+    * Gets the strategy used to normalize this matrix.
+    *
+    * @return the normalizer of this matrix.
+    */
+   public RotationMatrixNormalizer getNormalizer()
+   {
+      return normalizer;
+   }
+
+   /**
+    * Sets the tolerance used to decide when this matrix should be normalized after an operation
+    * such as a multiplication.
+    * <p>
+    * By default the tolerance is zero and this matrix is normalized after every operation. When
+    * the tolerance is positive, the normalization is deferred and this matrix keeps track of the
+    * number of operations performed since it was last normalized. The normalization is performed
+    * only once the accumulated error bound, i.e.
+    * {@code numberOfOperations * }{@link #NORMALIZATION_DRIFT_PER_OPERATION}, exceeds the
+    * tolerance. This allows long chains of multiplications to cost plain 3-by-3 matrix products.
+    * </p>
+    * <p>
+    * The tolerance is clamped to [0, {@link #MAX_LAZY_NORMALIZATION_TOLERANCE}].
+    * </p>
+    *
+    * @param lazyNormalizationTolerance the tolerance on the orthonormality error.
+    */
+   public void setLazyNormalizationTolerance(double lazyNormalizationTolerance)
+   {
+      this.lazyNormalizationTolerance = EuclidCoreTools.clamp(lazyNormalizationTolerance, 0.0, MAX_LAZY_NORMALIZATION_TOLERANCE);
+   }
+
+   /**
+    * Gets the tolerance used to decide when this matrix should be normalized.
+    *
+    * @return the tolerance on the orthonormality error, zero if the lazy normalization is disabled.
+    * @see #setLazyNormalizationTolerance(double)
+    */
+   public double getLazyNormalizationTolerance()
+   {
+      return lazyNormalizationTolerance;
+   }
+
+   /**
+    * Gets the number of operations that have been performed on this matrix since it was last
+    * normalized.
+    *
+    * @return the number of operations since the last normalization.
+    */
+   public int getNumberOfOperationsSinceNormalization()
+   {
+      return numberOfOperationsSinceNormalization;
+   }
+
+   /**
+    * Tests if this rotation matrix is exactly equal to identity, i.e. it represents a 'zero'
+    * rotation.
+    * <p>
+    * Unlike {@link #isIdentity()}, this test does not use any tolerance such that operations can
+    * safely skip the rotation when this method returns {@code true}. The result is computed when
+    * this matrix is modified, such that this method does not modify this matrix and can be called
+    * concurrently.
+    * </p>
+    *
+    * @return {@code true} if this matrix is exactly equal to identity, {@code false} otherwise.
+    */
+   public boolean isZeroOrientation()
+   {
+      return isZeroOrientation;
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The result is computed when this matrix is modified, such that this method does not modify this
+    * matrix and can be called concurrently.
+    * </p>
+    */
+   @Override
+   public boolean isMatrix2D()
+   {
+      return isMatrix2D;
+   }
+
+   /**
+    * Gets the number of times the coefficients of this matrix have been modified.
+    * <p>
+    * This counter can be used by classes that cache values computed from this matrix to detect
+    * when these values need to be updated.
+    * </p>
+    *
+    * @return the number of modifications of this matrix.
+    */
+   public long getModificationCount()
+   {
+      return modificationCount;
+   }
+
+   private void markAsModified()
+   {
+      modificationCount++;
+      isZeroOrientation = m00 == 1.0 && m01 == 0.0 && m02 == 0.0 && m10 == 0.0 && m11 == 1.0 && m12 == 0.0 && m20 == 0.0 && m21 == 0.0 && m22 == 1.0;
+      isMatrix2D = isMatrix2D(Matrix3DFeatures.EPS_CHECK_2D);
+   }
+
+   /**
+    * Sets the 9 coefficients of this rotation matrix resulting from an operation and normalizes
+    * {@code this} only if the accumulated error bound exceeds the tolerance.
+    * <p>
+    * This method is meant for internal usage. When the lazy normalization is disabled, this is
+    * equivalent to
+    * {@link #setAndNormalize(double, double, double, double, double, double, double, double, double)}.
+    * </p>
+    *
+    * @param m00 the new 1st row 1st column coefficient for this matrix.
+    * @param m01 the new 1st row 2nd column coefficient for this matrix.
+    * @param m02 the new 1st row 3rd column coefficient for this matrix.
+    * @param m10 the new 2nd row 1st column coefficient for this matrix.
+    * @param m11 the new 2nd row 2nd column coefficient for this matrix.
+    * @param m12 the new 2nd row 3rd column coefficient for this matrix.
+    * @param m20 the new 3rd row 1st column coefficient for this matrix.
+    * @param m21 the new 3rd row 2nd column coefficient for this matrix.
+    * @param m22 the new 3rd row 3rd column coefficient for this matrix.
+    * @param numberOfOperations the number of operations since the last normalization the new
+    *           coefficients result from, including the one that computed them.
+    * @throws NotARotationMatrixException if the normalization failed.
+    * @see #setLazyNormalizationTolerance(double)
+    */
+   public void setAndNormalizeLazily(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22,
+                                     int numberOfOperations)
+   {
+      setUnsafe(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+
+      if (numberOfOperations * NORMALIZATION_DRIFT_PER_OPERATION > lazyNormalizationTolerance)
+         normalize();
+      else
+         numberOfOperationsSinceNormalization = numberOfOperations;
    }
 
    /**
@@ -201,6 +396,8 @@ public class RotationMatrix implements Matrix3DBasics, RotationMatrixReadOnly, O
       temp = m12;
       m12 = m21;
       m21 = temp;
+
+      markAsModified();
    }
 
    /**
@@ -235,6 +432,9 @@ public class RotationMatrix implements Matrix3DBasics, RotationMatrixReadOnly, O
       this.m20 = m20;
       this.m21 = m21;
       this.m22 = m22;
+
+      numberOfOperationsSinceNormalization = 0;
+      markAsModified();
    }
 
    /**
@@ -276,6 +476,8 @@ public class RotationMatrix implements Matrix3DBasics, RotationMatrixReadOnly, O
       m20 = thirdRow.getX();
       m21 = thirdRow.getY();
       m22 = thirdRow.getZ();
+      numberOfOperationsSinceNormalization = 0;
+      markAsModified();
 
       checkIfRotationMatrix();
    }
@@ -307,6 +509,8 @@ public class RotationMatrix implements Matrix3DBasics, RotationMatrixReadOnly, O
       m02 = thirdColumn.getX();
       m12 = thirdColumn.getY();
       m22 = thirdColumn.getZ();
+      numberOfOperationsSinceNormalization = 0;
+      markAsModified();
 
       checkIfRotationMatrix();
    }
@@ -358,6 +562,20 @@ public class RotationMatrix implements Matrix3DBasics, RotationMatrixReadOnly, O
       m20 = other.getM20();
       m21 = other.getM21();
       m22 = other.getM22();
+
+      if (other instanceof RotationMatrix)
+      {
+         RotationMatrix otherRotationMatrix = (RotationMatrix) other;
+         numberOfOperationsSinceNormalization = otherRotationMatrix.numberOfOperationsSinceNormalization;
+         modificationCount++;
+         isZeroOrientation = otherRotationMatrix.isZeroOrientation;
+         isMatrix2D = otherRotationMatrix.isMatrix2D;
+      }
+      else
+      {
+         numberOfOperationsSinceNormalization = 0;
+         markAsModified();
+      }
    }
 
    @Override
@@ -383,6 +601,7 @@ public class RotationMatrix implements Matrix3DBasics, RotationMatrixReadOnly, O
       m20 = matrix.getM20();
       m21 = matrix.getM21();
       m22 = matrix.getM22();
+      markAsModified();
       normalize();
    }
 
@@ -926,14 +1145,10 @@ public class RotationMatrix implements Matrix3DBasics, RotationMatrixReadOnly, O
    @Override
    public boolean equals(Object object)
    {
-      try
-      {
+      if (object instanceof Matrix3DReadOnly)
          return equals((Matrix3DReadOnly) object);
-      }
-      catch (ClassCastException e)
-      {
+      else
          return false;
-      }
    }
 
    /**
@@ -0,0 +1,126 @@
+package us.ihmc.euclid.matrix;
+
+import us.ihmc.euclid.matrix.interfaces.Matrix3DBasics;
+import us.ihmc.euclid.tools.Matrix3DTools;
+
+/**
+ * {@code RotationMatrixNormalizer} is the strategy used by a {@link RotationMatrix} to restore its
+ * orthonormality.
+ * <p>
+ * Three implementations are provided:
+ * <ul>
+ * <li>{@link #getGramSchmidt()}: the Gram-Schmidt process, see
+ * {@link Matrix3DTools#normalize(Matrix3DBasics)}. This is the default strategy. It is robust to
+ * matrices far from being orthonormal but favors the first column over the second and the second
+ * over the third.
+ * <li>{@link #getFirstOrder()}: a first-order iterative correction, see
+ * {@link Matrix3DTools#normalizeFirstOrder(Matrix3DBasics)}. For matrices that are already close
+ * to be orthonormal, it costs about as much as the Gram-Schmidt process, does not favor any axis,
+ * and results in the closest rotation matrix.
+ * <li>{@link #getPolar()}: the orthogonal polar factor, see
+ * {@link Matrix3DTools#normalizePolar(Matrix3DBasics)}. It computes the rotation matrix that is the
+ * closest to the matrix to normalize, it is the most accurate and the most expensive strategy.
+ * </ul>
+ * Other strategies can be plugged by extending this class.
+ * </p>
+ */
+public abstract class RotationMatrixNormalizer
+{
+   private static final RotationMatrixNormalizer GRAM_SCHMIDT = new GramSchmidtNormalizer();
+   private static final RotationMatrixNormalizer FIRST_ORDER = new FirstOrderNormalizer();
+   private static final RotationMatrixNormalizer POLAR = new PolarNormalizer();
+
+   /**
+    * Gets the normalizer based on the Gram-Schmidt process, which is the default normalizer.
+    *
+    * @return the Gram-Schmidt normalizer.
+    */
+   public static RotationMatrixNormalizer getGramSchmidt()
+   {
+      return GRAM_SCHMIDT;
+   }
+
+   /**
+    * Gets the normalizer based on the first-order iterative correction.
+    *
+    * @return the first-order normalizer.
+    */
+   public static RotationMatrixNormalizer getFirstOrder()
+   {
+      return FIRST_ORDER;
+   }
+
+   /**
+    * Gets the normalizer computing the orthogonal polar factor.
+    *
+    * @return the polar normalizer.
+    */
+   public static RotationMatrixNormalizer getPolar()
+   {
+      return POLAR;
+   }
+
+   /**
+    * Creates a new normalizer.
+    */
+   protected RotationMatrixNormalizer()
+   {
+   }
+
+   /**
+    * Orthonormalizes the given matrix.
+    * <p>
+    * Implementations should set the 9 coefficients of the matrix at once using
+    * {@link Matrix3DBasics#set(double, double, double, double, double, double, double, double, double)}
+    * such that a {@link RotationMatrix} verifies the result.
+    * </p>
+    *
+    * @param matrixToNormalize the matrix to normalize. Modified.
+    */
+   public abstract void normalize(Matrix3DBasics matrixToNormalize);
+
+   private static class GramSchmidtNormalizer extends RotationMatrixNormalizer
+   {
+      @Override
+      public void normalize(Matrix3DBasics matrixToNormalize)
+      {
+         Matrix3DTools.normalize(matrixToNormalize);
+      }
+
+      @Override
+      public String toString()
+      {
+         return "Gram-Schmidt";
+      }
+   }
+
+   private static class FirstOrderNormalizer extends RotationMatrixNormalizer
+   {
+      @Override
+      public void normalize(Matrix3DBasics matrixToNormalize)
+      {
+         Matrix3DTools.normalizeFirstOrder(matrixToNormalize);
+      }
+
+      @Override
+      public String toString()
+      {
+         return "First-order";
+      }
+   }
+
+   private static class PolarNormalizer extends RotationMatrixNormalizer
+   {
+      @Override
+      public void normalize(Matrix3DBasics matrixToNormalize)
+      {
+         Matrix3DTools.normalizePolar(matrixToNormalize);
+      }
+
+      @Override
+      public String toString()
+      {
+         return "Polar";
+      }
+   }
+}
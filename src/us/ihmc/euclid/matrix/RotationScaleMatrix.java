@@ -15,9 +15,15 @@ import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
 import us.ihmc.euclid.tools.EuclidCoreIOTools;
 import us.ihmc.euclid.tools.EuclidHashCodeTools;
 import us.ihmc.euclid.tools.Matrix3DFeatures;
+import us.ihmc.euclid.tools.Matrix3DTools;
+import us.ihmc.euclid.tuple2D.interfaces.Tuple2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Tuple2DReadOnly;
 import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+import us.ihmc.euclid.tuple4D.interfaces.Vector4DBasics;
+import us.ihmc.euclid.tuple4D.interfaces.Vector4DReadOnly;
 
 /**
  * A {@code RotationScaleMatrix} is a 3-by-3 matrix that represents a 3D orientation times a
@@ -48,6 +54,11 @@ import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
  * the inherent properties of its composition and to minimize manipulation errors resulting in an
  * improper rotation-scale matrix.
  * </p>
+ * <p>
+ * The coefficients of the composed matrix <i>R * S</i> are cached and computed whenever this
+ * rotation-scale matrix is modified. The getters and transforms only read this cache, such that a
+ * rotation-scale matrix that is no longer modified can safely be read from several threads.
+ * </p>
  *
  * @author Sylvain Bertrand
  */
@@ -59,6 +70,11 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    /** The scale part of this rotation-scale matrix. */
    private final Vector3D scale = new Vector3D(1.0, 1.0, 1.0);
 
+   /** The 9 coefficients of the composed matrix <i>R * S</i>, see {@link #updateComposedMatrix()}. */
+   private double c00, c01, c02, c10, c11, c12, c20, c21, c22;
+   /** The modification count of the rotation part for which the composed matrix was computed. */
+   private long composedRotationModificationCount;
+
    /**
     * Create a new rotation-scale matrix initialized to identity.
     */
@@ -281,14 +297,30 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    }
 
    /**
-    * Orthonormalization of the rotation part of this rotation-scale matrix using the
-    * <a href="https://en.wikipedia.org/wiki/Gram%E2%80%93Schmidt_process"> Gram-Schmidt method</a>.
+    * Orthonormalization of the rotation part of this rotation-scale matrix.
+    * <p>
+    * By default, the
+    * <a href="https://en.wikipedia.org/wiki/Gram%E2%80%93Schmidt_process"> Gram-Schmidt method</a>
+    * is used, see {@link #setRotationNormalizer(RotationMatrixNormalizer)} to change it.
+    * </p>
     *
     * @throws NotARotationMatrixException if the orthonormalization failed.
     */
    public void normalizeRotationMatrix()
    {
       rotationMatrix.normalize();
+      updateComposedMatrix();
+   }
+
+   /**
+    * Sets the strategy used to normalize the rotation part of this rotation-scale matrix.
+    *
+    * @param normalizer the new normalizer for the rotation part. Not modified.
+    * @see RotationMatrix#setNormalizer(RotationMatrixNormalizer)
+    */
+   public void setRotationNormalizer(RotationMatrixNormalizer normalizer)
+   {
+      rotationMatrix.setNormalizer(normalizer);
    }
 
    /**
@@ -297,6 +329,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void resetScale()
    {
       scale.set(1.0, 1.0, 1.0);
+      updateComposedMatrix();
    }
 
    /**
@@ -314,6 +347,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    {
       rotationMatrix.setToNaN();
       scale.setToNaN();
+      updateComposedMatrix();
    }
 
    @Override
@@ -329,6 +363,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void setRotationToZero()
    {
       rotationMatrix.setToZero();
+      updateComposedMatrix();
    }
 
    /** {@inheritDoc} */
@@ -383,27 +418,32 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
       if (Matrix3DFeatures.determinant(m00, m01, m02, m10, m11, m12, m20, m21, m22) <= 0.0)
          throw new NotARotationScaleMatrixException(m00, m01, m02, m10, m11, m12, m20, m21, m22);
 
-      scale.setX(Math.sqrt(m00 * m00 + m10 * m10 + m20 * m20));
-      scale.setY(Math.sqrt(m01 * m01 + m11 * m11 + m21 * m21));
-      scale.setZ(Math.sqrt(m02 * m02 + m12 * m12 + m22 * m22));
+      double scaleX = Math.sqrt(m00 * m00 + m10 * m10 + m20 * m20);
+      double scaleY = Math.sqrt(m01 * m01 + m11 * m11 + m21 * m21);
+      double scaleZ = Math.sqrt(m02 * m02 + m12 * m12 + m22 * m22);
 
-      if (scale.getX() == 0.0 || scale.getY() == 0.0 || scale.getZ() == 0.0)
+      if (scaleX == 0.0 || scaleY == 0.0 || scaleZ == 0.0)
          throw new NotARotationScaleMatrixException(m00, m01, m02, m10, m11, m12, m20, m21, m22);
 
-      double rot00 = m00 / scale.getX();
-      double rot01 = m01 / scale.getY();
-      double rot02 = m02 / scale.getZ();
-      double rot10 = m10 / scale.getX();
-      double rot11 = m11 / scale.getY();
-      double rot12 = m12 / scale.getZ();
-      double rot20 = m20 / scale.getX();
-      double rot21 = m21 / scale.getY();
-      double rot22 = m22 / scale.getZ();
+      double invScaleX = 1.0 / scaleX;
+      double invScaleY = 1.0 / scaleY;
+      double invScaleZ = 1.0 / scaleZ;
+      double rot00 = m00 * invScaleX;
+      double rot01 = m01 * invScaleY;
+      double rot02 = m02 * invScaleZ;
+      double rot10 = m10 * invScaleX;
+      double rot11 = m11 * invScaleY;
+      double rot12 = m12 * invScaleZ;
+      double rot20 = m20 * invScaleX;
+      double rot21 = m21 * invScaleY;
+      double rot22 = m22 * invScaleZ;
 
       if (!Matrix3DFeatures.isRotationMatrix(rot00, rot01, rot02, rot10, rot11, rot12, rot20, rot21, rot22))
          throw new NotARotationScaleMatrixException(m00, m01, m02, m10, m11, m12, m20, m21, m22);
 
+      scale.set(scaleX, scaleY, scaleZ);
       rotationMatrix.setUnsafe(rot00, rot01, rot02, rot10, rot11, rot12, rot20, rot21, rot22);
+      updateComposedMatrix();
    }
 
    /**
@@ -591,6 +631,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void setRotation(DenseMatrix64F rotationMatrix)
    {
       this.rotationMatrix.set(rotationMatrix);
+      updateComposedMatrix();
    }
 
    /**
@@ -603,6 +644,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void setRotation(double[] rotationMatrixArray)
    {
       rotationMatrix.set(rotationMatrixArray);
+      updateComposedMatrix();
    }
 
    /**
@@ -613,6 +655,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void setRotation(Orientation3DReadOnly orientation)
    {
       rotationMatrix.set(orientation);
+      updateComposedMatrix();
    }
 
    /**
@@ -624,6 +667,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void setRotation(Matrix3DReadOnly rotationMatrix)
    {
       this.rotationMatrix.set(rotationMatrix);
+      updateComposedMatrix();
    }
 
    /**
@@ -634,6 +678,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void setRotation(RotationMatrixReadOnly rotationMatrix)
    {
       this.rotationMatrix.set(rotationMatrix);
+      updateComposedMatrix();
    }
 
    /**
@@ -649,6 +694,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void setRotation(Vector3DReadOnly rotationVector)
    {
       rotationMatrix.setRotationVector(rotationVector);
+      updateComposedMatrix();
    }
 
    /**
@@ -666,6 +712,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void setRotationYaw(double yaw)
    {
       rotationMatrix.setToYawMatrix(yaw);
+      updateComposedMatrix();
    }
 
    /**
@@ -683,6 +730,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void setRotationPitch(double pitch)
    {
       rotationMatrix.setToPitchMatrix(pitch);
+      updateComposedMatrix();
    }
 
    /**
@@ -700,6 +748,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void setRotationRoll(double roll)
    {
       rotationMatrix.setToRollMatrix(roll);
+      updateComposedMatrix();
    }
 
    /**
@@ -736,6 +785,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void setRotationYawPitchRoll(double yaw, double pitch, double roll)
    {
       rotationMatrix.setYawPitchRoll(yaw, pitch, roll);
+      updateComposedMatrix();
    }
 
    /**
@@ -757,6 +807,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void setRotationEuler(Vector3DReadOnly eulerAngles)
    {
       rotationMatrix.setEuler(eulerAngles);
+      updateComposedMatrix();
    }
 
    /**
@@ -779,6 +830,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void setRotationEuler(double rotX, double rotY, double rotZ)
    {
       rotationMatrix.setEuler(rotX, rotY, rotZ);
+      updateComposedMatrix();
    }
 
    /**
@@ -805,6 +857,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
       checkIfScalesProper(scaleX, scaleY, scaleZ);
 
       scale.set(scaleX, scaleY, scaleZ);
+      updateComposedMatrix();
    }
 
    /**
@@ -969,6 +1022,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void append(Orientation3DReadOnly orientation)
    {
       rotationMatrix.append(orientation);
+      updateComposedMatrix();
    }
 
    /**
@@ -979,6 +1033,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void appendInvertThis(Orientation3DReadOnly orientation)
    {
       rotationMatrix.appendInvertThis(orientation);
+      updateComposedMatrix();
    }
 
    /**
@@ -989,6 +1044,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void appendInvertOther(Orientation3DReadOnly orientation)
    {
       rotationMatrix.appendInvertOther(orientation);
+      updateComposedMatrix();
    }
 
    /**
@@ -1008,6 +1064,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void appendYawRotation(double yaw)
    {
       rotationMatrix.appendYawRotation(yaw);
+      updateComposedMatrix();
    }
 
    /**
@@ -1027,6 +1084,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void appendPitchRotation(double pitch)
    {
       rotationMatrix.appendPitchRotation(pitch);
+      updateComposedMatrix();
    }
 
    /**
@@ -1046,6 +1104,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void appendRollRotation(double roll)
    {
       rotationMatrix.appendRollRotation(roll);
+      updateComposedMatrix();
    }
 
    /**
@@ -1056,6 +1115,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void prepend(Orientation3DReadOnly orientation)
    {
       rotationMatrix.prepend(orientation);
+      updateComposedMatrix();
    }
 
    /**
@@ -1066,6 +1126,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void prependInvertThis(Orientation3DReadOnly orientation)
    {
       rotationMatrix.prependInvertThis(orientation);
+      updateComposedMatrix();
    }
 
    /**
@@ -1076,6 +1137,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void prependInvertOther(Orientation3DReadOnly orientation)
    {
       rotationMatrix.prependInvertOther(orientation);
+      updateComposedMatrix();
    }
 
    /**
@@ -1095,6 +1157,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void prependYawRotation(double yaw)
    {
       rotationMatrix.prependYawRotation(yaw);
+      updateComposedMatrix();
    }
 
    /**
@@ -1114,6 +1177,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void prependPitchRotation(double pitch)
    {
       rotationMatrix.prependPitchRotation(pitch);
+      updateComposedMatrix();
    }
 
    /**
@@ -1133,6 +1197,7 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    public void prependRollRotation(double roll)
    {
       rotationMatrix.prependRollRotation(roll);
+      updateComposedMatrix();
    }
 
    /**
@@ -1153,6 +1218,204 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
       return scale;
    }
 
+   /**
+    * Computes the coefficients of the composed matrix <i>R * S</i>.
+    * <p>
+    * The composed matrix is cached such that the getters and transforms of this rotation-scale matrix
+    * reduce to a plain 3-by-3 matrix operation. It is computed by every method of this class that
+    * modifies the rotation or scale part, such that the getters and transforms only read it.
+    * </p>
+    */
+   private void updateComposedMatrix()
+   {
+      double scaleX = scale.getX();
+      double scaleY = scale.getY();
+      double scaleZ = scale.getZ();
+      c00 = rotationMatrix.getM00() * scaleX;
+      c01 = rotationMatrix.getM01() * scaleY;
+      c02 = rotationMatrix.getM02() * scaleZ;
+      c10 = rotationMatrix.getM10() * scaleX;
+      c11 = rotationMatrix.getM11() * scaleY;
+      c12 = rotationMatrix.getM12() * scaleZ;
+      c20 = rotationMatrix.getM20() * scaleX;
+      c21 = rotationMatrix.getM21() * scaleY;
+      c22 = rotationMatrix.getM22() * scaleZ;
+
+      composedRotationModificationCount = rotationMatrix.getModificationCount();
+   }
+
+   /**
+    * Tests if the composed matrix <i>R * S</i> is up-to-date.
+    * <p>
+    * The composed matrix becomes out-of-date only when the rotation part is modified through the
+    * reference returned by {@link #getRotationMatrix()}. The getters then compute the coefficients
+    * from the rotation and scale parts, with the same result, and the composed matrix is updated by
+    * the next modification of this rotation-scale matrix.
+    * </p>
+    *
+    * @return {@code true} if the composed matrix can be used, {@code false} otherwise.
+    */
+   private boolean isComposedMatrixUpToDate()
+   {
+      return composedRotationModificationCount == rotationMatrix.getModificationCount();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM00()
+   {
+      if (isComposedMatrixUpToDate())
+         return c00;
+      else
+         return rotationMatrix.getM00() * scale.getX();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM01()
+   {
+      if (isComposedMatrixUpToDate())
+         return c01;
+      else
+         return rotationMatrix.getM01() * scale.getY();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM02()
+   {
+      if (isComposedMatrixUpToDate())
+         return c02;
+      else
+         return rotationMatrix.getM02() * scale.getZ();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM10()
+   {
+      if (isComposedMatrixUpToDate())
+         return c10;
+      else
+         return rotationMatrix.getM10() * scale.getX();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM11()
+   {
+      if (isComposedMatrixUpToDate())
+         return c11;
+      else
+         return rotationMatrix.getM11() * scale.getY();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM12()
+   {
+      if (isComposedMatrixUpToDate())
+         return c12;
+      else
+         return rotationMatrix.getM12() * scale.getZ();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM20()
+   {
+      if (isComposedMatrixUpToDate())
+         return c20;
+      else
+         return rotationMatrix.getM20() * scale.getX();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM21()
+   {
+      if (isComposedMatrixUpToDate())
+         return c21;
+      else
+         return rotationMatrix.getM21() * scale.getY();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getM22()
+   {
+      if (isComposedMatrixUpToDate())
+         return c22;
+      else
+         return rotationMatrix.getM22() * scale.getZ();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      if (!isComposedMatrixUpToDate())
+      {
+         Matrix3DTools.transform(this, tupleOriginal, tupleTransformed);
+         return;
+      }
+
+      double x = c00 * tupleOriginal.getX() + c01 * tupleOriginal.getY() + c02 * tupleOriginal.getZ();
+      double y = c10 * tupleOriginal.getX() + c11 * tupleOriginal.getY() + c12 * tupleOriginal.getZ();
+      double z = c20 * tupleOriginal.getX() + c21 * tupleOriginal.getY() + c22 * tupleOriginal.getZ();
+      tupleTransformed.set(x, y, z);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void addTransform(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      if (!isComposedMatrixUpToDate())
+      {
+         Matrix3DTools.addTransform(this, tupleOriginal, tupleTransformed);
+         return;
+      }
+
+      double x = c00 * tupleOriginal.getX() + c01 * tupleOriginal.getY() + c02 * tupleOriginal.getZ();
+      double y = c10 * tupleOriginal.getX() + c11 * tupleOriginal.getY() + c12 * tupleOriginal.getZ();
+      double z = c20 * tupleOriginal.getX() + c21 * tupleOriginal.getY() + c22 * tupleOriginal.getZ();
+      tupleTransformed.add(x, y, z);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Tuple2DReadOnly tupleOriginal, Tuple2DBasics tupleTransformed, boolean checkIfTransformInXYPlane)
+   {
+      if (checkIfTransformInXYPlane)
+         rotationMatrix.checkIfMatrix2D();
+
+      if (!isComposedMatrixUpToDate())
+      {
+         Matrix3DTools.transform(this, tupleOriginal, tupleTransformed, false);
+         return;
+      }
+
+      double x = c00 * tupleOriginal.getX() + c01 * tupleOriginal.getY();
+      double y = c10 * tupleOriginal.getX() + c11 * tupleOriginal.getY();
+      tupleTransformed.set(x, y);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Vector4DReadOnly vectorOriginal, Vector4DBasics vectorTransformed)
+   {
+      if (!isComposedMatrixUpToDate())
+      {
+         Matrix3DTools.transform(this, vectorOriginal, vectorTransformed);
+         return;
+      }
+
+      double x = c00 * vectorOriginal.getX() + c01 * vectorOriginal.getY() + c02 * vectorOriginal.getZ();
+      double y = c10 * vectorOriginal.getX() + c11 * vectorOriginal.getY() + c12 * vectorOriginal.getZ();
+      double z = c20 * vectorOriginal.getX() + c21 * vectorOriginal.getY() + c22 * vectorOriginal.getZ();
+      vectorTransformed.set(x, y, z, vectorOriginal.getS());
+   }
+
    /**
     * Tests if the given {@code object}'s class is the same as this, in which case the method returns
     * {@link #equals(RotationScaleMatrix)}, it returns {@code false} otherwise or if the {@code object}
@@ -1164,14 +1427,10 @@ public class RotationScaleMatrix implements Matrix3DBasics, RotationScaleMatrixR
    @Override
    public boolean equals(Object object)
    {
-      try
-      {
+      if (object instanceof RotationScaleMatrix)
          return equals((RotationScaleMatrix) object);
-      }
-      catch (ClassCastException e)
-      {
+      else
          return false;
-      }
    }
 
    /**
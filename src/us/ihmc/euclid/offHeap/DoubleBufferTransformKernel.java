@@ -0,0 +1,113 @@
+package us.ihmc.euclid.offHeap;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Applies the transform {@code M * p + t}, or {@code M * (p + t)}, where {@code M} is a 3-by-3
+ * matrix and {@code t} a translation, on 3D tuples stored in {@link DoubleBuffer}s.
+ * <p>
+ * It is shared by the off-heap point buffer, the off-heap transform buffer, and the memory-mapped
+ * point cloud, each of them being responsible for reducing its transform to the 12 coefficients of
+ * the kernel and for describing its memory layout.
+ * </p>
+ * <p>
+ * The layout is described by a stride and an offset per component: the component {@code x} of
+ * the {@code i}<sup>th</sup> tuple is stored at the index {@code xOffset + i * stride} of its
+ * buffer. For instance, interleaved tuples {@code x0, y0, z0, x1, ...} are described by a stride
+ * of 3 and the offsets 0, 1, and 2 in a single buffer, while columnar tuples are described by a
+ * stride of 1 and the offset 0 in three distinct buffers.
+ * </p>
+ */
+final class DoubleBufferTransformKernel
+{
+   private DoubleBufferTransformKernel()
+   {
+   }
+
+   /**
+    * Transforms the first {@code size} tuples stored interleaved in {@code original}, i.e. the
+    * {@code i}<sup>th</sup> tuple is stored at the indices {@code i * stride}, {@code i * stride + 1},
+    * and {@code i * stride + 2}, and stores the result with the same layout in {@code transformed}.
+    * <p>
+    * The tuples are transformed as {@code M * p + t}. {@code original} and {@code transformed} can be
+    * the same buffer.
+    * </p>
+    *
+    * @param original the buffer holding the tuples to transform. Not modified.
+    * @param transformed the buffer in which the transformed tuples are stored. Modified.
+    * @param stride the number of {@code double}s separating two consecutive tuples.
+    * @param size the number of tuples to transform.
+    */
+   static void transform(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22, double tx, double ty,
+                         double tz, DoubleBuffer original, DoubleBuffer transformed, int stride, int size)
+   {
+      transform(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, original, original, original, transformed, transformed, transformed, 0, 1, 2, stride,
+                size);
+   }
+
+   /**
+    * Transforms the first {@code size} tuples stored interleaved in {@code original} as
+    * {@code M * (p + t)} and stores the result with the same layout in {@code transformed}.
+    * <p>
+    * Translating first is how the inverse of a rigid-body transform is applied, {@code R}<sup>T</sup>
+    * {@code (p - t)}, without the cancellation that {@code R}<sup>T</sup>{@code p - R}<sup>T</sup>
+    * {@code t} suffers from when the translation is large compared to the points.
+    * {@code original} and {@code transformed} can be the same buffer.
+    * </p>
+    *
+    * @param original the buffer holding the tuples to transform. Not modified.
+    * @param transformed the buffer in which the transformed tuples are stored. Modified.
+    * @param stride the number of {@code double}s separating two consecutive tuples.
+    * @param size the number of tuples to transform.
+    */
+   static void translateThenTransform(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22, double tx,
+                                      double ty, double tz, DoubleBuffer original, DoubleBuffer transformed, int stride, int size)
+   {
+      for (int i = 0, j = 0; i < size; i++, j += stride)
+      {
+         double x = original.get(j) + tx;
+         double y = original.get(j + 1) + ty;
+         double z = original.get(j + 2) + tz;
+         transformed.put(j, m00 * x + m01 * y + m02 * z);
+         transformed.put(j + 1, m10 * x + m11 * y + m12 * z);
+         transformed.put(j + 2, m20 * x + m21 * y + m22 * z);
+      }
+   }
+
+   /**
+    * Transforms the first {@code size} tuples of the given buffers as {@code M * p + t} and stores
+    * the result in the transformed buffers.
+    * <p>
+    * The component {@code x} of the {@code i}<sup>th</sup> tuple is read from
+    * {@code xOriginal.get(xOffset + i * stride)} and written to
+    * {@code xTransformed.put(xOffset + i * stride, ...)}, and similarly for the {@code y} and
+    * {@code z} components. The original and transformed buffers can be the same.
+    * </p>
+    *
+    * @param xOriginal the buffer holding the x-coordinates to transform. Not modified.
+    * @param yOriginal the buffer holding the y-coordinates to transform. Not modified.
+    * @param zOriginal the buffer holding the z-coordinates to transform. Not modified.
+    * @param xTransformed the buffer in which the transformed x-coordinates are stored. Modified.
+    * @param yTransformed the buffer in which the transformed y-coordinates are stored. Modified.
+    * @param zTransformed the buffer in which the transformed z-coordinates are stored. Modified.
+    * @param xOffset the index of the x-coordinate of the first tuple.
+    * @param yOffset the index of the y-coordinate of the first tuple.
+    * @param zOffset the index of the z-coordinate of the first tuple.
+    * @param stride the number of {@code double}s separating two consecutive tuples.
+    * @param size the number of tuples to transform.
+    */
+   static void transform(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22, double tx, double ty,
+                         double tz, DoubleBuffer xOriginal, DoubleBuffer yOriginal, DoubleBuffer zOriginal, DoubleBuffer xTransformed,
+                         DoubleBuffer yTransformed, DoubleBuffer zTransformed, int xOffset, int yOffset, int zOffset, int stride, int size)
+   {
+      for (int i = 0, j = 0; i < size; i++, j += stride)
+      {
+         double x = xOriginal.get(j + xOffset);
+         double y = yOriginal.get(j + yOffset);
+         double z = zOriginal.get(j + zOffset);
+         xTransformed.put(j + xOffset, m00 * x + m01 * y + m02 * z + tx);
+         yTransformed.put(j + yOffset, m10 * x + m11 * y + m12 * z + ty);
+         zTransformed.put(j + zOffset, m20 * x + m21 * y + m22 * z + tz);
+      }
+   }
+}
@@ -0,0 +1,490 @@
+package us.ihmc.euclid.offHeap;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3DArray;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+
+/**
+ * A {@code MappedPointCloud} is a point cloud stored in a binary file which is memory-mapped.
+ * <p>
+ * The file is made of a header of {@value #HEADER_SIZE} bytes followed by three columns holding
+ * respectively the x, y, and z coordinates of the points:
+ * <ul>
+ * <li>bytes [0, 4[: the magic number {@value #MAGIC_NUMBER}.
+ * <li>bytes [4, 8[: the version of the format, currently {@value #VERSION}.
+ * <li>bytes [8, 16[: the number of points {@code n}.
+ * <li>bytes [16, {@value #HEADER_SIZE}[: reserved, set to zero.
+ * <li>then {@code n} x-coordinates, {@code n} y-coordinates, and {@code n} z-coordinates.
+ * </ul>
+ * All the values are stored in little-endian byte order.
+ * </p>
+ * <p>
+ * Opening a point cloud only reads the header and maps the columns, whatever the number of points.
+ * The coordinates are then read from and written to the file directly via the operating system's
+ * page cache, either by index or with a {@link View}.
+ * </p>
+ * <p>
+ * Note that in Java 8, a mapping is only released when its buffer is garbage collected. Closing a
+ * point cloud closes the file channel, after which this point cloud should not be used anymore.
+ * </p>
+ */
+public class MappedPointCloud implements Closeable
+{
+   /** The number identifying a point cloud file, the ASCII characters "EPCL". */
+   public static final int MAGIC_NUMBER = 0x4550434C;
+   /** The version of the file format. */
+   public static final int VERSION = 1;
+   /** The size in bytes of the file header. */
+   public static final int HEADER_SIZE = 32;
+   /** The maximum number of points that a file can hold, limited by the size of a mapping. */
+   public static final int MAXIMUM_NUMBER_OF_POINTS = Integer.MAX_VALUE / OffHeapBuffer.BYTES_PER_DOUBLE;
+
+   private final FileChannel channel;
+   private final boolean writable;
+   private final int size;
+   private final DoubleBuffer x;
+   private final DoubleBuffer y;
+   private final DoubleBuffer z;
+
+   private MappedPointCloud(FileChannel channel, boolean writable, int size) throws IOException
+   {
+      this.channel = channel;
+      this.writable = writable;
+      this.size = size;
+
+      MapMode mode = writable ? MapMode.READ_WRITE : MapMode.READ_ONLY;
+      long columnSize = (long) size * OffHeapBuffer.BYTES_PER_DOUBLE;
+      x = mapColumn(channel, mode, HEADER_SIZE, columnSize);
+      y = mapColumn(channel, mode, HEADER_SIZE + columnSize, columnSize);
+      z = mapColumn(channel, mode, HEADER_SIZE + 2L * columnSize, columnSize);
+   }
+
+   private static DoubleBuffer mapColumn(FileChannel channel, MapMode mode, long position, long columnSize) throws IOException
+   {
+      return channel.map(mode, position, columnSize).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+   }
+
+   /**
+    * Creates a new point cloud file, or overwrites an existing one, and maps it for reading and
+    * writing.
+    * <p>
+    * The coordinates of the points are initialized to zero.
+    * </p>
+    *
+    * @param path the path of the file to create.
+    * @param numberOfPoints the number of points the new point cloud holds.
+    * @return the new point cloud.
+    * @throws IOException if an I/O error occurs while creating the file.
+    * @throws IllegalArgumentException if {@code numberOfPoints} &notin; [0,
+    *            {@value #MAXIMUM_NUMBER_OF_POINTS}].
+    */
+   public static MappedPointCloud create(Path path, int numberOfPoints) throws IOException
+   {
+      if (numberOfPoints < 0 || numberOfPoints > MAXIMUM_NUMBER_OF_POINTS)
+         throw new IllegalArgumentException("The number of points should be in [0, " + MAXIMUM_NUMBER_OF_POINTS + "], but is: " + numberOfPoints);
+
+      FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+                                             StandardOpenOption.WRITE);
+
+      try
+      {
+         ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+         header.putInt(MAGIC_NUMBER);
+         header.putInt(VERSION);
+         header.putLong(numberOfPoints);
+         // The cast to Buffer prevents the JDK 9+ covariant override from being linked, keeping the Java 8 compatibility.
+         ((Buffer) header).rewind();
+
+         while (header.hasRemaining())
+            channel.write(header, header.position());
+
+         return new MappedPointCloud(channel, true, numberOfPoints);
+      }
+      catch (IOException | RuntimeException e)
+      {
+         channel.close();
+         throw e;
+      }
+   }
+
+   /**
+    * Creates a new point cloud file, or overwrites an existing one, holding the given points.
+    *
+    * @param path the path of the file to create.
+    * @param points the points to save. Not modified.
+    * @return the new point cloud, mapped for reading and writing.
+    * @throws IOException if an I/O error occurs while creating the file.
+    */
+   public static MappedPointCloud create(Path path, Point3DArray points) throws IOException
+   {
+      MappedPointCloud pointCloud = create(path, points.size());
+      pointCloud.x.put(points.getXArray(), 0, points.size());
+      pointCloud.y.put(points.getYArray(), 0, points.size());
+      pointCloud.z.put(points.getZArray(), 0, points.size());
+      ((Buffer) pointCloud.x).rewind();
+      ((Buffer) pointCloud.y).rewind();
+      ((Buffer) pointCloud.z).rewind();
+      return pointCloud;
+   }
+
+   /**
+    * Opens and maps an existing point cloud file.
+    *
+    * @param path the path of the file to open.
+    * @param writable whether the point cloud should be mapped for reading and writing, or only for
+    *           reading.
+    * @return the point cloud.
+    * @throws IOException if an I/O error occurs while opening the file, or if the file is not a
+    *            valid point cloud file.
+    */
+   public static MappedPointCloud open(Path path, boolean writable) throws IOException
+   {
+      FileChannel channel = writable ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE) : FileChannel.open(path);
+
+      try
+      {
+         ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+         while (header.hasRemaining())
+         {
+            if (channel.read(header, header.position()) < 0)
+               throw new IOException("Unexpected end of file while reading the header of: " + path);
+         }
+
+         ((Buffer) header).rewind();
+         int magicNumber = header.getInt();
+         int version = header.getInt();
+         long numberOfPoints = header.getLong();
+
+         if (magicNumber != MAGIC_NUMBER)
+            throw new IOException("Not a point cloud file: " + path);
+         if (version != VERSION)
+            throw new IOException("Unsupported point cloud file version: " + version + ", expected: " + VERSION);
+         if (numberOfPoints < 0 || numberOfPoints > MAXIMUM_NUMBER_OF_POINTS)
+            throw new IOException("Invalid number of points: " + numberOfPoints);
+         if (channel.size() < HEADER_SIZE + 3 * numberOfPoints * OffHeapBuffer.BYTES_PER_DOUBLE)
+            throw new IOException("The file is too short to hold " + numberOfPoints + " points: " + path);
+
+         return new MappedPointCloud(channel, writable, (int) numberOfPoints);
+      }
+      catch (IOException | RuntimeException e)
+      {
+         channel.close();
+         throw e;
+      }
+   }
+
+   /**
+    * Forces any change made to this point cloud to be written to the storage device.
+    *
+    * @throws IOException if an I/O error occurs.
+    */
+   public void force() throws IOException
+   {
+      if (!writable)
+         return;
+      channel.force(false);
+   }
+
+   /**
+    * Closes the file channel of this point cloud.
+    *
+    * @throws IOException if an I/O error occurs.
+    */
+   @Override
+   public void close() throws IOException
+   {
+      channel.close();
+   }
+
+   /**
+    * Gets the number of points in this point cloud.
+    *
+    * @return the number of points.
+    */
+   public int size()
+   {
+      return size;
+   }
+
+   /**
+    * Tests whether this point cloud has been mapped for writing.
+    *
+    * @return {@code true} if the coordinates can be modified, {@code false} otherwise.
+    */
+   public boolean isWritable()
+   {
+      return writable;
+   }
+
+   /**
+    * Sets the coordinates of the {@code index}<sup>th</sup> point.
+    *
+    * @param index the index of the point to set.
+    * @param x the new x-coordinate.
+    * @param y the new y-coordinate.
+    * @param z the new z-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    * @throws ReadOnlyBufferException if this point cloud is not writable.
+    */
+   public void set(int index, double x, double y, double z)
+   {
+      checkIndex(index);
+      checkWritable();
+      this.x.put(index, x);
+      this.y.put(index, y);
+      this.z.put(index, z);
+   }
+
+   /**
+    * Sets the coordinates of the {@code index}<sup>th</sup> point.
+    *
+    * @param index the index of the point to set.
+    * @param tuple the tuple holding the new coordinates. Not modified.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    * @throws ReadOnlyBufferException if this point cloud is not writable.
+    */
+   public void set(int index, Tuple3DReadOnly tuple)
+   {
+      set(index, tuple.getX(), tuple.getY(), tuple.getZ());
+   }
+
+   /**
+    * Packs the coordinates of the {@code index}<sup>th</sup> point into the given tuple.
+    *
+    * @param index the index of the point to get.
+    * @param tupleToPack the tuple in which the coordinates are stored. Modified.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void get(int index, Tuple3DBasics tupleToPack)
+   {
+      checkIndex(index);
+      tupleToPack.set(x.get(index), y.get(index), z.get(index));
+   }
+
+   /**
+    * Packs all the points of this point cloud into the given point array.
+    *
+    * @param pointsToPack the point array in which the points are stored. Modified.
+    */
+   public void get(Point3DArray pointsToPack)
+   {
+      pointsToPack.setSize(size);
+      x.get(pointsToPack.getXArray(), 0, size);
+      y.get(pointsToPack.getYArray(), 0, size);
+      z.get(pointsToPack.getZArray(), 0, size);
+      ((Buffer) x).rewind();
+      ((Buffer) y).rewind();
+      ((Buffer) z).rewind();
+   }
+
+   /**
+    * Gets the x-coordinate of the {@code index}<sup>th</sup> point.
+    *
+    * @param index the index of the point.
+    * @return the x-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public double getX(int index)
+   {
+      checkIndex(index);
+      return x.get(index);
+   }
+
+   /**
+    * Gets the y-coordinate of the {@code index}<sup>th</sup> point.
+    *
+    * @param index the index of the point.
+    * @return the y-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public double getY(int index)
+   {
+      checkIndex(index);
+      return y.get(index);
+   }
+
+   /**
+    * Gets the z-coordinate of the {@code index}<sup>th</sup> point.
+    *
+    * @param index the index of the point.
+    * @return the z-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public double getZ(int index)
+   {
+      checkIndex(index);
+      return z.get(index);
+   }
+
+   /**
+    * Transforms in place all the points of this point cloud.
+    *
+    * @param transform the transform to apply. Not modified.
+    * @throws ReadOnlyBufferException if this point cloud is not writable.
+    */
+   public void applyTransform(RigidBodyTransform transform)
+   {
+      transform(transform, this);
+   }
+
+   /**
+    * Transforms all the points of this point cloud and stores the result in {@code destination}.
+    * <p>
+    * The coordinates are read from and written to the mapped files directly, this point cloud is
+    * not modified unless {@code destination == this}.
+    * </p>
+    *
+    * @param transform the transform to apply. Not modified.
+    * @param destination the point cloud in which the transformed points are stored. Modified.
+    * @throws IllegalArgumentException if {@code destination} does not have the same number of
+    *            points as this point cloud.
+    * @throws ReadOnlyBufferException if {@code destination} is not writable.
+    */
+   public void transform(RigidBodyTransform transform, MappedPointCloud destination)
+   {
+      if (destination.size != size)
+         throw new IllegalArgumentException("The destination should have " + size + " points, but has: " + destination.size);
+      destination.checkWritable();
+
+      RotationMatrixReadOnly rotationMatrix = transform.getRotationMatrix();
+      Tuple3DReadOnly translationVector = transform.getTranslationVector();
+      double m00 = rotationMatrix.getM00();
+      double m01 = rotationMatrix.getM01();
+      double m02 = rotationMatrix.getM02();
+      double m10 = rotationMatrix.getM10();
+      double m11 = rotationMatrix.getM11();
+      double m12 = rotationMatrix.getM12();
+      double m20 = rotationMatrix.getM20();
+      double m21 = rotationMatrix.getM21();
+      double m22 = rotationMatrix.getM22();
+      double tx = translationVector.getX();
+      double ty = translationVector.getY();
+      double tz = translationVector.getZ();
+
+      DoubleBufferTransformKernel.transform(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, x, y, z, destination.x, destination.y, destination.z, 0,
+                                            0, 0, 1, size);
+   }
+
+   private void checkIndex(int index)
+   {
+      if (index < 0 || index >= size)
+         throw new IndexOutOfBoundsException("index should be in [0, " + size + "[, but is: " + index);
+   }
+
+   private void checkWritable()
+   {
+      if (!writable)
+         throw new ReadOnlyBufferException();
+   }
+
+   /**
+    * Creates a new view pointing to the first point of this point cloud.
+    * <p>
+    * The view should be created once and then moved with {@link View#setIndex(int)} to avoid
+    * garbage generation.
+    * </p>
+    *
+    * @return the new view.
+    */
+   public View newView()
+   {
+      return new View();
+   }
+
+   /**
+    * Provides a {@code String} representation of this point cloud as follows: size: N, writable:
+    * W.
+    *
+    * @return the {@code String} representing this point cloud.
+    */
+   @Override
+   public String toString()
+   {
+      return "size: " + size + ", writable: " + writable;
+   }
+
+   /**
+    * A {@code View} is a {@link Point3DReadOnly} reading one of the points of a
+    * {@link MappedPointCloud} directly from the mapped file.
+    */
+   public class View implements Point3DReadOnly
+   {
+      private int index = 0;
+
+      private View()
+      {
+      }
+
+      /**
+       * Moves this view to the {@code index}<sup>th</sup> point of the point cloud.
+       *
+       * @param index the index of the point to view.
+       * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+       */
+      public void setIndex(int index)
+      {
+         checkIndex(index);
+         this.index = index;
+      }
+
+      /**
+       * Gets the index of the point this view is currently viewing.
+       *
+       * @return the index of the point.
+       */
+      public int getIndex()
+      {
+         return index;
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public double getX()
+      {
+         return x.get(index);
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public double getY()
+      {
+         return y.get(index);
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public double getZ()
+      {
+         return z.get(index);
+      }
+
+      /**
+       * Provides a {@code String} representation of the point this view is viewing as follows: (x,
+       * y, z).
+       *
+       * @return the {@code String} representing the point.
+       */
+      @Override
+      public String toString()
+      {
+         return EuclidCoreIOTools.getTuple3DString(this);
+      }
+   }
+}
@@ -0,0 +1,220 @@
+package us.ihmc.euclid.offHeap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+/**
+ * Base class for fixed-capacity collections of geometry objects stored outside of the Java heap.
+ * <p>
+ * The elements are stored contiguously in a {@link ByteBuffer} using the native byte order, each
+ * element occupying {@link #getStride()} consecutive {@code double}s. The storage can either be
+ * allocated with {@link ByteBuffer#allocateDirect(int)} or be provided by the user, for instance
+ * a memory-mapped file.
+ * </p>
+ * <p>
+ * Unlike {@link us.ihmc.euclid.tuple3D.Point3DArray}, the capacity of an off-heap buffer is fixed at
+ * construction: growing would require reallocating and copying the native memory, defeating the
+ * purpose of holding large datasets outside of the heap.
+ * </p>
+ */
+public abstract class OffHeapBuffer
+{
+   /** The number of bytes used to store one {@code double}. */
+   public static final int BYTES_PER_DOUBLE = Double.SIZE / Byte.SIZE;
+
+   /** The bytes backing this buffer, in native byte order. */
+   private final ByteBuffer byteBuffer;
+   /** View of {@link #byteBuffer} as {@code double}s, used for all the read and write operations. */
+   protected final DoubleBuffer buffer;
+   /** The number of {@code double}s used to store one element. */
+   private final int stride;
+   /** The maximum number of elements this buffer can hold. */
+   private final int capacity;
+   /** The number of elements in this buffer. */
+   private int size;
+
+   /**
+    * Creates a new empty buffer backed by newly allocated direct memory.
+    *
+    * @param stride the number of {@code double}s used to store one element.
+    * @param capacity the maximum number of elements this buffer can hold.
+    * @throws IllegalArgumentException if {@code capacity} is negative or too large to be allocated
+    *            in a single {@code ByteBuffer}.
+    */
+   protected OffHeapBuffer(int stride, int capacity)
+   {
+      this(stride, allocate(stride, capacity));
+      size = 0;
+   }
+
+   /**
+    * Creates a new buffer backed by the given bytes.
+    * <p>
+    * The storage starts at the current position of {@code byteBuffer} and the capacity is the
+    * number of complete elements that fit in its remaining bytes. The position, limit and byte order
+    * of {@code byteBuffer} are not modified, while its content is shared with this buffer. The new
+    * buffer is considered full, i.e. {@link #size()} is equal to {@link #capacity()}, such that
+    * previously stored data can be read directly.
+    * </p>
+    * <p>
+    * The data is interpreted in the native byte order.
+    * </p>
+    *
+    * @param stride the number of {@code double}s used to store one element.
+    * @param byteBuffer the bytes to use as storage. Not modified, its content is shared.
+    */
+   protected OffHeapBuffer(int stride, ByteBuffer byteBuffer)
+   {
+      this.stride = stride;
+      this.byteBuffer = byteBuffer.slice().order(ByteOrder.nativeOrder());
+      buffer = this.byteBuffer.asDoubleBuffer();
+      capacity = buffer.capacity() / stride;
+      size = capacity;
+   }
+
+   private static ByteBuffer allocate(int stride, int capacity)
+   {
+      if (capacity < 0)
+         throw new IllegalArgumentException("The capacity cannot be negative: " + capacity);
+      if (capacity > Integer.MAX_VALUE / (stride * BYTES_PER_DOUBLE))
+         throw new IllegalArgumentException("The capacity is too large: " + capacity);
+      return ByteBuffer.allocateDirect(capacity * stride * BYTES_PER_DOUBLE);
+   }
+
+   /**
+    * Removes all the elements from this buffer.
+    * <p>
+    * The memory is not released, nor cleared.
+    * </p>
+    */
+   public void clear()
+   {
+      size = 0;
+   }
+
+   /**
+    * Changes the number of elements in this buffer.
+    * <p>
+    * When growing, the new elements are not initialized and hold whatever was previously stored in
+    * the underlying memory.
+    * </p>
+    *
+    * @param newSize the new number of elements.
+    * @throws IllegalArgumentException if {@code newSize} &notin; [0, {@link #capacity()}].
+    */
+   public void setSize(int newSize)
+   {
+      if (newSize < 0 || newSize > capacity)
+         throw new IllegalArgumentException("The size should be in [0, " + capacity + "], but is: " + newSize);
+      size = newSize;
+   }
+
+   /**
+    * Gets the number of elements in this buffer.
+    *
+    * @return the number of elements.
+    */
+   public int size()
+   {
+      return size;
+   }
+
+   /**
+    * Tests whether this buffer contains any element.
+    *
+    * @return {@code true} if this buffer has no element, {@code false} otherwise.
+    */
+   public boolean isEmpty()
+   {
+      return size == 0;
+   }
+
+   /**
+    * Gets the maximum number of elements this buffer can hold.
+    *
+    * @return the capacity of this buffer.
+    */
+   public int capacity()
+   {
+      return capacity;
+   }
+
+   /**
+    * Gets the number of {@code double}s used to store one element.
+    *
+    * @return the stride of this buffer.
+    */
+   public int getStride()
+   {
+      return stride;
+   }
+
+   /**
+    * Gets the bytes backing this buffer.
+    * <p>
+    * The returned buffer uses the native byte order and starts with the first element.
+    * </p>
+    *
+    * @return the reference to the backing bytes.
+    */
+   public ByteBuffer getByteBuffer()
+   {
+      return byteBuffer;
+   }
+
+   /**
+    * Gets the view as {@code double}s of the bytes backing this buffer.
+    * <p>
+    * The {@code i}<sup>th</sup> component of the {@code n}<sup>th</sup> element is located at the
+    * index {@code n * getStride() + i}. Only the first {@code size() * getStride()} values are
+    * meaningful. The absolute get and put methods should be used to access the data, the position
+    * of the returned buffer is not used by this class.
+    * </p>
+    *
+    * @return the reference to the {@code double} view.
+    */
+   public DoubleBuffer getDoubleBuffer()
+   {
+      return buffer;
+   }
+
+   /**
+    * Increments the size of this buffer and returns the offset of the new last element.
+    *
+    * @return the offset in {@link #buffer} of the new element.
+    * @throws IllegalStateException if this buffer is full.
+    */
+   protected int grow()
+   {
+      if (size == capacity)
+         throw new IllegalStateException("The buffer is full, capacity: " + capacity);
+      return stride * size++;
+   }
+
+   /**
+    * Checks the given index and computes the offset in {@link #buffer} of the corresponding
+    * element.
+    *
+    * @param index the index of the element.
+    * @return the offset of the first component of the element.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   protected int offset(int index)
+   {
+      if (index < 0 || index >= size)
+         throw new IndexOutOfBoundsException("index should be in [0, " + size + "[, but is: " + index);
+      return stride * index;
+   }
+
+   /**
+    * Provides a {@code String} representation of this buffer as follows: size: N, capacity: C.
+    *
+    * @return the {@code String} representing this buffer.
+    */
+   @Override
+   public String toString()
+   {
+      return "size: " + size + ", capacity: " + capacity;
+   }
+}
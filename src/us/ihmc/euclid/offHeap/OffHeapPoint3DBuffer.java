@@ -0,0 +1,342 @@
+package us.ihmc.euclid.offHeap;
+
+import java.nio.ByteBuffer;
+
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+
+/**
+ * An {@code OffHeapPoint3DBuffer} is a fixed-capacity collection of 3D points stored outside of
+ * the Java heap.
+ * <p>
+ * The coordinates are interleaved, the {@code n}<sup>th</sup> point being stored as
+ * {@code (x, y, z)} at the offset {@code 3 * n} of {@link #getDoubleBuffer()}. Holding large point
+ * sets this way does not create one object per point, keeping the heap small and the garbage
+ * collection pauses short.
+ * </p>
+ * <p>
+ * The points can be accessed without copying via a {@link Cursor}, which is a
+ * {@link Point3DBasics} reading and writing directly in the buffer. Batch operations such as
+ * {@link us.ihmc.euclid.transform.RigidBodyTransform#transform(OffHeapPoint3DBuffer, OffHeapPoint3DBuffer)}
+ * operate directly on the buffer.
+ * </p>
+ */
+public class OffHeapPoint3DBuffer extends OffHeapBuffer
+{
+   /** The number of {@code double}s used to store one point. */
+   public static final int STRIDE = 3;
+
+   /**
+    * Creates a new empty point buffer backed by newly allocated direct memory.
+    *
+    * @param capacity the maximum number of points this buffer can hold.
+    * @throws IllegalArgumentException if {@code capacity} is negative or too large.
+    */
+   public OffHeapPoint3DBuffer(int capacity)
+   {
+      super(STRIDE, capacity);
+   }
+
+   /**
+    * Creates a new point buffer backed by the given bytes.
+    * <p>
+    * The new buffer holds as many points as can fit in the remaining bytes of {@code byteBuffer}.
+    * See {@link OffHeapBuffer#OffHeapBuffer(int, ByteBuffer)}.
+    * </p>
+    *
+    * @param byteBuffer the bytes to use as storage. Not modified, its content is shared.
+    */
+   public OffHeapPoint3DBuffer(ByteBuffer byteBuffer)
+   {
+      super(STRIDE, byteBuffer);
+   }
+
+   /**
+    * Adds a new point at the end of this buffer.
+    *
+    * @param x the x-coordinate of the new point.
+    * @param y the y-coordinate of the new point.
+    * @param z the z-coordinate of the new point.
+    * @throws IllegalStateException if this buffer is full.
+    */
+   public void add(double x, double y, double z)
+   {
+      int offset = grow();
+      buffer.put(offset, x);
+      buffer.put(offset + 1, y);
+      buffer.put(offset + 2, z);
+   }
+
+   /**
+    * Adds a new point at the end of this buffer.
+    *
+    * @param tuple the tuple holding the coordinates of the new point. Not modified.
+    * @throws IllegalStateException if this buffer is full.
+    */
+   public void add(Tuple3DReadOnly tuple)
+   {
+      add(tuple.getX(), tuple.getY(), tuple.getZ());
+   }
+
+   /**
+    * Sets the coordinates of the {@code index}<sup>th</sup> point.
+    *
+    * @param index the index of the point to set.
+    * @param x the new x-coordinate.
+    * @param y the new y-coordinate.
+    * @param z the new z-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void set(int index, double x, double y, double z)
+   {
+      int offset = offset(index);
+      buffer.put(offset, x);
+      buffer.put(offset + 1, y);
+      buffer.put(offset + 2, z);
+   }
+
+   /**
+    * Sets the coordinates of the {@code index}<sup>th</sup> point.
+    *
+    * @param index the index of the point to set.
+    * @param tuple the tuple holding the new coordinates. Not modified.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void set(int index, Tuple3DReadOnly tuple)
+   {
+      set(index, tuple.getX(), tuple.getY(), tuple.getZ());
+   }
+
+   /**
+    * Packs the coordinates of the {@code index}<sup>th</sup> point into the given tuple.
+    *
+    * @param index the index of the point to get.
+    * @param tupleToPack the tuple in which the coordinates are stored. Modified.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void get(int index, Tuple3DBasics tupleToPack)
+   {
+      int offset = offset(index);
+      tupleToPack.set(buffer.get(offset), buffer.get(offset + 1), buffer.get(offset + 2));
+   }
+
+   /**
+    * Gets the x-coordinate of the {@code index}<sup>th</sup> point.
+    *
+    * @param index the index of the point.
+    * @return the x-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public double getX(int index)
+   {
+      return buffer.get(offset(index));
+   }
+
+   /**
+    * Gets the y-coordinate of the {@code index}<sup>th</sup> point.
+    *
+    * @param index the index of the point.
+    * @return the y-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public double getY(int index)
+   {
+      return buffer.get(offset(index) + 1);
+   }
+
+   /**
+    * Gets the z-coordinate of the {@code index}<sup>th</sup> point.
+    *
+    * @param index the index of the point.
+    * @return the z-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public double getZ(int index)
+   {
+      return buffer.get(offset(index) + 2);
+   }
+
+   /**
+    * Transforms all the points of this buffer as {@code M * p + t} and stores the result in
+    * {@code pointsTransformed}.
+    * <p>
+    * This is the kernel behind the off-heap batch transforms such as
+    * {@link us.ihmc.euclid.transform.RigidBodyTransform#transform(OffHeapPoint3DBuffer, OffHeapPoint3DBuffer)},
+    * the transform being reduced to its 12 coefficients beforehand.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of this buffer. It can be the same
+    * instance as this buffer.
+    * </p>
+    *
+    * @param pointsTransformed the buffer in which the transformed points are stored. Modified.
+    * @throws IllegalArgumentException if {@code pointsTransformed} cannot hold all the points.
+    */
+   public void transform(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22, double tx, double ty,
+                         double tz, OffHeapPoint3DBuffer pointsTransformed)
+   {
+      int size = size();
+      pointsTransformed.setSize(size);
+      DoubleBufferTransformKernel.transform(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, buffer, pointsTransformed.buffer, STRIDE, size);
+   }
+
+   /**
+    * Transforms all the points of this buffer as {@code M * (p + t)} and stores the result in
+    * {@code pointsTransformed}.
+    * <p>
+    * This is the kernel behind the off-heap batch inverse transforms such as
+    * {@link us.ihmc.euclid.transform.RigidBodyTransform#inverseTransform(OffHeapPoint3DBuffer, OffHeapPoint3DBuffer)},
+    * which are applied as {@code R}<sup>T</sup>{@code (p - t)} as for a single point.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of this buffer. It can be the same
+    * instance as this buffer.
+    * </p>
+    *
+    * @param pointsTransformed the buffer in which the transformed points are stored. Modified.
+    * @throws IllegalArgumentException if {@code pointsTransformed} cannot hold all the points.
+    */
+   public void translateThenTransform(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22, double tx,
+                                      double ty, double tz, OffHeapPoint3DBuffer pointsTransformed)
+   {
+      int size = size();
+      pointsTransformed.setSize(size);
+      DoubleBufferTransformKernel.translateThenTransform(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, buffer, pointsTransformed.buffer, STRIDE,
+                                                         size);
+   }
+
+   /**
+    * Creates a new cursor that is not pointing to any point of this buffer yet.
+    * <p>
+    * The cursor should be created once and then moved with {@link Cursor#setIndex(int)} to avoid
+    * garbage generation. Until its index is set, accessing the cursor throws an
+    * {@link IndexOutOfBoundsException}.
+    * </p>
+    *
+    * @return the new cursor.
+    */
+   public Cursor newCursor()
+   {
+      return new Cursor();
+   }
+
+   /**
+    * Creates a new cursor pointing to the {@code index}<sup>th</sup> point of this buffer.
+    * <p>
+    * The cursor should be created once and then moved with {@link Cursor#setIndex(int)} to avoid
+    * garbage generation.
+    * </p>
+    *
+    * @param index the index of the point to view.
+    * @return the new cursor.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public Cursor newCursor(int index)
+   {
+      Cursor cursor = new Cursor();
+      cursor.setIndex(index);
+      return cursor;
+   }
+
+   /**
+    * A {@code Cursor} is a {@link Point3DBasics} view of one of the points of an
+    * {@link OffHeapPoint3DBuffer}.
+    * <p>
+    * Reading or writing the coordinates of the cursor reads or writes directly the coordinates of
+    * the point at the cursor's index in the buffer. The index is validated when set, the cursor
+    * should not be used once the buffer has been shrunk below its index.
+    * </p>
+    */
+   public class Cursor implements Point3DBasics
+   {
+      /** The index of the viewed element, {@code -1} until it is set. */
+      private int index = -1;
+      /**
+       * The offset of the viewed element in the buffer. It is initially negative such that accessing
+       * any component throws an {@link IndexOutOfBoundsException}.
+       */
+      private int offset = -STRIDE;
+
+      private Cursor()
+      {
+      }
+
+      /**
+       * Moves this cursor to the {@code index}<sup>th</sup> point of the buffer.
+       *
+       * @param index the index of the point to view.
+       * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+       */
+      public void setIndex(int index)
+      {
+         offset = offset(index);
+         this.index = index;
+      }
+
+      /**
+       * Gets the index of the point this cursor is currently viewing.
+       *
+       * @return the index of the point, or {@code -1} if it has not been set yet.
+       */
+      public int getIndex()
+      {
+         return index;
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public void setX(double x)
+      {
+         buffer.put(offset, x);
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public void setY(double y)
+      {
+         buffer.put(offset + 1, y);
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public void setZ(double z)
+      {
+         buffer.put(offset + 2, z);
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public double getX()
+      {
+         return buffer.get(offset);
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public double getY()
+      {
+         return buffer.get(offset + 1);
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public double getZ()
+      {
+         return buffer.get(offset + 2);
+      }
+
+      /**
+       * Provides a {@code String} representation of the point this cursor is viewing as follows: (x,
+       * y, z).
+       *
+       * @return the {@code String} representing the point.
+       */
+      @Override
+      public String toString()
+      {
+         return EuclidCoreIOTools.getTuple3DString(this);
+      }
+   }
+}
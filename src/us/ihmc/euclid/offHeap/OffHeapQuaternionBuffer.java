@@ -0,0 +1,223 @@
+package us.ihmc.euclid.offHeap;
+
+import java.nio.ByteBuffer;
+
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
+
+/**
+ * An {@code OffHeapQuaternionBuffer} is a fixed-capacity collection of quaternions stored outside
+ * of the Java heap.
+ * <p>
+ * The components are interleaved, the {@code n}<sup>th</sup> quaternion being stored as
+ * {@code (x, y, z, s)} at the offset {@code 4 * n} of {@link #getDoubleBuffer()}.
+ * </p>
+ * <p>
+ * The quaternions can be accessed without copying via a {@link Cursor}, which is a
+ * {@link QuaternionBasics} reading and writing directly in the buffer.
+ * </p>
+ */
+public class OffHeapQuaternionBuffer extends OffHeapBuffer
+{
+   /** The number of {@code double}s used to store one quaternion. */
+   public static final int STRIDE = 4;
+
+   /**
+    * Creates a new empty quaternion buffer backed by newly allocated direct memory.
+    *
+    * @param capacity the maximum number of quaternions this buffer can hold.
+    * @throws IllegalArgumentException if {@code capacity} is negative or too large.
+    */
+   public OffHeapQuaternionBuffer(int capacity)
+   {
+      super(STRIDE, capacity);
+   }
+
+   /**
+    * Creates a new quaternion buffer backed by the given bytes.
+    * <p>
+    * The new buffer holds as many quaternions as can fit in the remaining bytes of
+    * {@code byteBuffer}. See {@link OffHeapBuffer#OffHeapBuffer(int, ByteBuffer)}.
+    * </p>
+    *
+    * @param byteBuffer the bytes to use as storage. Not modified, its content is shared.
+    */
+   public OffHeapQuaternionBuffer(ByteBuffer byteBuffer)
+   {
+      super(STRIDE, byteBuffer);
+   }
+
+   /**
+    * Adds a new quaternion at the end of this buffer.
+    *
+    * @param quaternion the quaternion to add. Not modified.
+    * @throws IllegalStateException if this buffer is full.
+    */
+   public void add(QuaternionReadOnly quaternion)
+   {
+      put(grow(), quaternion);
+   }
+
+   /**
+    * Sets the {@code index}<sup>th</sup> quaternion.
+    *
+    * @param index the index of the quaternion to set.
+    * @param quaternion the quaternion to copy. Not modified.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void set(int index, QuaternionReadOnly quaternion)
+   {
+      put(offset(index), quaternion);
+   }
+
+   private void put(int offset, QuaternionReadOnly quaternion)
+   {
+      buffer.put(offset, quaternion.getX());
+      buffer.put(offset + 1, quaternion.getY());
+      buffer.put(offset + 2, quaternion.getZ());
+      buffer.put(offset + 3, quaternion.getS());
+   }
+
+   /**
+    * Packs the {@code index}<sup>th</sup> quaternion into the given quaternion.
+    *
+    * @param index the index of the quaternion to get.
+    * @param quaternionToPack the quaternion in which the components are stored. Modified.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void get(int index, QuaternionBasics quaternionToPack)
+   {
+      int offset = offset(index);
+      quaternionToPack.setUnsafe(buffer.get(offset), buffer.get(offset + 1), buffer.get(offset + 2), buffer.get(offset + 3));
+   }
+
+   /**
+    * Creates a new cursor that is not pointing to any quaternion of this buffer yet.
+    * <p>
+    * The cursor should be created once and then moved with {@link Cursor#setIndex(int)} to avoid
+    * garbage generation. Until its index is set, accessing the cursor throws an
+    * {@link IndexOutOfBoundsException}.
+    * </p>
+    *
+    * @return the new cursor.
+    */
+   public Cursor newCursor()
+   {
+      return new Cursor();
+   }
+
+   /**
+    * Creates a new cursor pointing to the {@code index}<sup>th</sup> quaternion of this buffer.
+    * <p>
+    * The cursor should be created once and then moved with {@link Cursor#setIndex(int)} to avoid
+    * garbage generation.
+    * </p>
+    *
+    * @param index the index of the quaternion to view.
+    * @return the new cursor.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public Cursor newCursor(int index)
+   {
+      Cursor cursor = new Cursor();
+      cursor.setIndex(index);
+      return cursor;
+   }
+
+   /**
+    * A {@code Cursor} is a {@link QuaternionBasics} view of one of the quaternions of an
+    * {@link OffHeapQuaternionBuffer}.
+    * <p>
+    * Reading or writing the components of the cursor reads or writes directly the components of the
+    * quaternion at the cursor's index in the buffer. The index is validated when set, the cursor
+    * should not be used once the buffer has been shrunk below its index.
+    * </p>
+    */
+   public class Cursor implements QuaternionBasics
+   {
+      /** The index of the viewed element, {@code -1} until it is set. */
+      private int index = -1;
+      /**
+       * The offset of the viewed element in the buffer. It is initially negative such that accessing
+       * any component throws an {@link IndexOutOfBoundsException}.
+       */
+      private int offset = -STRIDE;
+
+      private Cursor()
+      {
+      }
+
+      /**
+       * Moves this cursor to the {@code index}<sup>th</sup> quaternion of the buffer.
+       *
+       * @param index the index of the quaternion to view.
+       * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+       */
+      public void setIndex(int index)
+      {
+         offset = offset(index);
+         this.index = index;
+      }
+
+      /**
+       * Gets the index of the quaternion this cursor is currently viewing.
+       *
+       * @return the index of the quaternion, or {@code -1} if it has not been set yet.
+       */
+      public int getIndex()
+      {
+         return index;
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public void setUnsafe(double qx, double qy, double qz, double qs)
+      {
+         buffer.put(offset, qx);
+         buffer.put(offset + 1, qy);
+         buffer.put(offset + 2, qz);
+         buffer.put(offset + 3, qs);
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public double getX()
+      {
+         return buffer.get(offset);
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public double getY()
+      {
+         return buffer.get(offset + 1);
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public double getZ()
+      {
+         return buffer.get(offset + 2);
+      }
+
+      /** {@inheritDoc} */
+      @Override
+      public double getS()
+      {
+         return buffer.get(offset + 3);
+      }
+
+      /**
+       * Provides a {@code String} representation of the quaternion this cursor is viewing as
+       * follows: (x, y, z, s).
+       *
+       * @return the {@code String} representing the quaternion.
+       */
+      @Override
+      public String toString()
+      {
+         return EuclidCoreIOTools.getTuple4DString(this);
+      }
+   }
+}
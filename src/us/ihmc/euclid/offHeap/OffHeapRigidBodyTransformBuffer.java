@@ -0,0 +1,138 @@
+package us.ihmc.euclid.offHeap;
+
+import java.nio.ByteBuffer;
+
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+
+/**
+ * An {@code OffHeapRigidBodyTransformBuffer} is a fixed-capacity collection of rigid-body
+ * transforms stored outside of the Java heap.
+ * <p>
+ * Each transform is stored as the 3 first rows of its 4-by-4 matrix in row-major order, i.e. the
+ * {@code n}<sup>th</sup> transform is stored as
+ * {@code (m00, m01, m02, tx, m10, m11, m12, ty, m20, m21, m22, tz)} at the offset {@code 12 * n} of
+ * {@link #getDoubleBuffer()}.
+ * </p>
+ */
+public class OffHeapRigidBodyTransformBuffer extends OffHeapBuffer
+{
+   /** The number of {@code double}s used to store one transform. */
+   public static final int STRIDE = 12;
+
+   /**
+    * Creates a new empty transform buffer backed by newly allocated direct memory.
+    *
+    * @param capacity the maximum number of transforms this buffer can hold.
+    * @throws IllegalArgumentException if {@code capacity} is negative or too large.
+    */
+   public OffHeapRigidBodyTransformBuffer(int capacity)
+   {
+      super(STRIDE, capacity);
+   }
+
+   /**
+    * Creates a new transform buffer backed by the given bytes.
+    * <p>
+    * The new buffer holds as many transforms as can fit in the remaining bytes of
+    * {@code byteBuffer}. See {@link OffHeapBuffer#OffHeapBuffer(int, ByteBuffer)}.
+    * </p>
+    *
+    * @param byteBuffer the bytes to use as storage. Not modified, its content is shared.
+    */
+   public OffHeapRigidBodyTransformBuffer(ByteBuffer byteBuffer)
+   {
+      super(STRIDE, byteBuffer);
+   }
+
+   /**
+    * Adds a new transform at the end of this buffer.
+    *
+    * @param transform the transform to add. Not modified.
+    * @throws IllegalStateException if this buffer is full.
+    */
+   public void add(RigidBodyTransform transform)
+   {
+      put(grow(), transform);
+   }
+
+   /**
+    * Sets the {@code index}<sup>th</sup> transform.
+    *
+    * @param index the index of the transform to set.
+    * @param transform the transform to copy. Not modified.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void set(int index, RigidBodyTransform transform)
+   {
+      put(offset(index), transform);
+   }
+
+   private void put(int offset, RigidBodyTransform transform)
+   {
+      RotationMatrixReadOnly rotation = transform.getRotationMatrix();
+      Tuple3DReadOnly translation = transform.getTranslationVector();
+      buffer.put(offset, rotation.getM00());
+      buffer.put(offset + 1, rotation.getM01());
+      buffer.put(offset + 2, rotation.getM02());
+      buffer.put(offset + 3, translation.getX());
+      buffer.put(offset + 4, rotation.getM10());
+      buffer.put(offset + 5, rotation.getM11());
+      buffer.put(offset + 6, rotation.getM12());
+      buffer.put(offset + 7, translation.getY());
+      buffer.put(offset + 8, rotation.getM20());
+      buffer.put(offset + 9, rotation.getM21());
+      buffer.put(offset + 10, rotation.getM22());
+      buffer.put(offset + 11, translation.getZ());
+   }
+
+   /**
+    * Packs the {@code index}<sup>th</sup> transform into the given transform.
+    *
+    * @param index the index of the transform to get.
+    * @param transformToPack the transform in which the coefficients are stored. Modified.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void get(int index, RigidBodyTransform transformToPack)
+   {
+      int offset = offset(index);
+      transformToPack.setUnsafe(buffer.get(offset), buffer.get(offset + 1), buffer.get(offset + 2), buffer.get(offset + 3), buffer.get(offset + 4),
+                                buffer.get(offset + 5), buffer.get(offset + 6), buffer.get(offset + 7), buffer.get(offset + 8), buffer.get(offset + 9),
+                                buffer.get(offset + 10), buffer.get(offset + 11));
+   }
+
+   /**
+    * Transforms all the points of {@code pointsOriginal} by the {@code index}<sup>th</sup>
+    * transform of this buffer and stores the result in {@code pointsTransformed}.
+    * <p>
+    * The transform coefficients are read once from this buffer, no heap object is involved.
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param index the index of the transform to apply.
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the buffer in which the transformed points are stored. Modified.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    * @throws IllegalArgumentException if {@code pointsTransformed} cannot hold all the points.
+    */
+   public void transform(int index, OffHeapPoint3DBuffer pointsOriginal, OffHeapPoint3DBuffer pointsTransformed)
+   {
+      int offset = offset(index);
+      double m00 = buffer.get(offset);
+      double m01 = buffer.get(offset + 1);
+      double m02 = buffer.get(offset + 2);
+      double tx = buffer.get(offset + 3);
+      double m10 = buffer.get(offset + 4);
+      double m11 = buffer.get(offset + 5);
+      double m12 = buffer.get(offset + 6);
+      double ty = buffer.get(offset + 7);
+      double m20 = buffer.get(offset + 8);
+      double m21 = buffer.get(offset + 9);
+      double m22 = buffer.get(offset + 10);
+      double tz = buffer.get(offset + 11);
+
+      pointsOriginal.transform(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, pointsTransformed);
+   }
+}
@@ -0,0 +1,643 @@
+package us.ihmc.euclid.orientation;
+
+import us.ihmc.euclid.axisAngle.interfaces.AxisAngleBasics;
+import us.ihmc.euclid.interfaces.GeometryObject;
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DBasics;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.transform.interfaces.Transform;
+import us.ihmc.euclid.tuple2D.interfaces.Tuple2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Tuple2DReadOnly;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
+import us.ihmc.euclid.tuple4D.interfaces.Vector4DBasics;
+import us.ihmc.euclid.tuple4D.interfaces.Vector4DReadOnly;
+
+/**
+ * A {@code CachedOrientation3D} is a 3D orientation that is stored as a quaternion and that lazily
+ * maintains its other representations: rotation matrix, yaw-pitch-roll angles, and rotation
+ * vector.
+ * <p>
+ * Each operation is performed with the representation that is the cheapest for it:
+ * <ul>
+ * <li>the orientation is composed, normalized, and inverted as a quaternion,
+ * <li>the geometry objects are transformed with the rotation matrix,
+ * <li>the yaw, pitch, and roll angles are read from the yaw-pitch-roll cache,
+ * <li>the rotation vector is read from the rotation vector cache.
+ * </ul>
+ * A derived representation is only computed when it is needed and is then reused until this
+ * orientation is modified.
+ * </p>
+ * <p>
+ * Because the caches are updated from the getters, this class is not thread-safe, even for
+ * read-only operations.
+ * </p>
+ */
+public class CachedOrientation3D implements Orientation3DBasics, GeometryObject<CachedOrientation3D>
+{
+   /** The primary representation of this orientation. */
+   private final Quaternion quaternion = new Quaternion();
+
+   /** The rotation matrix equivalent to {@link #quaternion}, valid only if up-to-date. */
+   private final RotationMatrix rotationMatrix = new RotationMatrix();
+   private boolean isRotationMatrixUpToDate = true;
+   /** The yaw-pitch-roll angles equivalent to {@link #quaternion}, valid only if up-to-date. */
+   private final double[] yawPitchRoll = new double[3];
+   private boolean isYawPitchRollUpToDate = true;
+   /** The rotation vector equivalent to {@link #quaternion}, valid only if up-to-date. */
+   private final Vector3D rotationVector = new Vector3D();
+   private boolean isRotationVectorUpToDate = true;
+
+   /**
+    * Creates a new orientation initialized to identity.
+    */
+   public CachedOrientation3D()
+   {
+   }
+
+   /**
+    * Creates a new orientation and initializes it to {@code other}.
+    *
+    * @param other the other orientation to copy. Not modified.
+    */
+   public CachedOrientation3D(CachedOrientation3D other)
+   {
+      set(other);
+   }
+
+   /**
+    * Creates a new orientation and initializes it to {@code orientation}.
+    *
+    * @param orientation the orientation to copy. Not modified.
+    */
+   public CachedOrientation3D(Orientation3DReadOnly orientation)
+   {
+      set(orientation);
+   }
+
+   /**
+    * Invalidates the derived representations, has to be called every time the quaternion is
+    * modified.
+    */
+   private void quaternionChanged()
+   {
+      isRotationMatrixUpToDate = false;
+      isYawPitchRollUpToDate = false;
+      isRotationVectorUpToDate = false;
+   }
+
+   private void updateRotationMatrix()
+   {
+      if (!isRotationMatrixUpToDate)
+      {
+         quaternion.get(rotationMatrix);
+         isRotationMatrixUpToDate = true;
+      }
+   }
+
+   private void updateYawPitchRoll()
+   {
+      if (!isYawPitchRollUpToDate)
+      {
+         quaternion.getYawPitchRoll(yawPitchRoll);
+         isYawPitchRollUpToDate = true;
+      }
+   }
+
+   private void updateRotationVector()
+   {
+      if (!isRotationVectorUpToDate)
+      {
+         quaternion.getRotationVector(rotationVector);
+         isRotationVectorUpToDate = true;
+      }
+   }
+
+   /**
+    * Gets the read-only reference to the quaternion used to store this orientation.
+    *
+    * @return the quaternion representing this orientation.
+    */
+   public QuaternionReadOnly getQuaternion()
+   {
+      return quaternion;
+   }
+
+   /**
+    * Gets the read-only reference to the rotation matrix equivalent to this orientation.
+    * <p>
+    * The rotation matrix is updated if needed before being returned, the reference becomes outdated
+    * as soon as this orientation is modified.
+    * </p>
+    *
+    * @return the rotation matrix equivalent to this orientation.
+    */
+   public RotationMatrixReadOnly getRotationMatrix()
+   {
+      updateRotationMatrix();
+      return rotationMatrix;
+   }
+
+   /**
+    * Sets this orientation to {@code other}, copying its up-to-date caches.
+    *
+    * @param other the other orientation to copy. Not modified.
+    */
+   @Override
+   public void set(CachedOrientation3D other)
+   {
+      quaternion.set(other.quaternion);
+      rotationMatrix.set(other.rotationMatrix);
+      isRotationMatrixUpToDate = other.isRotationMatrixUpToDate;
+      System.arraycopy(other.yawPitchRoll, 0, yawPitchRoll, 0, 3);
+      isYawPitchRollUpToDate = other.isYawPitchRollUpToDate;
+      rotationVector.set(other.rotationVector);
+      isRotationVectorUpToDate = other.isRotationVectorUpToDate;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void set(Orientation3DReadOnly orientation3DReadOnly)
+   {
+      quaternion.set(orientation3DReadOnly);
+      quaternionChanged();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void setRotationMatrix(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22)
+   {
+      quaternion.setRotationMatrix(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+      quaternionChanged();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void setAxisAngle(double x, double y, double z, double angle)
+   {
+      quaternion.setAxisAngle(x, y, z, angle);
+      quaternionChanged();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void setQuaternion(double x, double y, double z, double s)
+   {
+      quaternion.setQuaternion(x, y, z, s);
+      quaternionChanged();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void setRotationVector(double x, double y, double z)
+   {
+      quaternion.setRotationVector(x, y, z);
+      quaternionChanged();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void setYawPitchRoll(double yaw, double pitch, double roll)
+   {
+      quaternion.setYawPitchRoll(yaw, pitch, roll);
+      quaternionChanged();
+   }
+
+   /**
+    * Sets this orientation to identity.
+    */
+   @Override
+   public void setToZero()
+   {
+      quaternion.setToZero();
+      quaternionChanged();
+   }
+
+   /**
+    * Sets this orientation to {@link Double#NaN}.
+    */
+   @Override
+   public void setToNaN()
+   {
+      quaternion.setToNaN();
+      quaternionChanged();
+   }
+
+   /**
+    * Tests if this orientation contains a {@link Double#NaN}.
+    *
+    * @return {@code true} if this orientation contains a {@link Double#NaN}, {@code false} otherwise.
+    */
+   @Override
+   public boolean containsNaN()
+   {
+      return quaternion.containsNaN();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void normalize()
+   {
+      quaternion.normalize();
+      quaternionChanged();
+   }
+
+   /**
+    * Inverts this orientation.
+    * <p>
+    * The up-to-date rotation matrix and rotation vector are inverted along with the quaternion,
+    * which is cheaper than recomputing them.
+    * </p>
+    */
+   @Override
+   public void invert()
+   {
+      quaternion.invert();
+
+      if (isRotationMatrixUpToDate)
+         rotationMatrix.invert();
+      if (isRotationVectorUpToDate)
+         rotationVector.negate();
+      isYawPitchRollUpToDate = false;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void append(Orientation3DReadOnly orientation)
+   {
+      quaternion.append(orientation);
+      quaternionChanged();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void appendInvertOther(Orientation3DReadOnly orientation)
+   {
+      quaternion.appendInvertOther(orientation);
+      quaternionChanged();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void appendYawRotation(double yaw)
+   {
+      quaternion.appendYawRotation(yaw);
+      quaternionChanged();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void appendPitchRotation(double pitch)
+   {
+      quaternion.appendPitchRotation(pitch);
+      quaternionChanged();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void appendRollRotation(double roll)
+   {
+      quaternion.appendRollRotation(roll);
+      quaternionChanged();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void prepend(Orientation3DReadOnly orientation)
+   {
+      quaternion.prepend(orientation);
+      quaternionChanged();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void prependInvertOther(Orientation3DReadOnly orientation)
+   {
+      quaternion.prependInvertOther(orientation);
+      quaternionChanged();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void prependYawRotation(double yaw)
+   {
+      quaternion.prependYawRotation(yaw);
+      quaternionChanged();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void prependPitchRotation(double pitch)
+   {
+      quaternion.prependPitchRotation(pitch);
+      quaternionChanged();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void prependRollRotation(double roll)
+   {
+      quaternion.prependRollRotation(roll);
+      quaternionChanged();
+   }
+
+   /**
+    * Transforms this orientation using the given {@code transform}.
+    *
+    * @param transform the geometric transform to apply on this orientation. Not modified.
+    */
+   @Override
+   public void applyTransform(Transform transform)
+   {
+      quaternion.applyTransform(transform);
+      quaternionChanged();
+   }
+
+   /**
+    * Transforms this orientation using the inverse of the given {@code transform}.
+    *
+    * @param transform the geometric transform to apply on this orientation. Not modified.
+    */
+   @Override
+   public void applyInverseTransform(Transform transform)
+   {
+      quaternion.applyInverseTransform(transform);
+      quaternionChanged();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public boolean isOrientation2D(double epsilon)
+   {
+      return quaternion.isOrientation2D(epsilon);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void get(RotationMatrix rotationMatrixToPack)
+   {
+      updateRotationMatrix();
+      rotationMatrixToPack.set(rotationMatrix);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void get(AxisAngleBasics axisAngleToPack)
+   {
+      quaternion.get(axisAngleToPack);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void get(QuaternionBasics quaternionToPack)
+   {
+      quaternionToPack.set(quaternion);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void getRotationVector(Vector3DBasics rotationVectorToPack)
+   {
+      updateRotationVector();
+      rotationVectorToPack.set(rotationVector);
+   }
+
+   /**
+    * Gets the read-only reference to the rotation vector equivalent to this orientation.
+    * <p>
+    * The rotation vector is updated if needed before being returned, the reference becomes outdated
+    * as soon as this orientation is modified.
+    * </p>
+    *
+    * @return the rotation vector equivalent to this orientation.
+    */
+   public Vector3DReadOnly getRotationVector()
+   {
+      updateRotationVector();
+      return rotationVector;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void getYawPitchRoll(double[] yawPitchRollToPack)
+   {
+      updateYawPitchRoll();
+      System.arraycopy(yawPitchRoll, 0, yawPitchRollToPack, 0, 3);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void getEuler(Tuple3DBasics eulerAnglesToPack)
+   {
+      updateYawPitchRoll();
+      eulerAnglesToPack.set(yawPitchRoll[2], yawPitchRoll[1], yawPitchRoll[0]);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getYaw()
+   {
+      updateYawPitchRoll();
+      return yawPitchRoll[0];
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getPitch()
+   {
+      updateYawPitchRoll();
+      return yawPitchRoll[1];
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getRoll()
+   {
+      updateYawPitchRoll();
+      return yawPitchRoll[2];
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      updateRotationMatrix();
+      rotationMatrix.transform(tupleOriginal, tupleTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void addTransform(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      updateRotationMatrix();
+      rotationMatrix.addTransform(tupleOriginal, tupleTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Tuple2DReadOnly tupleOriginal, Tuple2DBasics tupleTransformed, boolean checkIfOrientation2D)
+   {
+      if (checkIfOrientation2D)
+         checkIfOrientation2D();
+
+      updateRotationMatrix();
+      rotationMatrix.transform(tupleOriginal, tupleTransformed, false);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Matrix3DReadOnly matrixOriginal, Matrix3D matrixTransformed)
+   {
+      updateRotationMatrix();
+      rotationMatrix.transform(matrixOriginal, matrixTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Vector4DReadOnly vectorOriginal, Vector4DBasics vectorTransformed)
+   {
+      updateRotationMatrix();
+      rotationMatrix.transform(vectorOriginal, vectorTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(RotationMatrixReadOnly matrixOriginal, RotationMatrix matrixTransformed)
+   {
+      updateRotationMatrix();
+      rotationMatrix.transform(matrixOriginal, matrixTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(QuaternionReadOnly quaternionOriginal, QuaternionBasics quaternionTransformed)
+   {
+      quaternion.transform(quaternionOriginal, quaternionTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      updateRotationMatrix();
+      rotationMatrix.inverseTransform(tupleOriginal, tupleTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Tuple2DReadOnly tupleOriginal, Tuple2DBasics tupleTransformed, boolean checkIfOrientation2D)
+   {
+      if (checkIfOrientation2D)
+         checkIfOrientation2D();
+
+      updateRotationMatrix();
+      rotationMatrix.inverseTransform(tupleOriginal, tupleTransformed, false);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Matrix3DReadOnly matrixOriginal, Matrix3D matrixTransformed)
+   {
+      updateRotationMatrix();
+      rotationMatrix.inverseTransform(matrixOriginal, matrixTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Vector4DReadOnly vectorOriginal, Vector4DBasics vectorTransformed)
+   {
+      updateRotationMatrix();
+      rotationMatrix.inverseTransform(vectorOriginal, vectorTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(RotationMatrixReadOnly matrixOriginal, RotationMatrix matrixTransformed)
+   {
+      updateRotationMatrix();
+      rotationMatrix.inverseTransform(matrixOriginal, matrixTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(QuaternionReadOnly quaternionOriginal, QuaternionBasics quaternionTransformed)
+   {
+      quaternion.inverseTransform(quaternionOriginal, quaternionTransformed);
+   }
+
+   /**
+    * Tests on a per component basis if the quaternions of this orientation and {@code other} are
+    * equal to an {@code epsilon}.
+    *
+    * @param other the other orientation to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing each component.
+    * @return {@code true} if the two orientations are equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean epsilonEquals(CachedOrientation3D other, double epsilon)
+   {
+      return quaternion.epsilonEquals(other.quaternion, epsilon);
+   }
+
+   /**
+    * Tests if {@code this} and {@code other} represent the same orientation to an {@code epsilon}.
+    *
+    * @param other the other orientation to compare against this. Not modified.
+    * @param epsilon the maximum angle for the two orientations to be considered equal.
+    * @return {@code true} if the two orientations represent the same geometry, {@code false}
+    *         otherwise.
+    */
+   @Override
+   public boolean geometricallyEquals(CachedOrientation3D other, double epsilon)
+   {
+      return quaternion.geometricallyEquals(other.quaternion, epsilon);
+   }
+
+   /**
+    * Tests if the given {@code object}'s class is the same as this and if the quaternions of both
+    * orientations are exactly equal.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof CachedOrientation3D)
+         return quaternion.equals(((CachedOrientation3D) object).quaternion);
+      else
+         return false;
+   }
+
+   /**
+    * Calculates and returns a hash code value from the quaternion of this orientation.
+    *
+    * @return the hash code value for this orientation.
+    */
+   @Override
+   public int hashCode()
+   {
+      return quaternion.hashCode();
+   }
+
+   /**
+    * Provides a {@code String} representation of this orientation as its quaternion: (x, y, z, s).
+    *
+    * @return the {@code String} representing this orientation.
+    */
+   @Override
+   public String toString()
+   {
+      return EuclidCoreIOTools.getTuple4DString(quaternion);
+   }
+}
@@ -0,0 +1,280 @@
+package us.ihmc.euclid.orientation;
+
+import us.ihmc.euclid.axisAngle.interfaces.AxisAngleBasics;
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.Matrix3DTools;
+import us.ihmc.euclid.tuple2D.interfaces.Tuple2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Tuple2DReadOnly;
+import us.ihmc.euclid.tuple3D.Tuple3DArray;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
+import us.ihmc.euclid.tuple4D.interfaces.Vector4DBasics;
+import us.ihmc.euclid.tuple4D.interfaces.Vector4DReadOnly;
+
+/**
+ * A {@code PreparedRotation} is a read-only 3D orientation that is prepared once from any
+ * {@link Orientation3DReadOnly} to efficiently rotate a large number of geometry objects.
+ * <p>
+ * Rotating a tuple with a quaternion or an axis-angle requires about twice as many operations as
+ * multiplying it by a 3-by-3 matrix. When the same orientation is used to transform many tuples,
+ * it is cheaper to first convert it into a rotation matrix. This class performs that conversion
+ * when it is set and then delegates all the transformations to the rotation matrix.
+ * </p>
+ * <p>
+ * A {@code PreparedRotation} is a snapshot: modifying the orientation it was prepared from does not
+ * affect it, {@link #set(Orientation3DReadOnly)} has to be called again.
+ * </p>
+ */
+public class PreparedRotation implements Orientation3DReadOnly
+{
+   /** The rotation matrix equivalent to the orientation this rotation was prepared from. */
+   private final RotationMatrix rotationMatrix = new RotationMatrix();
+   /** The transpose of {@link #rotationMatrix}, used to perform the inverse batch transformations. */
+   private final RotationMatrix inverseRotationMatrix = new RotationMatrix();
+
+   /**
+    * Creates a new prepared rotation initialized to identity.
+    */
+   public PreparedRotation()
+   {
+   }
+
+   /**
+    * Creates a new prepared rotation equivalent to the given orientation.
+    *
+    * @param orientation the orientation to prepare. Not modified.
+    */
+   public PreparedRotation(Orientation3DReadOnly orientation)
+   {
+      set(orientation);
+   }
+
+   /**
+    * Prepares this rotation such that it is equivalent to the given orientation.
+    * <p>
+    * This is the only method that computes the rotation matrix of this rotation, it should be called
+    * once for many transformations.
+    * </p>
+    *
+    * @param orientation the orientation to prepare. Not modified.
+    */
+   public void set(Orientation3DReadOnly orientation)
+   {
+      orientation.get(rotationMatrix);
+      inverseRotationMatrix.setAndTranspose(rotationMatrix);
+   }
+
+   /**
+    * Gets the read-only reference to the rotation matrix used by this prepared rotation.
+    *
+    * @return the rotation matrix equivalent to this rotation.
+    */
+   public RotationMatrixReadOnly getRotationMatrix()
+   {
+      return rotationMatrix;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public boolean isOrientation2D(double epsilon)
+   {
+      return rotationMatrix.isOrientation2D(epsilon);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void get(RotationMatrix rotationMatrixToPack)
+   {
+      rotationMatrixToPack.set(rotationMatrix);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void get(AxisAngleBasics axisAngleToPack)
+   {
+      rotationMatrix.get(axisAngleToPack);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void get(QuaternionBasics quaternionToPack)
+   {
+      rotationMatrix.get(quaternionToPack);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void getRotationVector(Vector3DBasics rotationVectorToPack)
+   {
+      rotationMatrix.getRotationVector(rotationVectorToPack);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void getYawPitchRoll(double[] yawPitchRollToPack)
+   {
+      rotationMatrix.getYawPitchRoll(yawPitchRollToPack);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void getEuler(Tuple3DBasics eulerAnglesToPack)
+   {
+      rotationMatrix.getEuler(eulerAnglesToPack);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getYaw()
+   {
+      return rotationMatrix.getYaw();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getPitch()
+   {
+      return rotationMatrix.getPitch();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getRoll()
+   {
+      return rotationMatrix.getRoll();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      rotationMatrix.transform(tupleOriginal, tupleTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void addTransform(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      rotationMatrix.addTransform(tupleOriginal, tupleTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Tuple2DReadOnly tupleOriginal, Tuple2DBasics tupleTransformed, boolean checkIfOrientation2D)
+   {
+      rotationMatrix.transform(tupleOriginal, tupleTransformed, checkIfOrientation2D);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Matrix3DReadOnly matrixOriginal, Matrix3D matrixTransformed)
+   {
+      rotationMatrix.transform(matrixOriginal, matrixTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Vector4DReadOnly vectorOriginal, Vector4DBasics vectorTransformed)
+   {
+      rotationMatrix.transform(vectorOriginal, vectorTransformed);
+   }
+
+   /**
+    * Transforms in place the tuples of the given array by this rotation.
+    *
+    * @param tuplesToTransform the tuples to transform. Modified.
+    */
+   public void transform(Tuple3DArray<?> tuplesToTransform)
+   {
+      transform(tuplesToTransform, tuplesToTransform);
+   }
+
+   /**
+    * Transforms the tuples of {@code tuplesOriginal} by this rotation and stores the result in
+    * {@code tuplesTransformed}.
+    * <p>
+    * {@code tuplesTransformed} is resized to match the size of {@code tuplesOriginal}, see
+    * {@link Matrix3DTools#transform(Matrix3DReadOnly, Tuple3DArray, Tuple3DArray)}.
+    * </p>
+    *
+    * @param tuplesOriginal the tuples to transform. Not modified.
+    * @param tuplesTransformed the array in which the transformed tuples are stored. Modified.
+    */
+   public void transform(Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed)
+   {
+      Matrix3DTools.transform(rotationMatrix, tuplesOriginal, tuplesTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Tuple3DReadOnly tupleOriginal, Tuple3DBasics tupleTransformed)
+   {
+      rotationMatrix.inverseTransform(tupleOriginal, tupleTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Tuple2DReadOnly tupleOriginal, Tuple2DBasics tupleTransformed, boolean checkIfOrientation2D)
+   {
+      rotationMatrix.inverseTransform(tupleOriginal, tupleTransformed, checkIfOrientation2D);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Matrix3DReadOnly matrixOriginal, Matrix3D matrixTransformed)
+   {
+      rotationMatrix.inverseTransform(matrixOriginal, matrixTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Vector4DReadOnly vectorOriginal, Vector4DBasics vectorTransformed)
+   {
+      rotationMatrix.inverseTransform(vectorOriginal, vectorTransformed);
+   }
+
+   /**
+    * Performs in place the inverse of the transform on the tuples of the given array.
+    *
+    * @param tuplesToTransform the tuples to transform. Modified.
+    */
+   public void inverseTransform(Tuple3DArray<?> tuplesToTransform)
+   {
+      inverseTransform(tuplesToTransform, tuplesToTransform);
+   }
+
+   /**
+    * Performs the inverse of the transform on the tuples of {@code tuplesOriginal} and stores the
+    * result in {@code tuplesTransformed}.
+    * <p>
+    * {@code tuplesTransformed} is resized to match the size of {@code tuplesOriginal}. The inverse
+    * of a rotation matrix being its transpose, the transpose is prepared along with the rotation
+    * matrix and applied with {@link Matrix3DTools#transform(Matrix3DReadOnly, Tuple3DArray, Tuple3DArray)}.
+    * </p>
+    *
+    * @param tuplesOriginal the tuples to transform. Not modified.
+    * @param tuplesTransformed the array in which the transformed tuples are stored. Modified.
+    */
+   public void inverseTransform(Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed)
+   {
+      Matrix3DTools.transform(inverseRotationMatrix, tuplesOriginal, tuplesTransformed);
+   }
+
+   /**
+    * Provides a {@code String} representation of this prepared rotation as the rotation matrix it
+    * uses.
+    *
+    * @return the {@code String} representing this prepared rotation.
+    */
+   @Override
+   public String toString()
+   {
+      return rotationMatrix.toString();
+   }
+}
@@ -0,0 +1,339 @@
+package us.ihmc.euclid.referenceFrame;
+
+import us.ihmc.euclid.exceptions.ReferenceFrameMismatchException;
+import us.ihmc.euclid.interfaces.Transformable;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * A {@code ReferenceFrame} represents a coordinate system that is attached to a parent frame via a
+ * {@link RigidBodyTransform}. The frames form a tree which root has no parent.
+ * <p>
+ * Each frame keeps a modification counter that is incremented every time its transform to its
+ * parent is modified. The transform from a frame to the root of the tree is cached and stamped
+ * with the versions of the frames it has been computed from. When querying the transform to the
+ * root, each frame of the chain only recomposes its transform if it itself or one of its ancestors
+ * has been modified since the last query. As a result, querying the transform of a frame which
+ * ancestors have not changed only costs a walk up the chain comparing version stamps.
+ * </p>
+ * <p>
+ * The transform from a frame to another frame of the same tree is computed from the transforms of
+ * both frames to the root. The result of the last query is cached as well and reused as long as
+ * neither of the two frames have changed.
+ * </p>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+public class ReferenceFrame
+{
+   /** The name of this frame. */
+   private final String name;
+   /** The parent of this frame, {@code null} if this frame is a root frame. */
+   private final ReferenceFrame parentFrame;
+   /** The root of the tree this frame belongs to, {@code this} if this frame is a root frame. */
+   private final ReferenceFrame rootFrame;
+   /** The transform from this frame to its parent frame. */
+   private final RigidBodyTransform transformToParent = new RigidBodyTransform();
+   /** The number of times {@link #transformToParent} has been modified. */
+   private long modificationCount = 0;
+
+   /** The cached transform from this frame to the root frame. */
+   private final RigidBodyTransform transformToRoot = new RigidBodyTransform();
+   /** The version of {@link #transformToRoot}, incremented every time it is recomputed. */
+   private long transformToRootVersion = 0;
+   /** The version of the parent's transform to root used to compute {@link #transformToRoot}. */
+   private long parentTransformToRootVersionUsed = -1;
+   /** The modification count of this frame used to compute {@link #transformToRoot}. */
+   private long modificationCountUsed = -1;
+
+   /** The desired frame of the last call to {@link #getTransformToDesiredFrame}. */
+   private ReferenceFrame lastDesiredFrame = null;
+   /** The version of {@link #transformToRoot} used to compute the last transform to desired frame. */
+   private long transformToRootVersionUsedForDesiredFrame = -1;
+   /** The version of the desired frame's transform to root used to compute the last transform. */
+   private long desiredFrameTransformToRootVersionUsed = -1;
+   /** The cached transform from this frame to {@link #lastDesiredFrame}. */
+   private final RigidBodyTransform transformToLastDesiredFrame = new RigidBodyTransform();
+
+   /**
+    * Creates a new root frame.
+    *
+    * @param name the name of the new frame.
+    */
+   public ReferenceFrame(String name)
+   {
+      this.name = name;
+      parentFrame = null;
+      rootFrame = this;
+   }
+
+   /**
+    * Creates a new frame attached to the given parent with an identity transform.
+    *
+    * @param name the name of the new frame.
+    * @param parentFrame the parent of the new frame. Not modified.
+    * @throws IllegalArgumentException if {@code parentFrame} is {@code null}.
+    */
+   public ReferenceFrame(String name, ReferenceFrame parentFrame)
+   {
+      if (parentFrame == null)
+         throw new IllegalArgumentException("The parent frame of " + name + " cannot be null, use ReferenceFrame(String) to create a root frame.");
+
+      this.name = name;
+      this.parentFrame = parentFrame;
+      rootFrame = parentFrame.rootFrame;
+   }
+
+   /**
+    * Creates a new frame attached to the given parent.
+    *
+    * @param name the name of the new frame.
+    * @param parentFrame the parent of the new frame. Not modified.
+    * @param transformToParent the transform from the new frame to its parent. Not modified.
+    * @throws IllegalArgumentException if {@code parentFrame} is {@code null}.
+    */
+   public ReferenceFrame(String name, ReferenceFrame parentFrame, RigidBodyTransform transformToParent)
+   {
+      this(name, parentFrame);
+      setTransformToParent(transformToParent);
+   }
+
+   /**
+    * Sets the transform from this frame to its parent frame and increments the modification count
+    * of this frame.
+    *
+    * @param transformToParent the new transform to the parent frame. Not modified.
+    * @throws RuntimeException if this frame is a root frame.
+    */
+   public void setTransformToParent(RigidBodyTransform transformToParent)
+   {
+      if (isRootFrame())
+         throw new RuntimeException("The transform of the root frame " + name + " cannot be modified.");
+
+      this.transformToParent.set(transformToParent);
+      modificationCount++;
+   }
+
+   /**
+    * Packs the transform from this frame to its parent frame in the given transform.
+    * <p>
+    * The transform of a root frame is always identity.
+    * </p>
+    *
+    * @param transformToPack the transform in which the transform to the parent is stored. Modified.
+    */
+   public void getTransformToParent(RigidBodyTransform transformToPack)
+   {
+      transformToPack.set(transformToParent);
+   }
+
+   /**
+    * Packs the transform from this frame to the root frame in the given transform.
+    * <p>
+    * Only the frames of the chain from the root to this frame that have changed since the last
+    * query are recomposed.
+    * </p>
+    *
+    * @param transformToPack the transform in which the transform to the root is stored. Modified.
+    */
+   public void getTransformToRoot(RigidBodyTransform transformToPack)
+   {
+      updateTransformToRoot();
+      transformToPack.set(transformToRoot);
+   }
+
+   /**
+    * Packs the transform from this frame to the given {@code desiredFrame} in the given transform.
+    * <p>
+    * The transform is such that it can be used to transform a geometry expressed in this frame to
+    * the desired frame.
+    * </p>
+    *
+    * @param transformToPack the transform in which the result is stored. Modified.
+    * @param desiredFrame the frame to compute the transform to. Not modified.
+    * @throws ReferenceFrameMismatchException if {@code desiredFrame} does not belong to the same
+    *            tree as this frame.
+    */
+   public void getTransformToDesiredFrame(RigidBodyTransform transformToPack, ReferenceFrame desiredFrame)
+   {
+      if (desiredFrame == this)
+      {
+         transformToPack.setIdentity();
+      }
+      else if (desiredFrame == parentFrame)
+      {
+         transformToPack.set(transformToParent);
+      }
+      else if (desiredFrame == rootFrame)
+      {
+         getTransformToRoot(transformToPack);
+      }
+      else
+      {
+         checkFrameTreeMatch(desiredFrame);
+         updateTransformToDesiredFrame(desiredFrame);
+         transformToPack.set(transformToLastDesiredFrame);
+      }
+   }
+
+   /**
+    * Transforms the given object from this frame to the given {@code desiredFrame}.
+    *
+    * @param desiredFrame the frame the object is to be expressed in. Not modified.
+    * @param objectToTransform the geometry object expressed in this frame to transform. Modified.
+    * @throws ReferenceFrameMismatchException if {@code desiredFrame} does not belong to the same
+    *            tree as this frame.
+    */
+   public void transformFromThisToDesiredFrame(ReferenceFrame desiredFrame, Transformable objectToTransform)
+   {
+      if (desiredFrame == this)
+         return;
+
+      if (desiredFrame == parentFrame)
+      {
+         objectToTransform.applyTransform(transformToParent);
+      }
+      else if (desiredFrame == rootFrame)
+      {
+         updateTransformToRoot();
+         objectToTransform.applyTransform(transformToRoot);
+      }
+      else
+      {
+         checkFrameTreeMatch(desiredFrame);
+         updateTransformToDesiredFrame(desiredFrame);
+         objectToTransform.applyTransform(transformToLastDesiredFrame);
+      }
+   }
+
+   /**
+    * Asserts that this frame and {@code other} belong to the same tree.
+    *
+    * @param other the other frame to test. Not modified.
+    * @throws ReferenceFrameMismatchException if the two frames do not share the same root.
+    */
+   public void checkFrameTreeMatch(ReferenceFrame other)
+   {
+      if (rootFrame != other.rootFrame)
+         throw new ReferenceFrameMismatchException(this, other);
+   }
+
+   private void updateTransformToDesiredFrame(ReferenceFrame desiredFrame)
+   {
+      updateTransformToRoot();
+      desiredFrame.updateTransformToRoot();
+
+      if (desiredFrame == lastDesiredFrame && transformToRootVersion == transformToRootVersionUsedForDesiredFrame
+            && desiredFrame.transformToRootVersion == desiredFrameTransformToRootVersionUsed)
+         return;
+
+      transformToLastDesiredFrame.set(desiredFrame.transformToRoot);
+      transformToLastDesiredFrame.multiplyInvertThis(transformToRoot);
+
+      lastDesiredFrame = desiredFrame;
+      transformToRootVersionUsedForDesiredFrame = transformToRootVersion;
+      desiredFrameTransformToRootVersionUsed = desiredFrame.transformToRootVersion;
+   }
+
+   private void updateTransformToRoot()
+   {
+      if (isRootFrame())
+         return;
+
+      parentFrame.updateTransformToRoot();
+
+      if (modificationCount == modificationCountUsed && parentFrame.transformToRootVersion == parentTransformToRootVersionUsed)
+         return;
+
+      if (parentFrame.isRootFrame())
+      {
+         transformToRoot.set(transformToParent);
+      }
+      else
+      {
+         transformToRoot.set(parentFrame.transformToRoot);
+         transformToRoot.multiply(transformToParent);
+      }
+
+      modificationCountUsed = modificationCount;
+      parentTransformToRootVersionUsed = parentFrame.transformToRootVersion;
+      transformToRootVersion++;
+   }
+
+   /**
+    * Gets the version of the transform from this frame to the root frame.
+    * <p>
+    * The version is incremented every time the transform to the root is recomputed, i.e. when this
+    * frame or one of its ancestors has been modified. Calling this method updates the transform to
+    * the root if needed.
+    * </p>
+    *
+    * @return the version of the transform to the root.
+    */
+   public long getTransformToRootVersion()
+   {
+      updateTransformToRoot();
+      return transformToRootVersion;
+   }
+
+   /**
+    * Gets the number of times the transform from this frame to its parent has been modified.
+    *
+    * @return the modification count of this frame.
+    */
+   public long getModificationCount()
+   {
+      return modificationCount;
+   }
+
+   /**
+    * Gets the name of this frame.
+    *
+    * @return the name of this frame.
+    */
+   public String getName()
+   {
+      return name;
+   }
+
+   /**
+    * Gets the parent of this frame.
+    *
+    * @return the parent frame, or {@code null} if this frame is a root frame.
+    */
+   public ReferenceFrame getParent()
+   {
+      return parentFrame;
+   }
+
+   /**
+    * Gets the root of the tree this frame belongs to.
+    *
+    * @return the root frame, {@code this} if this frame is a root frame.
+    */
+   public ReferenceFrame getRootFrame()
+   {
+      return rootFrame;
+   }
+
+   /**
+    * Tests whether this frame is a root frame, i.e. it has no parent.
+    *
+    * @return {@code true} if this frame is a root frame, {@code false} otherwise.
+    */
+   public boolean isRootFrame()
+   {
+      return parentFrame == null;
+   }
+
+   /**
+    * Provides a {@code String} representation of this frame, i.e. its name.
+    *
+    * @return the name of this frame.
+    */
+   @Override
+   public String toString()
+   {
+      return name;
+   }
+}
@@ -413,4 +413,60 @@ public class AxisAngleConversion
          axisAngleToPack.setToZero();
       }
    }
+
+   /**
+    * Converts a range of quaternions packed in an array into axis-angles.
+    * <p>
+    * This method is equivalent to calling
+    * {@link #convertQuaternionToAxisAngle(double, double, double, double, AxisAngleBasics)} on each
+    * quaternion, but operates directly on primitive arrays. The quaternions are stored in
+    * {@code quaternions} as consecutive {@code (x, y, z, s)} groups and the axis-angles are stored
+    * in {@code axisAnglesToPack} as consecutive {@code (x, y, z, angle)} groups.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if a quaternion contains at least one {@link Double#NaN}, its axis-angle is set to
+    * {@link Double#NaN}.
+    * <li>if the norm of the vector part of a quaternion is less than {@value #EPS}, its axis-angle is
+    * set to zero, i.e. {@code (1, 0, 0, 0)}.
+    * </ul>
+    * </p>
+    *
+    * @param quaternions the array containing the quaternions to convert. Not modified.
+    * @param axisAnglesToPack the array in which the axis-angles are stored. Modified.
+    * @param startIndex the index of the first quaternion to convert, inclusive.
+    * @param endIndex the index of the last quaternion to convert, exclusive.
+    * @throws ArrayIndexOutOfBoundsException if either array is too short for the given range.
+    */
+   public static void convertQuaternionsToAxisAngles(double[] quaternions, double[] axisAnglesToPack, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         int index = 4 * i;
+         double qx = quaternions[index];
+         double qy = quaternions[index + 1];
+         double qz = quaternions[index + 2];
+         double qs = quaternions[index + 3];
+
+         double uNorm = Math.sqrt(EuclidCoreTools.normSquared(qx, qy, qz));
+
+         // The NaN components of the vector part also fail the first test.
+         if (!(uNorm > EPS) || Double.isNaN(qs))
+         {
+            boolean containsNaN = EuclidCoreTools.containsNaN(qx, qy, qz, qs);
+            axisAnglesToPack[index] = containsNaN ? Double.NaN : 1.0;
+            axisAnglesToPack[index + 1] = containsNaN ? Double.NaN : 0.0;
+            axisAnglesToPack[index + 2] = containsNaN ? Double.NaN : 0.0;
+            axisAnglesToPack[index + 3] = containsNaN ? Double.NaN : 0.0;
+            continue;
+         }
+
+         axisAnglesToPack[index + 3] = 2.0 * Math.atan2(uNorm, qs);
+         uNorm = 1.0 / uNorm;
+         axisAnglesToPack[index] = qx * uNorm;
+         axisAnglesToPack[index + 1] = qy * uNorm;
+         axisAnglesToPack[index + 2] = qz * uNorm;
+      }
+   }
 }
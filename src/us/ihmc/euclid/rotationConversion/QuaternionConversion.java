@@ -221,6 +221,18 @@ public abstract class QuaternionConversion
          return;
       }
 
+      convertMatrixToQuaternionImpl(m00, m01, m02, m10, m11, m12, m20, m21, m22, quaternionToPack, null, 0);
+   }
+
+   /**
+    * Computes the quaternion equivalent to the given rotation matrix coefficients, assumed to not
+    * contain {@link Double#NaN}, and stores it either in {@code quaternionToPack} or in
+    * {@code quaternionsToPack} at {@code quaternionIndex}, depending on which one is not
+    * {@code null}.
+    */
+   private static void convertMatrixToQuaternionImpl(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21,
+                                                     double m22, QuaternionBasics quaternionToPack, double[] quaternionsToPack, int quaternionIndex)
+   {
       // There are different ways to compute the quaternions elements from the matrix. They all involve computing one element from
       // the diagonal of the matrix, and computing the three other ones using a formula involving a division by the first element,
       // which unfortunately can be zero. Since the norm of the quaternion is 1, we know at least one element has an absolute
@@ -278,7 +290,28 @@ public abstract class QuaternionConversion
             }
          }
       }
-      quaternionToPack.setUnsafe(qx, qy, qz, qs);
+
+      pack(qx, qy, qz, qs, quaternionToPack, quaternionsToPack, quaternionIndex);
+   }
+
+   /**
+    * Stores the quaternion either in {@code quaternionToPack} or in {@code quaternionsToPack} at
+    * {@code quaternionIndex}. Kept separate to keep the conversion small enough to be inlined in the
+    * batch loop.
+    */
+   private static void pack(double qx, double qy, double qz, double qs, QuaternionBasics quaternionToPack, double[] quaternionsToPack, int quaternionIndex)
+   {
+      if (quaternionToPack != null)
+      {
+         quaternionToPack.setUnsafe(qx, qy, qz, qs);
+      }
+      else
+      {
+         quaternionsToPack[quaternionIndex] = qx;
+         quaternionsToPack[quaternionIndex + 1] = qy;
+         quaternionsToPack[quaternionIndex + 2] = qz;
+         quaternionsToPack[quaternionIndex + 3] = qs;
+      }
    }
 
    /**
@@ -426,4 +459,159 @@ public abstract class QuaternionConversion
       double qz = sYaw * cPitch * cRoll - cYaw * sPitch * sRoll;
       quaternionToPack.setUnsafe(qx, qy, qz, qs);
    }
+
+   /**
+    * Converts a range of rotation matrices packed in an array into quaternions.
+    * <p>
+    * This method is equivalent to calling
+    * {@link #convertMatrixToQuaternion(double, double, double, double, double, double, double, double, double, QuaternionBasics)}
+    * on each matrix, but operates directly on primitive arrays. The matrices are stored in
+    * {@code rotationMatrices} as consecutive groups of 9 coefficients in row-major order and the
+    * quaternions are stored in {@code quaternionsToPack} as consecutive {@code (x, y, z, s)} groups.
+    * </p>
+    * <p>
+    * Edge case:
+    * <ul>
+    * <li>if a rotation matrix contains at least one {@link Double#NaN}, its quaternion is set to
+    * {@link Double#NaN}.
+    * </ul>
+    * </p>
+    *
+    * @param rotationMatrices the array containing the rotation matrices to convert. Not modified.
+    * @param quaternionsToPack the array in which the quaternions are stored. Modified.
+    * @param startIndex the index of the first rotation matrix to convert, inclusive.
+    * @param endIndex the index of the last rotation matrix to convert, exclusive.
+    * @throws ArrayIndexOutOfBoundsException if either array is too short for the given range.
+    */
+   public static void convertMatricesToQuaternions(double[] rotationMatrices, double[] quaternionsToPack, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         int matrixIndex = 9 * i;
+         int quaternionIndex = 4 * i;
+         double m00 = rotationMatrices[matrixIndex];
+         double m01 = rotationMatrices[matrixIndex + 1];
+         double m02 = rotationMatrices[matrixIndex + 2];
+         double m10 = rotationMatrices[matrixIndex + 3];
+         double m11 = rotationMatrices[matrixIndex + 4];
+         double m12 = rotationMatrices[matrixIndex + 5];
+         double m20 = rotationMatrices[matrixIndex + 6];
+         double m21 = rotationMatrices[matrixIndex + 7];
+         double m22 = rotationMatrices[matrixIndex + 8];
+
+         // A single test on the sum in the common case: the sum is NaN as soon as one coefficient is NaN.
+         double sum = m00 + m01 + m02 + m10 + m11 + m12 + m20 + m21 + m22;
+
+         if (Double.isNaN(sum) && EuclidCoreTools.containsNaN(m00, m01, m02, m10, m11, m12, m20, m21, m22))
+         {
+            quaternionsToPack[quaternionIndex] = Double.NaN;
+            quaternionsToPack[quaternionIndex + 1] = Double.NaN;
+            quaternionsToPack[quaternionIndex + 2] = Double.NaN;
+            quaternionsToPack[quaternionIndex + 3] = Double.NaN;
+            continue;
+         }
+
+         convertMatrixToQuaternionImpl(m00, m01, m02, m10, m11, m12, m20, m21, m22, null, quaternionsToPack, quaternionIndex);
+      }
+   }
+
+   /**
+    * Converts a range of rotation vectors packed in an array into quaternions.
+    * <p>
+    * This method is equivalent to calling
+    * {@link #convertRotationVectorToQuaternion(double, double, double, QuaternionBasics)} on each
+    * rotation vector, but operates directly on primitive arrays. The rotation vectors are stored in
+    * {@code rotationVectors} as consecutive {@code (x, y, z)} groups and the quaternions are stored
+    * in {@code quaternionsToPack} as consecutive {@code (x, y, z, s)} groups.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if a rotation vector contains at least one {@link Double#NaN}, its quaternion is set to
+    * {@link Double#NaN}.
+    * <li>if the norm of a rotation vector is below {@link #EPS}, its quaternion is set to the neutral
+    * quaternion.
+    * </ul>
+    * </p>
+    *
+    * @param rotationVectors the array containing the rotation vectors to convert. Not modified.
+    * @param quaternionsToPack the array in which the quaternions are stored. Modified.
+    * @param startIndex the index of the first rotation vector to convert, inclusive.
+    * @param endIndex the index of the last rotation vector to convert, exclusive.
+    * @throws ArrayIndexOutOfBoundsException if either array is too short for the given range.
+    */
+   public static void convertRotationVectorsToQuaternions(double[] rotationVectors, double[] quaternionsToPack, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         int rotationVectorIndex = 3 * i;
+         int quaternionIndex = 4 * i;
+         double rx = rotationVectors[rotationVectorIndex];
+         double ry = rotationVectors[rotationVectorIndex + 1];
+         double rz = rotationVectors[rotationVectorIndex + 2];
+
+         double norm = Math.sqrt(rx * rx + ry * ry + rz * rz);
+
+         // A rotation vector containing NaN has a NaN norm and fails this test too.
+         if (!(norm >= EPS))
+         {
+            boolean containsNaN = EuclidCoreTools.containsNaN(rx, ry, rz);
+            quaternionsToPack[quaternionIndex] = containsNaN ? Double.NaN : 0.0;
+            quaternionsToPack[quaternionIndex + 1] = containsNaN ? Double.NaN : 0.0;
+            quaternionsToPack[quaternionIndex + 2] = containsNaN ? Double.NaN : 0.0;
+            quaternionsToPack[quaternionIndex + 3] = containsNaN ? Double.NaN : 1.0;
+            continue;
+         }
+
+         double halfTheta = 0.5 * norm;
+         double cosHalfTheta = Math.cos(halfTheta);
+         double sinHalfTheta = Math.sin(halfTheta) / norm;
+         quaternionsToPack[quaternionIndex] = rx * sinHalfTheta;
+         quaternionsToPack[quaternionIndex + 1] = ry * sinHalfTheta;
+         quaternionsToPack[quaternionIndex + 2] = rz * sinHalfTheta;
+         quaternionsToPack[quaternionIndex + 3] = cosHalfTheta;
+      }
+   }
+
+   /**
+    * Converts a range of yaw-pitch-roll angles packed in an array into quaternions.
+    * <p>
+    * This method is equivalent to calling
+    * {@link #convertYawPitchRollToQuaternion(double, double, double, QuaternionBasics)} on each
+    * triplet of angles, but operates directly on primitive arrays. The angles are stored in
+    * {@code yawPitchRolls} as consecutive {@code (yaw, pitch, roll)} groups and the quaternions are
+    * stored in {@code quaternionsToPack} as consecutive {@code (x, y, z, s)} groups.
+    * </p>
+    *
+    * @param yawPitchRolls the array containing the yaw-pitch-roll angles to convert. Not modified.
+    * @param quaternionsToPack the array in which the quaternions are stored. Modified.
+    * @param startIndex the index of the first yaw-pitch-roll to convert, inclusive.
+    * @param endIndex the index of the last yaw-pitch-roll to convert, exclusive.
+    * @throws ArrayIndexOutOfBoundsException if either array is too short for the given range.
+    */
+   public static void convertYawPitchRollsToQuaternions(double[] yawPitchRolls, double[] quaternionsToPack, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         int yawPitchRollIndex = 3 * i;
+         int quaternionIndex = 4 * i;
+
+         double halfYaw = 0.5 * yawPitchRolls[yawPitchRollIndex];
+         double cYaw = Math.cos(halfYaw);
+         double sYaw = Math.sin(halfYaw);
+
+         double halfPitch = 0.5 * yawPitchRolls[yawPitchRollIndex + 1];
+         double cPitch = Math.cos(halfPitch);
+         double sPitch = Math.sin(halfPitch);
+
+         double halfRoll = 0.5 * yawPitchRolls[yawPitchRollIndex + 2];
+         double cRoll = Math.cos(halfRoll);
+         double sRoll = Math.sin(halfRoll);
+
+         quaternionsToPack[quaternionIndex] = cYaw * cPitch * sRoll - sYaw * sPitch * cRoll;
+         quaternionsToPack[quaternionIndex + 1] = sYaw * cPitch * sRoll + cYaw * sPitch * cRoll;
+         quaternionsToPack[quaternionIndex + 2] = sYaw * cPitch * cRoll - cYaw * sPitch * sRoll;
+         quaternionsToPack[quaternionIndex + 3] = cYaw * cPitch * cRoll + sYaw * sPitch * sRoll;
+      }
+   }
 }
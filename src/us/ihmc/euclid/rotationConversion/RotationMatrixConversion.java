@@ -451,4 +451,135 @@ public abstract class RotationMatrixConversion
          matrixToPack.setUnsafe(m00, m01, m02, m10, m11, m12, m20, m21, m22);
       }
    }
+
+   /**
+    * Converts a range of quaternions packed in an array into rotation matrices.
+    * <p>
+    * This method is equivalent to calling
+    * {@link #convertQuaternionToMatrix(double, double, double, double, RotationMatrix)} on each
+    * quaternion, but operates directly on primitive arrays. The quaternions are stored in
+    * {@code quaternions} as consecutive {@code (x, y, z, s)} groups and the matrices are stored in
+    * {@code rotationMatricesToPack} as consecutive groups of 9 coefficients in row-major order.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if a quaternion contains at least one {@link Double#NaN}, its rotation matrix is set to
+    * {@link Double#NaN}.
+    * <li>if the norm of a quaternion is below {@link #EPS}, its rotation matrix is set to identity.
+    * </ul>
+    * </p>
+    *
+    * @param quaternions the array containing the quaternions to convert. Not modified.
+    * @param rotationMatricesToPack the array in which the rotation matrices are stored. Modified.
+    * @param startIndex the index of the first quaternion to convert, inclusive.
+    * @param endIndex the index of the last quaternion to convert, exclusive.
+    * @throws ArrayIndexOutOfBoundsException if either array is too short for the given range.
+    */
+   public static void convertQuaternionsToMatrices(double[] quaternions, double[] rotationMatricesToPack, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         int quaternionIndex = 4 * i;
+         int matrixIndex = 9 * i;
+         double qx = quaternions[quaternionIndex];
+         double qy = quaternions[quaternionIndex + 1];
+         double qz = quaternions[quaternionIndex + 2];
+         double qs = quaternions[quaternionIndex + 3];
+
+         double norm = EuclidCoreTools.norm(qx, qy, qz, qs);
+
+         // A quaternion containing NaN has a NaN norm and fails this test too.
+         if (!(norm >= EPS))
+         {
+            setQuaternionEdgeCase(qx, qy, qz, qs, rotationMatricesToPack, matrixIndex);
+            continue;
+         }
+
+         norm = 1.0 / norm;
+         qx *= norm;
+         qy *= norm;
+         qz *= norm;
+         qs *= norm;
+
+         double yy2 = 2.0 * qy * qy;
+         double zz2 = 2.0 * qz * qz;
+         double xx2 = 2.0 * qx * qx;
+         double xy2 = 2.0 * qx * qy;
+         double sz2 = 2.0 * qs * qz;
+         double xz2 = 2.0 * qx * qz;
+         double sy2 = 2.0 * qs * qy;
+         double yz2 = 2.0 * qy * qz;
+         double sx2 = 2.0 * qs * qx;
+
+         rotationMatricesToPack[matrixIndex] = 1.0 - yy2 - zz2;
+         rotationMatricesToPack[matrixIndex + 1] = xy2 - sz2;
+         rotationMatricesToPack[matrixIndex + 2] = xz2 + sy2;
+         rotationMatricesToPack[matrixIndex + 3] = xy2 + sz2;
+         rotationMatricesToPack[matrixIndex + 4] = 1.0 - xx2 - zz2;
+         rotationMatricesToPack[matrixIndex + 5] = yz2 - sx2;
+         rotationMatricesToPack[matrixIndex + 6] = xz2 - sy2;
+         rotationMatricesToPack[matrixIndex + 7] = yz2 + sx2;
+         rotationMatricesToPack[matrixIndex + 8] = 1.0 - xx2 - yy2;
+      }
+   }
+
+   private static void setQuaternionEdgeCase(double qx, double qy, double qz, double qs, double[] rotationMatricesToPack, int matrixIndex)
+   {
+      boolean containsNaN = EuclidCoreTools.containsNaN(qx, qy, qz, qs);
+
+      for (int row = 0; row < 3; row++)
+      {
+         for (int column = 0; column < 3; column++)
+            rotationMatricesToPack[matrixIndex + 3 * row + column] = containsNaN ? Double.NaN : (row == column ? 1.0 : 0.0);
+      }
+   }
+
+   /**
+    * Converts a range of yaw-pitch-roll angles packed in an array into rotation matrices.
+    * <p>
+    * This method is equivalent to calling
+    * {@link #convertYawPitchRollToMatrix(double, double, double, RotationMatrix)} on each triplet of
+    * angles, but operates directly on primitive arrays. The angles are stored in
+    * {@code yawPitchRolls} as consecutive {@code (yaw, pitch, roll)} groups and the matrices are
+    * stored in {@code rotationMatricesToPack} as consecutive groups of 9 coefficients in row-major
+    * order.
+    * </p>
+    *
+    * @param yawPitchRolls the array containing the yaw-pitch-roll angles to convert. Not modified.
+    * @param rotationMatricesToPack the array in which the rotation matrices are stored. Modified.
+    * @param startIndex the index of the first yaw-pitch-roll to convert, inclusive.
+    * @param endIndex the index of the last yaw-pitch-roll to convert, exclusive.
+    * @throws ArrayIndexOutOfBoundsException if either array is too short for the given range.
+    */
+   public static void convertYawPitchRollsToMatrices(double[] yawPitchRolls, double[] rotationMatricesToPack, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         int yawPitchRollIndex = 3 * i;
+         int matrixIndex = 9 * i;
+         double yaw = yawPitchRolls[yawPitchRollIndex];
+         double pitch = yawPitchRolls[yawPitchRollIndex + 1];
+         double roll = yawPitchRolls[yawPitchRollIndex + 2];
+
+         double cosc = Math.cos(yaw);
+         double sinc = Math.sin(yaw);
+
+         double cosb = Math.cos(pitch);
+         double sinb = Math.sin(pitch);
+
+         double cosa = Math.cos(roll);
+         double sina = Math.sin(roll);
+
+         rotationMatricesToPack[matrixIndex] = cosc * cosb;
+         rotationMatricesToPack[matrixIndex + 1] = cosc * sinb * sina - sinc * cosa;
+         rotationMatricesToPack[matrixIndex + 2] = cosc * sinb * cosa + sinc * sina;
+         rotationMatricesToPack[matrixIndex + 3] = sinc * cosb;
+         rotationMatricesToPack[matrixIndex + 4] = sinc * sinb * sina + cosc * cosa;
+         rotationMatricesToPack[matrixIndex + 5] = sinc * sinb * cosa - cosc * sina;
+         rotationMatricesToPack[matrixIndex + 6] = -sinb;
+         rotationMatricesToPack[matrixIndex + 7] = cosb * sina;
+         rotationMatricesToPack[matrixIndex + 8] = cosb * cosa;
+      }
+   }
 }
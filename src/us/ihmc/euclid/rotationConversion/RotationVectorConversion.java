@@ -392,4 +392,59 @@ public abstract class RotationVectorConversion
          rotationVectorToPack.setToZero();
       }
    }
+
+   /**
+    * Converts a range of quaternions packed in an array into rotation vectors.
+    * <p>
+    * This method is equivalent to calling
+    * {@link #convertQuaternionToRotationVector(QuaternionReadOnly, Vector3DBasics)} on each
+    * quaternion, but operates directly on primitive arrays. The quaternions are stored in
+    * {@code quaternions} as consecutive {@code (x, y, z, s)} groups and the rotation vectors are
+    * stored in {@code rotationVectorsToPack} as consecutive {@code (x, y, z)} groups.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if a quaternion contains at least one {@link Double#NaN}, its rotation vector is set to
+    * {@link Double#NaN}.
+    * <li>if the norm of the vector part of a quaternion is below {@link #EPS}, its rotation vector is
+    * set to zero.
+    * </ul>
+    * </p>
+    *
+    * @param quaternions the array containing the quaternions to convert. Not modified.
+    * @param rotationVectorsToPack the array in which the rotation vectors are stored. Modified.
+    * @param startIndex the index of the first quaternion to convert, inclusive.
+    * @param endIndex the index of the last quaternion to convert, exclusive.
+    * @throws ArrayIndexOutOfBoundsException if either array is too short for the given range.
+    */
+   public static void convertQuaternionsToRotationVectors(double[] quaternions, double[] rotationVectorsToPack, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         int quaternionIndex = 4 * i;
+         int rotationVectorIndex = 3 * i;
+         double qx = quaternions[quaternionIndex];
+         double qy = quaternions[quaternionIndex + 1];
+         double qz = quaternions[quaternionIndex + 2];
+         double qs = quaternions[quaternionIndex + 3];
+
+         double uNorm = Math.sqrt(qx * qx + qy * qy + qz * qz);
+
+         // The NaN components of the vector part also fail the first test.
+         if (!(uNorm > EPS) || Double.isNaN(qs))
+         {
+            double value = EuclidCoreTools.containsNaN(qx, qy, qz, qs) ? Double.NaN : 0.0;
+            rotationVectorsToPack[rotationVectorIndex] = value;
+            rotationVectorsToPack[rotationVectorIndex + 1] = value;
+            rotationVectorsToPack[rotationVectorIndex + 2] = value;
+            continue;
+         }
+
+         double angle = 2.0 * Math.atan2(uNorm, qs) / uNorm;
+         rotationVectorsToPack[rotationVectorIndex] = qx * angle;
+         rotationVectorsToPack[rotationVectorIndex + 1] = qy * angle;
+         rotationVectorsToPack[rotationVectorIndex + 2] = qz * angle;
+      }
+   }
 }
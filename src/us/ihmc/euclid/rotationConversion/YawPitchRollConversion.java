@@ -1165,4 +1165,116 @@ public abstract class YawPitchRollConversion
 
       convertAxisAngleToYawPitchRollImpl(ux, uy, uz, angle, eulerAnglesToPack);
    }
+
+   /**
+    * Converts a range of quaternions packed in an array into yaw-pitch-roll angles.
+    * <p>
+    * This method is equivalent to calling
+    * {@link #convertQuaternionToYawPitchRoll(QuaternionReadOnly, double[])} on each quaternion, but
+    * operates directly on primitive arrays. The quaternions are stored in {@code quaternions} as
+    * consecutive {@code (x, y, z, s)} groups and the angles are stored in
+    * {@code yawPitchRollsToPack} as consecutive {@code (yaw, pitch, roll)} groups.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>if a quaternion contains at least one {@link Double#NaN}, its yaw-pitch-roll angles are set
+    * to {@link Double#NaN}.
+    * <li>if the norm of a quaternion is below {@link #EPS}, its yaw-pitch-roll angles are set to
+    * zero.
+    * </ul>
+    * </p>
+    *
+    * @param quaternions the array containing the quaternions to convert. Not modified.
+    * @param yawPitchRollsToPack the array in which the yaw-pitch-roll angles are stored. Modified.
+    * @param startIndex the index of the first quaternion to convert, inclusive.
+    * @param endIndex the index of the last quaternion to convert, exclusive.
+    * @throws ArrayIndexOutOfBoundsException if either array is too short for the given range.
+    */
+   public static void convertQuaternionsToYawPitchRolls(double[] quaternions, double[] yawPitchRollsToPack, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         int quaternionIndex = 4 * i;
+         int yawPitchRollIndex = 3 * i;
+         double qx = quaternions[quaternionIndex];
+         double qy = quaternions[quaternionIndex + 1];
+         double qz = quaternions[quaternionIndex + 2];
+         double qs = quaternions[quaternionIndex + 3];
+
+         double norm = Math.sqrt(qx * qx + qy * qy + qz * qz + qs * qs);
+
+         // A quaternion containing NaN has a NaN norm and fails this test too.
+         if (!(norm >= EPS))
+         {
+            setQuaternionEdgeCase(qx, qy, qz, qs, yawPitchRollsToPack, yawPitchRollIndex);
+            continue;
+         }
+
+         norm = 1.0 / norm;
+         qx *= norm;
+         qy *= norm;
+         qz *= norm;
+         qs *= norm;
+
+         yawPitchRollsToPack[yawPitchRollIndex] = computeYawFromQuaternionImpl(qx, qy, qz, qs);
+         yawPitchRollsToPack[yawPitchRollIndex + 1] = computePitchFromQuaternionImpl(qx, qy, qz, qs);
+         yawPitchRollsToPack[yawPitchRollIndex + 2] = computeRollFromQuaternionImpl(qx, qy, qz, qs);
+      }
+   }
+
+   private static void setQuaternionEdgeCase(double qx, double qy, double qz, double qs, double[] yawPitchRollsToPack, int yawPitchRollIndex)
+   {
+      double value = EuclidCoreTools.containsNaN(qx, qy, qz, qs) ? Double.NaN : 0.0;
+      yawPitchRollsToPack[yawPitchRollIndex] = value;
+      yawPitchRollsToPack[yawPitchRollIndex + 1] = value;
+      yawPitchRollsToPack[yawPitchRollIndex + 2] = value;
+   }
+
+   /**
+    * Converts a range of rotation matrices packed in an array into yaw-pitch-roll angles.
+    * <p>
+    * This method is equivalent to calling
+    * {@link #convertMatrixToYawPitchRoll(RotationMatrixReadOnly, double[])} on each matrix, but
+    * operates directly on primitive arrays. The matrices are stored in {@code rotationMatrices} as
+    * consecutive groups of 9 coefficients in row-major order and the angles are stored in
+    * {@code yawPitchRollsToPack} as consecutive {@code (yaw, pitch, roll)} groups.
+    * </p>
+    * <p>
+    * Edge case:
+    * <ul>
+    * <li>the {@link Double#NaN} coefficients of a rotation matrix propagate to the angles that
+    * depend on them.
+    * </ul>
+    * </p>
+    *
+    * @param rotationMatrices the array containing the rotation matrices to convert. Not modified.
+    * @param yawPitchRollsToPack the array in which the yaw-pitch-roll angles are stored. Modified.
+    * @param startIndex the index of the first rotation matrix to convert, inclusive.
+    * @param endIndex the index of the last rotation matrix to convert, exclusive.
+    * @throws ArrayIndexOutOfBoundsException if either array is too short for the given range.
+    */
+   public static void convertMatricesToYawPitchRolls(double[] rotationMatrices, double[] yawPitchRollsToPack, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         int matrixIndex = 9 * i;
+         int yawPitchRollIndex = 3 * i;
+         double m00 = rotationMatrices[matrixIndex];
+         double m10 = rotationMatrices[matrixIndex + 3];
+         double m20 = rotationMatrices[matrixIndex + 6];
+         double m21 = rotationMatrices[matrixIndex + 7];
+         double m22 = rotationMatrices[matrixIndex + 8];
+
+         // No explicit NaN checks: Math.atan2 and Math.asin already return NaN for NaN arguments.
+         if (m20 > 1.0)
+            m20 = 1.0;
+         else if (m20 < -1.0)
+            m20 = -1.0;
+
+         yawPitchRollsToPack[yawPitchRollIndex] = Math.atan2(m10, m00);
+         yawPitchRollsToPack[yawPitchRollIndex + 1] = Math.asin(-m20);
+         yawPitchRollsToPack[yawPitchRollIndex + 2] = Math.atan2(m21, m22);
+      }
+   }
 }
@@ -0,0 +1,199 @@
+package us.ihmc.euclid.simd;
+
+/**
+ * {@code BatchKernels} gathers the tight loops used to process large sets of geometry objects
+ * stored in a structure-of-arrays layout, i.e. one {@code double} array per component.
+ * <p>
+ * Two implementations are provided:
+ * <ul>
+ * <li>a scalar implementation, available on any JVM and obtained with {@link #getScalar()},
+ * <li>a vectorized implementation based on the Vector API ({@code jdk.incubator.vector}), shipped
+ * in the Java 17 layer of the multi-release JAR.
+ * </ul>
+ * {@link #getDefault()} returns the vectorized implementation when the library is running on Java
+ * 17 or later with the module {@code jdk.incubator.vector} enabled, i.e. with the JVM option
+ * {@code --add-modules jdk.incubator.vector}, and falls back to the scalar implementation otherwise.
+ * The vectorized implementation can also be disabled by setting the system property
+ * {@value #DISABLE_VECTORIZATION_PROPERTY} to {@code true}.
+ * </p>
+ * <p>
+ * Both implementations evaluate the same operations in the same order and do not rely on fused
+ * multiply-add, such that they produce bit-for-bit identical results.
+ * </p>
+ * <p>
+ * In all the kernels, the elements with an index in [{@code startIndex}, {@code endIndex}[ are
+ * processed and the output arrays can be the same as the input arrays for in-place operations.
+ * </p>
+ */
+public abstract class BatchKernels
+{
+   /** The system property that disables the vectorized kernels when set to {@code true}. */
+   public static final String DISABLE_VECTORIZATION_PROPERTY = "us.ihmc.euclid.simd.disableVectorization";
+
+   private static final BatchKernels SCALAR = new ScalarBatchKernels();
+   private static final BatchKernels DEFAULT = Boolean.getBoolean(DISABLE_VECTORIZATION_PROPERTY) ? SCALAR : BatchKernelsLoader.load(SCALAR);
+
+   /**
+    * Gets the fastest implementation available on the running JVM.
+    *
+    * @return the default kernels.
+    */
+   public static BatchKernels getDefault()
+   {
+      return DEFAULT;
+   }
+
+   /**
+    * Gets the scalar implementation, which is available on any JVM.
+    *
+    * @return the scalar kernels.
+    */
+   public static BatchKernels getScalar()
+   {
+      return SCALAR;
+   }
+
+   BatchKernels()
+   {
+   }
+
+   /**
+    * Tests whether this implementation relies on SIMD instructions.
+    *
+    * @return {@code true} if the kernels are vectorized, {@code false} otherwise.
+    */
+   public abstract boolean isVectorized();
+
+   /**
+    * Applies the transform {@code M * p + t} on a range of 3D tuples, where {@code M} is a 3-by-3
+    * matrix and {@code t} a translation.
+    * <p>
+    * The matrix is either a rotation matrix, a rotation-scale matrix, or any 3D matrix. For vectors,
+    * the translation should be set to zero.
+    * </p>
+    *
+    * @param m00 the 1st row 1st column coefficient of the matrix.
+    * @param m01 the 1st row 2nd column coefficient of the matrix.
+    * @param m02 the 1st row 3rd column coefficient of the matrix.
+    * @param m10 the 2nd row 1st column coefficient of the matrix.
+    * @param m11 the 2nd row 2nd column coefficient of the matrix.
+    * @param m12 the 2nd row 3rd column coefficient of the matrix.
+    * @param m20 the 3rd row 1st column coefficient of the matrix.
+    * @param m21 the 3rd row 2nd column coefficient of the matrix.
+    * @param m22 the 3rd row 3rd column coefficient of the matrix.
+    * @param tx the x-component of the translation.
+    * @param ty the y-component of the translation.
+    * @param tz the z-component of the translation.
+    * @param xOriginal the x-coordinates of the tuples to transform. Not modified.
+    * @param yOriginal the y-coordinates of the tuples to transform. Not modified.
+    * @param zOriginal the z-coordinates of the tuples to transform. Not modified.
+    * @param xTransformed the array in which the transformed x-coordinates are stored. Modified.
+    * @param yTransformed the array in which the transformed y-coordinates are stored. Modified.
+    * @param zTransformed the array in which the transformed z-coordinates are stored. Modified.
+    * @param startIndex the index of the first tuple to transform, inclusive.
+    * @param endIndex the index of the last tuple to transform, exclusive.
+    */
+   public abstract void transform(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22, double tx,
+                                  double ty, double tz, double[] xOriginal, double[] yOriginal, double[] zOriginal, double[] xTransformed,
+                                  double[] yTransformed, double[] zTransformed, int startIndex, int endIndex);
+
+   /**
+    * Applies the transform {@code M * (p + t)} on a range of 3D tuples, where {@code M} is a 3-by-3
+    * matrix and {@code t} a translation.
+    * <p>
+    * This is the form of the inverse of a rigid-body transform: with {@code R} its rotation and
+    * {@code t} its translation, the inverse is {@code R}<sup>T</sup>{@code * (p - t)}. Evaluating
+    * it this way instead of {@code R}<sup>T</sup>{@code * p - R}<sup>T</sup>{@code * t} gives the
+    * same rounding as the inverse transform of a single point.
+    * </p>
+    *
+    * @param m00 the 1st row 1st column coefficient of the matrix.
+    * @param m01 the 1st row 2nd column coefficient of the matrix.
+    * @param m02 the 1st row 3rd column coefficient of the matrix.
+    * @param m10 the 2nd row 1st column coefficient of the matrix.
+    * @param m11 the 2nd row 2nd column coefficient of the matrix.
+    * @param m12 the 2nd row 3rd column coefficient of the matrix.
+    * @param m20 the 3rd row 1st column coefficient of the matrix.
+    * @param m21 the 3rd row 2nd column coefficient of the matrix.
+    * @param m22 the 3rd row 3rd column coefficient of the matrix.
+    * @param tx the x-component of the translation applied first.
+    * @param ty the y-component of the translation applied first.
+    * @param tz the z-component of the translation applied first.
+    * @param xOriginal the x-coordinates of the tuples to transform. Not modified.
+    * @param yOriginal the y-coordinates of the tuples to transform. Not modified.
+    * @param zOriginal the z-coordinates of the tuples to transform. Not modified.
+    * @param xTransformed the array in which the transformed x-coordinates are stored. Modified.
+    * @param yTransformed the array in which the transformed y-coordinates are stored. Modified.
+    * @param zTransformed the array in which the transformed z-coordinates are stored. Modified.
+    * @param startIndex the index of the first tuple to transform, inclusive.
+    * @param endIndex the index of the last tuple to transform, exclusive.
+    */
+   public abstract void translateThenTransform(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22,
+                                               double tx, double ty, double tz, double[] xOriginal, double[] yOriginal, double[] zOriginal,
+                                               double[] xTransformed, double[] yTransformed, double[] zTransformed, int startIndex, int endIndex);
+
+   /**
+    * Applies the translation {@code p + t} on a range of 3D tuples.
+    * <p>
+    * This is the transform {@code M * p + t} when {@code M} is exactly identity, for which the
+    * matrix multiplication can be skipped.
+    * </p>
+    *
+    * @param tx the x-component of the translation.
+    * @param ty the y-component of the translation.
+    * @param tz the z-component of the translation.
+    * @param xOriginal the x-coordinates of the tuples to translate. Not modified.
+    * @param yOriginal the y-coordinates of the tuples to translate. Not modified.
+    * @param zOriginal the z-coordinates of the tuples to translate. Not modified.
+    * @param xTransformed the array in which the translated x-coordinates are stored. Modified.
+    * @param yTransformed the array in which the translated y-coordinates are stored. Modified.
+    * @param zTransformed the array in which the translated z-coordinates are stored. Modified.
+    * @param startIndex the index of the first tuple to translate, inclusive.
+    * @param endIndex the index of the last tuple to translate, exclusive.
+    */
+   public abstract void translate(double tx, double ty, double tz, double[] xOriginal, double[] yOriginal, double[] zOriginal, double[] xTransformed,
+                                  double[] yTransformed, double[] zTransformed, int startIndex, int endIndex);
+
+   /**
+    * Normalizes a range of quaternions.
+    * <p>
+    * The norm is computed with {@link Math#sqrt(double)}. Quaternions with a norm equal to zero are
+    * set to the neutral quaternion and {@link Double#NaN} components propagate to the entire
+    * quaternion.
+    * </p>
+    *
+    * @param qx the x-components of the quaternions. Modified.
+    * @param qy the y-components of the quaternions. Modified.
+    * @param qz the z-components of the quaternions. Modified.
+    * @param qs the s-components of the quaternions. Modified.
+    * @param startIndex the index of the first quaternion to normalize, inclusive.
+    * @param endIndex the index of the last quaternion to normalize, exclusive.
+    */
+   public abstract void normalizeQuaternions(double[] qx, double[] qy, double[] qz, double[] qs, int startIndex, int endIndex);
+
+   /**
+    * Performs element-wise the quaternion multiplication {@code q1 * q2} on a range of quaternions.
+    * <p>
+    * The computation is the same as
+    * {@link us.ihmc.euclid.tools.QuaternionTools#multiply(us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly, us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly, us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics)}.
+    * </p>
+    *
+    * @param q1x the x-components of the first quaternions. Not modified.
+    * @param q1y the y-components of the first quaternions. Not modified.
+    * @param q1z the z-components of the first quaternions. Not modified.
+    * @param q1s the s-components of the first quaternions. Not modified.
+    * @param q2x the x-components of the second quaternions. Not modified.
+    * @param q2y the y-components of the second quaternions. Not modified.
+    * @param q2z the z-components of the second quaternions. Not modified.
+    * @param q2s the s-components of the second quaternions. Not modified.
+    * @param qxResult the array in which the x-components of the products are stored. Modified.
+    * @param qyResult the array in which the y-components of the products are stored. Modified.
+    * @param qzResult the array in which the z-components of the products are stored. Modified.
+    * @param qsResult the array in which the s-components of the products are stored. Modified.
+    * @param startIndex the index of the first quaternion to multiply, inclusive.
+    * @param endIndex the index of the last quaternion to multiply, exclusive.
+    */
+   public abstract void multiplyQuaternions(double[] q1x, double[] q1y, double[] q1z, double[] q1s, double[] q2x, double[] q2y, double[] q2z,
+                                            double[] q2s, double[] qxResult, double[] qyResult, double[] qzResult, double[] qsResult, int startIndex,
+                                            int endIndex);
+}
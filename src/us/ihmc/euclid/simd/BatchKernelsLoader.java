@@ -0,0 +1,21 @@
+package us.ihmc.euclid.simd;
+
+/**
+ * Selects the implementation returned by {@link BatchKernels#getDefault()}.
+ * <p>
+ * This is the Java 8 version of the loader, the Vector API is not available and the scalar kernels
+ * are always used. The Java 17 layer of the multi-release JAR overrides this class with a version
+ * that attempts to load the vectorized kernels.
+ * </p>
+ */
+final class BatchKernelsLoader
+{
+   private BatchKernelsLoader()
+   {
+   }
+
+   static BatchKernels load(BatchKernels scalarKernels)
+   {
+      return scalarKernels;
+   }
+}
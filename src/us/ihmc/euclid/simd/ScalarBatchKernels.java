@@ -0,0 +1,142 @@
+package us.ihmc.euclid.simd;
+
+/**
+ * Scalar implementation of {@link BatchKernels}, available on any JVM.
+ * <p>
+ * The loops are also used by the vectorized implementation to process the elements that do not
+ * fill an entire vector.
+ * </p>
+ */
+final class ScalarBatchKernels extends BatchKernels
+{
+   ScalarBatchKernels()
+   {
+   }
+
+   @Override
+   public boolean isVectorized()
+   {
+      return false;
+   }
+
+   @Override
+   public void transform(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22, double tx, double ty,
+                         double tz, double[] xOriginal, double[] yOriginal, double[] zOriginal, double[] xTransformed, double[] yTransformed,
+                         double[] zTransformed, int startIndex, int endIndex)
+   {
+      transformRange(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, xOriginal, yOriginal, zOriginal, xTransformed, yTransformed, zTransformed,
+                     startIndex, endIndex);
+   }
+
+   static void transformRange(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22, double tx,
+                              double ty, double tz, double[] xOriginal, double[] yOriginal, double[] zOriginal, double[] xTransformed,
+                              double[] yTransformed, double[] zTransformed, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double x = xOriginal[i];
+         double y = yOriginal[i];
+         double z = zOriginal[i];
+         xTransformed[i] = m00 * x + m01 * y + m02 * z + tx;
+         yTransformed[i] = m10 * x + m11 * y + m12 * z + ty;
+         zTransformed[i] = m20 * x + m21 * y + m22 * z + tz;
+      }
+   }
+
+   @Override
+   public void translateThenTransform(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22, double tx,
+                                      double ty, double tz, double[] xOriginal, double[] yOriginal, double[] zOriginal, double[] xTransformed,
+                                      double[] yTransformed, double[] zTransformed, int startIndex, int endIndex)
+   {
+      translateThenTransformRange(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, xOriginal, yOriginal, zOriginal, xTransformed, yTransformed,
+                                  zTransformed, startIndex, endIndex);
+   }
+
+   static void translateThenTransformRange(double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21, double m22,
+                                           double tx, double ty, double tz, double[] xOriginal, double[] yOriginal, double[] zOriginal,
+                                           double[] xTransformed, double[] yTransformed, double[] zTransformed, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double x = xOriginal[i] + tx;
+         double y = yOriginal[i] + ty;
+         double z = zOriginal[i] + tz;
+         xTransformed[i] = m00 * x + m01 * y + m02 * z;
+         yTransformed[i] = m10 * x + m11 * y + m12 * z;
+         zTransformed[i] = m20 * x + m21 * y + m22 * z;
+      }
+   }
+
+   @Override
+   public void translate(double tx, double ty, double tz, double[] xOriginal, double[] yOriginal, double[] zOriginal, double[] xTransformed,
+                         double[] yTransformed, double[] zTransformed, int startIndex, int endIndex)
+   {
+      translateRange(tx, ty, tz, xOriginal, yOriginal, zOriginal, xTransformed, yTransformed, zTransformed, startIndex, endIndex);
+   }
+
+   static void translateRange(double tx, double ty, double tz, double[] xOriginal, double[] yOriginal, double[] zOriginal, double[] xTransformed,
+                              double[] yTransformed, double[] zTransformed, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         xTransformed[i] = xOriginal[i] + tx;
+         yTransformed[i] = yOriginal[i] + ty;
+         zTransformed[i] = zOriginal[i] + tz;
+      }
+   }
+
+   @Override
+   public void normalizeQuaternions(double[] qx, double[] qy, double[] qz, double[] qs, int startIndex, int endIndex)
+   {
+      normalizeQuaternionsRange(qx, qy, qz, qs, startIndex, endIndex);
+   }
+
+   static void normalizeQuaternionsRange(double[] qx, double[] qy, double[] qz, double[] qs, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double x = qx[i];
+         double y = qy[i];
+         double z = qz[i];
+         double s = qs[i];
+         double norm = Math.sqrt(x * x + y * y + z * z + s * s);
+
+         if (norm == 0.0)
+         {
+            qx[i] = 0.0;
+            qy[i] = 0.0;
+            qz[i] = 0.0;
+            qs[i] = 1.0;
+         }
+         else
+         {
+            double invNorm = 1.0 / norm;
+            qx[i] = x * invNorm;
+            qy[i] = y * invNorm;
+            qz[i] = z * invNorm;
+            qs[i] = s * invNorm;
+         }
+      }
+   }
+
+   @Override
+   public void multiplyQuaternions(double[] q1x, double[] q1y, double[] q1z, double[] q1s, double[] q2x, double[] q2y, double[] q2z, double[] q2s,
+                                   double[] qxResult, double[] qyResult, double[] qzResult, double[] qsResult, int startIndex, int endIndex)
+   {
+      multiplyQuaternionsRange(q1x, q1y, q1z, q1s, q2x, q2y, q2z, q2s, qxResult, qyResult, qzResult, qsResult, startIndex, endIndex);
+   }
+
+   static void multiplyQuaternionsRange(double[] q1x, double[] q1y, double[] q1z, double[] q1s, double[] q2x, double[] q2y, double[] q2z, double[] q2s,
+                                        double[] qxResult, double[] qyResult, double[] qzResult, double[] qsResult, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double x1 = q1x[i], y1 = q1y[i], z1 = q1z[i], s1 = q1s[i];
+         double x2 = q2x[i], y2 = q2y[i], z2 = q2z[i], s2 = q2s[i];
+         qxResult[i] = s1 * x2 + x1 * s2 + y1 * z2 - z1 * y2;
+         qyResult[i] = s1 * y2 - x1 * z2 + y1 * s2 + z1 * x2;
+         qzResult[i] = s1 * z2 + x1 * y2 - y1 * x2 + z1 * s2;
+         qsResult[i] = s1 * s2 - x1 * x2 - y1 * y2 - z1 * z2;
+      }
+   }
+}
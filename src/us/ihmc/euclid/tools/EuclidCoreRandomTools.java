@@ -20,6 +20,7 @@ import us.ihmc.euclid.tuple2D.interfaces.Tuple2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Tuple2DReadOnly;
 import us.ihmc.euclid.tuple3D.Point3D;
 import us.ihmc.euclid.tuple3D.Point3D32;
+import us.ihmc.euclid.tuple3D.Point3DArray;
 import us.ihmc.euclid.tuple3D.Vector3D;
 import us.ihmc.euclid.tuple3D.Vector3D32;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
@@ -1335,6 +1336,61 @@ public abstract class EuclidCoreRandomTools
       return new Point3D(x, y, z);
    }
 
+   /**
+    * Generates a random point array.
+    * <p>
+    * {@code points}<sub>j</sub> = {@link #nextPoint3D(Random)}.
+    * </p>
+    *
+    * @param random the random generator to use.
+    * @param size the number of points to generate.
+    * @return the random point array.
+    */
+   public static Point3DArray nextPoint3DArray(Random random, int size)
+   {
+      return nextPoint3DArray(random, size, -1.0, 1.0);
+   }
+
+   /**
+    * Generates a random point array.
+    * <p>
+    * {@code points}<sub>j</sub> = {@link #nextPoint3D(Random, double)}.
+    * </p>
+    *
+    * @param random the random generator to use.
+    * @param size the number of points to generate.
+    * @param minMax the maximum absolute value for each coordinate.
+    * @return the random point array.
+    * @throws RuntimeException if {@code minMax < 0}.
+    */
+   public static Point3DArray nextPoint3DArray(Random random, int size, double minMax)
+   {
+      return nextPoint3DArray(random, size, -minMax, minMax);
+   }
+
+   /**
+    * Generates a random point array.
+    * <p>
+    * {@code points}<sub>j</sub> = {@link #nextPoint3D(Random, double, double)}.
+    * </p>
+    *
+    * @param random the random generator to use.
+    * @param size the number of points to generate.
+    * @param min the minimum value for each coordinate.
+    * @param max the maximum value for each coordinate.
+    * @return the random point array.
+    * @throws RuntimeException if {@code min > max}.
+    */
+   public static Point3DArray nextPoint3DArray(Random random, int size, double min, double max)
+   {
+      Point3DArray points = new Point3DArray(size);
+
+      for (int i = 0; i < size; i++)
+         points.add(nextDouble(random, min, max), nextDouble(random, min, max), nextDouble(random, min, max));
+
+      return points;
+   }
+
    /**
     * Generates a random vector.
     * <p>
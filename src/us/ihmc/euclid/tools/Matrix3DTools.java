@@ -7,8 +7,10 @@ import us.ihmc.euclid.matrix.interfaces.Matrix3DBasics;
 import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
 import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
 import us.ihmc.euclid.matrix.interfaces.RotationScaleMatrixReadOnly;
+import us.ihmc.euclid.simd.BatchKernels;
 import us.ihmc.euclid.tuple2D.interfaces.Tuple2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Tuple2DReadOnly;
+import us.ihmc.euclid.tuple3D.Tuple3DArray;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 import us.ihmc.euclid.tuple4D.interfaces.Vector4DBasics;
@@ -23,6 +25,35 @@ import us.ihmc.euclid.tuple4D.interfaces.Vector4DReadOnly;
 public abstract class Matrix3DTools
 {
    static final double EPS_INVERT = 1.0e-16;
+   /**
+    * Tolerance used by the iterative normalizations to decide that the matrix has converged. It is a
+    * few units in the last place of {@code 1.0}, i.e. the precision limit of the computations.
+    */
+   static final double EPS_NORMALIZE = 1.0e-15;
+   /**
+    * When the orthonormality error e is below this threshold, a single first-order correction is
+    * enough to reach {@link #EPS_NORMALIZE} as the error after the correction is about
+    * 9/4 e<sup>2</sup>.
+    */
+   static final double EPS_NORMALIZE_FIRST_ORDER_SINGLE_STEP = 2.0e-8;
+   /** Maximum number of iterations performed by the iterative normalizations. */
+   static final int MAX_NORMALIZATION_ITERATIONS = 20;
+   /**
+    * Relative tolerance used by the Jacobi method to decide that the off-diagonal part of the matrix
+    * is negligible.
+    */
+   static final double EPS_DECOMPOSITION = 1.0e-16;
+   /**
+    * Maximum number of sweeps performed by the Jacobi method. For a 3-by-3 matrix, the convergence
+    * is quadratic and usually reached in 4 to 6 sweeps.
+    */
+   static final int MAX_JACOBI_SWEEPS = 20;
+   /**
+    * Relative tolerance used by the linear solvers to decide that a matrix is singular, or not
+    * positive-definite, when one of its pivots is smaller than this fraction of its largest
+    * coefficient.
+    */
+   static final double EPS_SOLVE = 1.0e-15;
 
    /**
     * Performs an in-place inversion of the given matrix such that: m = m<sup>-1</sup>.
@@ -68,6 +99,411 @@ public abstract class Matrix3DTools
       return false;
    }
 
+   /**
+    * Solves the linear system {@code matrix} * {@code solutionToPack} = {@code b}.
+    * <p>
+    * The system is solved by Gaussian elimination with partial pivoting, which is faster and more
+    * accurate than computing the inverse of the matrix first. When the matrix is singular, this
+    * method returns {@code false} instead of throwing an exception and {@code solutionToPack} is not
+    * modified.
+    * </p>
+    * <p>
+    * {@code b} and {@code solutionToPack} can be the same instance.
+    * </p>
+    *
+    * @param matrix the matrix of the linear system. Not modified.
+    * @param b the right-hand side of the linear system. Not modified.
+    * @param solutionToPack the tuple in which the solution is stored. Modified.
+    * @return {@code true} if the system could be solved, {@code false} if the matrix is singular.
+    */
+   public static boolean solve(Matrix3DReadOnly matrix, Tuple3DReadOnly b, Tuple3DBasics solutionToPack)
+   {
+      double a00 = matrix.getM00(), a01 = matrix.getM01(), a02 = matrix.getM02();
+      double a10 = matrix.getM10(), a11 = matrix.getM11(), a12 = matrix.getM12();
+      double a20 = matrix.getM20(), a21 = matrix.getM21(), a22 = matrix.getM22();
+      double b0 = b.getX(), b1 = b.getY(), b2 = b.getZ();
+
+      double maxCoefficient = Math.max(Math.max(Math.abs(a00), Math.abs(a01)), Math.abs(a02));
+      maxCoefficient = Math.max(maxCoefficient, Math.max(Math.max(Math.abs(a10), Math.abs(a11)), Math.abs(a12)));
+      maxCoefficient = Math.max(maxCoefficient, Math.max(Math.max(Math.abs(a20), Math.abs(a21)), Math.abs(a22)));
+      double minPivot = EPS_SOLVE * maxCoefficient;
+
+      // Selecting the largest pivot of the first column.
+      if (Math.abs(a10) > Math.abs(a00) && Math.abs(a10) >= Math.abs(a20))
+      {
+         double temp = a00;
+         a00 = a10;
+         a10 = temp;
+         temp = a01;
+         a01 = a11;
+         a11 = temp;
+         temp = a02;
+         a02 = a12;
+         a12 = temp;
+         temp = b0;
+         b0 = b1;
+         b1 = temp;
+      }
+      else if (Math.abs(a20) > Math.abs(a00))
+      {
+         double temp = a00;
+         a00 = a20;
+         a20 = temp;
+         temp = a01;
+         a01 = a21;
+         a21 = temp;
+         temp = a02;
+         a02 = a22;
+         a22 = temp;
+         temp = b0;
+         b0 = b2;
+         b2 = temp;
+      }
+
+      if (!(Math.abs(a00) > minPivot))
+         return false;
+
+      double invU00 = 1.0 / a00;
+      double l10 = a10 * invU00;
+      double l20 = a20 * invU00;
+      a11 -= l10 * a01;
+      a12 -= l10 * a02;
+      b1 -= l10 * b0;
+      a21 -= l20 * a01;
+      a22 -= l20 * a02;
+      b2 -= l20 * b0;
+
+      // Selecting the largest pivot of the second column.
+      if (Math.abs(a21) > Math.abs(a11))
+      {
+         double temp = a11;
+         a11 = a21;
+         a21 = temp;
+         temp = a12;
+         a12 = a22;
+         a22 = temp;
+         temp = b1;
+         b1 = b2;
+         b2 = temp;
+      }
+
+      if (!(Math.abs(a11) > minPivot))
+         return false;
+
+      double invU11 = 1.0 / a11;
+      double l21 = a21 * invU11;
+      a22 -= l21 * a12;
+      b2 -= l21 * b1;
+
+      if (!(Math.abs(a22) > minPivot))
+         return false;
+
+      // Back substitution.
+      double x2 = b2 / a22;
+      double x1 = (b1 - a12 * x2) * invU11;
+      double x0 = (b0 - a01 * x1 - a02 * x2) * invU00;
+      solutionToPack.set(x0, x1, x2);
+      return true;
+   }
+
+   /**
+    * Solves the linear systems {@code matrix} * {@code solutionsToPack[i]} = {@code bs[i]} for all
+    * the right-hand sides at once.
+    * <p>
+    * This is the batch version of {@link #solve(Matrix3DReadOnly, Tuple3DReadOnly, Tuple3DBasics)}:
+    * the matrix is factorized once into its LU decomposition with partial pivoting which is then used
+    * for each right-hand side.
+    * </p>
+    * <p>
+    * {@code solutionsToPack} is resized to match the size of {@code bs}, both tuple arrays can be the
+    * same instance. When the matrix is singular, this method returns {@code false} and
+    * {@code solutionsToPack} is not modified.
+    * </p>
+    *
+    * @param matrix the matrix of the linear systems. Not modified.
+    * @param bs the right-hand sides of the linear systems. Not modified.
+    * @param solutionsToPack the tuple array in which the solutions are stored. Modified.
+    * @return {@code true} if the systems could be solved, {@code false} if the matrix is singular.
+    */
+   public static boolean solve(Matrix3DReadOnly matrix, Tuple3DArray<?> bs, Tuple3DArray<?> solutionsToPack)
+   {
+      double a00 = matrix.getM00(), a01 = matrix.getM01(), a02 = matrix.getM02();
+      double a10 = matrix.getM10(), a11 = matrix.getM11(), a12 = matrix.getM12();
+      double a20 = matrix.getM20(), a21 = matrix.getM21(), a22 = matrix.getM22();
+      // The components of the right-hand sides associated to each row after pivoting.
+      double[] bs0 = bs.getXArray(), bs1 = bs.getYArray(), bs2 = bs.getZArray();
+
+      double maxCoefficient = Math.max(Math.max(Math.abs(a00), Math.abs(a01)), Math.abs(a02));
+      maxCoefficient = Math.max(maxCoefficient, Math.max(Math.max(Math.abs(a10), Math.abs(a11)), Math.abs(a12)));
+      maxCoefficient = Math.max(maxCoefficient, Math.max(Math.max(Math.abs(a20), Math.abs(a21)), Math.abs(a22)));
+      double minPivot = EPS_SOLVE * maxCoefficient;
+
+      if (Math.abs(a10) > Math.abs(a00) && Math.abs(a10) >= Math.abs(a20))
+      {
+         double temp = a00;
+         a00 = a10;
+         a10 = temp;
+         temp = a01;
+         a01 = a11;
+         a11 = temp;
+         temp = a02;
+         a02 = a12;
+         a12 = temp;
+         double[] tempArray = bs0;
+         bs0 = bs1;
+         bs1 = tempArray;
+      }
+      else if (Math.abs(a20) > Math.abs(a00))
+      {
+         double temp = a00;
+         a00 = a20;
+         a20 = temp;
+         temp = a01;
+         a01 = a21;
+         a21 = temp;
+         temp = a02;
+         a02 = a22;
+         a22 = temp;
+         double[] tempArray = bs0;
+         bs0 = bs2;
+         bs2 = tempArray;
+      }
+
+      if (!(Math.abs(a00) > minPivot))
+         return false;
+
+      double invU00 = 1.0 / a00;
+      double l10 = a10 * invU00;
+      double l20 = a20 * invU00;
+      a11 -= l10 * a01;
+      a12 -= l10 * a02;
+      a21 -= l20 * a01;
+      a22 -= l20 * a02;
+
+      if (Math.abs(a21) > Math.abs(a11))
+      {
+         double temp = a11;
+         a11 = a21;
+         a21 = temp;
+         temp = a12;
+         a12 = a22;
+         a22 = temp;
+         temp = l10;
+         l10 = l20;
+         l20 = temp;
+         double[] tempArray = bs1;
+         bs1 = bs2;
+         bs2 = tempArray;
+      }
+
+      if (!(Math.abs(a11) > minPivot))
+         return false;
+
+      double invU11 = 1.0 / a11;
+      double l21 = a21 * invU11;
+      a22 -= l21 * a12;
+
+      if (!(Math.abs(a22) > minPivot))
+         return false;
+
+      double invU22 = 1.0 / a22;
+
+      int size = bs.size();
+      solutionsToPack.setSize(size);
+      double[] xs = solutionsToPack.getXArray();
+      double[] ys = solutionsToPack.getYArray();
+      double[] zs = solutionsToPack.getZArray();
+
+      for (int i = 0; i < size; i++)
+      {
+         // Forward substitution with L, then back substitution with U.
+         double y0 = bs0[i];
+         double y1 = bs1[i] - l10 * y0;
+         double y2 = bs2[i] - l20 * y0 - l21 * y1;
+
+         double x2 = y2 * invU22;
+         double x1 = (y1 - a12 * x2) * invU11;
+         double x0 = (y0 - a01 * x1 - a02 * x2) * invU00;
+         xs[i] = x0;
+         ys[i] = x1;
+         zs[i] = x2;
+      }
+
+      return true;
+   }
+
+   /**
+    * Solves the linear system {@code matrix} * {@code solutionToPack} = {@code b} where the matrix is
+    * symmetric positive-definite, such as an inertia or a covariance matrix.
+    * <p>
+    * The system is solved using the LDL<sup>T</sup> decomposition of the matrix, which is cheaper
+    * than {@link #solve(Matrix3DReadOnly, Tuple3DReadOnly, Tuple3DBasics)} as it does not need any
+    * pivoting. Only the lower triangular part of the matrix is used. When the matrix is not
+    * positive-definite, this method returns {@code false} and {@code solutionToPack} is not modified.
+    * </p>
+    * <p>
+    * {@code b} and {@code solutionToPack} can be the same instance.
+    * </p>
+    *
+    * @param symmetricMatrix the symmetric positive-definite matrix of the linear system. Not
+    *           modified.
+    * @param b the right-hand side of the linear system. Not modified.
+    * @param solutionToPack the tuple in which the solution is stored. Modified.
+    * @return {@code true} if the system could be solved, {@code false} if the matrix is not
+    *         positive-definite.
+    */
+   public static boolean solveSymmetricPositiveDefinite(Matrix3DReadOnly symmetricMatrix, Tuple3DReadOnly b, Tuple3DBasics solutionToPack)
+   {
+      double a00 = symmetricMatrix.getM00();
+      double a10 = symmetricMatrix.getM10();
+      double a11 = symmetricMatrix.getM11();
+      double a20 = symmetricMatrix.getM20();
+      double a21 = symmetricMatrix.getM21();
+      double a22 = symmetricMatrix.getM22();
+      double minPivot = EPS_SOLVE * EuclidCoreTools.max(Math.abs(a00), Math.abs(a11), Math.abs(a22));
+
+      // LDL^T decomposition.
+      double d0 = a00;
+      if (!(d0 > minPivot))
+         return false;
+      double l10 = a10 / d0;
+      double l20 = a20 / d0;
+      double d1 = a11 - l10 * a10;
+      if (!(d1 > minPivot))
+         return false;
+      double l21 = (a21 - l20 * a10) / d1;
+      double d2 = a22 - l20 * a20 - l21 * l21 * d1;
+      if (!(d2 > minPivot))
+         return false;
+
+      // Forward substitution with L, scaling with D^-1, then back substitution with L^T.
+      double y0 = b.getX();
+      double y1 = b.getY() - l10 * y0;
+      double y2 = b.getZ() - l20 * y0 - l21 * y1;
+
+      double x2 = y2 / d2;
+      double x1 = y1 / d1 - l21 * x2;
+      double x0 = y0 / d0 - l10 * x1 - l20 * x2;
+      solutionToPack.set(x0, x1, x2);
+      return true;
+   }
+
+   /**
+    * Solves the linear systems {@code matrix} * {@code solutionsToPack[i]} = {@code bs[i]} for all
+    * the right-hand sides at once where the matrix is symmetric positive-definite.
+    * <p>
+    * This is the batch version of
+    * {@link #solveSymmetricPositiveDefinite(Matrix3DReadOnly, Tuple3DReadOnly, Tuple3DBasics)}: the
+    * LDL<sup>T</sup> decomposition of the matrix is computed once and used for each right-hand side.
+    * </p>
+    * <p>
+    * {@code solutionsToPack} is resized to match the size of {@code bs}, both tuple arrays can be the
+    * same instance. When the matrix is not positive-definite, this method returns {@code false} and
+    * {@code solutionsToPack} is not modified.
+    * </p>
+    *
+    * @param symmetricMatrix the symmetric positive-definite matrix of the linear systems. Not
+    *           modified.
+    * @param bs the right-hand sides of the linear systems. Not modified.
+    * @param solutionsToPack the tuple array in which the solutions are stored. Modified.
+    * @return {@code true} if the systems could be solved, {@code false} if the matrix is not
+    *         positive-definite.
+    */
+   public static boolean solveSymmetricPositiveDefinite(Matrix3DReadOnly symmetricMatrix, Tuple3DArray<?> bs, Tuple3DArray<?> solutionsToPack)
+   {
+      double a00 = symmetricMatrix.getM00();
+      double a10 = symmetricMatrix.getM10();
+      double a11 = symmetricMatrix.getM11();
+      double a20 = symmetricMatrix.getM20();
+      double a21 = symmetricMatrix.getM21();
+      double a22 = symmetricMatrix.getM22();
+      double minPivot = EPS_SOLVE * EuclidCoreTools.max(Math.abs(a00), Math.abs(a11), Math.abs(a22));
+
+      double d0 = a00;
+      if (!(d0 > minPivot))
+         return false;
+      double l10 = a10 / d0;
+      double l20 = a20 / d0;
+      double d1 = a11 - l10 * a10;
+      if (!(d1 > minPivot))
+         return false;
+      double l21 = (a21 - l20 * a10) / d1;
+      double d2 = a22 - l20 * a20 - l21 * l21 * d1;
+      if (!(d2 > minPivot))
+         return false;
+
+      double invD0 = 1.0 / d0;
+      double invD1 = 1.0 / d1;
+      double invD2 = 1.0 / d2;
+
+      int size = bs.size();
+      solutionsToPack.setSize(size);
+      double[] bxs = bs.getXArray();
+      double[] bys = bs.getYArray();
+      double[] bzs = bs.getZArray();
+      double[] xs = solutionsToPack.getXArray();
+      double[] ys = solutionsToPack.getYArray();
+      double[] zs = solutionsToPack.getZArray();
+
+      for (int i = 0; i < size; i++)
+      {
+         double y0 = bxs[i];
+         double y1 = bys[i] - l10 * y0;
+         double y2 = bzs[i] - l20 * y0 - l21 * y1;
+
+         double x2 = y2 * invD2;
+         double x1 = y1 * invD1 - l21 * x2;
+         double x0 = y0 * invD0 - l10 * x1 - l20 * x2;
+         xs[i] = x0;
+         ys[i] = x1;
+         zs[i] = x2;
+      }
+
+      return true;
+   }
+
+   /**
+    * Computes the Cholesky decomposition of the given symmetric positive-definite matrix: A = L
+    * L<sup>T</sup>, where L is a lower triangular matrix.
+    * <p>
+    * Only the lower triangular part of the given matrix is used. When the matrix is not
+    * positive-definite, this method returns {@code false} and {@code lowerToPack} is not modified.
+    * </p>
+    *
+    * @param symmetricMatrix the symmetric positive-definite matrix to decompose. Not modified.
+    * @param lowerToPack the matrix in which the lower triangular matrix L is stored. Modified.
+    * @return {@code true} if the decomposition succeeds, {@code false} if the matrix is not
+    *         positive-definite.
+    */
+   public static boolean computeCholeskyDecomposition(Matrix3DReadOnly symmetricMatrix, Matrix3DBasics lowerToPack)
+   {
+      double a00 = symmetricMatrix.getM00();
+      double a10 = symmetricMatrix.getM10();
+      double a11 = symmetricMatrix.getM11();
+      double a20 = symmetricMatrix.getM20();
+      double a21 = symmetricMatrix.getM21();
+      double a22 = symmetricMatrix.getM22();
+      double minPivot = EPS_SOLVE * EuclidCoreTools.max(Math.abs(a00), Math.abs(a11), Math.abs(a22));
+
+      if (!(a00 > minPivot))
+         return false;
+      double l00 = Math.sqrt(a00);
+      double l10 = a10 / l00;
+      double l20 = a20 / l00;
+      double d1 = a11 - l10 * l10;
+      if (!(d1 > minPivot))
+         return false;
+      double l11 = Math.sqrt(d1);
+      double l21 = (a21 - l20 * l10) / l11;
+      double d2 = a22 - l20 * l20 - l21 * l21;
+      if (!(d2 > minPivot))
+         return false;
+      double l22 = Math.sqrt(d2);
+
+      lowerToPack.set(l00, 0.0, 0.0, l10, l11, 0.0, l20, l21, l22);
+      return true;
+   }
+
    /**
     * Performs the multiplication: {@code m1} * {@code m2} and stores the result in
     * {@code matrixToPack}.
@@ -415,6 +851,731 @@ public abstract class Matrix3DTools
       matrixToNormalize.set(m00, m01, m02, m10, m11, m12, m20, m21, m22);
    }
 
+   /**
+    * Orthonormalization of the given matrix using a first-order iterative correction.
+    * <p>
+    * At each iteration, the matrix is corrected as follows:<br>
+    * M = M * (3 I - M<sup>T</sup> M) / 2<br>
+    * which is the first-order Taylor expansion of M (M<sup>T</sup> M)<sup>-1/2</sup>. The
+    * iterations stop once M<sup>T</sup> M is equal to identity up to the numerical precision, which
+    * takes a single iteration when the orthonormality error is below 2.0e-8. Unlike the Gram-Schmidt
+    * method, this correction treats the three columns symmetrically such that it does not favor any
+    * axis.
+    * </p>
+    * <p>
+    * This method is intended for matrices that are already close to be orthonormal, such as a
+    * rotation matrix after a few operations, in which case a single correction is usually enough. It
+    * does not converge when the matrix is far from being orthonormal, the singular values of the
+    * matrix have to be in ]0, &radic;3[.
+    * </p>
+    *
+    * @param matrixToNormalize the matrix to normalize. Modified.
+    */
+   public static void normalizeFirstOrder(Matrix3DBasics matrixToNormalize)
+   {
+      double m00 = matrixToNormalize.getM00();
+      double m01 = matrixToNormalize.getM01();
+      double m02 = matrixToNormalize.getM02();
+      double m10 = matrixToNormalize.getM10();
+      double m11 = matrixToNormalize.getM11();
+      double m12 = matrixToNormalize.getM12();
+      double m20 = matrixToNormalize.getM20();
+      double m21 = matrixToNormalize.getM21();
+      double m22 = matrixToNormalize.getM22();
+
+      for (int iteration = 0; iteration < MAX_NORMALIZATION_ITERATIONS; iteration++)
+      {
+         // The orthonormality error E = M^T M - I, which is symmetric.
+         double e00 = m00 * m00 + m10 * m10 + m20 * m20 - 1.0;
+         double e11 = m01 * m01 + m11 * m11 + m21 * m21 - 1.0;
+         double e22 = m02 * m02 + m12 * m12 + m22 * m22 - 1.0;
+         double e01 = m00 * m01 + m10 * m11 + m20 * m21;
+         double e02 = m00 * m02 + m10 * m12 + m20 * m22;
+         double e12 = m01 * m02 + m11 * m12 + m21 * m22;
+
+         double maxError = Math.max(Math.max(Math.abs(e00), Math.abs(e11)), Math.abs(e22));
+         maxError = Math.max(maxError, Math.max(Math.max(Math.abs(e01), Math.abs(e02)), Math.abs(e12)));
+
+         if (maxError < EPS_NORMALIZE)
+            break;
+
+         boolean isLastIteration = maxError < EPS_NORMALIZE_FIRST_ORDER_SINGLE_STEP;
+
+         // M = M * C with C = (3 I - M^T M) / 2 = I - E / 2
+         double c00 = 1.0 - 0.5 * e00;
+         double c11 = 1.0 - 0.5 * e11;
+         double c22 = 1.0 - 0.5 * e22;
+         double c01 = -0.5 * e01;
+         double c02 = -0.5 * e02;
+         double c12 = -0.5 * e12;
+
+         double n00 = m00 * c00 + m01 * c01 + m02 * c02;
+         double n01 = m00 * c01 + m01 * c11 + m02 * c12;
+         double n02 = m00 * c02 + m01 * c12 + m02 * c22;
+         double n10 = m10 * c00 + m11 * c01 + m12 * c02;
+         double n11 = m10 * c01 + m11 * c11 + m12 * c12;
+         double n12 = m10 * c02 + m11 * c12 + m12 * c22;
+         double n20 = m20 * c00 + m21 * c01 + m22 * c02;
+         double n21 = m20 * c01 + m21 * c11 + m22 * c12;
+         double n22 = m20 * c02 + m21 * c12 + m22 * c22;
+
+         m00 = n00;
+         m01 = n01;
+         m02 = n02;
+         m10 = n10;
+         m11 = n11;
+         m12 = n12;
+         m20 = n20;
+         m21 = n21;
+         m22 = n22;
+
+         if (isLastIteration)
+            break;
+      }
+
+      matrixToNormalize.set(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+   }
+
+   /**
+    * Orthonormalization of the given matrix by computing its orthogonal polar factor, i.e. the
+    * orthogonal matrix that is the closest to the given matrix in the Frobenius norm.
+    * <p>
+    * The polar factor is computed with the scaled Newton iteration:<br>
+    * M = (&gamma; M + M<sup>-T</sup> / &gamma;) / 2<br>
+    * where &gamma; is a scaling factor accelerating the convergence when the matrix is far from being
+    * orthonormal. The convergence is quadratic and the iterations stop once the matrix is unchanged
+    * up to the numerical precision. The result is equivalent to computing U V<sup>T</sup> from the
+    * singular value decomposition M = U &Sigma; V<sup>T</sup>, and treats the three columns
+    * symmetrically.
+    * </p>
+    * <p>
+    * This is the most accurate but also the most expensive normalization. The given matrix has to
+    * be invertible, when its determinant is negative, the result is an improper orthogonal matrix.
+    * </p>
+    * <p>
+    * The same polar factor can be obtained from
+    * {@link #computePolarDecomposition(Matrix3DReadOnly, Matrix3DBasics, Matrix3DBasics)}. This
+    * iteration is used instead to normalize rotation matrices, see
+    * {@link us.ihmc.euclid.matrix.RotationMatrixNormalizer#getPolar()}, as it only takes two or three
+    * iterations for a nearly orthonormal matrix, which is several times cheaper than the singular
+    * value decomposition the polar decomposition relies on.
+    * </p>
+    *
+    * @param matrixToNormalize the matrix to normalize. Modified.
+    */
+   public static void normalizePolar(Matrix3DBasics matrixToNormalize)
+   {
+      double m00 = matrixToNormalize.getM00();
+      double m01 = matrixToNormalize.getM01();
+      double m02 = matrixToNormalize.getM02();
+      double m10 = matrixToNormalize.getM10();
+      double m11 = matrixToNormalize.getM11();
+      double m12 = matrixToNormalize.getM12();
+      double m20 = matrixToNormalize.getM20();
+      double m21 = matrixToNormalize.getM21();
+      double m22 = matrixToNormalize.getM22();
+
+      boolean useScaling = true;
+
+      for (int iteration = 0; iteration < MAX_NORMALIZATION_ITERATIONS; iteration++)
+      {
+         // The cofactor matrix C, such that M^-T = C / det(M).
+         double c00 = m11 * m22 - m21 * m12;
+         double c10 = m21 * m02 - m01 * m22;
+         double c20 = m01 * m12 - m11 * m02;
+         double c01 = m12 * m20 - m22 * m10;
+         double c11 = m22 * m00 - m02 * m20;
+         double c21 = m02 * m10 - m12 * m00;
+         double c02 = m10 * m21 - m20 * m11;
+         double c12 = m20 * m01 - m00 * m21;
+         double c22 = m00 * m11 - m10 * m01;
+
+         double invDet = 1.0 / (m00 * c00 + m10 * c10 + m20 * c20);
+
+         double scale = 1.0;
+         double inverseScale = invDet;
+
+         if (useScaling)
+         {
+            double normSquared = m00 * m00 + m01 * m01 + m02 * m02 + m10 * m10 + m11 * m11 + m12 * m12 + m20 * m20 + m21 * m21 + m22 * m22;
+            double inverseNormSquared = c00 * c00 + c01 * c01 + c02 * c02 + c10 * c10 + c11 * c11 + c12 * c12 + c20 * c20 + c21 * c21 + c22 * c22;
+            inverseNormSquared *= invDet * invDet;
+            scale = Math.sqrt(Math.sqrt(inverseNormSquared / normSquared));
+            inverseScale = invDet / scale;
+         }
+
+         double n00 = 0.5 * (scale * m00 + inverseScale * c00);
+         double n01 = 0.5 * (scale * m01 + inverseScale * c01);
+         double n02 = 0.5 * (scale * m02 + inverseScale * c02);
+         double n10 = 0.5 * (scale * m10 + inverseScale * c10);
+         double n11 = 0.5 * (scale * m11 + inverseScale * c11);
+         double n12 = 0.5 * (scale * m12 + inverseScale * c12);
+         double n20 = 0.5 * (scale * m20 + inverseScale * c20);
+         double n21 = 0.5 * (scale * m21 + inverseScale * c21);
+         double n22 = 0.5 * (scale * m22 + inverseScale * c22);
+
+         double change = Math.max(Math.max(Math.abs(n00 - m00), Math.abs(n01 - m01)), Math.abs(n02 - m02));
+         change = Math.max(change, Math.max(Math.max(Math.abs(n10 - m10), Math.abs(n11 - m11)), Math.abs(n12 - m12)));
+         change = Math.max(change, Math.max(Math.max(Math.abs(n20 - m20), Math.abs(n21 - m21)), Math.abs(n22 - m22)));
+
+         m00 = n00;
+         m01 = n01;
+         m02 = n02;
+         m10 = n10;
+         m11 = n11;
+         m12 = n12;
+         m20 = n20;
+         m21 = n21;
+         m22 = n22;
+
+         if (change < EPS_NORMALIZE)
+            break;
+         // The scaling only speeds up the first iterations and would otherwise prevent the convergence to the numerical precision.
+         if (change < 1.0e-2)
+            useScaling = false;
+      }
+
+      matrixToNormalize.set(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+   }
+
+   /**
+    * Computes the eigen decomposition of the given symmetric matrix: A = V &Lambda; V<sup>T</sup>.
+    * <p>
+    * The decomposition is computed with the cyclic Jacobi method, which for a 3-by-3 matrix converges
+    * in a few sweeps to the numerical precision. Only the upper triangular part of the given matrix is
+    * used.
+    * </p>
+    * <p>
+    * The eigenvalues are sorted in decreasing order. The eigenvectors are stored as the columns of
+    * {@code eigenVectorsToPack} in the same order as the eigenvalues, and the third one is oriented
+    * such that {@code eigenVectorsToPack} is a proper rotation matrix. A {@code RotationMatrix} can
+    * then be used to store the eigenvectors.
+    * </p>
+    *
+    * @param symmetricMatrix the symmetric matrix to decompose. Not modified.
+    * @param eigenVectorsToPack the matrix in which the eigenvectors are stored. Modified.
+    * @param eigenValuesToPack the tuple in which the eigenvalues are stored. Modified.
+    */
+   public static void computeSymmetricEigenDecomposition(Matrix3DReadOnly symmetricMatrix, Matrix3DBasics eigenVectorsToPack,
+                                                         Tuple3DBasics eigenValuesToPack)
+   {
+      if (symmetricMatrix.containsNaN())
+      {
+         eigenVectorsToPack.setToNaN();
+         eigenValuesToPack.setToNaN();
+         return;
+      }
+
+      computeSymmetricEigenDecomposition(symmetricMatrix.getM00(), symmetricMatrix.getM01(), symmetricMatrix.getM02(), symmetricMatrix.getM11(),
+                                         symmetricMatrix.getM12(), symmetricMatrix.getM22(), eigenVectorsToPack, eigenValuesToPack);
+   }
+
+   private static void computeSymmetricEigenDecomposition(double a00, double a01, double a02, double a11, double a12, double a22,
+                                                          Matrix3DBasics eigenVectorsToPack, Tuple3DBasics eigenValuesToPack)
+   {
+      double v00 = 1.0, v01 = 0.0, v02 = 0.0;
+      double v10 = 0.0, v11 = 1.0, v12 = 0.0;
+      double v20 = 0.0, v21 = 0.0, v22 = 1.0;
+
+      for (int sweep = 0; sweep < MAX_JACOBI_SWEEPS; sweep++)
+      {
+         double offDiagonal = a01 * a01 + a02 * a02 + a12 * a12;
+         double diagonal = a00 * a00 + a11 * a11 + a22 * a22;
+
+         if (offDiagonal <= EPS_DECOMPOSITION * EPS_DECOMPOSITION * diagonal)
+            break;
+
+         // Each Jacobi rotation J zeroes one off-diagonal coefficient: A = J^T A J and V = V J.
+         if (a01 != 0.0)
+         {
+            double theta = 0.5 * (a11 - a00) / a01;
+            double t = Math.copySign(1.0, theta) / (Math.abs(theta) + Math.sqrt(theta * theta + 1.0));
+            double c = 1.0 / Math.sqrt(t * t + 1.0);
+            double s = t * c;
+
+            a00 -= t * a01;
+            a11 += t * a01;
+            a01 = 0.0;
+            double temp = a02;
+            a02 = c * temp - s * a12;
+            a12 = s * temp + c * a12;
+
+            temp = v00;
+            v00 = c * temp - s * v01;
+            v01 = s * temp + c * v01;
+            temp = v10;
+            v10 = c * temp - s * v11;
+            v11 = s * temp + c * v11;
+            temp = v20;
+            v20 = c * temp - s * v21;
+            v21 = s * temp + c * v21;
+         }
+
+         if (a02 != 0.0)
+         {
+            double theta = 0.5 * (a22 - a00) / a02;
+            double t = Math.copySign(1.0, theta) / (Math.abs(theta) + Math.sqrt(theta * theta + 1.0));
+            double c = 1.0 / Math.sqrt(t * t + 1.0);
+            double s = t * c;
+
+            a00 -= t * a02;
+            a22 += t * a02;
+            a02 = 0.0;
+            double temp = a01;
+            a01 = c * temp - s * a12;
+            a12 = s * temp + c * a12;
+
+            temp = v00;
+            v00 = c * temp - s * v02;
+            v02 = s * temp + c * v02;
+            temp = v10;
+            v10 = c * temp - s * v12;
+            v12 = s * temp + c * v12;
+            temp = v20;
+            v20 = c * temp - s * v22;
+            v22 = s * temp + c * v22;
+         }
+
+         if (a12 != 0.0)
+         {
+            double theta = 0.5 * (a22 - a11) / a12;
+            double t = Math.copySign(1.0, theta) / (Math.abs(theta) + Math.sqrt(theta * theta + 1.0));
+            double c = 1.0 / Math.sqrt(t * t + 1.0);
+            double s = t * c;
+
+            a11 -= t * a12;
+            a22 += t * a12;
+            a12 = 0.0;
+            double temp = a01;
+            a01 = c * temp - s * a02;
+            a02 = s * temp + c * a02;
+
+            temp = v01;
+            v01 = c * temp - s * v02;
+            v02 = s * temp + c * v02;
+            temp = v11;
+            v11 = c * temp - s * v12;
+            v12 = s * temp + c * v12;
+            temp = v21;
+            v21 = c * temp - s * v22;
+            v22 = s * temp + c * v22;
+         }
+      }
+
+      // Sorting the eigenvalues in decreasing order, swapping the eigenvectors accordingly.
+      if (a00 < a11)
+      {
+         double temp = a00;
+         a00 = a11;
+         a11 = temp;
+         temp = v00;
+         v00 = v01;
+         v01 = temp;
+         temp = v10;
+         v10 = v11;
+         v11 = temp;
+         temp = v20;
+         v20 = v21;
+         v21 = temp;
+      }
+
+      if (a00 < a22)
+      {
+         double temp = a00;
+         a00 = a22;
+         a22 = temp;
+         temp = v00;
+         v00 = v02;
+         v02 = temp;
+         temp = v10;
+         v10 = v12;
+         v12 = temp;
+         temp = v20;
+         v20 = v22;
+         v22 = temp;
+      }
+
+      if (a11 < a22)
+      {
+         double temp = a11;
+         a11 = a22;
+         a22 = temp;
+         temp = v01;
+         v01 = v02;
+         v02 = temp;
+         temp = v11;
+         v11 = v12;
+         v12 = temp;
+         temp = v21;
+         v21 = v22;
+         v22 = temp;
+      }
+
+      // The swaps may have resulted in a reflection, flipping the last eigenvector to get a proper rotation.
+      if (Matrix3DFeatures.determinant(v00, v01, v02, v10, v11, v12, v20, v21, v22) < 0.0)
+      {
+         v02 = -v02;
+         v12 = -v12;
+         v22 = -v22;
+      }
+
+      eigenVectorsToPack.set(v00, v01, v02, v10, v11, v12, v20, v21, v22);
+
+      if (eigenValuesToPack != null)
+         eigenValuesToPack.set(a00, a11, a22);
+   }
+
+   /**
+    * Computes the singular value decomposition of the given matrix: A = U &Sigma; V<sup>T</sup>.
+    * <p>
+    * The decomposition is computed as described by McAdams et al. in <i>Computing the Singular Value
+    * Decomposition of 3x3 matrices with minimal branching and elementary floating point
+    * operations</i>: V is obtained from the symmetric eigen decomposition of A<sup>T</sup> A, and then
+    * U and &Sigma; are obtained from the QR decomposition of A V computed with Givens rotations.
+    * </p>
+    * <p>
+    * Both U and V are proper rotation matrices such that {@code RotationMatrix}s can be used to store
+    * them. As a result, the singular values are sorted in decreasing order of their absolute value and
+    * only the last one is negative when the determinant of A is negative.
+    * </p>
+    * <p>
+    * A is scaled by its largest coefficient before forming A<sup>T</sup> A such that the
+    * decomposition does not overflow for large coefficients. When the ratio between the largest and
+    * the smallest singular values exceeds the range of a {@code double}, the smallest ones are
+    * computed as zero.
+    * </p>
+    *
+    * @param matrix the matrix to decompose. Not modified.
+    * @param uToPack the matrix in which the left singular vectors are stored. Modified.
+    * @param singularValuesToPack the tuple in which the singular values are stored. Modified.
+    * @param vToPack the matrix in which the right singular vectors are stored. Modified.
+    */
+   public static void computeSingularValueDecomposition(Matrix3DReadOnly matrix, Matrix3DBasics uToPack, Tuple3DBasics singularValuesToPack,
+                                                        Matrix3DBasics vToPack)
+   {
+      if (matrix.containsNaN())
+      {
+         uToPack.setToNaN();
+         singularValuesToPack.setToNaN();
+         vToPack.setToNaN();
+         return;
+      }
+
+      computeSingularValueDecomposition(matrix.getM00(), matrix.getM01(), matrix.getM02(), matrix.getM10(), matrix.getM11(), matrix.getM12(), matrix.getM20(),
+                                        matrix.getM21(), matrix.getM22(), uToPack, singularValuesToPack, vToPack);
+   }
+
+   private static void computeSingularValueDecomposition(double a00, double a01, double a02, double a10, double a11, double a12, double a20, double a21,
+                                                         double a22, Matrix3DBasics uToPack, Tuple3DBasics singularValuesToPack, Matrix3DBasics vToPack)
+   {
+      // Prescaling A such that forming A^T A can neither overflow nor underflow for its largest coefficients, Sigma is scaled back at the end.
+      double maxAbs = Math.max(Math.max(Math.abs(a00), Math.abs(a01)), Math.abs(a02));
+      maxAbs = Math.max(maxAbs, Math.max(Math.max(Math.abs(a10), Math.abs(a11)), Math.abs(a12)));
+      maxAbs = Math.max(maxAbs, Math.max(Math.max(Math.abs(a20), Math.abs(a21)), Math.abs(a22)));
+
+      if (maxAbs == 0.0 || !Double.isFinite(maxAbs))
+         maxAbs = 1.0;
+
+      double invMaxAbs = 1.0 / maxAbs;
+      a00 *= invMaxAbs;
+      a01 *= invMaxAbs;
+      a02 *= invMaxAbs;
+      a10 *= invMaxAbs;
+      a11 *= invMaxAbs;
+      a12 *= invMaxAbs;
+      a20 *= invMaxAbs;
+      a21 *= invMaxAbs;
+      a22 *= invMaxAbs;
+
+      // The right singular vectors are the eigenvectors of A^T A.
+      double s00 = a00 * a00 + a10 * a10 + a20 * a20;
+      double s01 = a00 * a01 + a10 * a11 + a20 * a21;
+      double s02 = a00 * a02 + a10 * a12 + a20 * a22;
+      double s11 = a01 * a01 + a11 * a11 + a21 * a21;
+      double s12 = a01 * a02 + a11 * a12 + a21 * a22;
+      double s22 = a02 * a02 + a12 * a12 + a22 * a22;
+      computeSymmetricEigenDecomposition(s00, s01, s02, s11, s12, s22, vToPack, null);
+
+      double v00 = vToPack.getM00();
+      double v01 = vToPack.getM01();
+      double v02 = vToPack.getM02();
+      double v10 = vToPack.getM10();
+      double v11 = vToPack.getM11();
+      double v12 = vToPack.getM12();
+      double v20 = vToPack.getM20();
+      double v21 = vToPack.getM21();
+      double v22 = vToPack.getM22();
+
+      // B = A V = U Sigma, its columns are orthogonal.
+      double b00 = a00 * v00 + a01 * v10 + a02 * v20;
+      double b01 = a00 * v01 + a01 * v11 + a02 * v21;
+      double b02 = a00 * v02 + a01 * v12 + a02 * v22;
+      double b10 = a10 * v00 + a11 * v10 + a12 * v20;
+      double b11 = a10 * v01 + a11 * v11 + a12 * v21;
+      double b12 = a10 * v02 + a11 * v12 + a12 * v22;
+      double b20 = a20 * v00 + a21 * v10 + a22 * v20;
+      double b21 = a20 * v01 + a21 * v11 + a22 * v21;
+      double b22 = a20 * v02 + a21 * v12 + a22 * v22;
+
+      // QR decomposition of B with Givens rotations: B = Q R with Q = U and R = Sigma.
+      double u00 = 1.0, u01 = 0.0, u02 = 0.0;
+      double u10 = 0.0, u11 = 1.0, u12 = 0.0;
+      double u20 = 0.0, u21 = 0.0, u22 = 1.0;
+
+      double norm = Math.sqrt(b00 * b00 + b10 * b10);
+      if (norm > 0.0)
+      { // Zeroing b10 by combining the rows 0 and 1.
+         double c = b00 / norm;
+         double s = b10 / norm;
+         b00 = norm;
+         b10 = 0.0;
+         double temp = b01;
+         b01 = c * temp + s * b11;
+         b11 = -s * temp + c * b11;
+         temp = b02;
+         b02 = c * temp + s * b12;
+         b12 = -s * temp + c * b12;
+
+         u00 = c;
+         u01 = -s;
+         u10 = s;
+         u11 = c;
+      }
+
+      norm = Math.sqrt(b00 * b00 + b20 * b20);
+      if (norm > 0.0)
+      { // Zeroing b20 by combining the rows 0 and 2.
+         double c = b00 / norm;
+         double s = b20 / norm;
+         b00 = norm;
+         b20 = 0.0;
+         double temp = b01;
+         b01 = c * temp + s * b21;
+         b21 = -s * temp + c * b21;
+         temp = b02;
+         b02 = c * temp + s * b22;
+         b22 = -s * temp + c * b22;
+
+         temp = u00;
+         u00 = c * temp + s * u02;
+         u02 = -s * temp + c * u02;
+         temp = u10;
+         u10 = c * temp + s * u12;
+         u12 = -s * temp + c * u12;
+         temp = u20;
+         u20 = c * temp + s * u22;
+         u22 = -s * temp + c * u22;
+      }
+
+      norm = Math.sqrt(b11 * b11 + b21 * b21);
+      if (norm > 0.0)
+      { // Zeroing b21 by combining the rows 1 and 2.
+         double c = b11 / norm;
+         double s = b21 / norm;
+         b11 = norm;
+         b21 = 0.0;
+         double temp = b12;
+         b12 = c * temp + s * b22;
+         b22 = -s * temp + c * b22;
+
+         temp = u01;
+         u01 = c * temp + s * u02;
+         u02 = -s * temp + c * u02;
+         temp = u11;
+         u11 = c * temp + s * u12;
+         u12 = -s * temp + c * u12;
+         temp = u21;
+         u21 = c * temp + s * u22;
+         u22 = -s * temp + c * u22;
+      }
+
+      // When the dynamic range of A exceeds the range of A^T A, the smallest eigenvalues of A^T A underflow and are not sorted.
+      // Swapping two columns of U and V keeps A but makes them improper rotations, negating the new second column of each restores them.
+      if (b00 < b11)
+      { // Swapping the columns 0 and 1.
+         double temp = b00;
+         b00 = b11;
+         b11 = temp;
+         temp = u00;
+         u00 = u01;
+         u01 = -temp;
+         temp = u10;
+         u10 = u11;
+         u11 = -temp;
+         temp = u20;
+         u20 = u21;
+         u21 = -temp;
+         temp = v00;
+         v00 = v01;
+         v01 = -temp;
+         temp = v10;
+         v10 = v11;
+         v11 = -temp;
+         temp = v20;
+         v20 = v21;
+         v21 = -temp;
+      }
+
+      if (b11 < Math.abs(b22))
+      { // Swapping the columns 1 and 2.
+         double temp = b11;
+         b11 = b22;
+         b22 = temp;
+         temp = u01;
+         u01 = u02;
+         u02 = -temp;
+         temp = u11;
+         u11 = u12;
+         u12 = -temp;
+         temp = u21;
+         u21 = u22;
+         u22 = -temp;
+         temp = v01;
+         v01 = v02;
+         v02 = -temp;
+         temp = v11;
+         v11 = v12;
+         v12 = -temp;
+         temp = v21;
+         v21 = v22;
+         v22 = -temp;
+
+         if (b11 < 0.0)
+         { // Only the last singular value can be negative, negating the singular values and the columns of U 1 and 2.
+            b11 = -b11;
+            b22 = -b22;
+            u01 = -u01;
+            u11 = -u11;
+            u21 = -u21;
+            u02 = -u02;
+            u12 = -u12;
+            u22 = -u22;
+         }
+
+         if (b00 < b11)
+         { // Swapping the columns 0 and 1.
+            temp = b00;
+            b00 = b11;
+            b11 = temp;
+            temp = u00;
+            u00 = u01;
+            u01 = -temp;
+            temp = u10;
+            u10 = u11;
+            u11 = -temp;
+            temp = u20;
+            u20 = u21;
+            u21 = -temp;
+            temp = v00;
+            v00 = v01;
+            v01 = -temp;
+            temp = v10;
+            v10 = v11;
+            v11 = -temp;
+            temp = v20;
+            v20 = v21;
+            v21 = -temp;
+         }
+      }
+
+      uToPack.set(u00, u01, u02, u10, u11, u12, u20, u21, u22);
+      vToPack.set(v00, v01, v02, v10, v11, v12, v20, v21, v22);
+
+      if (singularValuesToPack != null)
+         singularValuesToPack.set(b00 * maxAbs, b11 * maxAbs, b22 * maxAbs);
+   }
+
+   /**
+    * Computes the polar decomposition of the given matrix: A = R P, where R is a rotation matrix and P
+    * is a symmetric matrix.
+    * <p>
+    * The decomposition is obtained from the singular value decomposition A = U &Sigma; V<sup>T</sup>,
+    * see {@link #computeSingularValueDecomposition(Matrix3DReadOnly, Matrix3DBasics, Tuple3DBasics, Matrix3DBasics)},
+    * with R = U V<sup>T</sup> and P = V &Sigma; V<sup>T</sup>. R is always a proper rotation matrix
+    * such that a {@code RotationMatrix} can be used to store it, and P is positive semi-definite when
+    * the determinant of A is positive. When A is invertible, R is the rotation matrix that is the
+    * closest to A.
+    * </p>
+    * <p>
+    * To only normalize a nearly orthonormal matrix, {@link #normalizePolar(Matrix3DBasics)} computes
+    * the same rotation at a lower cost.
+    * </p>
+    *
+    * @param matrix the matrix to decompose. Not modified.
+    * @param rotationToPack the matrix in which the rotation part R is stored. Modified.
+    * @param symmetricToPack the matrix in which the symmetric part P is stored. Modified.
+    */
+   public static void computePolarDecomposition(Matrix3DReadOnly matrix, Matrix3DBasics rotationToPack, Matrix3DBasics symmetricToPack)
+   {
+      if (matrix.containsNaN())
+      {
+         rotationToPack.setToNaN();
+         symmetricToPack.setToNaN();
+         return;
+      }
+
+      double a00 = matrix.getM00();
+      double a01 = matrix.getM01();
+      double a02 = matrix.getM02();
+      double a10 = matrix.getM10();
+      double a11 = matrix.getM11();
+      double a12 = matrix.getM12();
+      double a20 = matrix.getM20();
+      double a21 = matrix.getM21();
+      double a22 = matrix.getM22();
+
+      // Using the outputs to store U and V.
+      computeSingularValueDecomposition(a00, a01, a02, a10, a11, a12, a20, a21, a22, rotationToPack, null, symmetricToPack);
+
+      double u00 = rotationToPack.getM00();
+      double u01 = rotationToPack.getM01();
+      double u02 = rotationToPack.getM02();
+      double u10 = rotationToPack.getM10();
+      double u11 = rotationToPack.getM11();
+      double u12 = rotationToPack.getM12();
+      double u20 = rotationToPack.getM20();
+      double u21 = rotationToPack.getM21();
+      double u22 = rotationToPack.getM22();
+
+      double v00 = symmetricToPack.getM00();
+      double v01 = symmetricToPack.getM01();
+      double v02 = symmetricToPack.getM02();
+      double v10 = symmetricToPack.getM10();
+      double v11 = symmetricToPack.getM11();
+      double v12 = symmetricToPack.getM12();
+      double v20 = symmetricToPack.getM20();
+      double v21 = symmetricToPack.getM21();
+      double v22 = symmetricToPack.getM22();
+
+      // R = U V^T
+      double r00 = u00 * v00 + u01 * v01 + u02 * v02;
+      double r01 = u00 * v10 + u01 * v11 + u02 * v12;
+      double r02 = u00 * v20 + u01 * v21 + u02 * v22;
+      double r10 = u10 * v00 + u11 * v01 + u12 * v02;
+      double r11 = u10 * v10 + u11 * v11 + u12 * v12;
+      double r12 = u10 * v20 + u11 * v21 + u12 * v22;
+      double r20 = u20 * v00 + u21 * v01 + u22 * v02;
+      double r21 = u20 * v10 + u21 * v11 + u22 * v12;
+      double r22 = u20 * v20 + u21 * v21 + u22 * v22;
+
+      // P = R^T A, symmetrized to remove the round-off errors.
+      double p00 = r00 * a00 + r10 * a10 + r20 * a20;
+      double p01 = r00 * a01 + r10 * a11 + r20 * a21;
+      double p02 = r00 * a02 + r10 * a12 + r20 * a22;
+      double p10 = r01 * a00 + r11 * a10 + r21 * a20;
+      double p11 = r01 * a01 + r11 * a11 + r21 * a21;
+      double p12 = r01 * a02 + r11 * a12 + r21 * a22;
+      double p20 = r02 * a00 + r12 * a10 + r22 * a20;
+      double p21 = r02 * a01 + r12 * a11 + r22 * a21;
+      double p22 = r02 * a02 + r12 * a12 + r22 * a22;
+      p01 = 0.5 * (p01 + p10);
+      p02 = 0.5 * (p02 + p20);
+      p12 = 0.5 * (p12 + p21);
+
+      rotationToPack.set(r00, r01, r02, r10, r11, r12, r20, r21, r22);
+      symmetricToPack.set(p00, p01, p02, p01, p11, p12, p02, p12, p22);
+   }
+
    /**
     * Performs a transformation of {@code tupleOriginal} using the given matrix and stores the result
     * in {@code tupleTransformed}:
@@ -437,6 +1598,37 @@ public abstract class Matrix3DTools
       tupleTransformed.set(x, y, z);
    }
 
+   /**
+    * Performs a transformation of all the tuples of {@code tuplesOriginal} using the given matrix
+    * and stores the result in {@code tuplesTransformed}:
+    * <p>
+    * {@code tuplesTransformed}<sub>i</sub> = {@code matrix} * {@code tuplesOriginal}<sub>i</sub>.
+    * </p>
+    * <p>
+    * This is the batch version of
+    * {@link #transform(Matrix3DReadOnly, Tuple3DReadOnly, Tuple3DBasics)}, it relies on
+    * {@link BatchKernels#getDefault()} which is vectorized when the platform allows it.
+    * </p>
+    * <p>
+    * {@code tuplesTransformed} is resized to match the size of {@code tuplesOriginal}. Both tuple
+    * arrays can be the same instance to perform in-place transformation.
+    * </p>
+    *
+    * @param matrix the matrix used to transform {@code tuplesOriginal}. Not modified.
+    * @param tuplesOriginal the original tuples to use for the transformation. Not modified.
+    * @param tuplesTransformed the tuple array used to store the result of the transformation.
+    *           Modified.
+    */
+   public static void transform(Matrix3DReadOnly matrix, Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed)
+   {
+      int size = tuplesOriginal.size();
+      tuplesTransformed.setSize(size);
+      BatchKernels.getDefault().transform(matrix.getM00(), matrix.getM01(), matrix.getM02(), matrix.getM10(), matrix.getM11(), matrix.getM12(),
+                                          matrix.getM20(), matrix.getM21(), matrix.getM22(), 0.0, 0.0, 0.0, tuplesOriginal.getXArray(),
+                                          tuplesOriginal.getYArray(), tuplesOriginal.getZArray(), tuplesTransformed.getXArray(),
+                                          tuplesTransformed.getYArray(), tuplesTransformed.getZArray(), 0, size);
+   }
+
    /**
     * Performs a transformation of {@code tupleOriginal} using the given matrix and add the result to
     * {@code tupleTransformed}:
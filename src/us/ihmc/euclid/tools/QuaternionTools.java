@@ -25,6 +25,27 @@ public abstract class QuaternionTools
 {
    static final double EPS = 1.0e-12;
 
+   /**
+    * Correction applied to the last term of the polynomial used in
+    * {@link #fastSlerpWeight(double, double)} to compensate for the truncation of the series.
+    */
+   private static final double FAST_SLERP_MU = 1.85298109240830;
+   /** The coefficients <i>u<sub>i</sub> = 1 / (i (2i + 1))</i> used in the fast SLERP polynomial. */
+   private static final double[] FAST_SLERP_U = new double[8];
+   /** The coefficients <i>v<sub>i</sub> = i / (2i + 1)</i> used in the fast SLERP polynomial. */
+   private static final double[] FAST_SLERP_V = new double[8];
+
+   static
+   {
+      for (int i = 1; i <= 8; i++)
+      {
+         FAST_SLERP_U[i - 1] = 1.0 / (i * (2.0 * i + 1.0));
+         FAST_SLERP_V[i - 1] = i / (2.0 * i + 1.0);
+      }
+      FAST_SLERP_U[7] *= FAST_SLERP_MU;
+      FAST_SLERP_V[7] *= FAST_SLERP_MU;
+   }
+
    /**
     * Performs the multiplication of {@code q1} and {@code q2} and stores the result in
     * {@code quaternionToPack}.
@@ -1384,4 +1405,110 @@ public abstract class QuaternionTools
       double sinHalfTheta = Math.sqrt(EuclidCoreTools.normSquared(x, y, z));
       return 2.0 * Math.atan2(sinHalfTheta, s);
    }
+
+   /**
+    * Performs a normalized linear interpolation, often called NLERP, from {@code q0} to {@code qf}
+    * given the percentage {@code alpha}.
+    * <p>
+    * The two quaternions are linearly interpolated component-wise and the result is then normalized.
+    * The interpolated orientation follows the same path as with a SLERP but not at a constant angular
+    * velocity. The error in angle with respect to the SLERP is zero at the end points and when
+    * {@code alpha = 0.5}, it is maximum for quaternions distant by <i>pi</i> and is then about
+    * 0.14 radian. It is below 3.0e-4 radian for quaternions distant by less than 0.4 radian.
+    * </p>
+    * <p>
+    * As for {@link QuaternionBasics#interpolate(QuaternionReadOnly, QuaternionReadOnly, double)},
+    * the shortest path is used.
+    * </p>
+    *
+    * @param q0 the first quaternion used in the interpolation. Not modified.
+    * @param qf the second quaternion used in the interpolation. Not modified.
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           {@code quaternionToPack} to {@code q0}, while a value of 1 is equivalent to setting
+    *           {@code quaternionToPack} to {@code qf}.
+    * @param quaternionToPack the quaternion in which the result is stored. Modified.
+    */
+   public static void interpolateNormalized(QuaternionReadOnly q0, QuaternionReadOnly qf, double alpha, QuaternionBasics quaternionToPack)
+   {
+      double alpha0 = 1.0 - alpha;
+      double alphaf = q0.dot(qf) < 0.0 ? -alpha : alpha;
+
+      double qx = alpha0 * q0.getX() + alphaf * qf.getX();
+      double qy = alpha0 * q0.getY() + alphaf * qf.getY();
+      double qz = alpha0 * q0.getZ() + alphaf * qf.getZ();
+      double qs = alpha0 * q0.getS() + alphaf * qf.getS();
+      quaternionToPack.set(qx, qy, qz, qs);
+   }
+
+   /**
+    * Performs a spherical linear interpolation, often called SLERP, from {@code q0} to {@code qf}
+    * given the percentage {@code alpha} using a polynomial approximation instead of the
+    * trigonometric functions.
+    * <p>
+    * The weights of the SLERP are computed with {@link #fastSlerpWeight(double, double)} and the
+    * result is normalized. The error in angle with respect to
+    * {@link QuaternionBasics#interpolate(QuaternionReadOnly, QuaternionReadOnly, double)} is below
+    * 2.0e-5 radian for quaternions distant by up to <i>pi</i>, and below 1.0e-11 radian for
+    * quaternions distant by less than 1 radian.
+    * </p>
+    * <p>
+    * As for {@link QuaternionBasics#interpolate(QuaternionReadOnly, QuaternionReadOnly, double)},
+    * the shortest path is used.
+    * </p>
+    *
+    * @param q0 the first quaternion used in the interpolation. Not modified.
+    * @param qf the second quaternion used in the interpolation. Not modified.
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           {@code quaternionToPack} to {@code q0}, while a value of 1 is equivalent to setting
+    *           {@code quaternionToPack} to {@code qf}.
+    * @param quaternionToPack the quaternion in which the result is stored. Modified.
+    */
+   public static void interpolateFast(QuaternionReadOnly q0, QuaternionReadOnly qf, double alpha, QuaternionBasics quaternionToPack)
+   {
+      double cosHalfTheta = q0.dot(qf);
+      double sign = 1.0;
+
+      if (cosHalfTheta < 0.0)
+      {
+         sign = -1.0;
+         cosHalfTheta = -cosHalfTheta;
+      }
+
+      double alpha0 = fastSlerpWeight(1.0 - alpha, cosHalfTheta);
+      double alphaf = sign * fastSlerpWeight(alpha, cosHalfTheta);
+
+      double qx = alpha0 * q0.getX() + alphaf * qf.getX();
+      double qy = alpha0 * q0.getY() + alphaf * qf.getY();
+      double qz = alpha0 * q0.getZ() + alphaf * qf.getZ();
+      double qs = alpha0 * q0.getS() + alphaf * qf.getS();
+      quaternionToPack.set(qx, qy, qz, qs);
+   }
+
+   /**
+    * Approximates the weight <i>sin(alpha theta/2) / sin(theta/2)</i> used in the SLERP, where
+    * <i>theta</i> is the angle between the two quaternions to interpolate.
+    * <p>
+    * The weight is evaluated with a polynomial in {@code alpha} and {@code cosHalfTheta} obtained by
+    * truncating to eight terms the series expansion of the weight and adding a correction to the
+    * last term. This is the approach described by D. Eberly in <i>A Fast and Accurate Algorithm for
+    * Computing SLERP</i>. The absolute error of the weight is below 2.0e-5 for
+    * {@code cosHalfTheta} &in; [0, 1] and vanishes as {@code cosHalfTheta} approaches 1.
+    * </p>
+    *
+    * @param alpha the percentage of the interpolation, expected to be in [0, 1].
+    * @param cosHalfTheta the dot product of the two quaternions to interpolate, expected to be in [0,
+    *           1].
+    * @return the approximated weight.
+    */
+   public static double fastSlerpWeight(double alpha, double cosHalfTheta)
+   {
+      double cosHalfThetaMinusOne = cosHalfTheta - 1.0;
+      double alphaSquared = alpha * alpha;
+      double weight = 1.0;
+
+      for (int i = 7; i >= 0; i--)
+         weight = 1.0 + (FAST_SLERP_U[i] * alphaSquared - FAST_SLERP_V[i]) * cosHalfThetaMinusOne * weight;
+
+      return alpha * weight;
+   }
 }
@@ -108,6 +108,7 @@ public abstract class RotationMatrixTools
          return;
       }
 
+      int numberOfOperations = numberOfOperationsSinceNormalization(orientation2) + 1;
       double b00, b01, b02, b10, b11, b12, b20, b21, b22;
       if (orientation2 instanceof RotationMatrixReadOnly)
       { // In this case orientation2 might be the same object as matrixToPack, so let's save its components first.
@@ -147,7 +148,8 @@ public abstract class RotationMatrixTools
       double a20 = matrixToPack.getM20();
       double a21 = matrixToPack.getM21();
       double a22 = matrixToPack.getM22();
-      multiplyImpl(a00, a01, a02, a10, a11, a12, a20, a21, a22, inverse1, b00, b01, b02, b10, b11, b12, b20, b21, b22, inverse2, matrixToPack);
+      multiplyImpl(a00, a01, a02, a10, a11, a12, a20, a21, a22, inverse1, b00, b01, b02, b10, b11, b12, b20, b21, b22, inverse2, numberOfOperations,
+                   matrixToPack);
    }
 
    /**
@@ -176,6 +178,7 @@ public abstract class RotationMatrixTools
          return;
       }
 
+      int numberOfOperations = numberOfOperationsSinceNormalization(orientation2) + 1;
       // In this case orientation2 might be the same object as matrixToPack, so let's save its components first.
       double b00 = orientation2.getM00();
       double b01 = orientation2.getM01();
@@ -197,7 +200,8 @@ public abstract class RotationMatrixTools
       double a20 = matrixToPack.getM20();
       double a21 = matrixToPack.getM21();
       double a22 = matrixToPack.getM22();
-      multiplyImpl(a00, a01, a02, a10, a11, a12, a20, a21, a22, inverse1, b00, b01, b02, b10, b11, b12, b20, b21, b22, inverse2, matrixToPack);
+      multiplyImpl(a00, a01, a02, a10, a11, a12, a20, a21, a22, inverse1, b00, b01, b02, b10, b11, b12, b20, b21, b22, inverse2, numberOfOperations,
+                   matrixToPack);
    }
 
    /**
@@ -226,6 +230,7 @@ public abstract class RotationMatrixTools
          return;
       }
 
+      int numberOfOperations = numberOfOperationsSinceNormalization(orientation1) + 1;
       // In this case orientation1 might be the same object as matrixToPack, so let's save its components first.
       double a00 = orientation1.getM00();
       double a01 = orientation1.getM01();
@@ -247,18 +252,21 @@ public abstract class RotationMatrixTools
       double b20 = matrixToPack.getM20();
       double b21 = matrixToPack.getM21();
       double b22 = matrixToPack.getM22();
-      multiplyImpl(a00, a01, a02, a10, a11, a12, a20, a21, a22, inverse1, b00, b01, b02, b10, b11, b12, b20, b21, b22, inverse2, matrixToPack);
+      multiplyImpl(a00, a01, a02, a10, a11, a12, a20, a21, a22, inverse1, b00, b01, b02, b10, b11, b12, b20, b21, b22, inverse2, numberOfOperations,
+                   matrixToPack);
    }
 
    private static void multiplyImpl(RotationMatrixReadOnly a, boolean transposeA, RotationMatrixReadOnly b, boolean transposeB, RotationMatrix matrixToPack)
    {
+      int numberOfOperations = numberOfOperationsSinceNormalization(a) + numberOfOperationsSinceNormalization(b) + 1;
       multiplyImpl(a.getM00(), a.getM01(), a.getM02(), a.getM10(), a.getM11(), a.getM12(), a.getM20(), a.getM21(), a.getM22(), transposeA, b.getM00(),
-                   b.getM01(), b.getM02(), b.getM10(), b.getM11(), b.getM12(), b.getM20(), b.getM21(), b.getM22(), transposeB, matrixToPack);
+                   b.getM01(), b.getM02(), b.getM10(), b.getM11(), b.getM12(), b.getM20(), b.getM21(), b.getM22(), transposeB, numberOfOperations,
+                   matrixToPack);
    }
 
    private static void multiplyImpl(double a00, double a01, double a02, double a10, double a11, double a12, double a20, double a21, double a22,
                                     boolean transposeA, double b00, double b01, double b02, double b10, double b11, double b12, double b20, double b21,
-                                    double b22, boolean transposeB, RotationMatrix matrixToPack)
+                                    double b22, boolean transposeB, int numberOfOperations, RotationMatrix matrixToPack)
    {
       double c00, c01, c02, c10, c11, c12, c20, c21, c22;
 
@@ -316,7 +324,26 @@ public abstract class RotationMatrixTools
             c22 = a20 * b02 + a21 * b12 + a22 * b22;
          }
       }
-      matrixToPack.setAndNormalize(c00, c01, c02, c10, c11, c12, c20, c21, c22);
+      matrixToPack.setAndNormalizeLazily(c00, c01, c02, c10, c11, c12, c20, c21, c22, numberOfOperations);
+   }
+
+   /**
+    * Gets the number of operations performed on the given orientation since it was last
+    * normalized.
+    * <p>
+    * Only a {@link RotationMatrix} can be lazily normalized, for any other type of orientation this
+    * method returns zero.
+    * </p>
+    *
+    * @param orientation the orientation to get the number of operations of. Not modified.
+    * @return the number of operations since the last normalization.
+    */
+   private static int numberOfOperationsSinceNormalization(Orientation3DReadOnly orientation)
+   {
+      if (orientation instanceof RotationMatrix)
+         return ((RotationMatrix) orientation).getNumberOfOperationsSinceNormalization();
+      else
+         return 0;
    }
 
    /**
@@ -338,6 +365,7 @@ public abstract class RotationMatrixTools
     */
    public static void prependYawRotation(double yaw, RotationMatrixReadOnly matrixOriginal, RotationMatrix matrixToPack)
    {
+      int numberOfOperations = numberOfOperationsSinceNormalization(matrixOriginal) + 1;
       double cYaw = Math.cos(yaw);
       double sYaw = Math.sin(yaw);
 
@@ -350,7 +378,7 @@ public abstract class RotationMatrixTools
       double m20 = matrixOriginal.getM20();
       double m21 = matrixOriginal.getM21();
       double m22 = matrixOriginal.getM22();
-      matrixToPack.setAndNormalize(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+      matrixToPack.setAndNormalizeLazily(m00, m01, m02, m10, m11, m12, m20, m21, m22, numberOfOperations);
    }
 
    /**
@@ -372,6 +400,7 @@ public abstract class RotationMatrixTools
     */
    public static void appendYawRotation(RotationMatrixReadOnly matrixOriginal, double yaw, RotationMatrix matrixToPack)
    {
+      int numberOfOperations = numberOfOperationsSinceNormalization(matrixOriginal) + 1;
       double cYaw = Math.cos(yaw);
       double sYaw = Math.sin(yaw);
 
@@ -384,7 +413,7 @@ public abstract class RotationMatrixTools
       double m20 = cYaw * matrixOriginal.getM20() + sYaw * matrixOriginal.getM21();
       double m21 = -sYaw * matrixOriginal.getM20() + cYaw * matrixOriginal.getM21();
       double m22 = matrixOriginal.getM22();
-      matrixToPack.setAndNormalize(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+      matrixToPack.setAndNormalizeLazily(m00, m01, m02, m10, m11, m12, m20, m21, m22, numberOfOperations);
    }
 
    /**
@@ -406,6 +435,7 @@ public abstract class RotationMatrixTools
     */
    public static void prependPitchRotation(double pitch, RotationMatrixReadOnly matrixOriginal, RotationMatrix matrixToPack)
    {
+      int numberOfOperations = numberOfOperationsSinceNormalization(matrixOriginal) + 1;
       double cPitch = Math.cos(pitch);
       double sPitch = Math.sin(pitch);
 
@@ -418,7 +448,7 @@ public abstract class RotationMatrixTools
       double m20 = -sPitch * matrixOriginal.getM00() + cPitch * matrixOriginal.getM20();
       double m21 = -sPitch * matrixOriginal.getM01() + cPitch * matrixOriginal.getM21();
       double m22 = -sPitch * matrixOriginal.getM02() + cPitch * matrixOriginal.getM22();
-      matrixToPack.setAndNormalize(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+      matrixToPack.setAndNormalizeLazily(m00, m01, m02, m10, m11, m12, m20, m21, m22, numberOfOperations);
    }
 
    /**
@@ -440,6 +470,7 @@ public abstract class RotationMatrixTools
     */
    public static void appendPitchRotation(RotationMatrixReadOnly matrixOriginal, double pitch, RotationMatrix matrixToPack)
    {
+      int numberOfOperations = numberOfOperationsSinceNormalization(matrixOriginal) + 1;
       double cPitch = Math.cos(pitch);
       double sPitch = Math.sin(pitch);
 
@@ -452,7 +483,7 @@ public abstract class RotationMatrixTools
       double m20 = cPitch * matrixOriginal.getM20() - sPitch * matrixOriginal.getM22();
       double m21 = matrixOriginal.getM21();
       double m22 = sPitch * matrixOriginal.getM20() + cPitch * matrixOriginal.getM22();
-      matrixToPack.setAndNormalize(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+      matrixToPack.setAndNormalizeLazily(m00, m01, m02, m10, m11, m12, m20, m21, m22, numberOfOperations);
    }
 
    /**
@@ -474,6 +505,7 @@ public abstract class RotationMatrixTools
     */
    public static void prependRollRotation(double roll, RotationMatrixReadOnly matrixOriginal, RotationMatrix matrixToPack)
    {
+      int numberOfOperations = numberOfOperationsSinceNormalization(matrixOriginal) + 1;
       double cRoll = Math.cos(roll);
       double sRoll = Math.sin(roll);
 
@@ -486,7 +518,7 @@ public abstract class RotationMatrixTools
       double m20 = sRoll * matrixOriginal.getM10() + cRoll * matrixOriginal.getM20();
       double m21 = sRoll * matrixOriginal.getM11() + cRoll * matrixOriginal.getM21();
       double m22 = sRoll * matrixOriginal.getM12() + cRoll * matrixOriginal.getM22();
-      matrixToPack.setAndNormalize(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+      matrixToPack.setAndNormalizeLazily(m00, m01, m02, m10, m11, m12, m20, m21, m22, numberOfOperations);
    }
 
    /**
@@ -508,6 +540,7 @@ public abstract class RotationMatrixTools
     */
    public static void appendRollRotation(RotationMatrixReadOnly matrixOriginal, double roll, RotationMatrix matrixToPack)
    {
+      int numberOfOperations = numberOfOperationsSinceNormalization(matrixOriginal) + 1;
       double cRoll = Math.cos(roll);
       double sRoll = Math.sin(roll);
 
@@ -520,7 +553,7 @@ public abstract class RotationMatrixTools
       double m20 = matrixOriginal.getM20();
       double m21 = cRoll * matrixOriginal.getM21() + sRoll * matrixOriginal.getM22();
       double m22 = -sRoll * matrixOriginal.getM21() + cRoll * matrixOriginal.getM22();
-      matrixToPack.setAndNormalize(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+      matrixToPack.setAndNormalizeLazily(m00, m01, m02, m10, m11, m12, m20, m21, m22, numberOfOperations);
    }
 
    /**
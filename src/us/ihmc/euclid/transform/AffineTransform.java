@@ -4,6 +4,7 @@ import org.ejml.data.DenseMatrix64F;
 
 import us.ihmc.euclid.axisAngle.interfaces.AxisAngleBasics;
 import us.ihmc.euclid.axisAngle.interfaces.AxisAngleReadOnly;
+import us.ihmc.euclid.concurrent.ParallelBatchExecutor;
 import us.ihmc.euclid.exceptions.NotARotationMatrixException;
 import us.ihmc.euclid.exceptions.NotARotationScaleMatrixException;
 import us.ihmc.euclid.interfaces.Clearable;
@@ -26,7 +27,10 @@ import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
 import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Vector2DReadOnly;
+import us.ihmc.euclid.tuple3D.Point3DArray;
+import us.ihmc.euclid.tuple3D.Tuple3DArray;
 import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
@@ -219,6 +223,50 @@ public class AffineTransform
       return rotationScaleMatrix.containsNaN() || translationVector.containsNaN();
    }
 
+   /**
+    * Tests if the rotation part of this transform is not exactly equal to identity.
+    * <p>
+    * The state of the rotation part is cached and only updated after it has been modified.
+    * </p>
+    *
+    * @return {@code true} if the rotation part is not exactly identity, {@code false} otherwise.
+    */
+   public boolean hasRotation()
+   {
+      return !rotationScaleMatrix.getRotationMatrix().isZeroOrientation();
+   }
+
+   /**
+    * Tests if the scale part of this transform is not exactly equal to one along each axis.
+    *
+    * @return {@code true} if the scale part is not exactly one, {@code false} otherwise.
+    */
+   public boolean hasScale()
+   {
+      return rotationScaleMatrix.getScaleX() != 1.0 || rotationScaleMatrix.getScaleY() != 1.0 || rotationScaleMatrix.getScaleZ() != 1.0;
+   }
+
+   /**
+    * Tests if the translation part of this transform is not exactly equal to zero.
+    *
+    * @return {@code true} if the translation part is not exactly zero, {@code false} otherwise.
+    */
+   public boolean hasTranslation()
+   {
+      return translationVector.getX() != 0.0 || translationVector.getY() != 0.0 || translationVector.getZ() != 0.0;
+   }
+
+   /**
+    * Tests if the rotation-scale part of this transform is exactly equal to identity, in which case
+    * the operations such as {@code transform} and {@code inverseTransform} skip it.
+    *
+    * @return {@code true} if the rotation-scale part is exactly identity, {@code false} otherwise.
+    */
+   private boolean isRotationScaleIdentity()
+   {
+      return !hasRotation() && !hasScale();
+   }
+
    /**
     * Normalize the rotation part of this transform.
     * <p>
@@ -970,8 +1018,16 @@ public class AffineTransform
     */
    public void multiply(AffineTransform other)
    {
-      Matrix3DTools.addTransform(getRotationMatrix(), other.getTranslationVector(), translationVector);
-      rotationScaleMatrix.append(other.getRotationMatrix());
+      if (other.hasTranslation())
+      {
+         if (hasRotation())
+            Matrix3DTools.addTransform(getRotationMatrix(), other.getTranslationVector(), translationVector);
+         else
+            translationVector.add(other.getTranslationVector());
+      }
+
+      if (other.hasRotation())
+         rotationScaleMatrix.append(other.getRotationMatrix());
    }
 
    /**
@@ -1257,9 +1313,16 @@ public class AffineTransform
     */
    public void preMultiply(AffineTransform other)
    {
-      other.getRotationMatrix().transform(translationVector);
-      translationVector.add(other.getTranslationVector());
-      rotationScaleMatrix.prepend(other.getRotationMatrix());
+      if (other.hasRotation())
+      {
+         other.getRotationMatrix().transform(translationVector);
+         translationVector.add(other.getTranslationVector());
+         rotationScaleMatrix.prepend(other.getRotationMatrix());
+      }
+      else
+      {
+         translationVector.add(other.getTranslationVector());
+      }
    }
 
    /**
@@ -1301,6 +1364,25 @@ public class AffineTransform
       rotationScaleMatrix.prepend(quaternionBasedTransform.getQuaternion());
    }
 
+   /**
+    * Performs the multiplication of {@code dualQuaternion} with this transform.
+    * <p>
+    * Note: this operation does not affect the scale of this transform.
+    * </p>
+    * <p>
+    * this = D(dualQuaternion) * this <br>
+    * where D(dq) is the function converting a dual quaternion into a 4-by-4 transformation matrix.
+    * </p>
+    *
+    * @param dualQuaternion the dual quaternion to multiply this with. Not modified.
+    */
+   public void preMultiply(DualQuaternion dualQuaternion)
+   {
+      dualQuaternion.getRealPart().transform(translationVector);
+      translationVector.add(dualQuaternion.getTranslationX(), dualQuaternion.getTranslationY(), dualQuaternion.getTranslationZ());
+      rotationScaleMatrix.prepend(dualQuaternion.getRealPart());
+   }
+
    /**
     * Performs the multiplication of {@code other} with the inverse of this transform.
     * <p>
@@ -1421,6 +1503,25 @@ public class AffineTransform
       rotationScaleMatrix.prependInvertOther(quaternionBasedTransform.getQuaternion());
    }
 
+   /**
+    * Performs the multiplication of the inverse of {@code dualQuaternion} with this transform.
+    * <p>
+    * Note: this operation does not affect the scale of this transform.
+    * </p>
+    * <p>
+    * this = D(dualQuaternion)<sup>-1</sup> * this <br>
+    * where D(dq) is the function converting a dual quaternion into a 4-by-4 transformation matrix.
+    * </p>
+    *
+    * @param dualQuaternion the dual quaternion to multiply this with. Not modified.
+    */
+   public void preMultiplyInvertOther(DualQuaternion dualQuaternion)
+   {
+      translationVector.sub(dualQuaternion.getTranslationX(), dualQuaternion.getTranslationY(), dualQuaternion.getTranslationZ());
+      dualQuaternion.getRealPart().inverseTransform(translationVector);
+      rotationScaleMatrix.prependInvertOther(dualQuaternion.getRealPart());
+   }
+
    /**
     * Prepend a translation transform to this transform.
     *
@@ -1542,15 +1643,54 @@ public class AffineTransform
    @Override
    public void transform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
    {
-      rotationScaleMatrix.transform(pointOriginal, pointTransformed);
-      pointTransformed.add(translationVector);
+      if (isRotationScaleIdentity())
+         pointTransformed.set(pointOriginal);
+      else
+         rotationScaleMatrix.transform(pointOriginal, pointTransformed);
+
+      if (hasTranslation())
+         pointTransformed.add(translationVector);
+   }
+
+   /**
+    * Transforms all the points of the given point array by this transform and stores the result in
+    * {@code pointsTransformed}.
+    * <p>
+    * This is the batch version of {@link #transform(Point3DReadOnly, Point3DBasics)}. The transform
+    * coefficients are read once and applied on the points in a single loop over the backing arrays.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    */
+   public void transform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+   {
+      transform(pointsOriginal, pointsTransformed, false, true, null);
+   }
+
+   /**
+    * Transforms in place all the points of the given point array by this transform.
+    *
+    * @param pointsToTransform the points to transform. Modified.
+    * @see #transform(Point3DArray, Point3DArray)
+    */
+   public void transform(Point3DArray pointsToTransform)
+   {
+      transform(pointsToTransform, pointsToTransform);
    }
 
    /** {@inheritDoc} */
    @Override
    public void transform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
    {
-      rotationScaleMatrix.transform(vectorOriginal, vectorTransformed);
+      if (isRotationScaleIdentity())
+         vectorTransformed.set(vectorOriginal);
+      else
+         rotationScaleMatrix.transform(vectorOriginal, vectorTransformed);
    }
 
    /** {@inheritDoc} */
@@ -1628,15 +1768,265 @@ public class AffineTransform
    public void inverseTransform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
    {
       pointTransformed.set(pointOriginal);
-      pointTransformed.sub(translationVector);
-      rotationScaleMatrix.inverseTransform(pointTransformed);
+
+      if (hasTranslation())
+         pointTransformed.sub(translationVector);
+      if (!isRotationScaleIdentity())
+         rotationScaleMatrix.inverseTransform(pointTransformed);
+   }
+
+   /**
+    * Performs the inverse of the transform on all the points of the given point array and stores
+    * the result in {@code pointsTransformed}.
+    * <p>
+    * This is the batch version of {@link #inverseTransform(Point3DReadOnly, Point3DBasics)}. The
+    * transform coefficients are read once and applied on the points in a single loop over the
+    * backing arrays.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    */
+   public void inverseTransform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+   {
+      transform(pointsOriginal, pointsTransformed, true, true, null);
+   }
+
+   /**
+    * Performs in place the inverse of the transform on all the points of the given point array.
+    *
+    * @param pointsToTransform the points to transform. Modified.
+    * @see #inverseTransform(Point3DArray, Point3DArray)
+    */
+   public void inverseTransform(Point3DArray pointsToTransform)
+   {
+      inverseTransform(pointsToTransform, pointsToTransform);
+   }
+
+   /**
+    * Transforms all the points of the given point array by this transform and stores the result in
+    * {@code pointsTransformed}, splitting the work over the threads of {@code executor}.
+    * <p>
+    * This is the parallel version of {@link #transform(Point3DArray, Point3DArray)}. Batches
+    * smaller than the sequential threshold of {@code executor} are transformed in the calling
+    * thread.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    * @param executor the executor used to split the work. Not modified.
+    */
+   public void transform(Point3DArray pointsOriginal, Point3DArray pointsTransformed, ParallelBatchExecutor executor)
+   {
+      transform(pointsOriginal, pointsTransformed, false, true, executor);
+   }
+
+   /**
+    * Performs the inverse of the transform on all the points of the given point array and stores
+    * the result in {@code pointsTransformed}, splitting the work over the threads of
+    * {@code executor}.
+    * <p>
+    * This is the parallel version of {@link #inverseTransform(Point3DArray, Point3DArray)}. Batches
+    * smaller than the sequential threshold of {@code executor} are transformed in the calling
+    * thread.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    * @param executor the executor used to split the work. Not modified.
+    */
+   public void inverseTransform(Point3DArray pointsOriginal, Point3DArray pointsTransformed, ParallelBatchExecutor executor)
+   {
+      transform(pointsOriginal, pointsTransformed, true, true, executor);
+   }
+
+   /**
+    * Transforms all the vectors of the given vector array by this transform and stores the result
+    * in {@code vectorsTransformed}.
+    * <p>
+    * This is the batch version of {@link #transform(Vector3DReadOnly, Vector3DBasics)}. Only the
+    * rotation-scale part of this transform is applied on the vectors.
+    * </p>
+    * <p>
+    * {@code vectorsTransformed} is resized to match the size of {@code vectorsOriginal}. It can be
+    * the same instance as {@code vectorsOriginal}.
+    * </p>
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the transformed vectors are stored. Modified.
+    */
+   public void transform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+   {
+      transform(vectorsOriginal, vectorsTransformed, false, false, null);
+   }
+
+   /**
+    * Transforms in place all the vectors of the given vector array by this transform.
+    *
+    * @param vectorsToTransform the vectors to transform. Modified.
+    * @see #transform(Vector3DArray, Vector3DArray)
+    */
+   public void transform(Vector3DArray vectorsToTransform)
+   {
+      transform(vectorsToTransform, vectorsToTransform);
+   }
+
+   /**
+    * Transforms all the vectors of the given vector array by this transform and stores the result
+    * in {@code vectorsTransformed}, splitting the work over the threads of {@code executor}.
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the transformed vectors are stored. Modified.
+    * @param executor the executor used to split the work. Not modified.
+    * @see #transform(Vector3DArray, Vector3DArray)
+    */
+   public void transform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed, ParallelBatchExecutor executor)
+   {
+      transform(vectorsOriginal, vectorsTransformed, false, false, executor);
+   }
+
+   /**
+    * Performs the inverse of the transform on all the vectors of the given vector array and stores
+    * the result in {@code vectorsTransformed}.
+    * <p>
+    * This is the batch version of {@link #inverseTransform(Vector3DReadOnly, Vector3DBasics)}.
+    * </p>
+    * <p>
+    * {@code vectorsTransformed} is resized to match the size of {@code vectorsOriginal}. It can be
+    * the same instance as {@code vectorsOriginal}.
+    * </p>
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the transformed vectors are stored. Modified.
+    */
+   public void inverseTransform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+   {
+      transform(vectorsOriginal, vectorsTransformed, true, false, null);
+   }
+
+   /**
+    * Performs in place the inverse of the transform on all the vectors of the given vector array.
+    *
+    * @param vectorsToTransform the vectors to transform. Modified.
+    * @see #inverseTransform(Vector3DArray, Vector3DArray)
+    */
+   public void inverseTransform(Vector3DArray vectorsToTransform)
+   {
+      inverseTransform(vectorsToTransform, vectorsToTransform);
+   }
+
+   /**
+    * Performs the inverse of the transform on all the vectors of the given vector array and stores
+    * the result in {@code vectorsTransformed}, splitting the work over the threads of
+    * {@code executor}.
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the transformed vectors are stored. Modified.
+    * @param executor the executor used to split the work. Not modified.
+    * @see #inverseTransform(Vector3DArray, Vector3DArray)
+    */
+   public void inverseTransform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed, ParallelBatchExecutor executor)
+   {
+      transform(vectorsOriginal, vectorsTransformed, true, false, executor);
+   }
+
+   /**
+    * Reduces this transform, or its inverse, to a matrix and a translation and applies it on the
+    * given tuples, in parallel when {@code executor} is not {@code null}.
+    * <p>
+    * When the rotation-scale part is exactly identity, the tuples are only translated.
+    * </p>
+    */
+   private void transform(Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed, boolean inverse, boolean applyTranslation,
+                          ParallelBatchExecutor executor)
+   {
+      if (isRotationScaleIdentity())
+      { // Only the translation, if any, has to be applied.
+         double tx = 0.0, ty = 0.0, tz = 0.0;
+
+         if (applyTranslation)
+         {
+            tx = inverse ? -translationVector.getX() : translationVector.getX();
+            ty = inverse ? -translationVector.getY() : translationVector.getY();
+            tz = inverse ? -translationVector.getZ() : translationVector.getZ();
+         }
+
+         Tuple3DArrayTransformKernel.translate(tuplesOriginal, tuplesTransformed, tx, ty, tz, executor);
+         return;
+      }
+
+      double m00, m01, m02, m10, m11, m12, m20, m21, m22;
+
+      if (inverse)
+      { // The inverse of the rotation-scale matrix is: S^-1 * R^T
+         RotationMatrixReadOnly rotationMatrix = rotationScaleMatrix.getRotationMatrix();
+         double invScaleX = 1.0 / rotationScaleMatrix.getScaleX();
+         double invScaleY = 1.0 / rotationScaleMatrix.getScaleY();
+         double invScaleZ = 1.0 / rotationScaleMatrix.getScaleZ();
+         m00 = rotationMatrix.getM00() * invScaleX;
+         m01 = rotationMatrix.getM10() * invScaleX;
+         m02 = rotationMatrix.getM20() * invScaleX;
+         m10 = rotationMatrix.getM01() * invScaleY;
+         m11 = rotationMatrix.getM11() * invScaleY;
+         m12 = rotationMatrix.getM21() * invScaleY;
+         m20 = rotationMatrix.getM02() * invScaleZ;
+         m21 = rotationMatrix.getM12() * invScaleZ;
+         m22 = rotationMatrix.getM22() * invScaleZ;
+      }
+      else
+      {
+         m00 = rotationScaleMatrix.getM00();
+         m01 = rotationScaleMatrix.getM01();
+         m02 = rotationScaleMatrix.getM02();
+         m10 = rotationScaleMatrix.getM10();
+         m11 = rotationScaleMatrix.getM11();
+         m12 = rotationScaleMatrix.getM12();
+         m20 = rotationScaleMatrix.getM20();
+         m21 = rotationScaleMatrix.getM21();
+         m22 = rotationScaleMatrix.getM22();
+      }
+
+      if (!applyTranslation)
+      {
+         Tuple3DArrayTransformKernel.transform(tuplesOriginal, tuplesTransformed, m00, m01, m02, m10, m11, m12, m20, m21, m22, 0.0, 0.0, 0.0, executor);
+      }
+      else if (inverse)
+      { // The inverse is: S^-1 * R^T * (p - t)
+         double tx = -translationVector.getX();
+         double ty = -translationVector.getY();
+         double tz = -translationVector.getZ();
+         Tuple3DArrayTransformKernel.translateThenTransform(tuplesOriginal, tuplesTransformed, m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz,
+                                                            executor);
+      }
+      else
+      {
+         double tx = translationVector.getX();
+         double ty = translationVector.getY();
+         double tz = translationVector.getZ();
+         Tuple3DArrayTransformKernel.transform(tuplesOriginal, tuplesTransformed, m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, executor);
+      }
    }
 
    /** {@inheritDoc} */
    @Override
    public void inverseTransform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
    {
-      rotationScaleMatrix.inverseTransform(vectorOriginal, vectorTransformed);
+      if (isRotationScaleIdentity())
+         vectorTransformed.set(vectorOriginal);
+      else
+         rotationScaleMatrix.inverseTransform(vectorOriginal, vectorTransformed);
    }
 
    /** {@inheritDoc} */
@@ -2345,14 +2735,10 @@ public class AffineTransform
    @Override
    public boolean equals(Object object)
    {
-      try
-      {
+      if (object instanceof AffineTransform)
          return equals((AffineTransform) object);
-      }
-      catch (ClassCastException e)
-      {
+      else
          return false;
-      }
    }
 
    /**
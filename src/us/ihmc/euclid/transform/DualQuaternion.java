@@ -0,0 +1,976 @@
+package us.ihmc.euclid.transform;
+
+import us.ihmc.euclid.interfaces.Clearable;
+import us.ihmc.euclid.interfaces.EpsilonComparable;
+import us.ihmc.euclid.interfaces.GeometricallyComparable;
+import us.ihmc.euclid.interfaces.Settable;
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tools.QuaternionTools;
+import us.ihmc.euclid.transform.interfaces.Transform;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.Vector4D;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
+import us.ihmc.euclid.tuple4D.interfaces.Tuple4DReadOnly;
+import us.ihmc.euclid.tuple4D.interfaces.Vector4DBasics;
+import us.ihmc.euclid.tuple4D.interfaces.Vector4DReadOnly;
+
+/**
+ * A {@code DualQuaternion} represents a rigid-body transform, i.e. a rotation and a translation, as
+ * a unit dual quaternion <i>q<sub>r</sub></i> + &epsilon; <i>q<sub>d</sub></i>.
+ * <p>
+ * The real part <i>q<sub>r</sub></i> is the unit-quaternion representing the rotation, while the
+ * dual part is computed from the translation <i>t</i> as: <i>q<sub>d</sub></i> = 0.5 <i>t</i>
+ * <i>q<sub>r</sub></i>.
+ * </p>
+ * <p>
+ * Compared to {@link QuaternionBasedTransform}, the composition of two dual quaternions is a plain
+ * 8-component product that does not require to rotate the translation, and dual quaternions can be
+ * interpolated along the screw motion relating them (ScLERP), which is often used for skinning
+ * and pose blending.
+ * </p>
+ * <p>
+ * A few special cases to keep in mind:
+ * <ul>
+ * <li>when applying this transform on a {@link Point3DBasics} or {@link Point2DBasics}, this object
+ * is rotated, then translated.
+ * <li>when applying this transform on a {@link Vector3DBasics} or {@link Vector2DBasics}, this
+ * object is only rotated. It is NOT translated.
+ * </ul>
+ * </p>
+ */
+public class DualQuaternion
+      implements Transform, EpsilonComparable<DualQuaternion>, GeometricallyComparable<DualQuaternion>, Settable<DualQuaternion>, Clearable
+{
+   /**
+    * Threshold on the norm of the vector part of a rotation below which the rotation is considered
+    * to be the identity when interpolating.
+    */
+   private static final double SCLERP_ZERO_ROTATION_EPSILON = 1.0e-12;
+
+   /** The real part of this dual quaternion, i.e. the rotation part of this transform. */
+   private final Quaternion realPart = new Quaternion();
+   /** The dual part of this dual quaternion, it encodes the translation part of this transform. */
+   private final Vector4D dualPart = new Vector4D();
+
+   /**
+    * Creates a new dual quaternion set to identity.
+    * <p>
+    * When set to identity, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public DualQuaternion()
+   {
+      setIdentity();
+   }
+
+   /**
+    * Creates a new dual quaternion and sets it to {@code other}.
+    *
+    * @param other the other dual quaternion to copy. Not modified.
+    */
+   public DualQuaternion(DualQuaternion other)
+   {
+      set(other);
+   }
+
+   /**
+    * Creates a new dual quaternion and sets it to {@code rigidBodyTransform}.
+    *
+    * @param rigidBodyTransform the rigid-body transform to copy. Not modified.
+    */
+   public DualQuaternion(RigidBodyTransform rigidBodyTransform)
+   {
+      set(rigidBodyTransform);
+   }
+
+   /**
+    * Creates a new dual quaternion and sets it to {@code quaternionBasedTransform}.
+    *
+    * @param quaternionBasedTransform the quaternion-based transform to copy. Not modified.
+    */
+   public DualQuaternion(QuaternionBasedTransform quaternionBasedTransform)
+   {
+      set(quaternionBasedTransform);
+   }
+
+   /**
+    * Creates a new dual quaternion and initializes it from the given rotation and translation.
+    *
+    * @param rotation the quaternion representing the rotation part. Not modified.
+    * @param translation the translation part. Not modified.
+    */
+   public DualQuaternion(QuaternionReadOnly rotation, Tuple3DReadOnly translation)
+   {
+      set(rotation, translation);
+   }
+
+   /**
+    * Sets this dual quaternion to identity.
+    * <p>
+    * When set to identity, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public void setIdentity()
+   {
+      realPart.setToZero();
+      dualPart.setToZero();
+   }
+
+   /**
+    * Sets this dual quaternion to identity.
+    * <p>
+    * When set to identity, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   @Override
+   public void setToZero()
+   {
+      setIdentity();
+   }
+
+   /**
+    * Sets all the components of this dual quaternion to {@link Double#NaN}.
+    */
+   @Override
+   public void setToNaN()
+   {
+      realPart.setToNaN();
+      dualPart.setToNaN();
+   }
+
+   /**
+    * Tests if at least one element of this dual quaternion is equal to {@linkplain Double#NaN}.
+    *
+    * @return {@code true} if at least one element of this dual quaternion is equal to
+    *         {@linkplain Double#NaN}, {@code false} otherwise.
+    */
+   @Override
+   public boolean containsNaN()
+   {
+      return realPart.containsNaN() || dualPart.containsNaN();
+   }
+
+   /**
+    * Normalizes this dual quaternion such that it represents a proper rigid-body transform.
+    * <p>
+    * The real part is normalized, and the dual part is scaled accordingly and made orthogonal to
+    * the real part.
+    * </p>
+    * <p>
+    * This method does nothing if this dual quaternion contains {@link Double#NaN}.
+    * </p>
+    */
+   public void normalize()
+   {
+      if (containsNaN())
+         return;
+
+      normalizeImpl(realPart.getX(), realPart.getY(), realPart.getZ(), realPart.getS(), dualPart.getX(), dualPart.getY(), dualPart.getZ(), dualPart.getS());
+   }
+
+   /**
+    * Sets this dual quaternion to {@code other}.
+    *
+    * @param other the other dual quaternion to copy the values from. Not modified.
+    */
+   @Override
+   public void set(DualQuaternion other)
+   {
+      realPart.set(other.realPart);
+      dualPart.set(other.dualPart);
+   }
+
+   /**
+    * Sets this dual quaternion to represent the same transform as the given rigid-body transform.
+    *
+    * @param rigidBodyTransform the rigid-body transform to copy the values from. Not modified.
+    */
+   public void set(RigidBodyTransform rigidBodyTransform)
+   {
+      rigidBodyTransform.getRotation(realPart);
+      setTranslation(rigidBodyTransform.getTranslationVector());
+   }
+
+   /**
+    * Sets this dual quaternion to represent the same transform as the given quaternion-based
+    * transform.
+    *
+    * @param quaternionBasedTransform the quaternion-based transform to copy the values from. Not
+    *           modified.
+    */
+   public void set(QuaternionBasedTransform quaternionBasedTransform)
+   {
+      set(quaternionBasedTransform.getQuaternion(), quaternionBasedTransform.getTranslationVector());
+   }
+
+   /**
+    * Sets this dual quaternion from the given rotation and translation.
+    *
+    * @param rotation the quaternion representing the rotation part. Not modified.
+    * @param translation the translation part. Not modified.
+    */
+   public void set(QuaternionReadOnly rotation, Tuple3DReadOnly translation)
+   {
+      realPart.set(rotation);
+      setTranslation(translation);
+   }
+
+   /**
+    * Sets the real part and dual part of this dual quaternion and then calls {@link #normalize()}.
+    *
+    * @param realPart the new real part. Not modified.
+    * @param dualPart the new dual part. Not modified.
+    */
+   public void set(Tuple4DReadOnly realPart, Tuple4DReadOnly dualPart)
+   {
+      normalizeImpl(realPart.getX(), realPart.getY(), realPart.getZ(), realPart.getS(), dualPart.getX(), dualPart.getY(), dualPart.getZ(), dualPart.getS());
+   }
+
+   /**
+    * Sets the translation part of this transform, the rotation part remains unchanged.
+    *
+    * @param translation the new translation. Not modified.
+    */
+   public void setTranslation(Tuple3DReadOnly translation)
+   {
+      setTranslation(translation.getX(), translation.getY(), translation.getZ());
+   }
+
+   /**
+    * Sets the translation part of this transform, the rotation part remains unchanged.
+    *
+    * @param x the x-component of the translation.
+    * @param y the y-component of the translation.
+    * @param z the z-component of the translation.
+    */
+   public void setTranslation(double x, double y, double z)
+   {
+      double rx = realPart.getX();
+      double ry = realPart.getY();
+      double rz = realPart.getZ();
+      double rs = realPart.getS();
+
+      double dx = 0.5 * (x * rs + y * rz - z * ry);
+      double dy = 0.5 * (-x * rz + y * rs + z * rx);
+      double dz = 0.5 * (x * ry - y * rx + z * rs);
+      double ds = -0.5 * (x * rx + y * ry + z * rz);
+      dualPart.set(dx, dy, dz, ds);
+   }
+
+   /**
+    * Sets the rotation part of this transform, the translation part remains unchanged.
+    *
+    * @param rotation the new rotation. Not modified.
+    */
+   public void setRotation(QuaternionReadOnly rotation)
+   {
+      double x = getTranslationX();
+      double y = getTranslationY();
+      double z = getTranslationZ();
+      realPart.set(rotation);
+      setTranslation(x, y, z);
+   }
+
+   /**
+    * Packs the transform represented by this dual quaternion in the given rigid-body transform.
+    *
+    * @param rigidBodyTransformToPack the rigid-body transform in which this transform is stored.
+    *           Modified.
+    */
+   public void get(RigidBodyTransform rigidBodyTransformToPack)
+   {
+      rigidBodyTransformToPack.setRotation(realPart);
+      rigidBodyTransformToPack.setTranslation(getTranslationX(), getTranslationY(), getTranslationZ());
+   }
+
+   /**
+    * Packs the transform represented by this dual quaternion in the given quaternion-based
+    * transform.
+    *
+    * @param quaternionBasedTransformToPack the quaternion-based transform in which this transform is
+    *           stored. Modified.
+    */
+   public void get(QuaternionBasedTransform quaternionBasedTransformToPack)
+   {
+      quaternionBasedTransformToPack.set(realPart.getX(), realPart.getY(), realPart.getZ(), realPart.getS(), getTranslationX(), getTranslationY(),
+                                         getTranslationZ());
+   }
+
+   /**
+    * Packs the rotation part of this transform in the given quaternion.
+    *
+    * @param rotationToPack the quaternion in which the rotation part is stored. Modified.
+    */
+   public void getRotation(QuaternionBasics rotationToPack)
+   {
+      rotationToPack.set(realPart);
+   }
+
+   /**
+    * Packs the translation part of this transform in the given tuple.
+    *
+    * @param translationToPack the tuple in which the translation part is stored. Modified.
+    */
+   public void getTranslation(Tuple3DBasics translationToPack)
+   {
+      translationToPack.set(getTranslationX(), getTranslationY(), getTranslationZ());
+   }
+
+   /**
+    * Computes and returns the x-component of the translation part of this transform.
+    *
+    * @return the x-component of the translation.
+    */
+   public double getTranslationX()
+   {
+      return 2.0 * (dualPart.getX() * realPart.getS() - dualPart.getS() * realPart.getX() - dualPart.getY() * realPart.getZ()
+            + dualPart.getZ() * realPart.getY());
+   }
+
+   /**
+    * Computes and returns the y-component of the translation part of this transform.
+    *
+    * @return the y-component of the translation.
+    */
+   public double getTranslationY()
+   {
+      return 2.0 * (dualPart.getY() * realPart.getS() - dualPart.getS() * realPart.getY() + dualPart.getX() * realPart.getZ()
+            - dualPart.getZ() * realPart.getX());
+   }
+
+   /**
+    * Computes and returns the z-component of the translation part of this transform.
+    *
+    * @return the z-component of the translation.
+    */
+   public double getTranslationZ()
+   {
+      return 2.0 * (dualPart.getZ() * realPart.getS() - dualPart.getS() * realPart.getZ() - dualPart.getX() * realPart.getY()
+            + dualPart.getY() * realPart.getX());
+   }
+
+   /**
+    * Gets the read-only reference to the real part of this dual quaternion, i.e. the rotation part
+    * of this transform.
+    *
+    * @return the real part of this dual quaternion.
+    */
+   public QuaternionReadOnly getRealPart()
+   {
+      return realPart;
+   }
+
+   /**
+    * Gets the read-only reference to the dual part of this dual quaternion.
+    *
+    * @return the dual part of this dual quaternion.
+    */
+   public Vector4DReadOnly getDualPart()
+   {
+      return dualPart;
+   }
+
+   /**
+    * Inverts this dual quaternion.
+    * <p>
+    * The inverse of a unit dual quaternion is its conjugate.
+    * </p>
+    */
+   public void invert()
+   {
+      realPart.conjugate();
+      dualPart.set(-dualPart.getX(), -dualPart.getY(), -dualPart.getZ(), dualPart.getS());
+   }
+
+   /**
+    * Performs the multiplication of this dual quaternion with {@code other}.
+    * <p>
+    * this = this * other
+    * </p>
+    *
+    * @param other the other dual quaternion to multiply this with. Not modified.
+    */
+   public void multiply(DualQuaternion other)
+   {
+      multiplyImpl(this, false, other, false);
+   }
+
+   /**
+    * Performs the multiplication of the inverse of this dual quaternion with {@code other}.
+    * <p>
+    * this = this<sup>-1</sup> * other
+    * </p>
+    *
+    * @param other the other dual quaternion to multiply this with. Not modified.
+    */
+   public void multiplyInvertThis(DualQuaternion other)
+   {
+      multiplyImpl(this, true, other, false);
+   }
+
+   /**
+    * Performs the multiplication of this dual quaternion with the inverse of {@code other}.
+    * <p>
+    * this = this * other<sup>-1</sup>
+    * </p>
+    *
+    * @param other the other dual quaternion to multiply this with. Not modified.
+    */
+   public void multiplyInvertOther(DualQuaternion other)
+   {
+      multiplyImpl(this, false, other, true);
+   }
+
+   /**
+    * Performs the multiplication of {@code other} with this dual quaternion.
+    * <p>
+    * this = other * this
+    * </p>
+    *
+    * @param other the other dual quaternion to multiply this with. Not modified.
+    */
+   public void preMultiply(DualQuaternion other)
+   {
+      multiplyImpl(other, false, this, false);
+   }
+
+   /**
+    * Performs the multiplication of {@code other} with the inverse of this dual quaternion.
+    * <p>
+    * this = other * this<sup>-1</sup>
+    * </p>
+    *
+    * @param other the other dual quaternion to multiply this with. Not modified.
+    */
+   public void preMultiplyInvertThis(DualQuaternion other)
+   {
+      multiplyImpl(other, false, this, true);
+   }
+
+   /**
+    * Performs the multiplication of the inverse of {@code other} with this dual quaternion.
+    * <p>
+    * this = other<sup>-1</sup> * this
+    * </p>
+    *
+    * @param other the other dual quaternion to multiply this with. Not modified.
+    */
+   public void preMultiplyInvertOther(DualQuaternion other)
+   {
+      multiplyImpl(other, true, this, false);
+   }
+
+   private void multiplyImpl(DualQuaternion a, boolean invertA, DualQuaternion b, boolean invertB)
+   {
+      double arx = a.realPart.getX();
+      double ary = a.realPart.getY();
+      double arz = a.realPart.getZ();
+      double ars = a.realPart.getS();
+      double adx = a.dualPart.getX();
+      double ady = a.dualPart.getY();
+      double adz = a.dualPart.getZ();
+      double ads = a.dualPart.getS();
+
+      if (invertA)
+      {
+         arx = -arx;
+         ary = -ary;
+         arz = -arz;
+         adx = -adx;
+         ady = -ady;
+         adz = -adz;
+      }
+
+      double brx = b.realPart.getX();
+      double bry = b.realPart.getY();
+      double brz = b.realPart.getZ();
+      double brs = b.realPart.getS();
+      double bdx = b.dualPart.getX();
+      double bdy = b.dualPart.getY();
+      double bdz = b.dualPart.getZ();
+      double bds = b.dualPart.getS();
+
+      if (invertB)
+      {
+         brx = -brx;
+         bry = -bry;
+         brz = -brz;
+         bdx = -bdx;
+         bdy = -bdy;
+         bdz = -bdz;
+      }
+
+      // real = ar * br
+      double rx = ars * brx + arx * brs + ary * brz - arz * bry;
+      double ry = ars * bry - arx * brz + ary * brs + arz * brx;
+      double rz = ars * brz + arx * bry - ary * brx + arz * brs;
+      double rs = ars * brs - arx * brx - ary * bry - arz * brz;
+
+      // dual = ar * bd + ad * br
+      double dx = ars * bdx + arx * bds + ary * bdz - arz * bdy;
+      double dy = ars * bdy - arx * bdz + ary * bds + arz * bdx;
+      double dz = ars * bdz + arx * bdy - ary * bdx + arz * bds;
+      double ds = ars * bds - arx * bdx - ary * bdy - arz * bdz;
+
+      dx += ads * brx + adx * brs + ady * brz - adz * bry;
+      dy += ads * bry - adx * brz + ady * brs + adz * brx;
+      dz += ads * brz + adx * bry - ady * brx + adz * brs;
+      ds += ads * brs - adx * brx - ady * bry - adz * brz;
+
+      normalizeImpl(rx, ry, rz, rs, dx, dy, dz, ds);
+   }
+
+   private void normalizeImpl(double rx, double ry, double rz, double rs, double dx, double dy, double dz, double ds)
+   {
+      double norm = EuclidCoreTools.norm(rx, ry, rz, rs);
+
+      if (norm == 0.0)
+      {
+         setIdentity();
+         return;
+      }
+
+      double invNorm = 1.0 / norm;
+      rx *= invNorm;
+      ry *= invNorm;
+      rz *= invNorm;
+      rs *= invNorm;
+      dx *= invNorm;
+      dy *= invNorm;
+      dz *= invNorm;
+      ds *= invNorm;
+
+      // Removes the component of the dual part that is along the real part.
+      double dot = rx * dx + ry * dy + rz * dz + rs * ds;
+      realPart.setUnsafe(rx, ry, rz, rs);
+      dualPart.set(dx - dot * rx, dy - dot * ry, dz - dot * rz, ds - dot * rs);
+   }
+
+   /**
+    * Performs a screw linear interpolation (ScLERP) from this dual quaternion to {@code other} given
+    * the percentage {@code alpha}.
+    * <p>
+    * this = this * (this<sup>-1</sup> * other)<sup>alpha</sup>
+    * </p>
+    *
+    * @param other the other dual quaternion used for the interpolation. Not modified.
+    * @param alpha the percentage used for the interpolation. A value of 0 will result in not
+    *           modifying this dual quaternion, while a value of 1 is equivalent to setting this
+    *           dual quaternion to {@code other}.
+    */
+   public void interpolate(DualQuaternion other, double alpha)
+   {
+      interpolate(this, other, alpha);
+   }
+
+   /**
+    * Performs a screw linear interpolation (ScLERP) from {@code dq0} to {@code dqf} given the
+    * percentage {@code alpha}.
+    * <p>
+    * this = dq0 * (dq0<sup>-1</sup> * dqf)<sup>alpha</sup>
+    * </p>
+    * <p>
+    * The resulting transform follows the screw motion, i.e. a rotation about and a translation along
+    * a constant axis, relating {@code dq0} to {@code dqf}. The rotation part is equivalent to the
+    * spherical linear interpolation of the two rotations.
+    * </p>
+    *
+    * @param dq0 the first dual quaternion used in the interpolation. Not modified.
+    * @param dqf the second dual quaternion used in the interpolation. Not modified.
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           this dual quaternion to {@code dq0}, while a value of 1 is equivalent to setting this
+    *           dual quaternion to {@code dqf}.
+    */
+   public void interpolate(DualQuaternion dq0, DualQuaternion dqf, double alpha)
+   {
+      // Computing: diff = dq0^-1 * dqf
+      double arx = -dq0.realPart.getX();
+      double ary = -dq0.realPart.getY();
+      double arz = -dq0.realPart.getZ();
+      double ars = dq0.realPart.getS();
+      double adx = -dq0.dualPart.getX();
+      double ady = -dq0.dualPart.getY();
+      double adz = -dq0.dualPart.getZ();
+      double ads = dq0.dualPart.getS();
+
+      double brx = dqf.realPart.getX();
+      double bry = dqf.realPart.getY();
+      double brz = dqf.realPart.getZ();
+      double brs = dqf.realPart.getS();
+      double bdx = dqf.dualPart.getX();
+      double bdy = dqf.dualPart.getY();
+      double bdz = dqf.dualPart.getZ();
+      double bds = dqf.dualPart.getS();
+
+      double rx = ars * brx + arx * brs + ary * brz - arz * bry;
+      double ry = ars * bry - arx * brz + ary * brs + arz * brx;
+      double rz = ars * brz + arx * bry - ary * brx + arz * brs;
+      double rs = ars * brs - arx * brx - ary * bry - arz * brz;
+
+      double dx = ars * bdx + arx * bds + ary * bdz - arz * bdy + ads * brx + adx * brs + ady * brz - adz * bry;
+      double dy = ars * bdy - arx * bdz + ary * bds + arz * bdx + ads * bry - adx * brz + ady * brs + adz * brx;
+      double dz = ars * bdz + arx * bdy - ary * bdx + arz * bds + ads * brz + adx * bry - ady * brx + adz * brs;
+      double ds = ars * bds - arx * bdx - ary * bdy - arz * bdz + ads * brs - adx * brx - ady * bry - adz * brz;
+
+      if (rs < 0.0)
+      { // Taking the shortest path.
+         rx = -rx;
+         ry = -ry;
+         rz = -rz;
+         rs = -rs;
+         dx = -dx;
+         dy = -dy;
+         dz = -dz;
+         ds = -ds;
+      }
+
+      // Translation of diff: t = 2 * d * r^*
+      double tx = 2.0 * (dx * rs - ds * rx - dy * rz + dz * ry);
+      double ty = 2.0 * (dy * rs - ds * ry + dx * rz - dz * rx);
+      double tz = 2.0 * (dz * rs - ds * rz - dx * ry + dy * rx);
+
+      // Computing: diff^alpha, the screw motion is scaled by alpha.
+      double sinHalfTheta = EuclidCoreTools.norm(rx, ry, rz);
+      double halfTheta = Math.atan2(sinHalfTheta, rs);
+      double cosHalfTheta = rs;
+      double alphaHalfTheta = alpha * halfTheta;
+      double cosAlphaHalfTheta = Math.cos(alphaHalfTheta);
+      // The following is equal to sin(alpha * theta / 2) / sin(theta / 2).
+      double k;
+      // The following is equal to (alpha * cos(alpha * theta / 2) - k * cos(theta / 2)) / sin^2(theta / 2).
+      double kPitch;
+
+      if (sinHalfTheta > SCLERP_ZERO_ROTATION_EPSILON)
+      {
+         k = Math.sin(alphaHalfTheta) / sinHalfTheta;
+         kPitch = (alpha * cosAlphaHalfTheta - k * cosHalfTheta) / (sinHalfTheta * sinHalfTheta);
+      }
+      else
+      {
+         k = alpha;
+         kPitch = alpha * (1.0 - alpha * alpha) / 3.0;
+      }
+
+      double tDotR = tx * rx + ty * ry + tz * rz;
+      // t x r
+      double tCrossRx = ty * rz - tz * ry;
+      double tCrossRy = tz * rx - tx * rz;
+      double tCrossRz = tx * ry - ty * rx;
+
+      double prx = k * rx;
+      double pry = k * ry;
+      double prz = k * rz;
+      double prs = cosAlphaHalfTheta;
+
+      double kCos = k * cosHalfTheta;
+      double pdx = 0.5 * (k * tCrossRx + kCos * tx + kPitch * tDotR * rx);
+      double pdy = 0.5 * (k * tCrossRy + kCos * ty + kPitch * tDotR * ry);
+      double pdz = 0.5 * (k * tCrossRz + kCos * tz + kPitch * tDotR * rz);
+      double pds = -0.5 * alpha * k * tDotR;
+
+      // Computing: dq0 * diff^alpha
+      arx = -arx;
+      ary = -ary;
+      arz = -arz;
+      adx = -adx;
+      ady = -ady;
+      adz = -adz;
+
+      rx = ars * prx + arx * prs + ary * prz - arz * pry;
+      ry = ars * pry - arx * prz + ary * prs + arz * prx;
+      rz = ars * prz + arx * pry - ary * prx + arz * prs;
+      rs = ars * prs - arx * prx - ary * pry - arz * prz;
+
+      dx = ars * pdx + arx * pds + ary * pdz - arz * pdy + ads * prx + adx * prs + ady * prz - adz * pry;
+      dy = ars * pdy - arx * pdz + ary * pds + arz * pdx + ads * pry - adx * prz + ady * prs + adz * prx;
+      dz = ars * pdz + arx * pdy - ary * pdx + arz * pds + ads * prz + adx * pry - ady * prx + adz * prs;
+      ds = ars * pds - arx * pdx - ary * pdy - arz * pdz + ads * prs - adx * prx - ady * pry - adz * prz;
+
+      normalizeImpl(rx, ry, rz, rs, dx, dy, dz, ds);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
+   {
+      QuaternionTools.transform(realPart, pointOriginal, pointTransformed);
+      pointTransformed.add(getTranslationX(), getTranslationY(), getTranslationZ());
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
+   {
+      QuaternionTools.transform(realPart, vectorOriginal, vectorTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(QuaternionReadOnly quaternionOriginal, QuaternionBasics quaternionTransformed)
+   {
+      QuaternionTools.transform(realPart, quaternionOriginal, quaternionTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Vector4DReadOnly vectorOriginal, Vector4DBasics vectorTransformed)
+   {
+      QuaternionTools.transform(realPart, vectorOriginal, vectorTransformed);
+      double s = vectorTransformed.getS();
+      vectorTransformed.addX(s * getTranslationX());
+      vectorTransformed.addY(s * getTranslationY());
+      vectorTransformed.addZ(s * getTranslationZ());
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Point2DReadOnly pointOriginal, Point2DBasics pointTransformed, boolean checkIfTransformInXYPlane)
+   {
+      QuaternionTools.transform(realPart, pointOriginal, pointTransformed, checkIfTransformInXYPlane);
+      pointTransformed.add(getTranslationX(), getTranslationY());
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Vector2DReadOnly vectorOriginal, Vector2DBasics vectorTransformed, boolean checkIfTransformInXYPlane)
+   {
+      QuaternionTools.transform(realPart, vectorOriginal, vectorTransformed, checkIfTransformInXYPlane);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(Matrix3DReadOnly matrixOriginal, Matrix3D matrixTransformed)
+   {
+      QuaternionTools.transform(realPart, matrixOriginal, matrixTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(RotationMatrixReadOnly matrixOriginal, RotationMatrix matrixTransformed)
+   {
+      QuaternionTools.transform(realPart, matrixOriginal, matrixTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(RigidBodyTransform original, RigidBodyTransform transformed)
+   {
+      transformed.set(original);
+      transformed.preMultiply(this);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(QuaternionBasedTransform original, QuaternionBasedTransform transformed)
+   {
+      transformed.set(original);
+      transformed.preMultiply(this);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void transform(AffineTransform original, AffineTransform transformed)
+   {
+      transformed.set(original);
+      transformed.preMultiply(this);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
+   {
+      pointTransformed.set(pointOriginal);
+      pointTransformed.sub(getTranslationX(), getTranslationY(), getTranslationZ());
+      QuaternionTools.inverseTransform(realPart, pointTransformed, pointTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
+   {
+      QuaternionTools.inverseTransform(realPart, vectorOriginal, vectorTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(QuaternionReadOnly quaternionOriginal, QuaternionBasics quaternionTransformed)
+   {
+      QuaternionTools.inverseTransform(realPart, quaternionOriginal, quaternionTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Vector4DReadOnly vectorOriginal, Vector4DBasics vectorTransformed)
+   {
+      vectorTransformed.set(vectorOriginal);
+      double s = vectorTransformed.getS();
+      vectorTransformed.subX(s * getTranslationX());
+      vectorTransformed.subY(s * getTranslationY());
+      vectorTransformed.subZ(s * getTranslationZ());
+      QuaternionTools.inverseTransform(realPart, vectorTransformed, vectorTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Point2DReadOnly pointOriginal, Point2DBasics pointTransformed, boolean checkIfTransformInXYPlane)
+   {
+      pointTransformed.set(pointOriginal);
+      pointTransformed.sub(getTranslationX(), getTranslationY());
+      QuaternionTools.inverseTransform(realPart, pointTransformed, pointTransformed, checkIfTransformInXYPlane);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Vector2DReadOnly vectorOriginal, Vector2DBasics vectorTransformed, boolean checkIfTransformInXYPlane)
+   {
+      QuaternionTools.inverseTransform(realPart, vectorOriginal, vectorTransformed, checkIfTransformInXYPlane);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(Matrix3DReadOnly matrixOriginal, Matrix3D matrixTransformed)
+   {
+      QuaternionTools.inverseTransform(realPart, matrixOriginal, matrixTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(RotationMatrixReadOnly matrixOriginal, RotationMatrix matrixTransformed)
+   {
+      QuaternionTools.inverseTransform(realPart, matrixOriginal, matrixTransformed);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(RigidBodyTransform original, RigidBodyTransform transformed)
+   {
+      transformed.set(original);
+      transformed.preMultiplyInvertOther(this);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(QuaternionBasedTransform original, QuaternionBasedTransform transformed)
+   {
+      transformed.set(original);
+      transformed.preMultiplyInvertOther(this);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void inverseTransform(AffineTransform original, AffineTransform transformed)
+   {
+      transformed.set(original);
+      transformed.preMultiplyInvertOther(this);
+   }
+
+   /**
+    * Tests separately and on a per component basis if the real parts and the dual parts of this
+    * dual quaternion and {@code other} are equal to an {@code epsilon}.
+    *
+    * @param other the other dual quaternion to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing each component.
+    * @return {@code true} if the two dual quaternions are equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean epsilonEquals(DualQuaternion other, double epsilon)
+   {
+      return realPart.epsilonEquals(other.realPart, epsilon) && dualPart.epsilonEquals(other.dualPart, epsilon);
+   }
+
+   /**
+    * Tests if the given {@code object}'s class is the same as this, in which case the method returns
+    * {@link #equals(DualQuaternion)}, it returns {@code false} otherwise or if the {@code object} is
+    * {@code null}.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof DualQuaternion)
+         return equals((DualQuaternion) object);
+      else
+         return false;
+   }
+
+   /**
+    * Tests separately and on a per component basis if the real parts and the dual parts of this
+    * dual quaternion and {@code other} are exactly equal.
+    * <p>
+    * The method returns {@code false} if the given dual quaternion is {@code null}.
+    * </p>
+    *
+    * @param other the other dual quaternion to compare against this. Not modified.
+    * @return {@code true} if the two dual quaternions are exactly equal, {@code false} otherwise.
+    */
+   public boolean equals(DualQuaternion other)
+   {
+      if (other == null)
+         return false;
+      else
+         return realPart.equals(other.realPart) && dualPart.equals(other.dualPart);
+   }
+
+   /**
+    * Two dual quaternions are considered geometrically equal if they represent the same rotation and
+    * their translations are equal.
+    * <p>
+    * Note that {@code q} and {@code -q} represent the same transform.
+    * </p>
+    *
+    * @param other the other dual quaternion to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing the rotations and the translations.
+    * @return {@code true} if the two dual quaternions represent the same transform, {@code false}
+    *         otherwise.
+    */
+   @Override
+   public boolean geometricallyEquals(DualQuaternion other, double epsilon)
+   {
+      if (!realPart.geometricallyEquals(other.realPart, epsilon))
+         return false;
+
+      double dx = getTranslationX() - other.getTranslationX();
+      double dy = getTranslationY() - other.getTranslationY();
+      double dz = getTranslationZ() - other.getTranslationZ();
+      return EuclidCoreTools.norm(dx, dy, dz) <= epsilon;
+   }
+
+   /**
+    * Provides a {@code String} representation of this dual quaternion as follows: <br>
+    * Real part: (qx, qy, qz, qs) <br>
+    * Dual part: (qx, qy, qz, qs)
+    *
+    * @return the {@code String} representing this dual quaternion.
+    */
+   @Override
+   public String toString()
+   {
+      return "Real part: " + EuclidCoreIOTools.getTuple4DString(realPart) + "\nDual part: " + EuclidCoreIOTools.getTuple4DString(dualPart);
+   }
+
+   @Override
+   public int hashCode()
+   {
+      long bits = EuclidHashCodeTools.addToHashCode(realPart.hashCode(), dualPart.hashCode());
+      return EuclidHashCodeTools.toIntHashCode(bits);
+   }
+}
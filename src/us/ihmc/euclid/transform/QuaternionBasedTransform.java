@@ -1,9 +1,12 @@
 package us.ihmc.euclid.transform;
 
+import java.nio.DoubleBuffer;
+
 import org.ejml.data.DenseMatrix64F;
 
 import us.ihmc.euclid.axisAngle.interfaces.AxisAngleBasics;
 import us.ihmc.euclid.axisAngle.interfaces.AxisAngleReadOnly;
+import us.ihmc.euclid.concurrent.ParallelBatchExecutor;
 import us.ihmc.euclid.interfaces.Clearable;
 import us.ihmc.euclid.interfaces.EpsilonComparable;
 import us.ihmc.euclid.interfaces.GeometricallyComparable;
@@ -13,7 +16,10 @@ import us.ihmc.euclid.matrix.RotationMatrix;
 import us.ihmc.euclid.matrix.RotationScaleMatrix;
 import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
 import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
+import us.ihmc.euclid.offHeap.OffHeapPoint3DBuffer;
+import us.ihmc.euclid.offHeap.OffHeapQuaternionBuffer;
 import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
 import us.ihmc.euclid.tools.EuclidHashCodeTools;
 import us.ihmc.euclid.tools.QuaternionTools;
 import us.ihmc.euclid.tools.RotationMatrixTools;
@@ -22,7 +28,10 @@ import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
 import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Vector2DReadOnly;
+import us.ihmc.euclid.tuple3D.Point3DArray;
+import us.ihmc.euclid.tuple3D.Tuple3DArray;
 import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
@@ -281,6 +290,36 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
       return quaternion.containsNaN() || translationVector.containsNaN();
    }
 
+   /**
+    * Tests if the rotation part of this transform is not exactly equal to a 'zero' rotation, i.e.
+    * if at least one component of the vector part of the quaternion is different from zero.
+    * <p>
+    * When this method returns {@code false}, the operations such as {@code transform},
+    * {@code inverseTransform}, {@code multiply}, and {@code invert} skip the rotation part.
+    * </p>
+    *
+    * @return {@code true} if the rotation part is not exactly a 'zero' rotation, {@code false}
+    *         otherwise.
+    */
+   public boolean hasRotation()
+   {
+      return quaternion.getX() != 0.0 || quaternion.getY() != 0.0 || quaternion.getZ() != 0.0;
+   }
+
+   /**
+    * Tests if the translation part of this transform is not exactly equal to zero.
+    * <p>
+    * When this method returns {@code false}, the operations such as {@code transform},
+    * {@code inverseTransform}, {@code multiply}, and {@code invert} skip the translation part.
+    * </p>
+    *
+    * @return {@code true} if the translation part is not exactly zero, {@code false} otherwise.
+    */
+   public boolean hasTranslation()
+   {
+      return translationVector.getX() != 0.0 || translationVector.getY() != 0.0 || translationVector.getZ() != 0.0;
+   }
+
    /**
     * Sets the 7 components of this transform.
     * <p>
@@ -730,9 +769,19 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void invert()
    {
+      if (!hasRotation())
+      {
+         translationVector.negate();
+         return;
+      }
+
       quaternion.conjugate();
-      quaternion.transform(translationVector);
-      translationVector.negate();
+
+      if (hasTranslation())
+      {
+         quaternion.transform(translationVector);
+         translationVector.negate();
+      }
    }
 
    /**
@@ -795,8 +844,16 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void multiply(QuaternionBasedTransform other)
    {
-      QuaternionTools.addTransform(quaternion, other.getTranslationVector(), translationVector);
-      quaternion.multiply(other.getQuaternion());
+      if (other.hasTranslation())
+      {
+         if (hasRotation())
+            QuaternionTools.addTransform(quaternion, other.getTranslationVector(), translationVector);
+         else
+            translationVector.add(other.getTranslationVector());
+      }
+
+      if (other.hasRotation())
+         quaternion.multiply(other.getQuaternion());
    }
 
    /**
@@ -1047,9 +1104,16 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
     */
    public void preMultiply(QuaternionBasedTransform other)
    {
-      QuaternionTools.transform(other.getQuaternion(), translationVector, translationVector);
-      translationVector.add(other.getTranslationVector());
-      quaternion.preMultiply(other.getQuaternion());
+      if (other.hasRotation())
+      {
+         QuaternionTools.transform(other.getQuaternion(), translationVector, translationVector);
+         translationVector.add(other.getTranslationVector());
+         quaternion.preMultiply(other.getQuaternion());
+      }
+      else
+      {
+         translationVector.add(other.getTranslationVector());
+      }
    }
 
    /**
@@ -1090,6 +1154,22 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
       quaternion.prepend(affineTransform.getRotationMatrix());
    }
 
+   /**
+    * Performs the multiplication of {@code dualQuaternion} with this transform.
+    * <p>
+    * this = D(dualQuaternion) * this <br>
+    * where D(dq) is the function converting a dual quaternion into a 4-by-4 transformation matrix.
+    * </p>
+    *
+    * @param dualQuaternion the dual quaternion to multiply this with. Not modified.
+    */
+   public void preMultiply(DualQuaternion dualQuaternion)
+   {
+      dualQuaternion.getRealPart().transform(translationVector);
+      translationVector.add(dualQuaternion.getTranslationX(), dualQuaternion.getTranslationY(), dualQuaternion.getTranslationZ());
+      quaternion.prepend(dualQuaternion.getRealPart());
+   }
+
    /**
     * Performs the multiplication of {@code other} with the inverse of this transform.
     * <p>
@@ -1197,6 +1277,22 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
       quaternion.prependInvertOther(affineTransform.getRotationMatrix());
    }
 
+   /**
+    * Performs the multiplication of the inverse of {@code dualQuaternion} with this transform.
+    * <p>
+    * this = D(dualQuaternion)<sup>-1</sup> * this <br>
+    * where D(dq) is the function converting a dual quaternion into a 4-by-4 transformation matrix.
+    * </p>
+    *
+    * @param dualQuaternion the dual quaternion to multiply this with. Not modified.
+    */
+   public void preMultiplyInvertOther(DualQuaternion dualQuaternion)
+   {
+      translationVector.sub(dualQuaternion.getTranslationX(), dualQuaternion.getTranslationY(), dualQuaternion.getTranslationZ());
+      dualQuaternion.getRealPart().inverseTransform(translationVector);
+      quaternion.prependInvertOther(dualQuaternion.getRealPart());
+   }
+
    /**
     * Prepend a translation transform to this transform.
     *
@@ -1330,15 +1426,55 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
    @Override
    public void transform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
    {
-      quaternion.transform(pointOriginal, pointTransformed);
-      pointTransformed.add(translationVector);
+      if (hasRotation())
+         quaternion.transform(pointOriginal, pointTransformed);
+      else
+         pointTransformed.set(pointOriginal);
+
+      if (hasTranslation())
+         pointTransformed.add(translationVector);
+   }
+
+   /**
+    * Transforms all the points of the given point array by this transform and stores the result in
+    * {@code pointsTransformed}.
+    * <p>
+    * This is the batch version of {@link #transform(Point3DReadOnly, Point3DBasics)}.
+    * The quaternion is converted once into its equivalent rotation matrix which is then applied on
+    * the points in a single loop over the backing arrays.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    */
+   public void transform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+   {
+      transform(pointsOriginal, pointsTransformed, false, true, null);
+   }
+
+   /**
+    * Transforms in place all the points of the given point array by this transform.
+    *
+    * @param pointsToTransform the points to transform. Modified.
+    * @see #transform(Point3DArray, Point3DArray)
+    */
+   public void transform(Point3DArray pointsToTransform)
+   {
+      transform(pointsToTransform, pointsToTransform);
    }
 
    /** {@inheritDoc} */
    @Override
    public void transform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
    {
-      quaternion.transform(vectorOriginal, vectorTransformed);
+      if (hasRotation())
+         quaternion.transform(vectorOriginal, vectorTransformed);
+      else
+         vectorTransformed.set(vectorOriginal);
    }
 
    /** {@inheritDoc} */
@@ -1416,15 +1552,425 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
    public void inverseTransform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
    {
       pointTransformed.set(pointOriginal);
-      pointTransformed.sub(translationVector);
-      quaternion.inverseTransform(pointTransformed);
+
+      if (hasTranslation())
+         pointTransformed.sub(translationVector);
+      if (hasRotation())
+         quaternion.inverseTransform(pointTransformed);
+   }
+
+   /**
+    * Performs the inverse of the transform on all the points of the given point array and stores
+    * the result in {@code pointsTransformed}.
+    * <p>
+    * This is the batch version of {@link #inverseTransform(Point3DReadOnly, Point3DBasics)}.
+    * The quaternion is converted once into its equivalent rotation matrix which is then applied on
+    * the points in a single loop over the backing arrays.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    */
+   public void inverseTransform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+   {
+      transform(pointsOriginal, pointsTransformed, true, true, null);
+   }
+
+   /**
+    * Performs in place the inverse of the transform on all the points of the given point array.
+    *
+    * @param pointsToTransform the points to transform. Modified.
+    * @see #inverseTransform(Point3DArray, Point3DArray)
+    */
+   public void inverseTransform(Point3DArray pointsToTransform)
+   {
+      inverseTransform(pointsToTransform, pointsToTransform);
+   }
+
+   /**
+    * Transforms all the points of the given point array by this transform and stores the result in
+    * {@code pointsTransformed}, splitting the work over the threads of {@code executor}.
+    * <p>
+    * This is the parallel version of {@link #transform(Point3DArray, Point3DArray)}. Batches
+    * smaller than the sequential threshold of {@code executor} are transformed in the calling
+    * thread.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    * @param executor the executor used to split the work. Not modified.
+    */
+   public void transform(Point3DArray pointsOriginal, Point3DArray pointsTransformed, ParallelBatchExecutor executor)
+   {
+      transform(pointsOriginal, pointsTransformed, false, true, executor);
+   }
+
+   /**
+    * Performs the inverse of the transform on all the points of the given point array and stores
+    * the result in {@code pointsTransformed}, splitting the work over the threads of
+    * {@code executor}.
+    * <p>
+    * This is the parallel version of {@link #inverseTransform(Point3DArray, Point3DArray)}. Batches
+    * smaller than the sequential threshold of {@code executor} are transformed in the calling
+    * thread.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    * @param executor the executor used to split the work. Not modified.
+    */
+   public void inverseTransform(Point3DArray pointsOriginal, Point3DArray pointsTransformed, ParallelBatchExecutor executor)
+   {
+      transform(pointsOriginal, pointsTransformed, true, true, executor);
+   }
+
+   /**
+    * Transforms all the vectors of the given vector array by this transform and stores the result
+    * in {@code vectorsTransformed}.
+    * <p>
+    * This is the batch version of {@link #transform(Vector3DReadOnly, Vector3DBasics)}. The
+    * quaternion is converted once into its equivalent rotation matrix which is then applied on the
+    * vectors.
+    * </p>
+    * <p>
+    * {@code vectorsTransformed} is resized to match the size of {@code vectorsOriginal}. It can be
+    * the same instance as {@code vectorsOriginal}.
+    * </p>
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the transformed vectors are stored. Modified.
+    */
+   public void transform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+   {
+      transform(vectorsOriginal, vectorsTransformed, false, false, null);
+   }
+
+   /**
+    * Transforms in place all the vectors of the given vector array by this transform.
+    *
+    * @param vectorsToTransform the vectors to transform. Modified.
+    * @see #transform(Vector3DArray, Vector3DArray)
+    */
+   public void transform(Vector3DArray vectorsToTransform)
+   {
+      transform(vectorsToTransform, vectorsToTransform);
+   }
+
+   /**
+    * Transforms all the vectors of the given vector array by this transform and stores the result
+    * in {@code vectorsTransformed}, splitting the work over the threads of {@code executor}.
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the transformed vectors are stored. Modified.
+    * @param executor the executor used to split the work. Not modified.
+    * @see #transform(Vector3DArray, Vector3DArray)
+    */
+   public void transform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed, ParallelBatchExecutor executor)
+   {
+      transform(vectorsOriginal, vectorsTransformed, false, false, executor);
+   }
+
+   /**
+    * Performs the inverse of the transform on all the vectors of the given vector array and stores
+    * the result in {@code vectorsTransformed}.
+    * <p>
+    * This is the batch version of {@link #inverseTransform(Vector3DReadOnly, Vector3DBasics)}.
+    * </p>
+    * <p>
+    * {@code vectorsTransformed} is resized to match the size of {@code vectorsOriginal}. It can be
+    * the same instance as {@code vectorsOriginal}.
+    * </p>
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the transformed vectors are stored. Modified.
+    */
+   public void inverseTransform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+   {
+      transform(vectorsOriginal, vectorsTransformed, true, false, null);
+   }
+
+   /**
+    * Performs in place the inverse of the transform on all the vectors of the given vector array.
+    *
+    * @param vectorsToTransform the vectors to transform. Modified.
+    * @see #inverseTransform(Vector3DArray, Vector3DArray)
+    */
+   public void inverseTransform(Vector3DArray vectorsToTransform)
+   {
+      inverseTransform(vectorsToTransform, vectorsToTransform);
+   }
+
+   /**
+    * Performs the inverse of the transform on all the vectors of the given vector array and stores
+    * the result in {@code vectorsTransformed}, splitting the work over the threads of
+    * {@code executor}.
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the transformed vectors are stored. Modified.
+    * @param executor the executor used to split the work. Not modified.
+    * @see #inverseTransform(Vector3DArray, Vector3DArray)
+    */
+   public void inverseTransform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed, ParallelBatchExecutor executor)
+   {
+      transform(vectorsOriginal, vectorsTransformed, true, false, executor);
+   }
+
+   /**
+    * Reduces this transform, or its inverse, to a matrix and a translation and applies it on the
+    * given tuples, in parallel when {@code executor} is not {@code null}.
+    * <p>
+    * When the rotation part is exactly identity, the tuples are only translated.
+    * </p>
+    */
+   private void transform(Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed, boolean inverse, boolean applyTranslation,
+                          ParallelBatchExecutor executor)
+   {
+      transform(tuplesOriginal, tuplesTransformed, null, null, inverse, applyTranslation, executor);
+   }
+
+   /**
+    * Transforms all the points of the given off-heap buffer by this transform and stores the result
+    * in {@code pointsTransformed}.
+    * <p>
+    * This is the off-heap version of {@link #transform(Point3DArray, Point3DArray)}. The quaternion
+    * is converted once into its equivalent rotation matrix, the points are then read from and
+    * written to the buffers directly.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the buffer in which the transformed points are stored. Modified.
+    * @throws IllegalArgumentException if {@code pointsTransformed} cannot hold all the points.
+    */
+   public void transform(OffHeapPoint3DBuffer pointsOriginal, OffHeapPoint3DBuffer pointsTransformed)
+   {
+      transform(pointsOriginal, pointsTransformed, false);
+   }
+
+   /**
+    * Performs the inverse of this transform on all the points of the given off-heap buffer and
+    * stores the result in {@code pointsTransformed}.
+    * <p>
+    * This is the off-heap version of {@link #inverseTransform(Point3DArray, Point3DArray)}. The
+    * quaternion is converted once into its equivalent rotation matrix, the points are then read from
+    * and written to the buffers directly.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the buffer in which the transformed points are stored. Modified.
+    * @throws IllegalArgumentException if {@code pointsTransformed} cannot hold all the points.
+    */
+   public void inverseTransform(OffHeapPoint3DBuffer pointsOriginal, OffHeapPoint3DBuffer pointsTransformed)
+   {
+      transform(pointsOriginal, pointsTransformed, true);
+   }
+
+   private void transform(OffHeapPoint3DBuffer pointsOriginal, OffHeapPoint3DBuffer pointsTransformed, boolean inverse)
+   {
+      transform(null, null, pointsOriginal, pointsTransformed, inverse, true, null);
+   }
+
+   /**
+    * Reduces this transform, or its inverse, to a matrix and a translation and applies it on either
+    * the given tuple arrays or the given off-heap buffers, the other pair being {@code null}.
+    * <p>
+    * The quaternion is converted once into its equivalent rotation matrix such that both storages
+    * share the same coefficients. When the rotation part is exactly identity, the tuples are only
+    * translated.
+    * </p>
+    */
+   private void transform(Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed, OffHeapPoint3DBuffer pointsOriginal,
+                          OffHeapPoint3DBuffer pointsTransformed, boolean inverse, boolean applyTranslation, ParallelBatchExecutor executor)
+   {
+      double tx = 0.0, ty = 0.0, tz = 0.0;
+
+      if (applyTranslation)
+      {
+         tx = inverse ? -translationVector.getX() : translationVector.getX();
+         ty = inverse ? -translationVector.getY() : translationVector.getY();
+         tz = inverse ? -translationVector.getZ() : translationVector.getZ();
+      }
+
+      if (!hasRotation())
+      { // Only the translation, if any, has to be applied.
+         if (pointsOriginal != null)
+            pointsOriginal.transform(1.0, 0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 0.0, 1.0, tx, ty, tz, pointsTransformed);
+         else
+            Tuple3DArrayTransformKernel.translate(tuplesOriginal, tuplesTransformed, tx, ty, tz, executor);
+         return;
+      }
+
+      double qx = quaternion.getX();
+      double qy = quaternion.getY();
+      double qz = quaternion.getZ();
+      double qs = quaternion.getS();
+      double norm = 1.0 / EuclidCoreTools.norm(qx, qy, qz, qs);
+      qx *= norm;
+      qy *= norm;
+      qz *= norm;
+      // The inverse rotation is described by the conjugate of the quaternion.
+      qs *= inverse ? -norm : norm;
+
+      double yy2 = 2.0 * qy * qy;
+      double zz2 = 2.0 * qz * qz;
+      double xx2 = 2.0 * qx * qx;
+      double xy2 = 2.0 * qx * qy;
+      double sz2 = 2.0 * qs * qz;
+      double xz2 = 2.0 * qx * qz;
+      double sy2 = 2.0 * qs * qy;
+      double yz2 = 2.0 * qy * qz;
+      double sx2 = 2.0 * qs * qx;
+
+      double m00 = 1.0 - yy2 - zz2;
+      double m01 = xy2 - sz2;
+      double m02 = xz2 + sy2;
+      double m10 = xy2 + sz2;
+      double m11 = 1.0 - xx2 - zz2;
+      double m12 = yz2 - sx2;
+      double m20 = xz2 - sy2;
+      double m21 = yz2 + sx2;
+      double m22 = 1.0 - xx2 - yy2;
+
+      if (inverse && applyTranslation)
+      { // The inverse is: R^T * (p - t)
+         if (pointsOriginal != null)
+            pointsOriginal.translateThenTransform(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, pointsTransformed);
+         else
+            Tuple3DArrayTransformKernel.translateThenTransform(tuplesOriginal, tuplesTransformed, m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz,
+                                                               executor);
+      }
+      else
+      {
+         if (pointsOriginal != null)
+            pointsOriginal.transform(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, pointsTransformed);
+         else
+            Tuple3DArrayTransformKernel.transform(tuplesOriginal, tuplesTransformed, m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, executor);
+      }
+   }
+
+   /**
+    * Transforms all the quaternions of the given off-heap buffer by this transform and stores the
+    * result in {@code quaternionsTransformed}.
+    * <p>
+    * As for {@link #transform(QuaternionReadOnly, QuaternionBasics)}, the rotation part of this
+    * transform is prepended to each quaternion. The quaternions are read from and written to the
+    * buffers directly, no heap object is created per quaternion. Each resulting quaternion is
+    * normalized.
+    * </p>
+    * <p>
+    * {@code quaternionsTransformed} is resized to match the size of {@code quaternionsOriginal}. It
+    * can be the same instance as {@code quaternionsOriginal}.
+    * </p>
+    *
+    * @param quaternionsOriginal the quaternions to transform. Not modified.
+    * @param quaternionsTransformed the buffer in which the transformed quaternions are stored.
+    *           Modified.
+    * @throws IllegalArgumentException if {@code quaternionsTransformed} cannot hold all the
+    *            quaternions.
+    */
+   public void transform(OffHeapQuaternionBuffer quaternionsOriginal, OffHeapQuaternionBuffer quaternionsTransformed)
+   {
+      prepend(quaternionsOriginal, quaternionsTransformed, quaternion.getX(), quaternion.getY(), quaternion.getZ(), quaternion.getS());
+   }
+
+   /**
+    * Performs the inverse of this transform on all the quaternions of the given off-heap buffer and
+    * stores the result in {@code quaternionsTransformed}.
+    * <p>
+    * As for {@link #inverseTransform(QuaternionReadOnly, QuaternionBasics)}, the inverse of the
+    * rotation part of this transform is prepended to each quaternion. Each resulting quaternion is
+    * normalized.
+    * </p>
+    * <p>
+    * {@code quaternionsTransformed} is resized to match the size of {@code quaternionsOriginal}. It
+    * can be the same instance as {@code quaternionsOriginal}.
+    * </p>
+    *
+    * @param quaternionsOriginal the quaternions to transform. Not modified.
+    * @param quaternionsTransformed the buffer in which the transformed quaternions are stored.
+    *           Modified.
+    * @throws IllegalArgumentException if {@code quaternionsTransformed} cannot hold all the
+    *            quaternions.
+    */
+   public void inverseTransform(OffHeapQuaternionBuffer quaternionsOriginal, OffHeapQuaternionBuffer quaternionsTransformed)
+   {
+      prepend(quaternionsOriginal, quaternionsTransformed, -quaternion.getX(), -quaternion.getY(), -quaternion.getZ(), quaternion.getS());
+   }
+
+   private static void prepend(OffHeapQuaternionBuffer quaternionsOriginal, OffHeapQuaternionBuffer quaternionsTransformed, double ax, double ay, double az,
+                               double as)
+   {
+      int size = quaternionsOriginal.size();
+      quaternionsTransformed.setSize(size);
+      DoubleBuffer original = quaternionsOriginal.getDoubleBuffer();
+      DoubleBuffer transformed = quaternionsTransformed.getDoubleBuffer();
+
+      for (int i = 0, j = 0; i < size; i++, j += OffHeapQuaternionBuffer.STRIDE)
+      {
+         double bx = original.get(j);
+         double by = original.get(j + 1);
+         double bz = original.get(j + 2);
+         double bs = original.get(j + 3);
+         double x = as * bx + ax * bs + ay * bz - az * by;
+         double y = as * by - ax * bz + ay * bs + az * bx;
+         double z = as * bz + ax * by - ay * bx + az * bs;
+         double s = as * bs - ax * bx - ay * by - az * bz;
+
+         if (!EuclidCoreTools.containsNaN(x, y, z, s))
+         { // Same normalization as QuaternionBasics.normalize() such that errors do not accumulate in the buffer.
+            double norm = EuclidCoreTools.norm(x, y, z, s);
+
+            if (norm == 0.0)
+            {
+               x = 0.0;
+               y = 0.0;
+               z = 0.0;
+               s = 1.0;
+            }
+            else
+            {
+               norm = 1.0 / norm;
+               x *= norm;
+               y *= norm;
+               z *= norm;
+               s *= norm;
+            }
+         }
+
+         transformed.put(j, x);
+         transformed.put(j + 1, y);
+         transformed.put(j + 2, z);
+         transformed.put(j + 3, s);
+      }
    }
 
    /** {@inheritDoc} */
    @Override
    public void inverseTransform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
    {
-      quaternion.inverseTransform(vectorOriginal, vectorTransformed);
+      if (hasRotation())
+         quaternion.inverseTransform(vectorOriginal, vectorTransformed);
+      else
+         vectorTransformed.set(vectorOriginal);
    }
 
    /** {@inheritDoc} */
@@ -1772,14 +2318,10 @@ public class QuaternionBasedTransform implements Transform, EpsilonComparable<Qu
    @Override
    public boolean equals(Object object)
    {
-      try
-      {
+      if (object instanceof QuaternionBasedTransform)
          return equals((QuaternionBasedTransform) object);
-      }
-      catch (ClassCastException e)
-      {
+      else
          return false;
-      }
    }
 
    /**
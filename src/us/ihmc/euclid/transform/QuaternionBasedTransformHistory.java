@@ -0,0 +1,369 @@
+package us.ihmc.euclid.transform;
+
+import java.util.concurrent.locks.StampedLock;
+
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
+
+/**
+ * A {@code QuaternionBasedTransformHistory} is a fixed-capacity ring buffer of timestamped
+ * {@link QuaternionBasedTransform}s.
+ * <p>
+ * The storage is entirely preallocated at construction: the samples are stored in primitive arrays
+ * and no garbage is generated when adding samples or when looking them up. Samples have to be added
+ * in chronological order. Once the buffer is full, adding a new sample overwrites the oldest one.
+ * </p>
+ * <p>
+ * Looking up a transform at a given timestamp is done with a binary search over the samples, i.e.
+ * in O(log n), and the result is interpolated from the two samples surrounding the timestamp. As
+ * for {@link QuaternionBasedTransform#interpolate(QuaternionBasedTransform, QuaternionBasedTransform, double)},
+ * the rotation part is interpolated using a spherical linear interpolation while the translation
+ * part is interpolated linearly.
+ * </p>
+ * <p>
+ * This class is meant to be written by a single thread and read by any number of threads. The
+ * readers do not block the writer: a lookup is first attempted optimistically without acquiring any
+ * lock, and is only retried under a read lock when a concurrent write has been detected.
+ * </p>
+ */
+public class QuaternionBasedTransformHistory
+{
+   /** Number of components stored per sample: qx, qy, qz, qs, x, y, z. */
+   private static final int SAMPLE_SIZE = 7;
+
+   /** The maximum number of samples this history can hold. */
+   private final int capacity;
+   /** The timestamp of each sample. */
+   private final long[] timestamps;
+   /** The 7 components of each sample packed as: qx, qy, qz, qs, x, y, z. */
+   private final double[] samples;
+   /** The index in the arrays of the oldest sample. */
+   private int oldestIndex = 0;
+   /** The current number of samples. */
+   private int size = 0;
+
+   private final StampedLock lock = new StampedLock();
+
+   /**
+    * Creates a new empty history.
+    *
+    * @param capacity the maximum number of samples the new history can hold.
+    * @throws IllegalArgumentException if {@code capacity} is less than 1.
+    */
+   public QuaternionBasedTransformHistory(int capacity)
+   {
+      if (capacity < 1)
+         throw new IllegalArgumentException("The capacity has to be at least 1, was: " + capacity);
+
+      this.capacity = capacity;
+      timestamps = new long[capacity];
+      samples = new double[SAMPLE_SIZE * capacity];
+   }
+
+   /**
+    * Removes all the samples of this history.
+    */
+   public void clear()
+   {
+      long stamp = lock.writeLock();
+      try
+      {
+         oldestIndex = 0;
+         size = 0;
+      }
+      finally
+      {
+         lock.unlockWrite(stamp);
+      }
+   }
+
+   /**
+    * Adds a new sample to this history. If this history is full, the oldest sample is overwritten.
+    *
+    * @param timestamp the timestamp of the new sample. It has to be greater than the timestamp of
+    *           the newest sample of this history.
+    * @param transform the transform of the new sample. Not modified.
+    * @throws IllegalArgumentException if {@code timestamp} is not greater than the timestamp of the
+    *            newest sample.
+    */
+   public void put(long timestamp, QuaternionBasedTransform transform)
+   {
+      put(timestamp, transform.getQuaternion(), transform.getTranslationVector());
+   }
+
+   /**
+    * Adds a new sample to this history. If this history is full, the oldest sample is overwritten.
+    *
+    * @param timestamp the timestamp of the new sample. It has to be greater than the timestamp of
+    *           the newest sample of this history.
+    * @param quaternion the rotation part of the new sample. Not modified.
+    * @param translation the translation part of the new sample. Not modified.
+    * @throws IllegalArgumentException if {@code timestamp} is not greater than the timestamp of the
+    *            newest sample.
+    */
+   public void put(long timestamp, QuaternionReadOnly quaternion, Tuple3DReadOnly translation)
+   {
+      long stamp = lock.writeLock();
+      try
+      {
+         if (size > 0)
+         {
+            long newestTimestamp = timestamps[toArrayIndex(oldestIndex, size - 1)];
+            if (timestamp <= newestTimestamp)
+               throw new IllegalArgumentException("The timestamp " + timestamp + " is not greater than the newest timestamp " + newestTimestamp);
+         }
+
+         int arrayIndex;
+
+         if (size < capacity)
+         {
+            arrayIndex = toArrayIndex(oldestIndex, size);
+            size++;
+         }
+         else
+         {
+            arrayIndex = oldestIndex;
+            oldestIndex = toArrayIndex(oldestIndex, 1);
+         }
+
+         timestamps[arrayIndex] = timestamp;
+         int offset = SAMPLE_SIZE * arrayIndex;
+         samples[offset++] = quaternion.getX();
+         samples[offset++] = quaternion.getY();
+         samples[offset++] = quaternion.getZ();
+         samples[offset++] = quaternion.getS();
+         samples[offset++] = translation.getX();
+         samples[offset++] = translation.getY();
+         samples[offset] = translation.getZ();
+      }
+      finally
+      {
+         lock.unlockWrite(stamp);
+      }
+   }
+
+   /**
+    * Packs the transform at the given timestamp.
+    * <p>
+    * The transform is interpolated from the two samples surrounding {@code timestamp}. When
+    * {@code timestamp} matches exactly the timestamp of a sample, the transform of this sample is
+    * packed.
+    * </p>
+    * <p>
+    * This method does not generate garbage and can be called concurrently to {@link #put}.
+    * </p>
+    *
+    * @param timestamp the timestamp to get the transform at.
+    * @param transformToPack the transform in which the result is stored. Modified only if this method
+    *           returns {@code true}.
+    * @return {@code true} if the transform could be computed, {@code false} if this history is empty
+    *         or if {@code timestamp} is outside the range of this history.
+    */
+   public boolean get(long timestamp, QuaternionBasedTransform transformToPack)
+   {
+      boolean isReadLocked = false;
+      long stamp = lock.tryOptimisticRead();
+
+      try
+      {
+         while (true)
+         {
+            boolean isInRange;
+            long t0 = 0, tf = 0;
+            double q0x = 0.0, q0y = 0.0, q0z = 0.0, q0s = 0.0, x0 = 0.0, y0 = 0.0, z0 = 0.0;
+            double qfx = 0.0, qfy = 0.0, qfz = 0.0, qfs = 0.0, xf = 0.0, yf = 0.0, zf = 0.0;
+
+            // When reading optimistically, the fields can be inconsistent and are sanitized such that no exception can be thrown.
+            int oldestIndex = Math.floorMod(this.oldestIndex, capacity);
+            int size = Math.min(Math.max(this.size, 0), capacity);
+
+            if (size == 0)
+            {
+               isInRange = false;
+            }
+            else
+            {
+               int lowIndex = 0;
+               int highIndex = size - 1;
+
+               if (timestamp < timestamps[toArrayIndex(oldestIndex, lowIndex)] || timestamp > timestamps[toArrayIndex(oldestIndex, highIndex)])
+               {
+                  isInRange = false;
+               }
+               else
+               {
+                  // Looking for the newest sample which timestamp is less than or equal to the given timestamp.
+                  while (lowIndex < highIndex)
+                  {
+                     int midIndex = (lowIndex + highIndex + 1) >>> 1;
+
+                     if (timestamps[toArrayIndex(oldestIndex, midIndex)] <= timestamp)
+                        lowIndex = midIndex;
+                     else
+                        highIndex = midIndex - 1;
+                  }
+
+                  int arrayIndex0 = toArrayIndex(oldestIndex, lowIndex);
+                  int arrayIndexf = lowIndex < size - 1 ? toArrayIndex(arrayIndex0, 1) : arrayIndex0;
+                  t0 = timestamps[arrayIndex0];
+                  tf = timestamps[arrayIndexf];
+
+                  int offset = SAMPLE_SIZE * arrayIndex0;
+                  q0x = samples[offset++];
+                  q0y = samples[offset++];
+                  q0z = samples[offset++];
+                  q0s = samples[offset++];
+                  x0 = samples[offset++];
+                  y0 = samples[offset++];
+                  z0 = samples[offset];
+
+                  offset = SAMPLE_SIZE * arrayIndexf;
+                  qfx = samples[offset++];
+                  qfy = samples[offset++];
+                  qfz = samples[offset++];
+                  qfs = samples[offset++];
+                  xf = samples[offset++];
+                  yf = samples[offset++];
+                  zf = samples[offset];
+                  isInRange = true;
+               }
+            }
+
+            if (!isReadLocked && !lock.validate(stamp))
+            { // A write happened while reading, retrying while holding the read lock.
+               stamp = lock.readLock();
+               isReadLocked = true;
+               continue;
+            }
+
+            if (!isInRange)
+               return false;
+
+            if (tf <= t0 || timestamp <= t0)
+            {
+               transformToPack.set(q0x, q0y, q0z, q0s, x0, y0, z0);
+               return true;
+            }
+
+            double alpha = (double) (timestamp - t0) / (double) (tf - t0);
+            interpolate(q0x, q0y, q0z, q0s, x0, y0, z0, qfx, qfy, qfz, qfs, xf, yf, zf, alpha, transformToPack);
+            return true;
+         }
+      }
+      finally
+      {
+         if (isReadLocked)
+            lock.unlockRead(stamp);
+      }
+   }
+
+   /**
+    * Performs the interpolation from the first transform to the second given the percentage
+    * {@code alpha}, using the same algorithm as
+    * {@link QuaternionBasedTransform#interpolate(QuaternionBasedTransform, QuaternionBasedTransform, double)}.
+    */
+   private static void interpolate(double q0x, double q0y, double q0z, double q0s, double x0, double y0, double z0, double qfx, double qfy, double qfz,
+                                   double qfs, double xf, double yf, double zf, double alpha, QuaternionBasedTransform transformToPack)
+   {
+      double cosHalfTheta = q0x * qfx + q0y * qfy + q0z * qfz + q0s * qfs;
+      double sign = 1.0;
+
+      if (cosHalfTheta < 0.0)
+      {
+         sign = -1.0;
+         cosHalfTheta = -cosHalfTheta;
+      }
+
+      double alpha0 = 1.0 - alpha;
+      double alphaf = alpha;
+
+      if (1.0 - cosHalfTheta > 1.0e-12)
+      {
+         double halfTheta = Math.acos(cosHalfTheta);
+         double sinHalfTheta = Math.sin(halfTheta);
+         alpha0 = Math.sin(alpha0 * halfTheta) / sinHalfTheta;
+         alphaf = Math.sin(alphaf * halfTheta) / sinHalfTheta;
+      }
+
+      double qx = alpha0 * q0x + sign * alphaf * qfx;
+      double qy = alpha0 * q0y + sign * alphaf * qfy;
+      double qz = alpha0 * q0z + sign * alphaf * qfz;
+      double qs = alpha0 * q0s + sign * alphaf * qfs;
+
+      double x = (1.0 - alpha) * x0 + alpha * xf;
+      double y = (1.0 - alpha) * y0 + alpha * yf;
+      double z = (1.0 - alpha) * z0 + alpha * zf;
+
+      transformToPack.set(qx, qy, qz, qs, x, y, z);
+   }
+
+   private int toArrayIndex(int startIndex, int offset)
+   {
+      int index = startIndex + offset;
+      return index >= capacity ? index - capacity : index;
+   }
+
+   /**
+    * Gets the timestamp of the oldest sample of this history.
+    *
+    * @return the oldest timestamp, or {@link Long#MIN_VALUE} if this history is empty.
+    */
+   public long getOldestTimestamp()
+   {
+      long stamp = lock.readLock();
+      try
+      {
+         return size == 0 ? Long.MIN_VALUE : timestamps[oldestIndex];
+      }
+      finally
+      {
+         lock.unlockRead(stamp);
+      }
+   }
+
+   /**
+    * Gets the timestamp of the newest sample of this history.
+    *
+    * @return the newest timestamp, or {@link Long#MIN_VALUE} if this history is empty.
+    */
+   public long getNewestTimestamp()
+   {
+      long stamp = lock.readLock();
+      try
+      {
+         return size == 0 ? Long.MIN_VALUE : timestamps[toArrayIndex(oldestIndex, size - 1)];
+      }
+      finally
+      {
+         lock.unlockRead(stamp);
+      }
+   }
+
+   /**
+    * Gets the current number of samples in this history.
+    *
+    * @return the number of samples.
+    */
+   public int size()
+   {
+      long stamp = lock.readLock();
+      try
+      {
+         return size;
+      }
+      finally
+      {
+         lock.unlockRead(stamp);
+      }
+   }
+
+   /**
+    * Gets the maximum number of samples this history can hold.
+    *
+    * @return the capacity of this history.
+    */
+   public int capacity()
+   {
+      return capacity;
+   }
+}
@@ -2,6 +2,7 @@ package us.ihmc.euclid.transform;
 
 import org.ejml.data.DenseMatrix64F;
 
+import us.ihmc.euclid.concurrent.ParallelBatchExecutor;
 import us.ihmc.euclid.exceptions.NotAMatrix2DException;
 import us.ihmc.euclid.exceptions.NotARotationMatrixException;
 import us.ihmc.euclid.interfaces.Clearable;
@@ -10,11 +11,13 @@ import us.ihmc.euclid.interfaces.GeometricallyComparable;
 import us.ihmc.euclid.interfaces.Settable;
 import us.ihmc.euclid.matrix.Matrix3D;
 import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.matrix.RotationMatrixNormalizer;
 import us.ihmc.euclid.matrix.RotationScaleMatrix;
 import us.ihmc.euclid.matrix.interfaces.Matrix3DBasics;
 import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
 import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
 import us.ihmc.euclid.matrix.interfaces.RotationScaleMatrixReadOnly;
+import us.ihmc.euclid.offHeap.OffHeapPoint3DBuffer;
 import us.ihmc.euclid.orientation.interfaces.Orientation3DBasics;
 import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
 import us.ihmc.euclid.tools.EuclidCoreIOTools;
@@ -27,7 +30,10 @@ import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
 import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Vector2DReadOnly;
+import us.ihmc.euclid.tuple3D.Point3DArray;
+import us.ihmc.euclid.tuple3D.Tuple3DArray;
 import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
 import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
@@ -74,6 +80,29 @@ public class RigidBodyTransform
    /** The translation part of this transform. */
    private final Vector3D translationVector = new Vector3D();
 
+   /** Whether the translation part of the inverse of this transform should be cached. */
+   private boolean inverseCacheEnabled = false;
+   /** Whether the inverse cache has been computed at least once since it was enabled. */
+   private boolean inverseCacheInitialized = false;
+   /** The modification count of the rotation part when the inverse cache was last updated. */
+   private long inverseCacheRotationModificationCount;
+   /** The x-component of the translation part when the inverse cache was last updated. */
+   private double inverseCacheTranslationX;
+   /** The y-component of the translation part when the inverse cache was last updated. */
+   private double inverseCacheTranslationY;
+   /** The z-component of the translation part when the inverse cache was last updated. */
+   private double inverseCacheTranslationZ;
+   /** The x-component of the translation part of the inverse of this transform. */
+   private double inverseTranslationX;
+   /** The y-component of the translation part of the inverse of this transform. */
+   private double inverseTranslationY;
+   /** The z-component of the translation part of the inverse of this transform. */
+   private double inverseTranslationZ;
+   /** The number of times the inverse cache was up-to-date when it was queried. */
+   private long inverseCacheHitCount = 0;
+   /** The number of times the inverse cache had to be updated when it was queried. */
+   private long inverseCacheMissCount = 0;
+
    /**
     * Creates a new rigid-body transform set to identity.
     * <p>
@@ -283,6 +312,35 @@ public class RigidBodyTransform
       return rotationMatrix.containsNaN() || translationVector.containsNaN();
    }
 
+   /**
+    * Tests if the rotation part of this transform is not exactly equal to identity.
+    * <p>
+    * When this method returns {@code false}, the operations such as {@code transform},
+    * {@code inverseTransform}, {@code multiply}, and {@code invert} skip the rotation part. The
+    * state of the rotation part is cached and only updated after it has been modified.
+    * </p>
+    *
+    * @return {@code true} if the rotation part is not exactly identity, {@code false} otherwise.
+    */
+   public boolean hasRotation()
+   {
+      return !rotationMatrix.isZeroOrientation();
+   }
+
+   /**
+    * Tests if the translation part of this transform is not exactly equal to zero.
+    * <p>
+    * When this method returns {@code false}, the operations such as {@code transform},
+    * {@code inverseTransform}, {@code multiply}, and {@code invert} skip the translation part.
+    * </p>
+    *
+    * @return {@code true} if the translation part is not exactly zero, {@code false} otherwise.
+    */
+   public boolean hasTranslation()
+   {
+      return translationVector.getX() != 0.0 || translationVector.getY() != 0.0 || translationVector.getZ() != 0.0;
+   }
+
    /**
     * Tests if the rotation part of this transform describes a transformation in the XY plane.
     * <p>
@@ -295,6 +353,10 @@ public class RigidBodyTransform
     * </ul>
     * </p>
     *
+    * <p>
+    * The result of this test is cached and only updated after the rotation part has been modified.
+    * </p>
+    *
     * @return {@code true} if the rotation part describes a 2D transformation in the XY plane,
     *         {@code false} otherwise.
     */
@@ -324,12 +386,160 @@ public class RigidBodyTransform
 
    /**
     * Normalize the rotation part of this transform.
+    * <p>
+    * The normalizer of the rotation part is used, see
+    * {@link #setRotationNormalizer(RotationMatrixNormalizer)}.
+    * </p>
     */
    public void normalizeRotationPart()
    {
       rotationMatrix.normalize();
    }
 
+   /**
+    * Sets the strategy used to normalize the rotation part of this transform.
+    *
+    * @param normalizer the new normalizer for the rotation part. Not modified.
+    * @see RotationMatrix#setNormalizer(RotationMatrixNormalizer)
+    */
+   public void setRotationNormalizer(RotationMatrixNormalizer normalizer)
+   {
+      rotationMatrix.setNormalizer(normalizer);
+   }
+
+   /**
+    * Sets the tolerance used to decide when the rotation part of this transform should be
+    * normalized after a multiplication.
+    * <p>
+    * By default the tolerance is zero and the rotation part is normalized after every
+    * multiplication. See {@link RotationMatrix#setLazyNormalizationTolerance(double)} for more
+    * information.
+    * </p>
+    *
+    * @param lazyNormalizationTolerance the tolerance on the orthonormality error.
+    */
+   public void setRotationLazyNormalizationTolerance(double lazyNormalizationTolerance)
+   {
+      rotationMatrix.setLazyNormalizationTolerance(lazyNormalizationTolerance);
+   }
+
+   /**
+    * Enables or disables the cache of the inverse of this transform.
+    * <p>
+    * The inverse of a rigid-body transform is given by: <br>
+    * H<sup>-1</sup> = [ R<sup>T</sup>, -R<sup>T</sup> t ] <br>
+    * When the cache is enabled, the translation part of the inverse, i.e. -R<sup>T</sup> t, is
+    * computed lazily by {@link #inverseTransform(Point3DReadOnly, Point3DBasics)} and is reused
+    * until this transform is modified. The cache is detected as outdated by comparing the
+    * translation and the modification count of the rotation part with the values it was computed
+    * from, such that no mutator has to invalidate it explicitly.
+    * </p>
+    * <p>
+    * {@link #multiplyInvertOther(RigidBodyTransform)} only reads the cache of its argument when it
+    * is up-to-date, it never updates it such that the argument is not modified.
+    * </p>
+    * <p>
+    * When the cache is enabled, {@link #inverseTransform(Point3DReadOnly, Point3DBasics)} updates
+    * the cache and its counters, this transform should then not be used from several threads at
+    * once. The cache is disabled by default. The hit and miss counters are reset when calling this
+    * method.
+    * </p>
+    *
+    * @param enable whether the inverse cache should be used.
+    */
+   public void setInverseCacheEnabled(boolean enable)
+   {
+      inverseCacheEnabled = enable;
+      inverseCacheInitialized = false;
+      inverseCacheHitCount = 0;
+      inverseCacheMissCount = 0;
+   }
+
+   /**
+    * Tests whether the cache of the inverse of this transform is enabled.
+    *
+    * @return {@code true} if the inverse cache is enabled, {@code false} otherwise.
+    * @see #setInverseCacheEnabled(boolean)
+    */
+   public boolean isInverseCacheEnabled()
+   {
+      return inverseCacheEnabled;
+   }
+
+   /**
+    * Gets the number of times {@link #inverseTransform(Point3DReadOnly, Point3DBasics)} could use
+    * the inverse cache as is since it was enabled.
+    *
+    * @return the number of cache hits.
+    * @see #setInverseCacheEnabled(boolean)
+    */
+   public long getInverseCacheHitCount()
+   {
+      return inverseCacheHitCount;
+   }
+
+   /**
+    * Gets the number of times {@link #inverseTransform(Point3DReadOnly, Point3DBasics)} had to
+    * update the inverse cache since it was enabled.
+    *
+    * @return the number of cache misses.
+    * @see #setInverseCacheEnabled(boolean)
+    */
+   public long getInverseCacheMissCount()
+   {
+      return inverseCacheMissCount;
+   }
+
+   /**
+    * Tests whether the inverse cache should be used for the next inverse operation.
+    * <p>
+    * The cache is not used when the rotation or the translation part is zero, as the operation is
+    * then already simplified.
+    * </p>
+    */
+   private boolean useInverseCache()
+   {
+      return inverseCacheEnabled && hasRotation() && hasTranslation();
+   }
+
+   /**
+    * Tests whether the inverse cache has been computed from the current rotation and translation
+    * parts of this transform.
+    */
+   private boolean isInverseCacheUpToDate()
+   {
+      return inverseCacheInitialized && rotationMatrix.getModificationCount() == inverseCacheRotationModificationCount
+            && translationVector.getX() == inverseCacheTranslationX && translationVector.getY() == inverseCacheTranslationY
+            && translationVector.getZ() == inverseCacheTranslationZ;
+   }
+
+   /**
+    * Updates the translation part of the inverse of this transform if this transform has been
+    * modified since the last update.
+    */
+   private void updateInverseCache()
+   {
+      if (isInverseCacheUpToDate())
+      {
+         inverseCacheHitCount++;
+         return;
+      }
+
+      inverseCacheMissCount++;
+      double tx = translationVector.getX();
+      double ty = translationVector.getY();
+      double tz = translationVector.getZ();
+      inverseTranslationX = -(rotationMatrix.getM00() * tx + rotationMatrix.getM10() * ty + rotationMatrix.getM20() * tz);
+      inverseTranslationY = -(rotationMatrix.getM01() * tx + rotationMatrix.getM11() * ty + rotationMatrix.getM21() * tz);
+      inverseTranslationZ = -(rotationMatrix.getM02() * tx + rotationMatrix.getM12() * ty + rotationMatrix.getM22() * tz);
+      inverseCacheRotationModificationCount = rotationMatrix.getModificationCount();
+      inverseCacheTranslationX = tx;
+      inverseCacheTranslationY = ty;
+      inverseCacheTranslationZ = tz;
+      // Only now that the cache holds consistent values it can be marked as computed.
+      inverseCacheInitialized = true;
+   }
+
    /**
     * Computes the determinant of the rotation part of this transform.
     *
@@ -1309,9 +1519,19 @@ public class RigidBodyTransform
     */
    public void invert()
    {
+      if (!hasRotation())
+      {
+         translationVector.negate();
+         return;
+      }
+
       rotationMatrix.invert();
-      rotationMatrix.transform(translationVector);
-      translationVector.negate();
+
+      if (hasTranslation())
+      {
+         rotationMatrix.transform(translationVector);
+         translationVector.negate();
+      }
    }
 
    /**
@@ -1332,8 +1552,17 @@ public class RigidBodyTransform
     */
    public void multiply(RigidBodyTransform other)
    {
-      Matrix3DTools.addTransform(rotationMatrix, other.translationVector, translationVector);
-      rotationMatrix.multiply(other.rotationMatrix);
+      if (!hasRotation())
+      {
+         translationVector.add(other.translationVector);
+         rotationMatrix.set(other.rotationMatrix);
+         return;
+      }
+
+      if (other.hasTranslation())
+         Matrix3DTools.addTransform(rotationMatrix, other.translationVector, translationVector);
+      if (other.hasRotation())
+         rotationMatrix.multiply(other.rotationMatrix);
    }
 
    /**
@@ -1399,6 +1628,18 @@ public class RigidBodyTransform
     */
    public void multiplyInvertOther(RigidBodyTransform other)
    {
+      if (other.useInverseCache() && other.isInverseCacheUpToDate())
+      { // The cache of other is only read, neither it nor its counters are updated such that other is not modified.
+         double x = other.inverseTranslationX;
+         double y = other.inverseTranslationY;
+         double z = other.inverseTranslationZ;
+         translationVector.add(rotationMatrix.getM00() * x + rotationMatrix.getM01() * y + rotationMatrix.getM02() * z,
+                               rotationMatrix.getM10() * x + rotationMatrix.getM11() * y + rotationMatrix.getM12() * z,
+                               rotationMatrix.getM20() * x + rotationMatrix.getM21() * y + rotationMatrix.getM22() * z);
+         rotationMatrix.multiplyTransposeOther(other.rotationMatrix);
+         return;
+      }
+
       rotationMatrix.multiplyTransposeOther(other.getRotationMatrix());
       Matrix3DTools.subTransform(rotationMatrix, other.getTranslationVector(), translationVector);
    }
@@ -1598,9 +1839,19 @@ public class RigidBodyTransform
     */
    public void preMultiply(RigidBodyTransform other)
    {
+      if (!other.hasRotation())
+      {
+         translationVector.add(other.translationVector);
+         return;
+      }
+
       other.rotationMatrix.transform(translationVector);
       translationVector.add(other.translationVector);
-      rotationMatrix.preMultiply(other.rotationMatrix);
+
+      if (hasRotation())
+         rotationMatrix.preMultiply(other.rotationMatrix);
+      else
+         rotationMatrix.set(other.rotationMatrix);
    }
 
    /**
@@ -1643,6 +1894,22 @@ public class RigidBodyTransform
       rotationMatrix.preMultiply(affineTransform.getRotationMatrix());
    }
 
+   /**
+    * Performs the multiplication of {@code dualQuaternion} with this transform.
+    * <p>
+    * this = D(dualQuaternion) * this <br>
+    * where D(dq) is the function converting a dual quaternion into a 4-by-4 transformation matrix.
+    * </p>
+    *
+    * @param dualQuaternion the dual quaternion to multiply this with. Not modified.
+    */
+   public void preMultiply(DualQuaternion dualQuaternion)
+   {
+      dualQuaternion.getRealPart().transform(translationVector);
+      translationVector.add(dualQuaternion.getTranslationX(), dualQuaternion.getTranslationY(), dualQuaternion.getTranslationZ());
+      rotationMatrix.prepend(dualQuaternion.getRealPart());
+   }
+
    /**
     * Performs the multiplication of {@code other} with the inverse of this transform.
     * <p>
@@ -1755,6 +2022,22 @@ public class RigidBodyTransform
       rotationMatrix.preMultiplyTransposeOther(affineTransform.getRotationMatrix());
    }
 
+   /**
+    * Performs the multiplication of the inverse of {@code dualQuaternion} with this transform.
+    * <p>
+    * this = D(dualQuaternion)<sup>-1</sup> * this <br>
+    * where D(dq) is the function converting a dual quaternion into a 4-by-4 transformation matrix.
+    * </p>
+    *
+    * @param dualQuaternion the dual quaternion to multiply this with. Not modified.
+    */
+   public void preMultiplyInvertOther(DualQuaternion dualQuaternion)
+   {
+      translationVector.sub(dualQuaternion.getTranslationX(), dualQuaternion.getTranslationY(), dualQuaternion.getTranslationZ());
+      dualQuaternion.getRealPart().inverseTransform(translationVector);
+      rotationMatrix.prependInvertOther(dualQuaternion.getRealPart());
+   }
+
    /**
     * Prepend a translation transform to this transform.
     *
@@ -1867,15 +2150,54 @@ public class RigidBodyTransform
    @Override
    public void transform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
    {
-      rotationMatrix.transform(pointOriginal, pointTransformed);
-      pointTransformed.add(translationVector);
+      if (hasRotation())
+         rotationMatrix.transform(pointOriginal, pointTransformed);
+      else
+         pointTransformed.set(pointOriginal);
+
+      if (hasTranslation())
+         pointTransformed.add(translationVector);
+   }
+
+   /**
+    * Transforms all the points of the given point array by this transform and stores the result in
+    * {@code pointsTransformed}.
+    * <p>
+    * This is the batch version of {@link #transform(Point3DReadOnly, Point3DBasics)}. The transform
+    * coefficients are read once and applied on the points in a single loop over the backing arrays.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    */
+   public void transform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+   {
+      transform(pointsOriginal, pointsTransformed, false, true, null);
+   }
+
+   /**
+    * Transforms in place all the points of the given point array by this transform.
+    *
+    * @param pointsToTransform the points to transform. Modified.
+    * @see #transform(Point3DArray, Point3DArray)
+    */
+   public void transform(Point3DArray pointsToTransform)
+   {
+      transform(pointsToTransform, pointsToTransform);
    }
 
    /** {@inheritDoc} */
    @Override
    public void transform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
    {
-      rotationMatrix.transform(vectorOriginal, vectorTransformed);
+      if (hasRotation())
+         rotationMatrix.transform(vectorOriginal, vectorTransformed);
+      else
+         vectorTransformed.set(vectorOriginal);
    }
 
    /** {@inheritDoc} */
@@ -1952,16 +2274,340 @@ public class RigidBodyTransform
    @Override
    public void inverseTransform(Point3DReadOnly pointOriginal, Point3DBasics pointTransformed)
    {
+      if (useInverseCache())
+      {
+         updateInverseCache();
+         double x = pointOriginal.getX();
+         double y = pointOriginal.getY();
+         double z = pointOriginal.getZ();
+         pointTransformed.set(rotationMatrix.getM00() * x + rotationMatrix.getM10() * y + rotationMatrix.getM20() * z + inverseTranslationX,
+                              rotationMatrix.getM01() * x + rotationMatrix.getM11() * y + rotationMatrix.getM21() * z + inverseTranslationY,
+                              rotationMatrix.getM02() * x + rotationMatrix.getM12() * y + rotationMatrix.getM22() * z + inverseTranslationZ);
+         return;
+      }
+
       pointTransformed.set(pointOriginal);
-      pointTransformed.sub(translationVector);
-      rotationMatrix.inverseTransform(pointTransformed);
+
+      if (hasTranslation())
+         pointTransformed.sub(translationVector);
+      if (hasRotation())
+         rotationMatrix.inverseTransform(pointTransformed);
+   }
+
+   /**
+    * Performs the inverse of the transform on all the points of the given point array and stores
+    * the result in {@code pointsTransformed}.
+    * <p>
+    * This is the batch version of {@link #inverseTransform(Point3DReadOnly, Point3DBasics)}. The
+    * transform coefficients are read once and applied on the points in a single loop over the
+    * backing arrays.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    */
+   public void inverseTransform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+   {
+      transform(pointsOriginal, pointsTransformed, true, true, null);
+   }
+
+   /**
+    * Performs in place the inverse of the transform on all the points of the given point array.
+    *
+    * @param pointsToTransform the points to transform. Modified.
+    * @see #inverseTransform(Point3DArray, Point3DArray)
+    */
+   public void inverseTransform(Point3DArray pointsToTransform)
+   {
+      inverseTransform(pointsToTransform, pointsToTransform);
+   }
+
+   /**
+    * Transforms all the points of the given point array by this transform and stores the result in
+    * {@code pointsTransformed}, splitting the work over the threads of {@code executor}.
+    * <p>
+    * This is the parallel version of {@link #transform(Point3DArray, Point3DArray)}. Batches
+    * smaller than the sequential threshold of {@code executor} are transformed in the calling
+    * thread.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    * @param executor the executor used to split the work. Not modified.
+    */
+   public void transform(Point3DArray pointsOriginal, Point3DArray pointsTransformed, ParallelBatchExecutor executor)
+   {
+      transform(pointsOriginal, pointsTransformed, false, true, executor);
+   }
+
+   /**
+    * Performs the inverse of the transform on all the points of the given point array and stores
+    * the result in {@code pointsTransformed}, splitting the work over the threads of
+    * {@code executor}.
+    * <p>
+    * This is the parallel version of {@link #inverseTransform(Point3DArray, Point3DArray)}. Batches
+    * smaller than the sequential threshold of {@code executor} are transformed in the calling
+    * thread.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the array in which the transformed points are stored. Modified.
+    * @param executor the executor used to split the work. Not modified.
+    */
+   public void inverseTransform(Point3DArray pointsOriginal, Point3DArray pointsTransformed, ParallelBatchExecutor executor)
+   {
+      transform(pointsOriginal, pointsTransformed, true, true, executor);
+   }
+
+   /**
+    * Transforms all the vectors of the given vector array by this transform and stores the result
+    * in {@code vectorsTransformed}.
+    * <p>
+    * This is the batch version of {@link #transform(Vector3DReadOnly, Vector3DBasics)}. Only the
+    * rotation part of this transform is applied on the vectors.
+    * </p>
+    * <p>
+    * {@code vectorsTransformed} is resized to match the size of {@code vectorsOriginal}. It can be
+    * the same instance as {@code vectorsOriginal}.
+    * </p>
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the transformed vectors are stored. Modified.
+    */
+   public void transform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+   {
+      transform(vectorsOriginal, vectorsTransformed, false, false, null);
+   }
+
+   /**
+    * Transforms in place all the vectors of the given vector array by this transform.
+    *
+    * @param vectorsToTransform the vectors to transform. Modified.
+    * @see #transform(Vector3DArray, Vector3DArray)
+    */
+   public void transform(Vector3DArray vectorsToTransform)
+   {
+      transform(vectorsToTransform, vectorsToTransform);
+   }
+
+   /**
+    * Transforms all the vectors of the given vector array by this transform and stores the result
+    * in {@code vectorsTransformed}, splitting the work over the threads of {@code executor}.
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the transformed vectors are stored. Modified.
+    * @param executor the executor used to split the work. Not modified.
+    * @see #transform(Vector3DArray, Vector3DArray)
+    */
+   public void transform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed, ParallelBatchExecutor executor)
+   {
+      transform(vectorsOriginal, vectorsTransformed, false, false, executor);
+   }
+
+   /**
+    * Performs the inverse of the transform on all the vectors of the given vector array and stores
+    * the result in {@code vectorsTransformed}.
+    * <p>
+    * This is the batch version of {@link #inverseTransform(Vector3DReadOnly, Vector3DBasics)}.
+    * </p>
+    * <p>
+    * {@code vectorsTransformed} is resized to match the size of {@code vectorsOriginal}. It can be
+    * the same instance as {@code vectorsOriginal}.
+    * </p>
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the transformed vectors are stored. Modified.
+    */
+   public void inverseTransform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+   {
+      transform(vectorsOriginal, vectorsTransformed, true, false, null);
+   }
+
+   /**
+    * Performs in place the inverse of the transform on all the vectors of the given vector array.
+    *
+    * @param vectorsToTransform the vectors to transform. Modified.
+    * @see #inverseTransform(Vector3DArray, Vector3DArray)
+    */
+   public void inverseTransform(Vector3DArray vectorsToTransform)
+   {
+      inverseTransform(vectorsToTransform, vectorsToTransform);
+   }
+
+   /**
+    * Performs the inverse of the transform on all the vectors of the given vector array and stores
+    * the result in {@code vectorsTransformed}, splitting the work over the threads of
+    * {@code executor}.
+    *
+    * @param vectorsOriginal the vectors to transform. Not modified.
+    * @param vectorsTransformed the array in which the transformed vectors are stored. Modified.
+    * @param executor the executor used to split the work. Not modified.
+    * @see #inverseTransform(Vector3DArray, Vector3DArray)
+    */
+   public void inverseTransform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed, ParallelBatchExecutor executor)
+   {
+      transform(vectorsOriginal, vectorsTransformed, true, false, executor);
+   }
+
+   /**
+    * Reduces this transform, or its inverse, to a matrix and a translation and applies it on the
+    * given tuples, in parallel when {@code executor} is not {@code null}.
+    * <p>
+    * When the rotation part is exactly identity, the tuples are only translated.
+    * </p>
+    */
+   private void transform(Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed, boolean inverse, boolean applyTranslation,
+                          ParallelBatchExecutor executor)
+   {
+      if (!hasRotation())
+      { // Only the translation, if any, has to be applied.
+         double tx = 0.0, ty = 0.0, tz = 0.0;
+
+         if (applyTranslation)
+         {
+            tx = inverse ? -translationVector.getX() : translationVector.getX();
+            ty = inverse ? -translationVector.getY() : translationVector.getY();
+            tz = inverse ? -translationVector.getZ() : translationVector.getZ();
+         }
+
+         Tuple3DArrayTransformKernel.translate(tuplesOriginal, tuplesTransformed, tx, ty, tz, executor);
+         return;
+      }
+
+      double m00, m01, m02, m10, m11, m12, m20, m21, m22;
+
+      if (inverse)
+      { // The inverse of a rotation matrix is its transpose.
+         m00 = rotationMatrix.getM00();
+         m01 = rotationMatrix.getM10();
+         m02 = rotationMatrix.getM20();
+         m10 = rotationMatrix.getM01();
+         m11 = rotationMatrix.getM11();
+         m12 = rotationMatrix.getM21();
+         m20 = rotationMatrix.getM02();
+         m21 = rotationMatrix.getM12();
+         m22 = rotationMatrix.getM22();
+      }
+      else
+      {
+         m00 = rotationMatrix.getM00();
+         m01 = rotationMatrix.getM01();
+         m02 = rotationMatrix.getM02();
+         m10 = rotationMatrix.getM10();
+         m11 = rotationMatrix.getM11();
+         m12 = rotationMatrix.getM12();
+         m20 = rotationMatrix.getM20();
+         m21 = rotationMatrix.getM21();
+         m22 = rotationMatrix.getM22();
+      }
+
+      if (!applyTranslation)
+      {
+         Tuple3DArrayTransformKernel.transform(tuplesOriginal, tuplesTransformed, m00, m01, m02, m10, m11, m12, m20, m21, m22, 0.0, 0.0, 0.0, executor);
+      }
+      else if (inverse)
+      { // The inverse is: R^T * (p - t)
+         double tx = -translationVector.getX();
+         double ty = -translationVector.getY();
+         double tz = -translationVector.getZ();
+         Tuple3DArrayTransformKernel.translateThenTransform(tuplesOriginal, tuplesTransformed, m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz,
+                                                            executor);
+      }
+      else
+      {
+         double tx = translationVector.getX();
+         double ty = translationVector.getY();
+         double tz = translationVector.getZ();
+         Tuple3DArrayTransformKernel.transform(tuplesOriginal, tuplesTransformed, m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, executor);
+      }
+   }
+
+   /**
+    * Transforms all the points of the given off-heap buffer by this transform and stores the result
+    * in {@code pointsTransformed}.
+    * <p>
+    * This is the off-heap version of {@link #transform(Point3DArray, Point3DArray)}. The points are
+    * read from and written to the buffers directly, no heap object is created per point.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the buffer in which the transformed points are stored. Modified.
+    * @throws IllegalArgumentException if {@code pointsTransformed} cannot hold all the points.
+    */
+   public void transform(OffHeapPoint3DBuffer pointsOriginal, OffHeapPoint3DBuffer pointsTransformed)
+   {
+      double m00 = rotationMatrix.getM00();
+      double m01 = rotationMatrix.getM01();
+      double m02 = rotationMatrix.getM02();
+      double m10 = rotationMatrix.getM10();
+      double m11 = rotationMatrix.getM11();
+      double m12 = rotationMatrix.getM12();
+      double m20 = rotationMatrix.getM20();
+      double m21 = rotationMatrix.getM21();
+      double m22 = rotationMatrix.getM22();
+      double tx = translationVector.getX();
+      double ty = translationVector.getY();
+      double tz = translationVector.getZ();
+      pointsOriginal.transform(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, pointsTransformed);
+   }
+
+   /**
+    * Performs the inverse of this transform on all the points of the given off-heap buffer and
+    * stores the result in {@code pointsTransformed}.
+    * <p>
+    * This is the off-heap version of {@link #inverseTransform(Point3DArray, Point3DArray)}. The
+    * points are read from and written to the buffers directly, no heap object is created per point.
+    * </p>
+    * <p>
+    * {@code pointsTransformed} is resized to match the size of {@code pointsOriginal}. It can be the
+    * same instance as {@code pointsOriginal}.
+    * </p>
+    *
+    * @param pointsOriginal the points to transform. Not modified.
+    * @param pointsTransformed the buffer in which the transformed points are stored. Modified.
+    * @throws IllegalArgumentException if {@code pointsTransformed} cannot hold all the points.
+    */
+   public void inverseTransform(OffHeapPoint3DBuffer pointsOriginal, OffHeapPoint3DBuffer pointsTransformed)
+   { // The inverse is: R^T * (p - t)
+      double m00 = rotationMatrix.getM00();
+      double m01 = rotationMatrix.getM10();
+      double m02 = rotationMatrix.getM20();
+      double m10 = rotationMatrix.getM01();
+      double m11 = rotationMatrix.getM11();
+      double m12 = rotationMatrix.getM21();
+      double m20 = rotationMatrix.getM02();
+      double m21 = rotationMatrix.getM12();
+      double m22 = rotationMatrix.getM22();
+      double tx = -translationVector.getX();
+      double ty = -translationVector.getY();
+      double tz = -translationVector.getZ();
+      pointsOriginal.translateThenTransform(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, pointsTransformed);
    }
 
    /** {@inheritDoc} */
    @Override
    public void inverseTransform(Vector3DReadOnly vectorOriginal, Vector3DBasics vectorTransformed)
    {
-      rotationMatrix.inverseTransform(vectorOriginal, vectorTransformed);
+      if (hasRotation())
+         rotationMatrix.inverseTransform(vectorOriginal, vectorTransformed);
+      else
+         vectorTransformed.set(vectorOriginal);
    }
 
    /** {@inheritDoc} */
@@ -2641,14 +3287,10 @@ public class RigidBodyTransform
    @Override
    public boolean equals(Object object)
    {
-      try
-      {
+      if (object instanceof RigidBodyTransform)
          return equals((RigidBodyTransform) object);
-      }
-      catch (ClassCastException e)
-      {
+      else
          return false;
-      }
    }
 
    /**
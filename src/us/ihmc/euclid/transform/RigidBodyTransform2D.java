@@ -0,0 +1,805 @@
+package us.ihmc.euclid.transform;
+
+import us.ihmc.euclid.exceptions.NotAMatrix2DException;
+import us.ihmc.euclid.interfaces.Clearable;
+import us.ihmc.euclid.interfaces.EpsilonComparable;
+import us.ihmc.euclid.interfaces.GeometricallyComparable;
+import us.ihmc.euclid.interfaces.Settable;
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreIOTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
+import us.ihmc.euclid.tuple2D.interfaces.Tuple2DReadOnly;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DReadOnly;
+
+/**
+ * A {@code RigidBodyTransform2D} represents a planar rigid-body transform, i.e. a rotation about
+ * the z-axis followed by a translation in the XY plane.
+ * <p>
+ * Compared to using a {@link RigidBodyTransform} on 2D geometries, this transform only stores the
+ * yaw angle, its cosine and sine, and the 2D translation. As a result, transforming a 2D geometry
+ * only costs a 2-by-2 rotation and a 2D offset, and does not require to verify that the transform
+ * is in the XY plane.
+ * </p>
+ * <p>
+ * The yaw angle is always kept in [-<i>pi</i>, <i>pi</i>[ and is the reference for the comparison
+ * methods. Its cosine and sine are either computed from it or composed with the angle sum
+ * identities and renormalized, such that they remain on the unit circle and consistent with the
+ * yaw angle to within a few ulps.
+ * </p>
+ * <p>
+ * A few special cases to keep in mind:
+ * <ul>
+ * <li>when applying this transform on a {@link Point2DBasics}, this object is rotated, then
+ * translated.
+ * <li>when applying this transform on a {@link Vector2DBasics}, this object is only rotated. It is
+ * NOT translated.
+ * </ul>
+ * </p>
+ */
+public class RigidBodyTransform2D implements EpsilonComparable<RigidBodyTransform2D>, GeometricallyComparable<RigidBodyTransform2D>,
+      Settable<RigidBodyTransform2D>, Clearable
+{
+   /** The rotation angle about the z-axis. */
+   private double yaw;
+   /** The cosine of {@link #yaw}. */
+   private double cosYaw;
+   /** The sine of {@link #yaw}. */
+   private double sinYaw;
+   /** The x-component of the translation. */
+   private double x;
+   /** The y-component of the translation. */
+   private double y;
+
+   /**
+    * Creates a new transform set to identity.
+    * <p>
+    * When set to identity, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public RigidBodyTransform2D()
+   {
+      setIdentity();
+   }
+
+   /**
+    * Creates a new transform and sets it to {@code other}.
+    *
+    * @param other the other transform to copy. Not modified.
+    */
+   public RigidBodyTransform2D(RigidBodyTransform2D other)
+   {
+      set(other);
+   }
+
+   /**
+    * Creates a new transform and initializes it from the given yaw angle and translation.
+    *
+    * @param yaw the rotation angle about the z-axis.
+    * @param x the x-component of the translation.
+    * @param y the y-component of the translation.
+    */
+   public RigidBodyTransform2D(double yaw, double x, double y)
+   {
+      set(yaw, x, y);
+   }
+
+   /**
+    * Creates a new transform and initializes it from the given rigid-body transform.
+    * <p>
+    * See {@link #set(RigidBodyTransform)}.
+    * </p>
+    *
+    * @param rigidBodyTransform the rigid-body transform to copy. Not modified.
+    * @throws NotAMatrix2DException if the rotation part of {@code rigidBodyTransform} is not a
+    *            rotation about the z-axis.
+    */
+   public RigidBodyTransform2D(RigidBodyTransform rigidBodyTransform)
+   {
+      set(rigidBodyTransform);
+   }
+
+   /**
+    * Sets this transform to identity.
+    * <p>
+    * When set to identity, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   public void setIdentity()
+   {
+      set(0.0, 0.0, 0.0);
+   }
+
+   /**
+    * Sets this transform to identity.
+    * <p>
+    * When set to identity, this transform has no effect when transforming a geometry object.
+    * </p>
+    */
+   @Override
+   public void setToZero()
+   {
+      setIdentity();
+   }
+
+   /**
+    * Sets all the components of this transform to {@link Double#NaN}.
+    */
+   @Override
+   public void setToNaN()
+   {
+      yaw = Double.NaN;
+      cosYaw = Double.NaN;
+      sinYaw = Double.NaN;
+      x = Double.NaN;
+      y = Double.NaN;
+   }
+
+   /**
+    * Tests if at least one element of this transform is equal to {@linkplain Double#NaN}.
+    *
+    * @return {@code true} if at least one element of this transform is equal to
+    *         {@linkplain Double#NaN}, {@code false} otherwise.
+    */
+   @Override
+   public boolean containsNaN()
+   {
+      return Double.isNaN(yaw) || Double.isNaN(x) || Double.isNaN(y);
+   }
+
+   /**
+    * Sets this transform to {@code other}.
+    *
+    * @param other the other transform to copy the values from. Not modified.
+    */
+   @Override
+   public void set(RigidBodyTransform2D other)
+   {
+      yaw = other.yaw;
+      cosYaw = other.cosYaw;
+      sinYaw = other.sinYaw;
+      x = other.x;
+      y = other.y;
+   }
+
+   /**
+    * Sets the rotation and translation of this transform.
+    *
+    * @param yaw the rotation angle about the z-axis.
+    * @param x the x-component of the translation.
+    * @param y the y-component of the translation.
+    */
+   public void set(double yaw, double x, double y)
+   {
+      setRotation(yaw);
+      setTranslation(x, y);
+   }
+
+   /**
+    * Sets this transform from the given rigid-body transform.
+    * <p>
+    * The z-component of the translation of {@code rigidBodyTransform} is ignored.
+    * </p>
+    *
+    * @param rigidBodyTransform the rigid-body transform to copy the values from. Not modified.
+    * @throws NotAMatrix2DException if the rotation part of {@code rigidBodyTransform} is not a
+    *            rotation about the z-axis.
+    */
+   public void set(RigidBodyTransform rigidBodyTransform)
+   {
+      rigidBodyTransform.checkIfRotation2D();
+
+      RotationMatrixReadOnly rotationMatrix = rigidBodyTransform.getRotationMatrix();
+      double cos = rotationMatrix.getM00();
+      double sin = rotationMatrix.getM10();
+      double invNorm = 1.0 / EuclidCoreTools.norm(cos, sin);
+      yaw = EuclidCoreTools.trimAngleMinusPiToPi(Math.atan2(sin, cos));
+      cosYaw = cos * invNorm;
+      sinYaw = sin * invNorm;
+      x = rigidBodyTransform.getTranslationX();
+      y = rigidBodyTransform.getTranslationY();
+   }
+
+   /**
+    * Sets the rotation part of this transform, the translation part remains unchanged.
+    * <p>
+    * The yaw angle is shifted in [-<i>pi</i>, <i>pi</i>[.
+    * </p>
+    *
+    * @param yaw the rotation angle about the z-axis.
+    */
+   public void setRotation(double yaw)
+   {
+      this.yaw = EuclidCoreTools.trimAngleMinusPiToPi(yaw);
+      cosYaw = Math.cos(this.yaw);
+      sinYaw = Math.sin(this.yaw);
+   }
+
+   /**
+    * Sets the translation part of this transform, the rotation part remains unchanged.
+    *
+    * @param x the x-component of the translation.
+    * @param y the y-component of the translation.
+    */
+   public void setTranslation(double x, double y)
+   {
+      this.x = x;
+      this.y = y;
+   }
+
+   /**
+    * Sets the translation part of this transform, the rotation part remains unchanged.
+    *
+    * @param translation the new translation. Not modified.
+    */
+   public void setTranslation(Tuple2DReadOnly translation)
+   {
+      setTranslation(translation.getX(), translation.getY());
+   }
+
+   /**
+    * Packs this transform in the given rigid-body transform.
+    * <p>
+    * The z-component of the translation of {@code rigidBodyTransformToPack} is set to zero.
+    * </p>
+    *
+    * @param rigidBodyTransformToPack the rigid-body transform in which this transform is stored.
+    *           Modified.
+    */
+   public void get(RigidBodyTransform rigidBodyTransformToPack)
+   {
+      rigidBodyTransformToPack.setRotation(cosYaw, -sinYaw, 0.0, sinYaw, cosYaw, 0.0, 0.0, 0.0, 1.0);
+      rigidBodyTransformToPack.setTranslation(x, y, 0.0);
+   }
+
+   /**
+    * Inverts this transform.
+    */
+   public void invert()
+   {
+      double invX = -cosYaw * x - sinYaw * y;
+      double invY = sinYaw * x - cosYaw * y;
+      yaw = EuclidCoreTools.trimAngleMinusPiToPi(-yaw);
+      sinYaw = -sinYaw;
+      x = invX;
+      y = invY;
+   }
+
+   /**
+    * Performs the multiplication of this transform with {@code other}.
+    * <p>
+    * this = this * other
+    * </p>
+    *
+    * @param other the other transform to multiply this with. Not modified.
+    */
+   public void multiply(RigidBodyTransform2D other)
+   {
+      double newX = cosYaw * other.x - sinYaw * other.y + x;
+      double newY = sinYaw * other.x + cosYaw * other.y + y;
+      addRotation(other.yaw, other.cosYaw, other.sinYaw);
+      x = newX;
+      y = newY;
+   }
+
+   /**
+    * Performs the multiplication of this transform with the inverse of {@code other}.
+    * <p>
+    * this = this * other<sup>-1</sup>
+    * </p>
+    *
+    * @param other the other transform to multiply this with. Not modified.
+    */
+   public void multiplyInvertOther(RigidBodyTransform2D other)
+   {
+      // other^-1 = (-yaw, -R^T t)
+      double otherInvX = -other.cosYaw * other.x - other.sinYaw * other.y;
+      double otherInvY = other.sinYaw * other.x - other.cosYaw * other.y;
+      double newX = cosYaw * otherInvX - sinYaw * otherInvY + x;
+      double newY = sinYaw * otherInvX + cosYaw * otherInvY + y;
+      addRotation(-other.yaw, other.cosYaw, -other.sinYaw);
+      x = newX;
+      y = newY;
+   }
+
+   /**
+    * Performs the multiplication of {@code other} with this transform.
+    * <p>
+    * this = other * this
+    * </p>
+    *
+    * @param other the other transform to multiply this with. Not modified.
+    */
+   public void preMultiply(RigidBodyTransform2D other)
+   {
+      double newX = other.cosYaw * x - other.sinYaw * y + other.x;
+      double newY = other.sinYaw * x + other.cosYaw * y + other.y;
+      addRotation(other.yaw, other.cosYaw, other.sinYaw);
+      x = newX;
+      y = newY;
+   }
+
+   /**
+    * Performs the multiplication of the inverse of {@code other} with this transform.
+    * <p>
+    * this = other<sup>-1</sup> * this
+    * </p>
+    *
+    * @param other the other transform to multiply this with. Not modified.
+    */
+   public void preMultiplyInvertOther(RigidBodyTransform2D other)
+   {
+      double dx = x - other.x;
+      double dy = y - other.y;
+      double newX = other.cosYaw * dx + other.sinYaw * dy;
+      double newY = -other.sinYaw * dx + other.cosYaw * dy;
+      addRotation(-other.yaw, other.cosYaw, -other.sinYaw);
+      x = newX;
+      y = newY;
+   }
+
+   /**
+    * Adds the given rotation to the rotation of this transform using the angle sum identities such
+    * that no trigonometric function has to be evaluated.
+    * <p>
+    * The new cosine and sine are renormalized such that they do not drift away from the unit circle
+    * over long chains of multiplications. As their norm is within a few ulps of 1, a first-order
+    * correction of the inverse square root is enough: 1 / sqrt(n) ~ (3 - n) / 2.
+    * </p>
+    */
+   private void addRotation(double otherYaw, double otherCosYaw, double otherSinYaw)
+   {
+      double newCosYaw = cosYaw * otherCosYaw - sinYaw * otherSinYaw;
+      double newSinYaw = sinYaw * otherCosYaw + cosYaw * otherSinYaw;
+      double correction = 0.5 * (3.0 - (newCosYaw * newCosYaw + newSinYaw * newSinYaw));
+      yaw = EuclidCoreTools.trimAngleMinusPiToPi(yaw + otherYaw);
+      cosYaw = correction * newCosYaw;
+      sinYaw = correction * newSinYaw;
+   }
+
+   /**
+    * Transforms the given point by this transform.
+    *
+    * @param pointToTransform the point to transform. Modified.
+    */
+   public void transform(Point2DBasics pointToTransform)
+   {
+      transform(pointToTransform, pointToTransform);
+   }
+
+   /**
+    * Transforms the point {@code pointOriginal} by this transform and stores the result in
+    * {@code pointTransformed}.
+    *
+    * @param pointOriginal the point to transform. Not modified.
+    * @param pointTransformed the point in which the result is stored. Modified.
+    */
+   public void transform(Point2DReadOnly pointOriginal, Point2DBasics pointTransformed)
+   {
+      double px = pointOriginal.getX();
+      double py = pointOriginal.getY();
+      pointTransformed.set(cosYaw * px - sinYaw * py + x, sinYaw * px + cosYaw * py + y);
+   }
+
+   /**
+    * Transforms the given vector by this transform.
+    * <p>
+    * The vector is only rotated, the translation part of this transform is not applied.
+    * </p>
+    *
+    * @param vectorToTransform the vector to transform. Modified.
+    */
+   public void transform(Vector2DBasics vectorToTransform)
+   {
+      transform(vectorToTransform, vectorToTransform);
+   }
+
+   /**
+    * Transforms the vector {@code vectorOriginal} by this transform and stores the result in
+    * {@code vectorTransformed}.
+    * <p>
+    * The vector is only rotated, the translation part of this transform is not applied.
+    * </p>
+    *
+    * @param vectorOriginal the vector to transform. Not modified.
+    * @param vectorTransformed the vector in which the result is stored. Modified.
+    */
+   public void transform(Vector2DReadOnly vectorOriginal, Vector2DBasics vectorTransformed)
+   {
+      double vx = vectorOriginal.getX();
+      double vy = vectorOriginal.getY();
+      vectorTransformed.set(cosYaw * vx - sinYaw * vy, sinYaw * vx + cosYaw * vy);
+   }
+
+   /**
+    * Transforms the given point by the inverse of this transform.
+    *
+    * @param pointToTransform the point to transform. Modified.
+    */
+   public void inverseTransform(Point2DBasics pointToTransform)
+   {
+      inverseTransform(pointToTransform, pointToTransform);
+   }
+
+   /**
+    * Transforms the point {@code pointOriginal} by the inverse of this transform and stores the
+    * result in {@code pointTransformed}.
+    *
+    * @param pointOriginal the point to transform. Not modified.
+    * @param pointTransformed the point in which the result is stored. Modified.
+    */
+   public void inverseTransform(Point2DReadOnly pointOriginal, Point2DBasics pointTransformed)
+   {
+      double px = pointOriginal.getX() - x;
+      double py = pointOriginal.getY() - y;
+      pointTransformed.set(cosYaw * px + sinYaw * py, -sinYaw * px + cosYaw * py);
+   }
+
+   /**
+    * Transforms the given vector by the inverse of this transform.
+    * <p>
+    * The vector is only rotated, the translation part of this transform is not applied.
+    * </p>
+    *
+    * @param vectorToTransform the vector to transform. Modified.
+    */
+   public void inverseTransform(Vector2DBasics vectorToTransform)
+   {
+      inverseTransform(vectorToTransform, vectorToTransform);
+   }
+
+   /**
+    * Transforms the vector {@code vectorOriginal} by the inverse of this transform and stores the
+    * result in {@code vectorTransformed}.
+    * <p>
+    * The vector is only rotated, the translation part of this transform is not applied.
+    * </p>
+    *
+    * @param vectorOriginal the vector to transform. Not modified.
+    * @param vectorTransformed the vector in which the result is stored. Modified.
+    */
+   public void inverseTransform(Vector2DReadOnly vectorOriginal, Vector2DBasics vectorTransformed)
+   {
+      double vx = vectorOriginal.getX();
+      double vy = vectorOriginal.getY();
+      vectorTransformed.set(cosYaw * vx + sinYaw * vy, -sinYaw * vx + cosYaw * vy);
+   }
+
+   /**
+    * Transforms the first {@code numberOfPoints} points stored in the given arrays by this
+    * transform.
+    * <p>
+    * The i<sup>th</sup> point is represented by {@code xs[i]} and {@code ys[i]}.
+    * </p>
+    *
+    * @param xs the x-coordinates of the points to transform. Modified.
+    * @param ys the y-coordinates of the points to transform. Modified.
+    * @param numberOfPoints the number of points to transform.
+    * @throws ArrayIndexOutOfBoundsException if either array is shorter than {@code numberOfPoints}.
+    */
+   public void transformPoints(double[] xs, double[] ys, int numberOfPoints)
+   {
+      transformPoints(xs, ys, xs, ys, numberOfPoints);
+   }
+
+   /**
+    * Transforms the first {@code numberOfPoints} points stored in {@code xsOriginal} and
+    * {@code ysOriginal} by this transform and stores the result in {@code xsTransformed} and
+    * {@code ysTransformed}.
+    * <p>
+    * The original and transformed arrays can be the same for in place operations.
+    * </p>
+    *
+    * @param xsOriginal the x-coordinates of the points to transform. Not modified.
+    * @param ysOriginal the y-coordinates of the points to transform. Not modified.
+    * @param xsTransformed the arrays in which the x-coordinates of the result are stored. Modified.
+    * @param ysTransformed the arrays in which the y-coordinates of the result are stored. Modified.
+    * @param numberOfPoints the number of points to transform.
+    * @throws ArrayIndexOutOfBoundsException if any array is shorter than {@code numberOfPoints}.
+    */
+   public void transformPoints(double[] xsOriginal, double[] ysOriginal, double[] xsTransformed, double[] ysTransformed, int numberOfPoints)
+   {
+      double c = cosYaw;
+      double s = sinYaw;
+      double tx = x;
+      double ty = y;
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         double px = xsOriginal[i];
+         double py = ysOriginal[i];
+         xsTransformed[i] = c * px - s * py + tx;
+         ysTransformed[i] = s * px + c * py + ty;
+      }
+   }
+
+   /**
+    * Transforms the first {@code numberOfPoints} points stored in the given arrays by the inverse of
+    * this transform.
+    *
+    * @param xs the x-coordinates of the points to transform. Modified.
+    * @param ys the y-coordinates of the points to transform. Modified.
+    * @param numberOfPoints the number of points to transform.
+    * @throws ArrayIndexOutOfBoundsException if either array is shorter than {@code numberOfPoints}.
+    */
+   public void inverseTransformPoints(double[] xs, double[] ys, int numberOfPoints)
+   {
+      inverseTransformPoints(xs, ys, xs, ys, numberOfPoints);
+   }
+
+   /**
+    * Transforms the first {@code numberOfPoints} points stored in {@code xsOriginal} and
+    * {@code ysOriginal} by the inverse of this transform and stores the result in
+    * {@code xsTransformed} and {@code ysTransformed}.
+    * <p>
+    * The original and transformed arrays can be the same for in place operations.
+    * </p>
+    *
+    * @param xsOriginal the x-coordinates of the points to transform. Not modified.
+    * @param ysOriginal the y-coordinates of the points to transform. Not modified.
+    * @param xsTransformed the arrays in which the x-coordinates of the result are stored. Modified.
+    * @param ysTransformed the arrays in which the y-coordinates of the result are stored. Modified.
+    * @param numberOfPoints the number of points to transform.
+    * @throws ArrayIndexOutOfBoundsException if any array is shorter than {@code numberOfPoints}.
+    */
+   public void inverseTransformPoints(double[] xsOriginal, double[] ysOriginal, double[] xsTransformed, double[] ysTransformed, int numberOfPoints)
+   {
+      double c = cosYaw;
+      double s = sinYaw;
+      double tx = x;
+      double ty = y;
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         double px = xsOriginal[i] - tx;
+         double py = ysOriginal[i] - ty;
+         xsTransformed[i] = c * px + s * py;
+         ysTransformed[i] = -s * px + c * py;
+      }
+   }
+
+   /**
+    * Transforms the first {@code numberOfVectors} vectors stored in {@code xsOriginal} and
+    * {@code ysOriginal} by this transform and stores the result in {@code xsTransformed} and
+    * {@code ysTransformed}.
+    * <p>
+    * The vectors are only rotated, the translation part of this transform is not applied. The
+    * original and transformed arrays can be the same for in place operations.
+    * </p>
+    *
+    * @param xsOriginal the x-components of the vectors to transform. Not modified.
+    * @param ysOriginal the y-components of the vectors to transform. Not modified.
+    * @param xsTransformed the arrays in which the x-components of the result are stored. Modified.
+    * @param ysTransformed the arrays in which the y-components of the result are stored. Modified.
+    * @param numberOfVectors the number of vectors to transform.
+    * @throws ArrayIndexOutOfBoundsException if any array is shorter than {@code numberOfVectors}.
+    */
+   public void transformVectors(double[] xsOriginal, double[] ysOriginal, double[] xsTransformed, double[] ysTransformed, int numberOfVectors)
+   {
+      double c = cosYaw;
+      double s = sinYaw;
+
+      for (int i = 0; i < numberOfVectors; i++)
+      {
+         double vx = xsOriginal[i];
+         double vy = ysOriginal[i];
+         xsTransformed[i] = c * vx - s * vy;
+         ysTransformed[i] = s * vx + c * vy;
+      }
+   }
+
+   /**
+    * Transforms the first {@code numberOfVectors} vectors stored in {@code xsOriginal} and
+    * {@code ysOriginal} by the inverse of this transform and stores the result in
+    * {@code xsTransformed} and {@code ysTransformed}.
+    * <p>
+    * The vectors are only rotated, the translation part of this transform is not applied. The
+    * original and transformed arrays can be the same for in place operations.
+    * </p>
+    *
+    * @param xsOriginal the x-components of the vectors to transform. Not modified.
+    * @param ysOriginal the y-components of the vectors to transform. Not modified.
+    * @param xsTransformed the arrays in which the x-components of the result are stored. Modified.
+    * @param ysTransformed the arrays in which the y-components of the result are stored. Modified.
+    * @param numberOfVectors the number of vectors to transform.
+    * @throws ArrayIndexOutOfBoundsException if any array is shorter than {@code numberOfVectors}.
+    */
+   public void inverseTransformVectors(double[] xsOriginal, double[] ysOriginal, double[] xsTransformed, double[] ysTransformed, int numberOfVectors)
+   {
+      double c = cosYaw;
+      double s = sinYaw;
+
+      for (int i = 0; i < numberOfVectors; i++)
+      {
+         double vx = xsOriginal[i];
+         double vy = ysOriginal[i];
+         xsTransformed[i] = c * vx + s * vy;
+         ysTransformed[i] = -s * vx + c * vy;
+      }
+   }
+
+   /**
+    * Transforms each of the given points by this transform.
+    *
+    * @param pointsToTransform the points to transform. Modified.
+    */
+   public void transform(Point2DBasics[] pointsToTransform)
+   {
+      double c = cosYaw;
+      double s = sinYaw;
+      double tx = x;
+      double ty = y;
+
+      for (int i = 0; i < pointsToTransform.length; i++)
+      {
+         Point2DBasics point = pointsToTransform[i];
+         double px = point.getX();
+         double py = point.getY();
+         point.set(c * px - s * py + tx, s * px + c * py + ty);
+      }
+   }
+
+   /**
+    * Transforms each of the given points by the inverse of this transform.
+    *
+    * @param pointsToTransform the points to transform. Modified.
+    */
+   public void inverseTransform(Point2DBasics[] pointsToTransform)
+   {
+      double c = cosYaw;
+      double s = sinYaw;
+      double tx = x;
+      double ty = y;
+
+      for (int i = 0; i < pointsToTransform.length; i++)
+      {
+         Point2DBasics point = pointsToTransform[i];
+         double px = point.getX() - tx;
+         double py = point.getY() - ty;
+         point.set(c * px + s * py, -s * px + c * py);
+      }
+   }
+
+   /**
+    * Gets the rotation angle about the z-axis of this transform.
+    *
+    * @return the yaw angle.
+    */
+   public double getYaw()
+   {
+      return yaw;
+   }
+
+   /**
+    * Gets the cosine of the yaw angle of this transform.
+    *
+    * @return the cosine of the yaw angle.
+    */
+   public double getCosYaw()
+   {
+      return cosYaw;
+   }
+
+   /**
+    * Gets the sine of the yaw angle of this transform.
+    *
+    * @return the sine of the yaw angle.
+    */
+   public double getSinYaw()
+   {
+      return sinYaw;
+   }
+
+   /**
+    * Gets the x-component of the translation part of this transform.
+    *
+    * @return the x-component of the translation.
+    */
+   public double getTranslationX()
+   {
+      return x;
+   }
+
+   /**
+    * Gets the y-component of the translation part of this transform.
+    *
+    * @return the y-component of the translation.
+    */
+   public double getTranslationY()
+   {
+      return y;
+   }
+
+   /**
+    * Tests on a per component basis if this transform and {@code other} are equal to an
+    * {@code epsilon}.
+    *
+    * @param other the other transform to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing each component.
+    * @return {@code true} if the two transforms are equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean epsilonEquals(RigidBodyTransform2D other, double epsilon)
+   {
+      return EuclidCoreTools.epsilonEquals(yaw, other.yaw, epsilon) && EuclidCoreTools.epsilonEquals(x, other.x, epsilon)
+            && EuclidCoreTools.epsilonEquals(y, other.y, epsilon);
+   }
+
+   /**
+    * Two 2D transforms are considered geometrically equal if the difference between their yaw
+    * angles, shifted in [-<i>pi</i>, <i>pi</i>[, is less than {@code epsilon} and their translations
+    * are equal.
+    *
+    * @param other the other transform to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing the rotations and the translations.
+    * @return {@code true} if the two transforms represent the same transform, {@code false}
+    *         otherwise.
+    */
+   @Override
+   public boolean geometricallyEquals(RigidBodyTransform2D other, double epsilon)
+   {
+      if (Math.abs(EuclidCoreTools.angleDifferenceMinusPiToPi(yaw, other.yaw)) > epsilon)
+         return false;
+      return EuclidCoreTools.norm(x - other.x, y - other.y) <= epsilon;
+   }
+
+   /**
+    * Tests if the given {@code object}'s class is the same as this, in which case the method returns
+    * {@link #equals(RigidBodyTransform2D)}, it returns {@code false} otherwise or if the
+    * {@code object} is {@code null}.
+    *
+    * @param object the object to compare against this. Not modified.
+    * @return {@code true} if {@code object} and this are exactly equal, {@code false} otherwise.
+    */
+   @Override
+   public boolean equals(Object object)
+   {
+      if (object instanceof RigidBodyTransform2D)
+         return equals((RigidBodyTransform2D) object);
+      else
+         return false;
+   }
+
+   /**
+    * Tests on a per component basis if this transform and {@code other} are exactly equal.
+    * <p>
+    * The method returns {@code false} if the given transform is {@code null}.
+    * </p>
+    *
+    * @param other the other transform to compare against this. Not modified.
+    * @return {@code true} if the two transforms are exactly equal, {@code false} otherwise.
+    */
+   public boolean equals(RigidBodyTransform2D other)
+   {
+      if (other == null)
+         return false;
+      else
+         return yaw == other.yaw && x == other.x && y == other.y;
+   }
+
+   /**
+    * Provides a {@code String} representation of this transform as follows: <br>
+    * Yaw: yaw <br>
+    * Translation: ( x, y )
+    *
+    * @return the {@code String} representing this transform.
+    */
+   @Override
+   public String toString()
+   {
+      return "Yaw: " + String.format(EuclidCoreIOTools.DEFAULT_FORMAT, yaw) + "\nTranslation: " + EuclidCoreIOTools.getStringOf("(", " )", ", ", x, y);
+   }
+
+   @Override
+   public int hashCode()
+   {
+      long bits = 1L;
+      bits = EuclidHashCodeTools.addToHashCode(bits, yaw);
+      bits = EuclidHashCodeTools.addToHashCode(bits, x);
+      bits = EuclidHashCodeTools.addToHashCode(bits, y);
+      return EuclidHashCodeTools.toIntHashCode(bits);
+   }
+}
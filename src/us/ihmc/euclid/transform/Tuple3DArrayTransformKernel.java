@@ -0,0 +1,161 @@
+package us.ihmc.euclid.transform;
+
+import us.ihmc.euclid.concurrent.ParallelBatchExecutor;
+import us.ihmc.euclid.concurrent.ParallelBatchExecutor.RangeKernel;
+import us.ihmc.euclid.simd.BatchKernels;
+import us.ihmc.euclid.tuple3D.Tuple3DArray;
+
+/**
+ * Applies the transform {@code M * p + t}, where {@code M} is a 3-by-3 matrix and {@code t} a
+ * translation, on the tuples of a {@link Tuple3DArray}.
+ * <p>
+ * This kernel is shared by the batch transforms of {@link RigidBodyTransform},
+ * {@link QuaternionBasedTransform}, and {@link AffineTransform}, each of them being responsible for
+ * reducing itself, or its inverse, to the 12 coefficients of the kernel. The tuples are then
+ * processed with {@link BatchKernels#getDefault()}, which is vectorized when the platform allows it.
+ * </p>
+ */
+final class Tuple3DArrayTransformKernel implements RangeKernel
+{
+   /** The operations that can be applied on the tuples. */
+   private enum Operation
+   {
+      /** {@code M * p + t} */
+      TRANSFORM,
+      /** {@code M * (p + t)} */
+      TRANSLATE_THEN_TRANSFORM,
+      /** {@code p + t}, the matrix is ignored. */
+      TRANSLATE
+   }
+
+   private final Operation operation;
+   private final double[] xOriginal, yOriginal, zOriginal;
+   private final double[] xTransformed, yTransformed, zTransformed;
+   private final double m00, m01, m02, m10, m11, m12, m20, m21, m22;
+   private final double tx, ty, tz;
+
+   private Tuple3DArrayTransformKernel(Operation operation, Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed, double m00, double m01,
+                                       double m02, double m10, double m11, double m12, double m20, double m21, double m22, double tx, double ty, double tz)
+   {
+      this.operation = operation;
+      xOriginal = tuplesOriginal.getXArray();
+      yOriginal = tuplesOriginal.getYArray();
+      zOriginal = tuplesOriginal.getZArray();
+      xTransformed = tuplesTransformed.getXArray();
+      yTransformed = tuplesTransformed.getYArray();
+      zTransformed = tuplesTransformed.getZArray();
+      this.m00 = m00;
+      this.m01 = m01;
+      this.m02 = m02;
+      this.m10 = m10;
+      this.m11 = m11;
+      this.m12 = m12;
+      this.m20 = m20;
+      this.m21 = m21;
+      this.m22 = m22;
+      this.tx = tx;
+      this.ty = ty;
+      this.tz = tz;
+   }
+
+   @Override
+   public void apply(int startIndex, int endIndex)
+   {
+      apply(operation, m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, xOriginal, yOriginal, zOriginal, xTransformed, yTransformed, zTransformed,
+            startIndex, endIndex);
+   }
+
+   /**
+    * Transforms all the tuples of {@code tuplesOriginal} with {@code M * p + t} and stores the result
+    * in {@code tuplesTransformed}, which is resized to match the size of {@code tuplesOriginal}.
+    * <p>
+    * When {@code executor} is {@code null}, the tuples are transformed in the calling thread without
+    * generating garbage.
+    * </p>
+    */
+   static void transform(Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed, double m00, double m01, double m02, double m10, double m11,
+                         double m12, double m20, double m21, double m22, double tx, double ty, double tz, ParallelBatchExecutor executor)
+   {
+      execute(Operation.TRANSFORM, tuplesOriginal, tuplesTransformed, m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, executor);
+   }
+
+   /**
+    * Transforms all the tuples of {@code tuplesOriginal} with {@code M * (p + t)} and stores the
+    * result in {@code tuplesTransformed}, which is resized to match the size of
+    * {@code tuplesOriginal}.
+    * <p>
+    * This is the form used for the inverse of the transforms, such that the batch and the
+    * single-tuple inverse transforms round the same way.
+    * </p>
+    * <p>
+    * When {@code executor} is {@code null}, the tuples are transformed in the calling thread without
+    * generating garbage.
+    * </p>
+    */
+   static void translateThenTransform(Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed, double m00, double m01, double m02, double m10,
+                                      double m11, double m12, double m20, double m21, double m22, double tx, double ty, double tz,
+                                      ParallelBatchExecutor executor)
+   {
+      execute(Operation.TRANSLATE_THEN_TRANSFORM, tuplesOriginal, tuplesTransformed, m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, executor);
+   }
+
+   /**
+    * Translates all the tuples of {@code tuplesOriginal} and stores the result in
+    * {@code tuplesTransformed}, which is resized to match the size of {@code tuplesOriginal}.
+    * <p>
+    * This is the fast path for the transforms which rotation part is exactly identity.
+    * </p>
+    * <p>
+    * When {@code executor} is {@code null}, the tuples are translated in the calling thread without
+    * generating garbage.
+    * </p>
+    */
+   static void translate(Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed, double tx, double ty, double tz, ParallelBatchExecutor executor)
+   {
+      execute(Operation.TRANSLATE, tuplesOriginal, tuplesTransformed, 1.0, 0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 0.0, 1.0, tx, ty, tz, executor);
+   }
+
+   private static void execute(Operation operation, Tuple3DArray<?> tuplesOriginal, Tuple3DArray<?> tuplesTransformed, double m00, double m01, double m02,
+                               double m10, double m11, double m12, double m20, double m21, double m22, double tx, double ty, double tz,
+                               ParallelBatchExecutor executor)
+   {
+      int size = tuplesOriginal.size();
+      // Resizing first as it may replace the backing arrays.
+      tuplesTransformed.setSize(size);
+
+      if (executor == null)
+      {
+         apply(operation, m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, tuplesOriginal.getXArray(), tuplesOriginal.getYArray(),
+               tuplesOriginal.getZArray(), tuplesTransformed.getXArray(), tuplesTransformed.getYArray(), tuplesTransformed.getZArray(), 0, size);
+      }
+      else
+      {
+         executor.execute(size, new Tuple3DArrayTransformKernel(operation, tuplesOriginal, tuplesTransformed, m00, m01, m02, m10, m11, m12, m20, m21, m22, tx,
+                                                                ty, tz));
+      }
+   }
+
+   private static void apply(Operation operation, double m00, double m01, double m02, double m10, double m11, double m12, double m20, double m21,
+                             double m22, double tx, double ty, double tz, double[] xOriginal, double[] yOriginal, double[] zOriginal, double[] xTransformed,
+                             double[] yTransformed, double[] zTransformed, int startIndex, int endIndex)
+   {
+      BatchKernels kernels = BatchKernels.getDefault();
+
+      switch (operation)
+      {
+         case TRANSFORM:
+            kernels.transform(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, xOriginal, yOriginal, zOriginal, xTransformed, yTransformed,
+                              zTransformed, startIndex, endIndex);
+            break;
+         case TRANSLATE_THEN_TRANSFORM:
+            kernels.translateThenTransform(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz, xOriginal, yOriginal, zOriginal, xTransformed,
+                                           yTransformed, zTransformed, startIndex, endIndex);
+            break;
+         case TRANSLATE:
+            kernels.translate(tx, ty, tz, xOriginal, yOriginal, zOriginal, xTransformed, yTransformed, zTransformed, startIndex, endIndex);
+            break;
+         default:
+            throw new IllegalStateException("Unexpected operation: " + operation);
+      }
+   }
+}
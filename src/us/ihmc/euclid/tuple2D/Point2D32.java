@@ -170,14 +170,10 @@ public class Point2D32 implements Point2DBasics, GeometryObject<Point2D32>
    @Override
    public boolean equals(Object object)
    {
-      try
-      {
+      if (object instanceof Tuple2DReadOnly)
          return equals((Tuple2DReadOnly) object);
-      }
-      catch (ClassCastException e)
-      {
+      else
          return false;
-      }
    }
 
    /**
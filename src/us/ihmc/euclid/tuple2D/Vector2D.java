@@ -140,14 +140,10 @@ public class Vector2D implements Vector2DBasics, GeometryObject<Vector2D>
    @Override
    public boolean equals(Object object)
    {
-      try
-      {
+      if (object instanceof Tuple2DReadOnly)
          return equals((Tuple2DReadOnly) object);
-      }
-      catch (ClassCastException e)
-      {
+      else
          return false;
-      }
    }
 
    /**
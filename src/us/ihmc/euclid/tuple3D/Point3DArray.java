@@ -0,0 +1,52 @@
+package us.ihmc.euclid.tuple3D;
+
+/**
+ * A {@code Point3DArray} is a resizable collection of 3D points stored in a structure-of-arrays
+ * layout.
+ * <p>
+ * Instead of holding onto an array of {@link Point3D}, the coordinates of the points are stored in
+ * three parallel {@code double} arrays, one per coordinate. This layout is meant for processing
+ * large sets of points, such as point clouds, with tight loops that do not need to dereference an
+ * object per point. See for instance
+ * {@link us.ihmc.euclid.transform.RigidBodyTransform#transform(Point3DArray, Point3DArray)}.
+ * </p>
+ * <p>
+ * The backing arrays are exposed via {@link #getXArray()}, {@link #getYArray()}, and
+ * {@link #getZArray()} for batch processing. Only the first {@link #size()} elements of these
+ * arrays are meaningful. Note that the backing arrays are replaced when the capacity of this point
+ * array has to grow, references to them should not be kept across operations that change the size
+ * of this point array.
+ * </p>
+ */
+public class Point3DArray extends Tuple3DArray<Point3DArray>
+{
+   /**
+    * Creates a new empty point array with a capacity of {@value #DEFAULT_INITIAL_CAPACITY}.
+    */
+   public Point3DArray()
+   {
+      super();
+   }
+
+   /**
+    * Creates a new empty point array.
+    *
+    * @param initialCapacity the number of points this array can hold before it has to grow.
+    * @throws IllegalArgumentException if {@code initialCapacity} is negative.
+    */
+   public Point3DArray(int initialCapacity)
+   {
+      super(initialCapacity);
+   }
+
+   /**
+    * Creates a new point array and initializes it to {@code other}.
+    *
+    * @param other the other point array to copy. Not modified.
+    */
+   public Point3DArray(Point3DArray other)
+   {
+      super(other.size());
+      set(other);
+   }
+}
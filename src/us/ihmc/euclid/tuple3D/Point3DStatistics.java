@@ -0,0 +1,433 @@
+package us.ihmc.euclid.tuple3D;
+
+import us.ihmc.euclid.concurrent.ParallelBatchExecutor;
+import us.ihmc.euclid.concurrent.ParallelBatchExecutor.RangeKernel;
+import us.ihmc.euclid.interfaces.Settable;
+import us.ihmc.euclid.matrix.interfaces.Matrix3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+
+/**
+ * A {@code Point3DStatistics} accumulates a stream of 3D points to compute their centroid,
+ * covariance, and bounding box in a single pass and with a constant memory footprint.
+ * <p>
+ * The points are accumulated one at a time with Welford's method, or by batches stored in a
+ * structure-of-arrays layout, see {@link #add(double[], double[], double[], int, int)}. Both are
+ * numerically stable as the centered second moments are accumulated instead of the raw sums of
+ * squares.
+ * </p>
+ * <p>
+ * Two accumulators can be combined with {@link #merge(Point3DStatistics)}, such that a set of
+ * points can be processed by several threads, each of them accumulating its own partial result.
+ * For instance, a parallel stream of points can be reduced with:
+ *
+ * <pre>
+ * stream.collect(Point3DStatistics::new, Point3DStatistics::add, Point3DStatistics::merge);
+ * </pre>
+ *
+ * Note that the result may differ in the last digits depending on the order in which the partial
+ * results are merged.
+ * </p>
+ */
+public class Point3DStatistics implements Settable<Point3DStatistics>
+{
+   /** The number of points accumulated so far. */
+   private long numberOfPoints;
+   /** The mean of the points accumulated so far. */
+   private double meanX, meanY, meanZ;
+   /** The sums of the products of the deviations from the mean, i.e. the unnormalized covariance. */
+   private double m2XX, m2XY, m2XZ, m2YY, m2YZ, m2ZZ;
+   /** The bounding box of the points accumulated so far. */
+   private double minX, minY, minZ, maxX, maxY, maxZ;
+
+   /**
+    * Creates a new accumulator with no point.
+    */
+   public Point3DStatistics()
+   {
+      clear();
+   }
+
+   /**
+    * Creates a new accumulator and initializes it to {@code other}.
+    *
+    * @param other the other accumulator to copy. Not modified.
+    */
+   public Point3DStatistics(Point3DStatistics other)
+   {
+      set(other);
+   }
+
+   /**
+    * Removes all the accumulated points.
+    */
+   public void clear()
+   {
+      numberOfPoints = 0L;
+      meanX = meanY = meanZ = 0.0;
+      m2XX = m2XY = m2XZ = m2YY = m2YZ = m2ZZ = 0.0;
+      minX = minY = minZ = Double.POSITIVE_INFINITY;
+      maxX = maxY = maxZ = Double.NEGATIVE_INFINITY;
+   }
+
+   /**
+    * Sets this accumulator to {@code other}.
+    *
+    * @param other the other accumulator to copy. Not modified.
+    */
+   @Override
+   public void set(Point3DStatistics other)
+   {
+      numberOfPoints = other.numberOfPoints;
+      meanX = other.meanX;
+      meanY = other.meanY;
+      meanZ = other.meanZ;
+      m2XX = other.m2XX;
+      m2XY = other.m2XY;
+      m2XZ = other.m2XZ;
+      m2YY = other.m2YY;
+      m2YZ = other.m2YZ;
+      m2ZZ = other.m2ZZ;
+      minX = other.minX;
+      minY = other.minY;
+      minZ = other.minZ;
+      maxX = other.maxX;
+      maxY = other.maxY;
+      maxZ = other.maxZ;
+   }
+
+   /**
+    * Accumulates the given point.
+    *
+    * @param point the point to accumulate. Not modified.
+    */
+   public void add(Point3DReadOnly point)
+   {
+      add(point.getX(), point.getY(), point.getZ());
+   }
+
+   /**
+    * Accumulates the point with the given coordinates.
+    *
+    * @param x the x-coordinate of the point.
+    * @param y the y-coordinate of the point.
+    * @param z the z-coordinate of the point.
+    */
+   public void add(double x, double y, double z)
+   {
+      numberOfPoints++;
+      double invN = 1.0 / numberOfPoints;
+
+      // Welford's update: the deviation from the previous mean times the deviation from the new mean.
+      double dx = x - meanX;
+      double dy = y - meanY;
+      double dz = z - meanZ;
+      meanX += dx * invN;
+      meanY += dy * invN;
+      meanZ += dz * invN;
+      double newDx = x - meanX;
+      double newDy = y - meanY;
+      double newDz = z - meanZ;
+
+      m2XX += dx * newDx;
+      m2XY += dx * newDy;
+      m2XZ += dx * newDz;
+      m2YY += dy * newDy;
+      m2YZ += dy * newDz;
+      m2ZZ += dz * newDz;
+
+      updateBounds(x, y, z, x, y, z);
+   }
+
+   /**
+    * Accumulates all the points of the given array.
+    *
+    * @param points the points to accumulate. Not modified.
+    */
+   public void add(Tuple3DArray<?> points)
+   {
+      add(points.getXArray(), points.getYArray(), points.getZArray(), 0, points.size());
+   }
+
+   /**
+    * Accumulates all the points of the given array using the given executor.
+    * <p>
+    * Each sub-range of points is accumulated separately and the partial results are then merged into
+    * this accumulator. When {@code executor} is {@code null}, the points are accumulated in the
+    * calling thread without generating garbage.
+    * </p>
+    *
+    * @param points the points to accumulate. Not modified.
+    * @param executor the executor used to distribute the accumulation, can be {@code null}.
+    */
+   public void add(Tuple3DArray<?> points, ParallelBatchExecutor executor)
+   {
+      if (executor == null)
+         add(points);
+      else
+         executor.execute(points.size(), new AccumulationKernel(points, this));
+   }
+
+   /**
+    * Accumulates the points with an index in [{@code startIndex}, {@code endIndex}[ stored in a
+    * structure-of-arrays layout.
+    * <p>
+    * The batch is first reduced to its own mean and second moments with two passes over the
+    * coordinates, which are then merged into this accumulator. This is faster than accumulating the
+    * points one at a time and as accurate.
+    * </p>
+    *
+    * @param xs the x-coordinates of the points. Not modified.
+    * @param ys the y-coordinates of the points. Not modified.
+    * @param zs the z-coordinates of the points. Not modified.
+    * @param startIndex the index of the first point to accumulate, inclusive.
+    * @param endIndex the index of the last point to accumulate, exclusive.
+    */
+   public void add(double[] xs, double[] ys, double[] zs, int startIndex, int endIndex)
+   {
+      int batchSize = endIndex - startIndex;
+
+      if (batchSize <= 0)
+         return;
+
+      double sumX = 0.0, sumY = 0.0, sumZ = 0.0;
+      double batchMinX = Double.POSITIVE_INFINITY, batchMinY = Double.POSITIVE_INFINITY, batchMinZ = Double.POSITIVE_INFINITY;
+      double batchMaxX = Double.NEGATIVE_INFINITY, batchMaxY = Double.NEGATIVE_INFINITY, batchMaxZ = Double.NEGATIVE_INFINITY;
+
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double x = xs[i];
+         double y = ys[i];
+         double z = zs[i];
+         sumX += x;
+         sumY += y;
+         sumZ += z;
+         batchMinX = Math.min(batchMinX, x);
+         batchMinY = Math.min(batchMinY, y);
+         batchMinZ = Math.min(batchMinZ, z);
+         batchMaxX = Math.max(batchMaxX, x);
+         batchMaxY = Math.max(batchMaxY, y);
+         batchMaxZ = Math.max(batchMaxZ, z);
+      }
+
+      double invN = 1.0 / batchSize;
+      double batchMeanX = sumX * invN;
+      double batchMeanY = sumY * invN;
+      double batchMeanZ = sumZ * invN;
+      double batchM2XX = 0.0, batchM2XY = 0.0, batchM2XZ = 0.0, batchM2YY = 0.0, batchM2YZ = 0.0, batchM2ZZ = 0.0;
+
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double dx = xs[i] - batchMeanX;
+         double dy = ys[i] - batchMeanY;
+         double dz = zs[i] - batchMeanZ;
+         batchM2XX += dx * dx;
+         batchM2XY += dx * dy;
+         batchM2XZ += dx * dz;
+         batchM2YY += dy * dy;
+         batchM2YZ += dy * dz;
+         batchM2ZZ += dz * dz;
+      }
+
+      merge(batchSize, batchMeanX, batchMeanY, batchMeanZ, batchM2XX, batchM2XY, batchM2XZ, batchM2YY, batchM2YZ, batchM2ZZ);
+      updateBounds(batchMinX, batchMinY, batchMinZ, batchMaxX, batchMaxY, batchMaxZ);
+   }
+
+   /**
+    * Merges the points accumulated by {@code other} into this accumulator.
+    * <p>
+    * After calling this method, this accumulator is equivalent to an accumulator that would have
+    * accumulated the points of both accumulators.
+    * </p>
+    *
+    * @param other the other accumulator to merge into this. Not modified.
+    */
+   public void merge(Point3DStatistics other)
+   {
+      if (other.numberOfPoints == 0L)
+         return;
+
+      merge(other.numberOfPoints, other.meanX, other.meanY, other.meanZ, other.m2XX, other.m2XY, other.m2XZ, other.m2YY, other.m2YZ, other.m2ZZ);
+      updateBounds(other.minX, other.minY, other.minZ, other.maxX, other.maxY, other.maxZ);
+   }
+
+   private void merge(long otherNumberOfPoints, double otherMeanX, double otherMeanY, double otherMeanZ, double otherM2XX, double otherM2XY,
+                      double otherM2XZ, double otherM2YY, double otherM2YZ, double otherM2ZZ)
+   {
+      long totalNumberOfPoints = numberOfPoints + otherNumberOfPoints;
+      // Chan et al.'s update for combining the moments of two sets.
+      double otherWeight = (double) otherNumberOfPoints / (double) totalNumberOfPoints;
+      double dx = otherMeanX - meanX;
+      double dy = otherMeanY - meanY;
+      double dz = otherMeanZ - meanZ;
+      double crossWeight = numberOfPoints * otherWeight;
+
+      meanX += dx * otherWeight;
+      meanY += dy * otherWeight;
+      meanZ += dz * otherWeight;
+      m2XX += otherM2XX + dx * dx * crossWeight;
+      m2XY += otherM2XY + dx * dy * crossWeight;
+      m2XZ += otherM2XZ + dx * dz * crossWeight;
+      m2YY += otherM2YY + dy * dy * crossWeight;
+      m2YZ += otherM2YZ + dy * dz * crossWeight;
+      m2ZZ += otherM2ZZ + dz * dz * crossWeight;
+      numberOfPoints = totalNumberOfPoints;
+   }
+
+   private void updateBounds(double otherMinX, double otherMinY, double otherMinZ, double otherMaxX, double otherMaxY, double otherMaxZ)
+   {
+      minX = Math.min(minX, otherMinX);
+      minY = Math.min(minY, otherMinY);
+      minZ = Math.min(minZ, otherMinZ);
+      maxX = Math.max(maxX, otherMaxX);
+      maxY = Math.max(maxY, otherMaxY);
+      maxZ = Math.max(maxZ, otherMaxZ);
+   }
+
+   /**
+    * Gets the number of points accumulated so far.
+    *
+    * @return the number of points.
+    */
+   public long getNumberOfPoints()
+   {
+      return numberOfPoints;
+   }
+
+   /**
+    * Tests whether any point has been accumulated.
+    *
+    * @return {@code true} if no point has been accumulated, {@code false} otherwise.
+    */
+   public boolean isEmpty()
+   {
+      return numberOfPoints == 0L;
+   }
+
+   /**
+    * Packs the mean, or centroid, of the accumulated points.
+    * <p>
+    * When no point has been accumulated, {@code meanToPack} is set to {@link Double#NaN}.
+    * </p>
+    *
+    * @param meanToPack the tuple used to store the mean. Modified.
+    */
+   public void getMean(Tuple3DBasics meanToPack)
+   {
+      if (isEmpty())
+         meanToPack.setToNaN();
+      else
+         meanToPack.set(meanX, meanY, meanZ);
+   }
+
+   /**
+    * Packs the population covariance of the accumulated points, i.e. normalized by the number of
+    * points.
+    * <p>
+    * When no point has been accumulated, {@code covarianceToPack} is set to {@link Double#NaN}.
+    * </p>
+    *
+    * @param covarianceToPack the matrix used to store the covariance. Modified.
+    */
+   public void getCovariance(Matrix3DBasics covarianceToPack)
+   {
+      packCovariance(numberOfPoints, covarianceToPack);
+   }
+
+   /**
+    * Packs the sample covariance of the accumulated points, i.e. normalized by the number of points
+    * minus one.
+    * <p>
+    * When less than two points have been accumulated, {@code covarianceToPack} is set to
+    * {@link Double#NaN}.
+    * </p>
+    *
+    * @param covarianceToPack the matrix used to store the covariance. Modified.
+    */
+   public void getSampleCovariance(Matrix3DBasics covarianceToPack)
+   {
+      packCovariance(numberOfPoints - 1L, covarianceToPack);
+   }
+
+   private void packCovariance(long normalization, Matrix3DBasics covarianceToPack)
+   {
+      if (normalization <= 0L)
+      {
+         covarianceToPack.setToNaN();
+         return;
+      }
+
+      double invN = 1.0 / normalization;
+      double cXX = m2XX * invN;
+      double cXY = m2XY * invN;
+      double cXZ = m2XZ * invN;
+      double cYY = m2YY * invN;
+      double cYZ = m2YZ * invN;
+      double cZZ = m2ZZ * invN;
+      covarianceToPack.set(cXX, cXY, cXZ, cXY, cYY, cYZ, cXZ, cYZ, cZZ);
+   }
+
+   /**
+    * Packs the minimum coordinates of the accumulated points, i.e. the lower corner of their
+    * axis-aligned bounding box.
+    * <p>
+    * When no point has been accumulated, {@code minimumToPack} is set to {@link Double#NaN}.
+    * </p>
+    *
+    * @param minimumToPack the tuple used to store the minimum coordinates. Modified.
+    */
+   public void getMinimum(Tuple3DBasics minimumToPack)
+   {
+      if (isEmpty())
+         minimumToPack.setToNaN();
+      else
+         minimumToPack.set(minX, minY, minZ);
+   }
+
+   /**
+    * Packs the maximum coordinates of the accumulated points, i.e. the upper corner of their
+    * axis-aligned bounding box.
+    * <p>
+    * When no point has been accumulated, {@code maximumToPack} is set to {@link Double#NaN}.
+    * </p>
+    *
+    * @param maximumToPack the tuple used to store the maximum coordinates. Modified.
+    */
+   public void getMaximum(Tuple3DBasics maximumToPack)
+   {
+      if (isEmpty())
+         maximumToPack.setToNaN();
+      else
+         maximumToPack.set(maxX, maxY, maxZ);
+   }
+
+   /**
+    * Accumulates each sub-range of points separately and merges the partial results into the target
+    * accumulator.
+    */
+   private static class AccumulationKernel implements RangeKernel
+   {
+      private final double[] xs, ys, zs;
+      private final Point3DStatistics target;
+
+      private AccumulationKernel(Tuple3DArray<?> points, Point3DStatistics target)
+      {
+         xs = points.getXArray();
+         ys = points.getYArray();
+         zs = points.getZArray();
+         this.target = target;
+      }
+
+      @Override
+      public void apply(int startIndex, int endIndex)
+      {
+         Point3DStatistics partial = new Point3DStatistics();
+         partial.add(xs, ys, zs, startIndex, endIndex);
+
+         synchronized (target)
+         {
+            target.merge(partial);
+         }
+      }
+   }
+}
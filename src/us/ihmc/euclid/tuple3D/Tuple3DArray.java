@@ -0,0 +1,365 @@
+package us.ihmc.euclid.tuple3D;
+
+import java.util.Arrays;
+
+import us.ihmc.euclid.interfaces.Settable;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+
+/**
+ * A {@code Tuple3DArray} is a resizable collection of 3D tuples stored in a structure-of-arrays
+ * layout.
+ * <p>
+ * Instead of holding onto an array of tuple objects, the coordinates of the tuples are stored in
+ * three parallel {@code double} arrays, one per coordinate. This layout is meant for processing
+ * large sets of tuples, such as point clouds, with tight loops that do not need to dereference an
+ * object per tuple.
+ * </p>
+ * <p>
+ * The backing arrays are exposed via {@link #getXArray()}, {@link #getYArray()}, and
+ * {@link #getZArray()} for batch processing. Only the first {@link #size()} elements of these
+ * arrays are meaningful. Note that the backing arrays are replaced when the capacity of this tuple
+ * array has to grow, references to them should not be kept across operations that change the size
+ * of this tuple array.
+ * </p>
+ * @param <T> the final type of the tuple array.
+ * @see Point3DArray
+ * @see Vector3DArray
+ */
+public abstract class Tuple3DArray<T extends Tuple3DArray<T>> implements Settable<T>
+{
+   /** The default capacity used when none is provided at construction. */
+   public static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+   /** The x-coordinates of the tuples. */
+   private double[] x;
+   /** The y-coordinates of the tuples. */
+   private double[] y;
+   /** The z-coordinates of the tuples. */
+   private double[] z;
+   /** The number of tuples in this tuple array. */
+   private int size = 0;
+
+   /**
+    * Creates a new empty tuple array with a capacity of {@value #DEFAULT_INITIAL_CAPACITY}.
+    */
+   protected Tuple3DArray()
+   {
+      this(DEFAULT_INITIAL_CAPACITY);
+   }
+
+   /**
+    * Creates a new empty tuple array.
+    *
+    * @param initialCapacity the number of tuples this array can hold before it has to grow.
+    * @throws IllegalArgumentException if {@code initialCapacity} is negative.
+    */
+   protected Tuple3DArray(int initialCapacity)
+   {
+      if (initialCapacity < 0)
+         throw new IllegalArgumentException("The capacity cannot be negative: " + initialCapacity);
+
+      x = new double[initialCapacity];
+      y = new double[initialCapacity];
+      z = new double[initialCapacity];
+   }
+
+   /**
+    * Sets this tuple array to {@code other}.
+    * <p>
+    * After calling this method, this tuple array has the same size and holds the same coordinates
+    * as {@code other}.
+    * </p>
+    *
+    * @param other the other tuple array to copy the values from. Not modified.
+    */
+   @Override
+   public void set(T other)
+   {
+      if (other == this)
+         return;
+
+      setSize(other.size());
+      System.arraycopy(other.getXArray(), 0, x, 0, size);
+      System.arraycopy(other.getYArray(), 0, y, 0, size);
+      System.arraycopy(other.getZArray(), 0, z, 0, size);
+   }
+
+   /**
+    * Removes all the tuples from this tuple array.
+    * <p>
+    * The capacity is unchanged.
+    * </p>
+    */
+   public void clear()
+   {
+      size = 0;
+   }
+
+   /**
+    * Gets the number of tuples in this tuple array.
+    *
+    * @return the number of tuples.
+    */
+   public int size()
+   {
+      return size;
+   }
+
+   /**
+    * Tests whether this tuple array contains any tuple.
+    *
+    * @return {@code true} if this tuple array has no tuple, {@code false} otherwise.
+    */
+   public boolean isEmpty()
+   {
+      return size == 0;
+   }
+
+   /**
+    * Gets the number of tuples this tuple array can hold before having to grow.
+    *
+    * @return the capacity of this tuple array.
+    */
+   public int capacity()
+   {
+      return x.length;
+   }
+
+   /**
+    * Ensures that this tuple array can hold at least {@code minimumCapacity} tuples without having
+    * to grow.
+    *
+    * @param minimumCapacity the desired minimum capacity.
+    */
+   public void ensureCapacity(int minimumCapacity)
+   {
+      if (minimumCapacity <= x.length)
+         return;
+
+      int newCapacity = Math.max(minimumCapacity, 2 * x.length);
+      x = Arrays.copyOf(x, newCapacity);
+      y = Arrays.copyOf(y, newCapacity);
+      z = Arrays.copyOf(z, newCapacity);
+   }
+
+   /**
+    * Changes the number of tuples in this tuple array.
+    * <p>
+    * When growing, the new tuples are set to zero.
+    * </p>
+    *
+    * @param newSize the new number of tuples.
+    * @throws IllegalArgumentException if {@code newSize} is negative.
+    */
+   public void setSize(int newSize)
+   {
+      if (newSize < 0)
+         throw new IllegalArgumentException("The size cannot be negative: " + newSize);
+
+      ensureCapacity(newSize);
+
+      if (newSize > size)
+      {
+         Arrays.fill(x, size, newSize, 0.0);
+         Arrays.fill(y, size, newSize, 0.0);
+         Arrays.fill(z, size, newSize, 0.0);
+      }
+
+      size = newSize;
+   }
+
+   /**
+    * Adds a new tuple at the end of this tuple array.
+    *
+    * @param x the x-coordinate of the new tuple.
+    * @param y the y-coordinate of the new tuple.
+    * @param z the z-coordinate of the new tuple.
+    */
+   public void add(double x, double y, double z)
+   {
+      ensureCapacity(size + 1);
+      this.x[size] = x;
+      this.y[size] = y;
+      this.z[size] = z;
+      size++;
+   }
+
+   /**
+    * Adds a new tuple at the end of this tuple array.
+    *
+    * @param tuple the tuple holding the coordinates of the new tuple. Not modified.
+    */
+   public void add(Tuple3DReadOnly tuple)
+   {
+      add(tuple.getX(), tuple.getY(), tuple.getZ());
+   }
+
+   /**
+    * Sets the coordinates of the {@code index}<sup>th</sup> tuple.
+    *
+    * @param index the index of the tuple to set.
+    * @param x the new x-coordinate.
+    * @param y the new y-coordinate.
+    * @param z the new z-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void set(int index, double x, double y, double z)
+   {
+      checkIndex(index);
+      this.x[index] = x;
+      this.y[index] = y;
+      this.z[index] = z;
+   }
+
+   /**
+    * Sets the coordinates of the {@code index}<sup>th</sup> tuple.
+    *
+    * @param index the index of the tuple to set.
+    * @param tuple the tuple holding the new coordinates. Not modified.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void set(int index, Tuple3DReadOnly tuple)
+   {
+      set(index, tuple.getX(), tuple.getY(), tuple.getZ());
+   }
+
+   /**
+    * Packs the coordinates of the {@code index}<sup>th</sup> tuple into the given tuple.
+    *
+    * @param index the index of the tuple to get.
+    * @param tupleToPack the tuple in which the coordinates are stored. Modified.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public void get(int index, Tuple3DBasics tupleToPack)
+   {
+      checkIndex(index);
+      tupleToPack.set(x[index], y[index], z[index]);
+   }
+
+   /**
+    * Gets the x-coordinate of the {@code index}<sup>th</sup> tuple.
+    *
+    * @param index the index of the tuple.
+    * @return the x-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public double getX(int index)
+   {
+      checkIndex(index);
+      return x[index];
+   }
+
+   /**
+    * Gets the y-coordinate of the {@code index}<sup>th</sup> tuple.
+    *
+    * @param index the index of the tuple.
+    * @return the y-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public double getY(int index)
+   {
+      checkIndex(index);
+      return y[index];
+   }
+
+   /**
+    * Gets the z-coordinate of the {@code index}<sup>th</sup> tuple.
+    *
+    * @param index the index of the tuple.
+    * @return the z-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} &notin; [0, {@link #size()}[.
+    */
+   public double getZ(int index)
+   {
+      checkIndex(index);
+      return z[index];
+   }
+
+   /**
+    * Gets the backing array holding the x-coordinates of the tuples.
+    * <p>
+    * Only the first {@link #size()} elements are meaningful. WARNING: the array is replaced when
+    * this tuple array grows.
+    * </p>
+    *
+    * @return the reference to the x-coordinates array.
+    */
+   public double[] getXArray()
+   {
+      return x;
+   }
+
+   /**
+    * Gets the backing array holding the y-coordinates of the tuples.
+    * <p>
+    * Only the first {@link #size()} elements are meaningful. WARNING: the array is replaced when
+    * this tuple array grows.
+    * </p>
+    *
+    * @return the reference to the y-coordinates array.
+    */
+   public double[] getYArray()
+   {
+      return y;
+   }
+
+   /**
+    * Gets the backing array holding the z-coordinates of the tuples.
+    * <p>
+    * Only the first {@link #size()} elements are meaningful. WARNING: the array is replaced when
+    * this tuple array grows.
+    * </p>
+    *
+    * @return the reference to the z-coordinates array.
+    */
+   public double[] getZArray()
+   {
+      return z;
+   }
+
+   private void checkIndex(int index)
+   {
+      if (index < 0 || index >= size)
+         throw new IndexOutOfBoundsException("index should be in [0, " + size + "[, but is: " + index);
+   }
+
+   /**
+    * Tests on a per component basis if this tuple array and {@code other} hold the same tuples to
+    * an {@code epsilon}.
+    *
+    * @param other the other tuple array to compare against this. Not modified.
+    * @param epsilon the tolerance to use when comparing each component.
+    * @return {@code true} if the two tuple arrays have the same size and their tuples are equal,
+    *         {@code false} otherwise.
+    */
+   public boolean epsilonEquals(T other, double epsilon)
+   {
+      if (size != other.size())
+         return false;
+
+      double[] otherX = other.getXArray();
+      double[] otherY = other.getYArray();
+      double[] otherZ = other.getZArray();
+
+      for (int i = 0; i < size; i++)
+      {
+         if (Math.abs(x[i] - otherX[i]) > epsilon || Math.abs(y[i] - otherY[i]) > epsilon || Math.abs(z[i] - otherZ[i]) > epsilon)
+            return false;
+      }
+
+      return true;
+   }
+
+   /**
+    * Provides a {@code String} representation of this tuple array as follows: size: N, capacity:
+    * C.
+    *
+    * @return the {@code String} representing this tuple array.
+    */
+   @Override
+   public String toString()
+   {
+      return "size: " + size + ", capacity: " + capacity();
+   }
+}
@@ -0,0 +1,52 @@
+package us.ihmc.euclid.tuple3D;
+
+/**
+ * A {@code Vector3DArray} is a resizable collection of 3D vectors stored in a structure-of-arrays
+ * layout.
+ * <p>
+ * Instead of holding onto an array of {@link Vector3D}, the coordinates of the vectors are stored
+ * in three parallel {@code double} arrays, one per coordinate. This layout is meant for processing
+ * large sets of vectors, such as surface normals, with tight loops that do not need to dereference
+ * an object per vector. See for instance
+ * {@link us.ihmc.euclid.transform.RigidBodyTransform#transform(Vector3DArray, Vector3DArray)}.
+ * </p>
+ * <p>
+ * The backing arrays are exposed via {@link #getXArray()}, {@link #getYArray()}, and
+ * {@link #getZArray()} for batch processing. Only the first {@link #size()} elements of these
+ * arrays are meaningful. Note that the backing arrays are replaced when the capacity of this vector
+ * array has to grow, references to them should not be kept across operations that change the size
+ * of this vector array.
+ * </p>
+ */
+public class Vector3DArray extends Tuple3DArray<Vector3DArray>
+{
+   /**
+    * Creates a new empty vector array with a capacity of {@value #DEFAULT_INITIAL_CAPACITY}.
+    */
+   public Vector3DArray()
+   {
+      super();
+   }
+
+   /**
+    * Creates a new empty vector array.
+    *
+    * @param initialCapacity the number of vectors this array can hold before it has to grow.
+    * @throws IllegalArgumentException if {@code initialCapacity} is negative.
+    */
+   public Vector3DArray(int initialCapacity)
+   {
+      super(initialCapacity);
+   }
+
+   /**
+    * Creates a new vector array and initializes it to {@code other}.
+    *
+    * @param other the other vector array to copy. Not modified.
+    */
+   public Vector3DArray(Vector3DArray other)
+   {
+      super(other.size());
+      set(other);
+   }
+}
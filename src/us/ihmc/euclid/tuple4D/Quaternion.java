@@ -203,14 +203,10 @@ public class Quaternion implements QuaternionBasics, GeometryObject<Quaternion>
    @Override
    public boolean equals(Object object)
    {
-      try
-      {
+      if (object instanceof Tuple4DReadOnly)
          return equals((Tuple4DReadOnly) object);
-      }
-      catch (ClassCastException e)
-      {
+      else
          return false;
-      }
    }
 
    /**
@@ -0,0 +1,267 @@
+package us.ihmc.euclid.tuple4D;
+
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tools.QuaternionTools;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionBasics;
+import us.ihmc.euclid.tuple4D.interfaces.QuaternionReadOnly;
+
+/**
+ * A {@code QuaternionInterpolator} efficiently interpolates between two fixed quaternions for
+ * many values of the interpolation percentage.
+ * <p>
+ * When resampling a trajectory, the same pair of quaternions is typically interpolated for many
+ * values of {@code alpha}. The quantities that only depend on the pair, i.e. the dot product of the
+ * two quaternions, the sign used to take the shortest path, the angle between the quaternions and
+ * its sine, are computed once in {@link #set(QuaternionReadOnly, QuaternionReadOnly)}. The exact
+ * SLERP then only requires two calls to {@link Math#sin(double)} per interpolation instead of one
+ * {@link Math#acos(double)} and three {@link Math#sin(double)}.
+ * </p>
+ * <p>
+ * Three interpolation methods are available:
+ * <ul>
+ * <li>{@link #interpolate(double, QuaternionBasics)}: the exact SLERP, equivalent to
+ * {@link QuaternionBasics#interpolate(QuaternionReadOnly, QuaternionReadOnly, double)}.
+ * <li>{@link #interpolateFast(double, QuaternionBasics)}: the polynomial approximation of the
+ * SLERP, equivalent to
+ * {@link QuaternionTools#interpolateFast(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}.
+ * <li>{@link #interpolateNormalized(double, QuaternionBasics)}: the normalized linear
+ * interpolation, equivalent to
+ * {@link QuaternionTools#interpolateNormalized(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}.
+ * </ul>
+ * Each of them also comes in a batch version operating on quaternions packed in an array as
+ * consecutive {@code (x, y, z, s)} groups.
+ * </p>
+ */
+public class QuaternionInterpolator
+{
+   private double q0x, q0y, q0z, q0s;
+   /** The second quaternion, negated when needed such that the interpolation takes the shortest path. */
+   private double qfx, qfy, qfz, qfs;
+   /** The absolute value of the dot product of the two quaternions. */
+   private double cosHalfTheta;
+   /** Half the angle between the two quaternions. */
+   private double halfTheta;
+   /** Inverse of the sine of {@link #halfTheta}, or {@link Double#NaN} when the two quaternions are too close. */
+   private double invSinHalfTheta;
+
+   /**
+    * Creates a new interpolator between two identity quaternions.
+    */
+   public QuaternionInterpolator()
+   {
+      set(0.0, 0.0, 0.0, 1.0, 0.0, 0.0, 0.0, 1.0);
+   }
+
+   /**
+    * Creates a new interpolator and initializes it to interpolate between the two given quaternions.
+    *
+    * @param q0 the first quaternion used in the interpolation. Not modified.
+    * @param qf the second quaternion used in the interpolation. Not modified.
+    */
+   public QuaternionInterpolator(QuaternionReadOnly q0, QuaternionReadOnly qf)
+   {
+      set(q0, qf);
+   }
+
+   /**
+    * Sets the two quaternions to interpolate and precomputes the constants that only depend on them.
+    *
+    * @param q0 the first quaternion used in the interpolation. Not modified.
+    * @param qf the second quaternion used in the interpolation. Not modified.
+    */
+   public void set(QuaternionReadOnly q0, QuaternionReadOnly qf)
+   {
+      set(q0.getX(), q0.getY(), q0.getZ(), q0.getS(), qf.getX(), qf.getY(), qf.getZ(), qf.getS());
+   }
+
+   private void set(double q0x, double q0y, double q0z, double q0s, double qfx, double qfy, double qfz, double qfs)
+   {
+      double dot = q0x * qfx + q0y * qfy + q0z * qfz + q0s * qfs;
+      double sign = 1.0;
+
+      if (dot < 0.0)
+      {
+         sign = -1.0;
+         dot = -dot;
+      }
+
+      this.q0x = q0x;
+      this.q0y = q0y;
+      this.q0z = q0z;
+      this.q0s = q0s;
+      this.qfx = sign * qfx;
+      this.qfy = sign * qfy;
+      this.qfz = sign * qfz;
+      this.qfs = sign * qfs;
+      cosHalfTheta = dot;
+
+      if (1.0 - cosHalfTheta > 1.0e-12)
+      {
+         halfTheta = Math.acos(cosHalfTheta);
+         invSinHalfTheta = 1.0 / Math.sin(halfTheta);
+      }
+      else
+      {
+         // The quaternions are too close, the SLERP falls back to a linear interpolation.
+         halfTheta = 0.0;
+         invSinHalfTheta = Double.NaN;
+      }
+   }
+
+   /**
+    * Performs a spherical linear interpolation, or SLERP, between the two quaternions of this
+    * interpolator given the percentage {@code alpha}.
+    *
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           {@code quaternionToPack} to the first quaternion, while a value of 1 is equivalent to
+    *           setting {@code quaternionToPack} to the second quaternion.
+    * @param quaternionToPack the quaternion in which the result is stored. Modified.
+    */
+   public void interpolate(double alpha, QuaternionBasics quaternionToPack)
+   {
+      double alpha0 = slerpWeight(1.0 - alpha);
+      double alphaf = slerpWeight(alpha);
+      quaternionToPack.set(alpha0 * q0x + alphaf * qfx, alpha0 * q0y + alphaf * qfy, alpha0 * q0z + alphaf * qfz, alpha0 * q0s + alphaf * qfs);
+   }
+
+   /**
+    * Performs an approximated spherical linear interpolation between the two quaternions of this
+    * interpolator given the percentage {@code alpha}.
+    * <p>
+    * See
+    * {@link QuaternionTools#interpolateFast(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}
+    * for the accuracy of the approximation.
+    * </p>
+    *
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           {@code quaternionToPack} to the first quaternion, while a value of 1 is equivalent to
+    *           setting {@code quaternionToPack} to the second quaternion.
+    * @param quaternionToPack the quaternion in which the result is stored. Modified.
+    */
+   public void interpolateFast(double alpha, QuaternionBasics quaternionToPack)
+   {
+      double alpha0 = QuaternionTools.fastSlerpWeight(1.0 - alpha, cosHalfTheta);
+      double alphaf = QuaternionTools.fastSlerpWeight(alpha, cosHalfTheta);
+      quaternionToPack.set(alpha0 * q0x + alphaf * qfx, alpha0 * q0y + alphaf * qfy, alpha0 * q0z + alphaf * qfz, alpha0 * q0s + alphaf * qfs);
+   }
+
+   /**
+    * Performs a normalized linear interpolation, or NLERP, between the two quaternions of this
+    * interpolator given the percentage {@code alpha}.
+    * <p>
+    * See
+    * {@link QuaternionTools#interpolateNormalized(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}
+    * for the accuracy of the approximation.
+    * </p>
+    *
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           {@code quaternionToPack} to the first quaternion, while a value of 1 is equivalent to
+    *           setting {@code quaternionToPack} to the second quaternion.
+    * @param quaternionToPack the quaternion in which the result is stored. Modified.
+    */
+   public void interpolateNormalized(double alpha, QuaternionBasics quaternionToPack)
+   {
+      double alpha0 = 1.0 - alpha;
+      quaternionToPack.set(alpha0 * q0x + alpha * qfx, alpha0 * q0y + alpha * qfy, alpha0 * q0z + alpha * qfz, alpha0 * q0s + alpha * qfs);
+   }
+
+   /**
+    * Performs the exact SLERP for a range of percentages and packs the resulting quaternions in an
+    * array.
+    * <p>
+    * This method is equivalent to calling {@link #interpolate(double, QuaternionBasics)} for each
+    * {@code alphas[i]} with {@code i} &in; [{@code startIndex}, {@code endIndex}[ and storing the
+    * result in {@code quaternionsToPack} starting at the index {@code 4 * i} as
+    * {@code (x, y, z, s)}.
+    * </p>
+    *
+    * @param alphas the array containing the percentages to use for the interpolation. Not modified.
+    * @param quaternionsToPack the array in which the interpolated quaternions are stored. Modified.
+    * @param startIndex the index of the first percentage to use, inclusive.
+    * @param endIndex the index of the last percentage to use, exclusive.
+    * @throws ArrayIndexOutOfBoundsException if either array is too short for the given range.
+    */
+   public void interpolate(double[] alphas, double[] quaternionsToPack, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double alpha = alphas[i];
+         double alpha0 = slerpWeight(1.0 - alpha);
+         double alphaf = slerpWeight(alpha);
+         pack(alpha0, alphaf, quaternionsToPack, 4 * i);
+      }
+   }
+
+   /**
+    * Performs the approximated SLERP for a range of percentages and packs the resulting quaternions
+    * in an array.
+    * <p>
+    * This method is equivalent to calling {@link #interpolateFast(double, QuaternionBasics)} for each
+    * {@code alphas[i]} with {@code i} &in; [{@code startIndex}, {@code endIndex}[ and storing the
+    * result in {@code quaternionsToPack} starting at the index {@code 4 * i} as
+    * {@code (x, y, z, s)}.
+    * </p>
+    *
+    * @param alphas the array containing the percentages to use for the interpolation. Not modified.
+    * @param quaternionsToPack the array in which the interpolated quaternions are stored. Modified.
+    * @param startIndex the index of the first percentage to use, inclusive.
+    * @param endIndex the index of the last percentage to use, exclusive.
+    * @throws ArrayIndexOutOfBoundsException if either array is too short for the given range.
+    */
+   public void interpolateFast(double[] alphas, double[] quaternionsToPack, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double alpha = alphas[i];
+         double alpha0 = QuaternionTools.fastSlerpWeight(1.0 - alpha, cosHalfTheta);
+         double alphaf = QuaternionTools.fastSlerpWeight(alpha, cosHalfTheta);
+         pack(alpha0, alphaf, quaternionsToPack, 4 * i);
+      }
+   }
+
+   /**
+    * Performs the NLERP for a range of percentages and packs the resulting quaternions in an array.
+    * <p>
+    * This method is equivalent to calling {@link #interpolateNormalized(double, QuaternionBasics)}
+    * for each {@code alphas[i]} with {@code i} &in; [{@code startIndex}, {@code endIndex}[ and
+    * storing the result in {@code quaternionsToPack} starting at the index {@code 4 * i} as
+    * {@code (x, y, z, s)}.
+    * </p>
+    *
+    * @param alphas the array containing the percentages to use for the interpolation. Not modified.
+    * @param quaternionsToPack the array in which the interpolated quaternions are stored. Modified.
+    * @param startIndex the index of the first percentage to use, inclusive.
+    * @param endIndex the index of the last percentage to use, exclusive.
+    * @throws ArrayIndexOutOfBoundsException if either array is too short for the given range.
+    */
+   public void interpolateNormalized(double[] alphas, double[] quaternionsToPack, int startIndex, int endIndex)
+   {
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double alpha = alphas[i];
+         pack(1.0 - alpha, alpha, quaternionsToPack, 4 * i);
+      }
+   }
+
+   private double slerpWeight(double alpha)
+   {
+      if (halfTheta == 0.0)
+         return alpha;
+      else
+         return Math.sin(alpha * halfTheta) * invSinHalfTheta;
+   }
+
+   private void pack(double alpha0, double alphaf, double[] quaternionsToPack, int index)
+   {
+      double qx = alpha0 * q0x + alphaf * qfx;
+      double qy = alpha0 * q0y + alphaf * qfy;
+      double qz = alpha0 * q0z + alphaf * qfz;
+      double qs = alpha0 * q0s + alphaf * qfs;
+      // Same normalization as QuaternionBasics.normalize().
+      double invNorm = 1.0 / EuclidCoreTools.fastSquareRoot(EuclidCoreTools.normSquared(qx, qy, qz, qs));
+      quaternionsToPack[index] = qx * invNorm;
+      quaternionsToPack[index + 1] = qy * invNorm;
+      quaternionsToPack[index + 2] = qz * invNorm;
+      quaternionsToPack[index + 3] = qs * invNorm;
+   }
+}
@@ -673,6 +673,88 @@ public interface QuaternionBasics extends QuaternionReadOnly, Orientation3DBasic
       set(qx, qy, qz, qs);
    }
 
+   /**
+    * Performs a normalized linear interpolation, often called NLERP, from {@code this} to {@code qf}
+    * given the percentage {@code alpha}.
+    * <p>
+    * This is a cheaper alternative to {@link #interpolate(QuaternionReadOnly, double)} that does not
+    * interpolate at a constant angular velocity, see
+    * {@link QuaternionTools#interpolateNormalized(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}.
+    * </p>
+    *
+    * @param qf the other quaternion used for the interpolation. Not modified.
+    * @param alpha the percentage used for the interpolation. A value of 0 will result in not modifying
+    *           this quaternion, while a value of 1 is equivalent to setting this quaternion to
+    *           {@code qf}.
+    */
+   default void interpolateNormalized(QuaternionReadOnly qf, double alpha)
+   {
+      interpolateNormalized(this, qf, alpha);
+   }
+
+   /**
+    * Performs a normalized linear interpolation, often called NLERP, from {@code q0} to {@code qf}
+    * given the percentage {@code alpha}.
+    * <p>
+    * This is a cheaper alternative to
+    * {@link #interpolate(QuaternionReadOnly, QuaternionReadOnly, double)} that does not interpolate
+    * at a constant angular velocity, see
+    * {@link QuaternionTools#interpolateNormalized(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}.
+    * </p>
+    *
+    * @param q0 the first quaternion used in the interpolation. Not modified.
+    * @param qf the second quaternion used in the interpolation. Not modified.
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           this quaternion to {@code q0}, while a value of 1 is equivalent to setting this
+    *           quaternion to {@code qf}.
+    */
+   default void interpolateNormalized(QuaternionReadOnly q0, QuaternionReadOnly qf, double alpha)
+   {
+      QuaternionTools.interpolateNormalized(q0, qf, alpha, this);
+   }
+
+   /**
+    * Performs an approximated spherical linear interpolation from {@code this} to {@code qf} given
+    * the percentage {@code alpha}.
+    * <p>
+    * This is a cheaper alternative to {@link #interpolate(QuaternionReadOnly, double)} that does not
+    * call any trigonometric function, see
+    * {@link QuaternionTools#interpolateFast(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}
+    * for its accuracy.
+    * </p>
+    *
+    * @param qf the other quaternion used for the interpolation. Not modified.
+    * @param alpha the percentage used for the interpolation. A value of 0 will result in not modifying
+    *           this quaternion, while a value of 1 is equivalent to setting this quaternion to
+    *           {@code qf}.
+    */
+   default void interpolateFast(QuaternionReadOnly qf, double alpha)
+   {
+      interpolateFast(this, qf, alpha);
+   }
+
+   /**
+    * Performs an approximated spherical linear interpolation from {@code q0} to {@code qf} given the
+    * percentage {@code alpha}.
+    * <p>
+    * This is a cheaper alternative to
+    * {@link #interpolate(QuaternionReadOnly, QuaternionReadOnly, double)} that does not call any
+    * trigonometric function, see
+    * {@link QuaternionTools#interpolateFast(QuaternionReadOnly, QuaternionReadOnly, double, QuaternionBasics)}
+    * for its accuracy.
+    * </p>
+    *
+    * @param q0 the first quaternion used in the interpolation. Not modified.
+    * @param qf the second quaternion used in the interpolation. Not modified.
+    * @param alpha the percentage to use for the interpolation. A value of 0 will result in setting
+    *           this quaternion to {@code q0}, while a value of 1 is equivalent to setting this
+    *           quaternion to {@code qf}.
+    */
+   default void interpolateFast(QuaternionReadOnly q0, QuaternionReadOnly qf, double alpha)
+   {
+      QuaternionTools.interpolateFast(q0, qf, alpha, this);
+   }
+
    /**
     * Transforms this quaternion using the given {@code transform}.
     * <p>
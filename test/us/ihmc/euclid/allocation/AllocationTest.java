@@ -0,0 +1,591 @@
+package us.ihmc.euclid.allocation;
+
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.ejml.data.DenseMatrix64F;
+import org.ejml.ops.CommonOps;
+import org.junit.Assume;
+import org.junit.Test;
+
+import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.axisAngle.AxisAngle32;
+import us.ihmc.euclid.concurrent.ParallelBatchExecutor;
+import us.ihmc.euclid.flyweight.Point3DFlyweight;
+import us.ihmc.euclid.flyweight.QuaternionFlyweight;
+import us.ihmc.euclid.flyweight.QuaternionFlyweight32;
+import us.ihmc.euclid.flyweight.Vector3DFlyweight32;
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.matrix.RotationMatrixNormalizer;
+import us.ihmc.euclid.matrix.RotationScaleMatrix;
+import us.ihmc.euclid.offHeap.OffHeapPoint3DBuffer;
+import us.ihmc.euclid.offHeap.OffHeapQuaternionBuffer;
+import us.ihmc.euclid.orientation.CachedOrientation3D;
+import us.ihmc.euclid.orientation.PreparedRotation;
+import us.ihmc.euclid.rotationConversion.AxisAngleConversion;
+import us.ihmc.euclid.rotationConversion.QuaternionConversion;
+import us.ihmc.euclid.rotationConversion.RotationMatrixConversion;
+import us.ihmc.euclid.rotationConversion.RotationVectorConversion;
+import us.ihmc.euclid.rotationConversion.YawPitchRollConversion;
+import us.ihmc.euclid.tools.AxisAngleTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tools.EuclidHashCodeTools;
+import us.ihmc.euclid.tools.Matrix3DFeatures;
+import us.ihmc.euclid.tools.Matrix3DTools;
+import us.ihmc.euclid.tools.QuaternionTools;
+import us.ihmc.euclid.tools.RotationMatrixTools;
+import us.ihmc.euclid.tools.TransformationTools;
+import us.ihmc.euclid.tools.TupleTools;
+import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.DualQuaternion;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform2D;
+import us.ihmc.euclid.tuple2D.Point2D;
+import us.ihmc.euclid.tuple2D.Point2D32;
+import us.ihmc.euclid.tuple2D.Vector2D;
+import us.ihmc.euclid.tuple2D.Vector2D32;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3D32;
+import us.ihmc.euclid.tuple3D.Point3DArray;
+import us.ihmc.euclid.tuple3D.Point3DStatistics;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3D32;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.Quaternion32;
+import us.ihmc.euclid.tuple4D.QuaternionInterpolator;
+import us.ihmc.euclid.tuple4D.Vector4D;
+import us.ihmc.euclid.tuple4D.Vector4D32;
+
+/**
+ * This test asserts that the methods of the library do not generate garbage.
+ * <p>
+ * Every public method of the tested classes is invoked reflectively on random arguments and the
+ * number of bytes allocated by the current thread is measured using
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}. The test fails if any
+ * method that is expected to be garbage-free allocates memory.
+ * </p>
+ * <p>
+ * When a method throws an exception on the random arguments, for instance a {@link RotationMatrix}
+ * setter given non-orthonormal coefficients, it is invoked again with arguments describing valid
+ * planar rotations, see {@link ArgumentProfile}. The test also fails if a method cannot be invoked
+ * with any of the argument profiles, such that no method goes silently untested.
+ * </p>
+ */
+public class AllocationTest
+{
+   /** The number of invocations performed before measuring, such that the reflection is inflated. */
+   private static final int NUMBER_OF_WARMUP_INVOCATIONS = 50;
+   /** The number of invocations over which the allocated memory is measured. */
+   private static final int NUMBER_OF_MEASURED_INVOCATIONS = 100;
+   /** The number of measurements performed, only the smallest one is retained. */
+   private static final int NUMBER_OF_MEASUREMENTS = 3;
+
+   /** The classes exercised by the tools classes test. */
+   private static final Class<?>[] TOOLS_CLASSES = {AxisAngleTools.class, EuclidCoreTools.class, EuclidHashCodeTools.class, Matrix3DFeatures.class,
+         Matrix3DTools.class, QuaternionTools.class, RotationMatrixTools.class, TransformationTools.class, TupleTools.class, AxisAngleConversion.class,
+         QuaternionConversion.class, RotationMatrixConversion.class, RotationVectorConversion.class, YawPitchRollConversion.class};
+   /** The classes exercised by the geometry types test. */
+   private static final Class<?>[] TYPE_CLASSES = {Point2D.class, Point2D32.class, Vector2D.class, Vector2D32.class, Point3D.class, Point3D32.class,
+         Vector3D.class, Vector3D32.class, Point3DArray.class, Vector3DArray.class, Quaternion.class, Quaternion32.class, Vector4D.class, Vector4D32.class, AxisAngle.class,
+         AxisAngle32.class, Matrix3D.class, RotationMatrix.class, RotationScaleMatrix.class, RigidBodyTransform.class, QuaternionBasedTransform.class,
+         AffineTransform.class, DualQuaternion.class, RigidBodyTransform2D.class, Point3DFlyweight.class,
+         Vector3DFlyweight32.class, QuaternionFlyweight.class, QuaternionFlyweight32.class, PreparedRotation.class, CachedOrientation3D.class,
+         QuaternionInterpolator.class, Point3DStatistics.class};
+   /**
+    * Signatures, as formatted by {@link #signature(Method)}, of the methods that are expected to
+    * allocate memory:
+    * <ul>
+    * <li>the methods of {@link Point3DArray} and {@link Vector3DArray} that may grow their backing
+    * arrays.
+    * <li>the batch methods using a {@link ParallelBatchExecutor} which create the kernel and the
+    * tasks to execute.
+    * </ul>
+    * Note that the methods returning a {@code String} are not tested.
+    */
+   private static final Set<String> METHODS_ALLOWED_TO_ALLOCATE = new HashSet<>(Arrays.asList("Tuple3DArray#add(double, double, double)",
+                                                                                              "Tuple3DArray#add(Tuple3DReadOnly)",
+                                                                                              "Tuple3DArray#ensureCapacity(int)",
+                                                                                              "Tuple3DArray#setSize(int)",
+                                                                                              "RigidBodyTransform#transform(Point3DArray, Point3DArray, ParallelBatchExecutor)",
+                                                                                              "RigidBodyTransform#inverseTransform(Point3DArray, Point3DArray, ParallelBatchExecutor)",
+                                                                                              "RigidBodyTransform#transform(Vector3DArray, Vector3DArray, ParallelBatchExecutor)",
+                                                                                              "RigidBodyTransform#inverseTransform(Vector3DArray, Vector3DArray, ParallelBatchExecutor)",
+                                                                                              "QuaternionBasedTransform#transform(Point3DArray, Point3DArray, ParallelBatchExecutor)",
+                                                                                              "QuaternionBasedTransform#inverseTransform(Point3DArray, Point3DArray, ParallelBatchExecutor)",
+                                                                                              "QuaternionBasedTransform#transform(Vector3DArray, Vector3DArray, ParallelBatchExecutor)",
+                                                                                              "QuaternionBasedTransform#inverseTransform(Vector3DArray, Vector3DArray, ParallelBatchExecutor)",
+                                                                                              "AffineTransform#transform(Point3DArray, Point3DArray, ParallelBatchExecutor)",
+                                                                                              "AffineTransform#inverseTransform(Point3DArray, Point3DArray, ParallelBatchExecutor)",
+                                                                                              "AffineTransform#transform(Vector3DArray, Vector3DArray, ParallelBatchExecutor)",
+                                                                                              "AffineTransform#inverseTransform(Vector3DArray, Vector3DArray, ParallelBatchExecutor)",
+                                                                                              "Point3DStatistics#add(Tuple3DArray, ParallelBatchExecutor)"));
+
+   /**
+    * The successive sets of arguments a method is invoked with until it does not throw an
+    * exception.
+    */
+   private enum ArgumentProfile
+   {
+      /** Random arguments. */
+      RANDOM,
+      /**
+       * Orientations are rotations around the z-axis, matrices are valid rotation matrices, arrays
+       * and successive floating-point parameters are packed row-major 4-by-4 rigid-body transforms.
+       */
+      VALID_TRANSFORM_LAYOUT,
+      /**
+       * Same as {@link #VALID_TRANSFORM_LAYOUT} but arrays, successive floating-point parameters,
+       * and successive 3D tuple parameters are the rows of 3-by-3 rotation matrices.
+       */
+      VALID_MATRIX_LAYOUT,
+      /**
+       * Orientations and matrices are the same as for {@link #VALID_TRANSFORM_LAYOUT}, floating-point
+       * parameters and 3D tuples are positive such that they can be used as scales, and integers are
+       * strides for the views over arrays.
+       */
+      VALID_STRIDED_LAYOUT
+   }
+
+   private static Object sink;
+
+   /**
+    * Formats the signature of a method as: {@code DeclaringClass#name(ParameterType, ...)}.
+    */
+   private static String signature(Method method)
+   {
+      StringBuilder signature = new StringBuilder(method.getDeclaringClass().getSimpleName());
+      signature.append("#").append(method.getName()).append("(");
+      Class<?>[] parameterTypes = method.getParameterTypes();
+
+      for (int i = 0; i < parameterTypes.length; i++)
+      {
+         if (i > 0)
+            signature.append(", ");
+         signature.append(parameterTypes[i].getSimpleName());
+      }
+
+      return signature.append(")").toString();
+   }
+
+   @Test
+   public void testToolsAreGarbageFree() throws Exception
+   {
+      Random random = new Random(45345L);
+      assertGarbageFree(random, TOOLS_CLASSES, true);
+   }
+
+   @Test
+   public void testTypesAreGarbageFree() throws Exception
+   {
+      Random random = new Random(9862L);
+      assertGarbageFree(random, TYPE_CLASSES, false);
+   }
+
+   private static void assertGarbageFree(Random random, Class<?>[] classesToTest, boolean staticMethodsOnly) throws Exception
+   {
+      com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+      Assume.assumeTrue("Allocation measurement is not supported by this JVM.", threadMXBean != null);
+
+      long[] baselines = computeBaselines(threadMXBean);
+      List<String> allocatingMethods = new ArrayList<>();
+      List<String> untestedMethods = new ArrayList<>();
+      int numberOfTestedMethods = 0;
+
+      for (Class<?> classToTest : classesToTest)
+      {
+         for (Method method : classToTest.getMethods())
+         {
+            if (method.getDeclaringClass() == Object.class || method.isBridge())
+               continue;
+            if (Modifier.isStatic(method.getModifiers()) != staticMethodsOnly)
+               continue;
+            if (METHODS_ALLOWED_TO_ALLOCATE.contains(signature(method)))
+               continue;
+            if (method.getReturnType() == String.class || Throwable.class.isAssignableFrom(method.getReturnType()))
+               continue;
+
+            long allocatedBytes = -1;
+
+            for (ArgumentProfile profile : ArgumentProfile.values())
+            {
+               Object instance = staticMethodsOnly ? null : nextInstance(random, classToTest, profile);
+               Object[] arguments = nextArguments(random, method.getParameterTypes(), profile);
+
+               if (arguments == null)
+                  break;
+
+               allocatedBytes = measureAllocatedBytes(threadMXBean, method, instance, arguments);
+
+               if (allocatedBytes >= 0)
+                  break;
+            }
+
+            if (allocatedBytes < 0)
+            { // No argument could be generated or the method threw an exception for every profile.
+               untestedMethods.add(classToTest.getSimpleName() + ": " + signature(method));
+               continue;
+            }
+
+            numberOfTestedMethods++;
+
+            if (allocatedBytes > baselines[baselineIndex(method.getReturnType())])
+               allocatingMethods.add(classToTest.getSimpleName() + ": " + signature(method));
+         }
+      }
+
+      assertTrue("No method could be tested.", numberOfTestedMethods > 0);
+      assertTrue("The following methods allocate memory:\n" + String.join("\n", allocatingMethods), allocatingMethods.isEmpty());
+      assertTrue("The following methods could not be tested:\n" + String.join("\n", untestedMethods), untestedMethods.isEmpty());
+   }
+
+   private static com.sun.management.ThreadMXBean getThreadMXBean()
+   {
+      if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean))
+         return null;
+
+      com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+      if (!threadMXBean.isThreadAllocatedMemorySupported())
+         return null;
+
+      threadMXBean.setThreadAllocatedMemoryEnabled(true);
+      return threadMXBean;
+   }
+
+   /**
+    * Invokes the given method and measures the memory it allocates.
+    *
+    * @return the number of bytes allocated over {@link #NUMBER_OF_MEASURED_INVOCATIONS}
+    *         invocations, or {@code -1} if the method threw an exception.
+    */
+   private static long measureAllocatedBytes(com.sun.management.ThreadMXBean threadMXBean, Method method, Object instance, Object[] arguments)
+         throws IllegalAccessException
+   {
+      long threadId = Thread.currentThread().getId();
+      long minimumAllocatedBytes = Long.MAX_VALUE;
+
+      try
+      {
+         for (int i = 0; i < NUMBER_OF_WARMUP_INVOCATIONS; i++)
+            sink = method.invoke(instance, arguments);
+
+         for (int measurement = 0; measurement < NUMBER_OF_MEASUREMENTS; measurement++)
+         {
+            long start = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < NUMBER_OF_MEASURED_INVOCATIONS; i++)
+               sink = method.invoke(instance, arguments);
+            long end = threadMXBean.getThreadAllocatedBytes(threadId);
+            minimumAllocatedBytes = Math.min(minimumAllocatedBytes, end - start);
+         }
+      }
+      catch (InvocationTargetException e)
+      {
+         return -1;
+      }
+
+      return minimumAllocatedBytes;
+   }
+
+   /**
+    * Measures the memory allocated by the measurement itself for each kind of return type, i.e.
+    * the cost of boxing primitive return values and of querying the allocated bytes.
+    */
+   private static long[] computeBaselines(com.sun.management.ThreadMXBean threadMXBean) throws Exception
+   {
+      String[] baselineMethodNames = {"baselineVoid", "baselineBoolean", "baselineInt", "baselineLong", "baselineFloat", "baselineDouble",
+            "baselineObject"};
+      long[] baselines = new long[baselineMethodNames.length];
+
+      for (int i = 0; i < baselineMethodNames.length; i++)
+      {
+         Method baselineMethod = AllocationTest.class.getDeclaredMethod(baselineMethodNames[i], double.class);
+         baselines[i] = measureAllocatedBytes(threadMXBean, baselineMethod, null, new Object[] {Math.PI});
+      }
+
+      return baselines;
+   }
+
+   private static int baselineIndex(Class<?> returnType)
+   {
+      if (returnType == void.class)
+         return 0;
+      if (returnType == boolean.class)
+         return 1;
+      if (returnType == int.class || returnType == short.class || returnType == byte.class || returnType == char.class)
+         return 2;
+      if (returnType == long.class)
+         return 3;
+      if (returnType == float.class)
+         return 4;
+      if (returnType == double.class)
+         return 5;
+      return 6;
+   }
+
+   static void baselineVoid(double value)
+   {
+   }
+
+   static boolean baselineBoolean(double value)
+   {
+      return value > 0.0;
+   }
+
+   static int baselineInt(double value)
+   {
+      return (int) (1000.0 * value);
+   }
+
+   static long baselineLong(double value)
+   {
+      return Double.doubleToLongBits(value);
+   }
+
+   static float baselineFloat(double value)
+   {
+      return (float) value;
+   }
+
+   static double baselineDouble(double value)
+   {
+      return value;
+   }
+
+   static Object baselineObject(double value)
+   {
+      return sink;
+   }
+
+   private static Object[] nextArguments(Random random, Class<?>[] parameterTypes, ArgumentProfile profile)
+   {
+      Object[] arguments = new Object[parameterTypes.length];
+      boolean useCoefficients = profile == ArgumentProfile.VALID_TRANSFORM_LAYOUT || profile == ArgumentProfile.VALID_MATRIX_LAYOUT;
+      double[] coefficients = useCoefficients ? nextDoubleArray(random, profile) : null;
+      int coefficientIndex = 0;
+
+      for (int i = 0; i < parameterTypes.length; i++)
+      {
+         if (useCoefficients && parameterTypes[i] == double.class)
+         {
+            arguments[i] = coefficients[coefficientIndex++ % coefficients.length];
+         }
+         else if (useCoefficients && parameterTypes[i] == float.class)
+         {
+            arguments[i] = (float) coefficients[coefficientIndex++ % coefficients.length];
+         }
+         else if (profile == ArgumentProfile.VALID_MATRIX_LAYOUT && parameterTypes[i].isAssignableFrom(Vector3D.class))
+         {
+            // Starts at the next row of the rotation matrix.
+            int row = (coefficientIndex + 2) / 3 % 3;
+            arguments[i] = new Vector3D(coefficients[3 * row], coefficients[3 * row + 1], coefficients[3 * row + 2]);
+            coefficientIndex = 3 * (row + 1);
+         }
+         else if (profile == ArgumentProfile.VALID_STRIDED_LAYOUT && parameterTypes[i].isAssignableFrom(Vector3D.class))
+         {
+            arguments[i] = EuclidCoreRandomTools.nextVector3D(random, 0.1, 1.0);
+         }
+         else
+            arguments[i] = nextArgument(random, parameterTypes[i], profile);
+
+         if (arguments[i] == null)
+            return null;
+      }
+
+      return arguments;
+   }
+
+   private static Object nextArgument(Random random, Class<?> type, ArgumentProfile profile)
+   {
+      if (type == double.class)
+         return random.nextDouble();
+      if (type == float.class)
+         return random.nextFloat();
+      if (type == int.class)
+         return profile == ArgumentProfile.VALID_STRIDED_LAYOUT ? 4 : 0;
+      if (type == long.class)
+         return random.nextLong();
+      if (type == boolean.class)
+         return false;
+      if (type == double[].class)
+         return nextDoubleArray(random, profile);
+      if (type == float[].class)
+         return nextFloatArray(random, profile);
+      if (type == DenseMatrix64F.class)
+         return nextDenseMatrix64F(random, profile);
+      if (type.isArray() && !type.getComponentType().isPrimitive())
+         return nextObjectArray(random, type.getComponentType(), profile);
+      return nextInstance(random, type, profile);
+   }
+
+   private static double[] nextDoubleArray(Random random, ArgumentProfile profile)
+   {
+      double[] array = new double[16];
+
+      if (profile == ArgumentProfile.RANDOM)
+      {
+         for (int i = 0; i < array.length; i++)
+            array[i] = random.nextDouble();
+      }
+      else if (profile == ArgumentProfile.VALID_TRANSFORM_LAYOUT)
+      {
+         RigidBodyTransform transform = new RigidBodyTransform(nextYawQuaternion(random), EuclidCoreRandomTools.nextVector3D(random));
+         transform.get(array);
+      }
+      else
+      {
+         RotationMatrix rotationMatrix = new RotationMatrix(nextYawQuaternion(random));
+         rotationMatrix.get(array);
+      }
+
+      return array;
+   }
+
+   private static float[] nextFloatArray(Random random, ArgumentProfile profile)
+   {
+      double[] doubleArray = nextDoubleArray(random, profile);
+      float[] array = new float[doubleArray.length];
+      for (int i = 0; i < array.length; i++)
+         array[i] = (float) doubleArray[i];
+      return array;
+   }
+
+   /**
+    * Except for the {@link ArgumentProfile#VALID_MATRIX_LAYOUT} profile, the matrix is 7-by-4 such
+    * that it can hold a 3-by-3 matrix, a 4-by-4 transform, or a column vector with a quaternion
+    * followed by a translation.
+    */
+   private static DenseMatrix64F nextDenseMatrix64F(Random random, ArgumentProfile profile)
+   {
+      if (profile == ArgumentProfile.RANDOM)
+         return new DenseMatrix64F(4, 4);
+      if (profile == ArgumentProfile.VALID_MATRIX_LAYOUT)
+         return CommonOps.identity(3);
+
+      // The upper 4-by-4 block is the identity, the first column also describes a unit quaternion.
+      DenseMatrix64F matrix = new DenseMatrix64F(7, 4);
+      for (int i = 0; i < 4; i++)
+         matrix.set(i, i, 1.0);
+      return matrix;
+   }
+
+   private static Object nextObjectArray(Random random, Class<?> componentType, ArgumentProfile profile)
+   {
+      Object[] array = (Object[]) Array.newInstance(componentType, 10);
+
+      for (int i = 0; i < array.length; i++)
+      {
+         array[i] = nextInstance(random, componentType, profile);
+         if (array[i] == null)
+            return null;
+      }
+
+      return array;
+   }
+
+   private static Quaternion nextQuaternion(Random random, ArgumentProfile profile)
+   {
+      return profile == ArgumentProfile.RANDOM ? EuclidCoreRandomTools.nextQuaternion(random) : nextYawQuaternion(random);
+   }
+
+   private static Quaternion nextYawQuaternion(Random random)
+   {
+      Quaternion quaternion = new Quaternion();
+      quaternion.setToYawQuaternion(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+      return quaternion;
+   }
+
+   /**
+    * Creates a new random instance of the first geometry type that is assignable to the given type.
+    * <p>
+    * Except for the {@link ArgumentProfile#RANDOM} profile, the orientations are rotations around
+    * the z-axis and the matrices are rotation matrices.
+    * </p>
+    *
+    * @return the new instance, or {@code null} if no geometry type is assignable to {@code type}.
+    */
+   private static Object nextInstance(Random random, Class<?> type, ArgumentProfile profile)
+   {
+      Quaternion quaternion = nextQuaternion(random, profile);
+      Vector3D translation = EuclidCoreRandomTools.nextVector3D(random);
+      Matrix3D matrix = profile == ArgumentProfile.RANDOM ? EuclidCoreRandomTools.nextMatrix3D(random) : new Matrix3D(new RotationMatrix(quaternion));
+      RotationScaleMatrix rotationScaleMatrix = new RotationScaleMatrix(quaternion, 1.0);
+      if (profile != ArgumentProfile.VALID_MATRIX_LAYOUT)
+         rotationScaleMatrix.setScale(EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0), EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0),
+                                      profile == ArgumentProfile.RANDOM ? EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0) : 1.0);
+      QuaternionBasedTransform quaternionBasedTransform = new QuaternionBasedTransform(quaternion, translation);
+      double[] quaternionArray = nextDoubleArray(random, ArgumentProfile.RANDOM);
+      quaternion.get(quaternionArray);
+      float[] quaternionArray32 = new float[quaternionArray.length];
+      for (int i = 0; i < quaternionArray.length; i++)
+         quaternionArray32[i] = (float) quaternionArray[i];
+
+      Object[] candidates = {EuclidCoreRandomTools.nextPoint3D(random), EuclidCoreRandomTools.nextVector3D(random),
+            EuclidCoreRandomTools.nextPoint3D32(random), EuclidCoreRandomTools.nextVector3D32(random), EuclidCoreRandomTools.nextPoint2D(random),
+            EuclidCoreRandomTools.nextVector2D(random), EuclidCoreRandomTools.nextPoint2D32(random), EuclidCoreRandomTools.nextVector2D32(random),
+            new Quaternion(quaternion), new Quaternion32(quaternion), EuclidCoreRandomTools.nextVector4D(random),
+            EuclidCoreRandomTools.nextVector4D32(random), new AxisAngle(quaternion), new AxisAngle32(quaternion), matrix, new RotationMatrix(quaternion),
+            rotationScaleMatrix, new RigidBodyTransform(quaternion, translation), quaternionBasedTransform,
+            new AffineTransform(rotationScaleMatrix, translation), EuclidCoreRandomTools.nextPoint3DArray(random, 10), nextVector3DArray(random),
+            new DualQuaternion(quaternionBasedTransform),
+            new RigidBodyTransform2D(EuclidCoreRandomTools.nextDouble(random, Math.PI), random.nextDouble(), random.nextDouble()),
+            new Point3DFlyweight(nextDoubleArray(random, ArgumentProfile.RANDOM)), new Vector3DFlyweight32(nextFloatArray(random, ArgumentProfile.RANDOM)),
+            new QuaternionFlyweight(quaternionArray), new QuaternionFlyweight32(quaternionArray32), new PreparedRotation(quaternion),
+            new CachedOrientation3D(quaternion), new QuaternionInterpolator(quaternion, nextQuaternion(random, profile)), nextPoint3DStatistics(random),
+            new ParallelBatchExecutor(1), nextOffHeapPoint3DBuffer(random), nextOffHeapQuaternionBuffer(random, profile),
+            RotationMatrixNormalizer.getGramSchmidt()};
+
+      for (Object candidate : candidates)
+      {
+         if (type.isInstance(candidate))
+            return candidate;
+      }
+
+      return null;
+   }
+
+   private static OffHeapPoint3DBuffer nextOffHeapPoint3DBuffer(Random random)
+   {
+      OffHeapPoint3DBuffer buffer = new OffHeapPoint3DBuffer(10);
+      for (int i = 0; i < 10; i++)
+         buffer.add(EuclidCoreRandomTools.nextPoint3D(random));
+      return buffer;
+   }
+
+   private static OffHeapQuaternionBuffer nextOffHeapQuaternionBuffer(Random random, ArgumentProfile profile)
+   {
+      OffHeapQuaternionBuffer buffer = new OffHeapQuaternionBuffer(10);
+      for (int i = 0; i < 10; i++)
+         buffer.add(nextQuaternion(random, profile));
+      return buffer;
+   }
+
+   private static Point3DStatistics nextPoint3DStatistics(Random random)
+   {
+      Point3DStatistics point3DStatistics = new Point3DStatistics();
+      point3DStatistics.add(EuclidCoreRandomTools.nextPoint3DArray(random, 10));
+      return point3DStatistics;
+   }
+
+   private static Vector3DArray nextVector3DArray(Random random)
+   {
+      Vector3DArray vector3DArray = new Vector3DArray(10);
+      for (int i = 0; i < 10; i++)
+         vector3DArray.add(EuclidCoreRandomTools.nextVector3D(random));
+      return vector3DArray;
+   }
+}
@@ -0,0 +1,127 @@
+package us.ihmc.euclid.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.concurrent.ParallelBatchExecutor.RangeKernel;
+
+public class ParallelBatchExecutorTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+
+   @Test
+   public void testEveryIndexIsProcessedOnce() throws Exception
+   {
+      Random random = new Random(3498L);
+      ForkJoinPool pool = new ForkJoinPool(3);
+      ParallelBatchExecutor ownPoolExecutor = new ParallelBatchExecutor(1 + random.nextInt(8));
+      ParallelBatchExecutor[] executors = {new ParallelBatchExecutor(), ownPoolExecutor, new ParallelBatchExecutor(1), new ParallelBatchExecutor(pool)};
+
+      try
+      {
+         for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+         {
+            ParallelBatchExecutor executor = executors[random.nextInt(executors.length)];
+            executor.setSequentialThreshold(random.nextInt(500));
+            executor.setChunkSize(1 + random.nextInt(200));
+            int size = random.nextInt(5000);
+            final AtomicIntegerArray counters = new AtomicIntegerArray(size);
+            final int chunkSize = executor.getChunkSize();
+            final AtomicInteger numberOfRanges = new AtomicInteger();
+
+            executor.execute(size, new RangeKernel()
+            {
+               @Override
+               public void apply(int startIndex, int endIndex)
+               {
+                  assertTrue(startIndex < endIndex);
+                  numberOfRanges.incrementAndGet();
+
+                  for (int index = startIndex; index < endIndex; index++)
+                     counters.incrementAndGet(index);
+               }
+            });
+
+            for (int index = 0; index < size; index++)
+               assertEquals(1, counters.get(index));
+
+            if (size == 0)
+               assertEquals(0, numberOfRanges.get());
+            else if (size < executor.getSequentialThreshold() || executor.getParallelism() == 1)
+               assertEquals(1, numberOfRanges.get());
+            else
+               assertEquals((size + chunkSize - 1) / chunkSize, numberOfRanges.get());
+         }
+      }
+      finally
+      {
+         ownPoolExecutor.shutdown();
+         pool.shutdown();
+      }
+   }
+
+   @Test
+   public void testSequentialFallback() throws Exception
+   {
+      ParallelBatchExecutor executor = new ParallelBatchExecutor(4);
+      executor.setChunkSize(10);
+      executor.setSequentialThreshold(1000);
+      assertEquals(4, executor.getParallelism());
+      final Thread callingThread = Thread.currentThread();
+      final AtomicInteger numberOfForeignThreadCalls = new AtomicInteger();
+
+      RangeKernel kernel = new RangeKernel()
+      {
+         @Override
+         public void apply(int startIndex, int endIndex)
+         {
+            if (Thread.currentThread() != callingThread)
+               numberOfForeignThreadCalls.incrementAndGet();
+         }
+      };
+
+      try
+      {
+         executor.execute(999, kernel);
+         assertEquals(0, numberOfForeignThreadCalls.get());
+
+         ParallelBatchExecutor sequentialExecutor = new ParallelBatchExecutor(1);
+         sequentialExecutor.setSequentialThreshold(0);
+         sequentialExecutor.execute(100000, kernel);
+         assertEquals(0, numberOfForeignThreadCalls.get());
+         sequentialExecutor.shutdown();
+      }
+      finally
+      {
+         executor.shutdown();
+      }
+
+      try
+      {
+         new ParallelBatchExecutor(0);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+
+      try
+      {
+         executor.setChunkSize(0);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+   }
+}
@@ -0,0 +1,119 @@
+package us.ihmc.euclid.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+public class SeqLockContainerTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-10;
+
+   @Test
+   public void testSetAndGet() throws Exception
+   {
+      Random random = new Random(9845L);
+
+      Point3D initialPoint = EuclidCoreRandomTools.nextPoint3D(random);
+      SeqLockContainer<Point3D> pointContainer = new SeqLockContainer<>(new Point3D(initialPoint));
+      Point3D actualPoint = new Point3D();
+      assertEquals(0, pointContainer.get(actualPoint));
+      EuclidCoreTestTools.assertTuple3DEquals(initialPoint, actualPoint, EPS);
+
+      SeqLockContainer<Quaternion> quaternionContainer = new SeqLockContainer<>(new Quaternion());
+      SeqLockContainer<RigidBodyTransform> transformContainer = new SeqLockContainer<>(new RigidBodyTransform());
+      Quaternion actualQuaternion = new Quaternion();
+      RigidBodyTransform actualTransform = new RigidBodyTransform();
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Point3D expectedPoint = EuclidCoreRandomTools.nextPoint3D(random);
+         pointContainer.set(expectedPoint);
+         assertEquals(0, pointContainer.get(actualPoint));
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+
+         Quaternion expectedQuaternion = EuclidCoreRandomTools.nextQuaternion(random);
+         quaternionContainer.set(expectedQuaternion);
+         assertTrue(quaternionContainer.tryGet(actualQuaternion));
+         EuclidCoreTestTools.assertQuaternionEquals(expectedQuaternion, actualQuaternion, EPS);
+
+         RigidBodyTransform expectedTransform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         transformContainer.set(expectedTransform);
+         assertEquals(0, transformContainer.get(actualTransform));
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedTransform, actualTransform, EPS);
+      }
+   }
+
+   @Test
+   public void testConcurrentAccess() throws Exception
+   {
+      final int numberOfWrites = 200000;
+      final SeqLockContainer<RigidBodyTransform> container = new SeqLockContainer<>(new RigidBodyTransform());
+      final AtomicBoolean isWriting = new AtomicBoolean(true);
+      final AtomicReference<Throwable> readerError = new AtomicReference<>();
+
+      Thread[] readers = new Thread[3];
+
+      for (int i = 0; i < readers.length; i++)
+      {
+         readers[i] = new Thread(new Runnable()
+         {
+            @Override
+            public void run()
+            {
+               RigidBodyTransform actual = new RigidBodyTransform();
+               RigidBodyTransform expected = new RigidBodyTransform();
+
+               try
+               {
+                  while (isWriting.get())
+                  {
+                     container.get(actual);
+                     // Each published transform is entirely defined by its x-translation, a torn read would be inconsistent.
+                     computeSample(actual.getTranslationX(), expected);
+                     EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+                  }
+               }
+               catch (Throwable e)
+               {
+                  readerError.compareAndSet(null, e);
+               }
+            }
+         });
+         readers[i].start();
+      }
+
+      RigidBodyTransform sample = new RigidBodyTransform();
+
+      for (int i = 0; i < numberOfWrites; i++)
+      {
+         computeSample(i, sample);
+         container.set(sample);
+      }
+
+      isWriting.set(false);
+
+      for (Thread reader : readers)
+         reader.join();
+
+      if (readerError.get() != null)
+         throw new AssertionError("A reader failed.", readerError.get());
+   }
+
+   private static void computeSample(double value, RigidBodyTransform sampleToPack)
+   {
+      sampleToPack.setRotationYawPitchRoll(1.0e-3 * value, -2.0e-3 * value, 3.0e-3 * value);
+      sampleToPack.setTranslation(value, -value, 2.0 * value);
+   }
+}
@@ -0,0 +1,119 @@
+package us.ihmc.euclid.flyweight;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tools.QuaternionTools;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+public class QuaternionFlyweightTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-12;
+
+   @Test
+   public void testGetAndSet() throws Exception
+   {
+      Random random = new Random(3457L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int startOffset = random.nextInt(5);
+         int stride = 4 + random.nextInt(3);
+         int numberOfElements = random.nextInt(20);
+         double[] array = new double[startOffset + numberOfElements * stride];
+         float[] array32 = new float[startOffset + numberOfElements * stride];
+         QuaternionFlyweight quaternion = new QuaternionFlyweight(array, startOffset, stride);
+         QuaternionFlyweight32 quaternion32 = new QuaternionFlyweight32(array32, startOffset, stride);
+         assertEquals(numberOfElements, quaternion.size());
+         assertEquals(numberOfElements, quaternion32.size());
+
+         for (int j = 0; j < numberOfElements; j++)
+         {
+            Quaternion expected = EuclidCoreRandomTools.nextQuaternion(random);
+            quaternion.moveTo(j);
+            quaternion.set(expected);
+            quaternion32.moveTo(j);
+            quaternion32.set(expected);
+
+            int offset = startOffset + j * stride;
+            assertEquals(expected.getX(), array[offset], 0.0);
+            assertEquals(expected.getY(), array[offset + 1], 0.0);
+            assertEquals(expected.getZ(), array[offset + 2], 0.0);
+            assertEquals(expected.getS(), array[offset + 3], 0.0);
+            EuclidCoreTestTools.assertQuaternionEquals(expected, quaternion, 0.0);
+            EuclidCoreTestTools.assertQuaternionEquals(expected, quaternion32, 1.0e-7);
+         }
+
+         try
+         {
+            quaternion.moveTo(numberOfElements);
+            fail("Should have thrown an exception");
+         }
+         catch (IndexOutOfBoundsException e)
+         {
+            // good
+         }
+      }
+
+      try
+      {
+         new QuaternionFlyweight(new double[8], 0, 3);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+   }
+
+   @Test
+   public void testWalkingThroughArrayWithQuaternionTools() throws Exception
+   {
+      Random random = new Random(8976L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int numberOfElements = 1 + random.nextInt(20);
+         Quaternion other = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion[] expected = new Quaternion[numberOfElements];
+         double[] array = new double[4 * numberOfElements];
+         QuaternionFlyweight quaternion = new QuaternionFlyweight(array);
+
+         for (int j = 0; j < numberOfElements; j++)
+         {
+            expected[j] = EuclidCoreRandomTools.nextQuaternion(random);
+            quaternion.moveTo(j);
+            quaternion.set(expected[j]);
+         }
+
+         Vector3D vectorOriginal = EuclidCoreRandomTools.nextVector3D(random);
+         Vector3D expectedVector = new Vector3D();
+         Vector3D actualVector = new Vector3D();
+
+         for (int j = 0; j < numberOfElements; j++)
+         {
+            quaternion.moveTo(j);
+            QuaternionTools.multiply(quaternion, other, quaternion);
+            QuaternionTools.multiply(expected[j], other, expected[j]);
+
+            QuaternionTools.transform(quaternion, vectorOriginal, actualVector);
+            QuaternionTools.transform(expected[j], vectorOriginal, expectedVector);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, EPS);
+         }
+
+         for (int j = 0; j < numberOfElements; j++)
+         {
+            quaternion.moveTo(j);
+            EuclidCoreTestTools.assertQuaternionEquals(expected[j], quaternion, EPS);
+         }
+      }
+   }
+}
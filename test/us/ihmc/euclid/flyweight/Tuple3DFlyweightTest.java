@@ -0,0 +1,176 @@
+package us.ihmc.euclid.flyweight;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3D32;
+import us.ihmc.euclid.tuple3D.Vector3D;
+
+public class Tuple3DFlyweightTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-12;
+
+   @Test
+   public void testLayout() throws Exception
+   {
+      Random random = new Random(2344L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int startOffset = random.nextInt(5);
+         int stride = 3 + random.nextInt(3);
+         int numberOfElements = random.nextInt(20);
+         double[] array = new double[startOffset + numberOfElements * stride];
+         for (int j = 0; j < array.length; j++)
+            array[j] = random.nextDouble();
+
+         Point3DFlyweight point = new Point3DFlyweight(array, startOffset, stride);
+         assertSame(array, point.getArray());
+         assertEquals(numberOfElements, point.size());
+         assertEquals(startOffset, point.getStartOffset());
+         assertEquals(stride, point.getStride());
+         assertEquals(0, point.getIndex());
+         assertEquals(startOffset, point.getOffset());
+
+         for (int j = 0; j < numberOfElements; j++)
+         {
+            point.moveTo(j);
+            int offset = startOffset + j * stride;
+            assertEquals(j, point.getIndex());
+            assertEquals(offset, point.getOffset());
+            assertEquals(array[offset], point.getX(), 0.0);
+            assertEquals(array[offset + 1], point.getY(), 0.0);
+            assertEquals(array[offset + 2], point.getZ(), 0.0);
+         }
+
+         try
+         {
+            point.moveTo(numberOfElements);
+            fail("Should have thrown an exception");
+         }
+         catch (IndexOutOfBoundsException e)
+         {
+            // good
+         }
+
+         try
+         {
+            point.moveTo(-1);
+            fail("Should have thrown an exception");
+         }
+         catch (IndexOutOfBoundsException e)
+         {
+            // good
+         }
+
+         point.wrap(new double[3 * numberOfElements + 2]);
+         assertEquals(numberOfElements, point.size());
+         assertEquals(3, point.getStride());
+         assertEquals(0, point.getStartOffset());
+      }
+
+      try
+      {
+         new Vector3DFlyweight(new double[6], 0, 2);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+
+      try
+      {
+         new Vector3DFlyweight32(new float[6], -1, 3);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+   }
+
+   @Test
+   public void testWalkingThroughArray() throws Exception
+   {
+      Random random = new Random(6575L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int numberOfElements = 1 + random.nextInt(20);
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RotationMatrix rotation = EuclidCoreRandomTools.nextRotationMatrix(random);
+         Point3D[] expectedPoints = new Point3D[numberOfElements];
+         Vector3D[] expectedVectors = new Vector3D[numberOfElements];
+         double[] pointArray = new double[3 * numberOfElements];
+         // Interleaved layout: vectors first, then the points.
+         double[] vectorArray = new double[6 * numberOfElements];
+         float[] pointArray32 = new float[3 * numberOfElements];
+
+         Point3DFlyweight point = new Point3DFlyweight(pointArray);
+         Vector3DFlyweight vector = new Vector3DFlyweight(vectorArray, 0, 6);
+         Point3DFlyweight interleavedPoint = new Point3DFlyweight(vectorArray, 3, 6);
+         Point3DFlyweight32 point32 = new Point3DFlyweight32(pointArray32);
+
+         for (int j = 0; j < numberOfElements; j++)
+         {
+            expectedPoints[j] = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+            expectedVectors[j] = EuclidCoreRandomTools.nextVector3D(random);
+            point.moveTo(j);
+            point.set(expectedPoints[j]);
+            vector.moveTo(j);
+            vector.set(expectedVectors[j]);
+            interleavedPoint.moveTo(j);
+            interleavedPoint.set(expectedPoints[j]);
+            point32.moveTo(j);
+            point32.set(expectedPoints[j]);
+         }
+
+         for (int j = 0; j < numberOfElements; j++)
+         {
+            point.moveTo(j);
+            point.applyTransform(transform);
+            transform.transform(expectedPoints[j]);
+            vector.moveTo(j);
+            rotation.transform(vector);
+            rotation.transform(expectedVectors[j]);
+            interleavedPoint.moveTo(j);
+            interleavedPoint.add(vector);
+            point32.moveTo(j);
+            point32.scale(2.0);
+         }
+
+         for (int j = 0; j < numberOfElements; j++)
+         {
+            point.moveTo(j);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedPoints[j], point, EPS);
+            vector.moveTo(j);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedVectors[j], vector, EPS);
+            assertEquals(expectedVectors[j].getX(), vectorArray[6 * j], EPS);
+
+            interleavedPoint.moveTo(j);
+            Point3D expectedInterleaved = new Point3D();
+            transform.inverseTransform(expectedPoints[j], expectedInterleaved);
+            expectedInterleaved.add(expectedVectors[j]);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedInterleaved, interleavedPoint, EPS);
+
+            point32.moveTo(j);
+            Point3D32 expected32 = new Point3D32(expectedInterleaved);
+            expected32.sub(expectedVectors[j]);
+            expected32.scale(2.0);
+            EuclidCoreTestTools.assertTuple3DEquals(expected32, point32, 1.0e-4);
+         }
+      }
+   }
+}
@@ -27,6 +27,7 @@ import us.ihmc.euclid.rotationConversion.RotationVectorConversion;
 import us.ihmc.euclid.rotationConversion.YawPitchRollConversion;
 import us.ihmc.euclid.tools.EuclidCoreRandomTools;
 import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tools.Matrix3DFeatures;
 import us.ihmc.euclid.tools.Matrix3DTools;
 import us.ihmc.euclid.tools.QuaternionTools;
 import us.ihmc.euclid.tools.RotationMatrixTools;
@@ -1245,6 +1246,52 @@ public class RotationMatrixTest extends Matrix3DBasicsTest<RotationMatrix>
       }
    }
 
+   @Test
+   public void testNormalizer() throws Exception
+   {
+      Random random = new Random(2364L);
+      RotationMatrix matrix = new RotationMatrix();
+      assertTrue(matrix.getNormalizer() == RotationMatrixNormalizer.getGramSchmidt());
+
+      RotationMatrixNormalizer[] normalizers = {RotationMatrixNormalizer.getGramSchmidt(), RotationMatrixNormalizer.getFirstOrder(),
+            RotationMatrixNormalizer.getPolar()};
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D corrupted = new Matrix3D(EuclidCoreRandomTools.nextRotationMatrix(random));
+         corrupted.add(EuclidCoreRandomTools.nextMatrix3D(random, 1.0e-4));
+
+         for (RotationMatrixNormalizer normalizer : normalizers)
+         {
+            Matrix3D expected = new Matrix3D(corrupted);
+            normalizer.normalize(expected);
+
+            matrix.setNormalizer(normalizer);
+            assertTrue(matrix.getNormalizer() == normalizer);
+            matrix.setUnsafe(corrupted.getM00(), corrupted.getM01(), corrupted.getM02(), corrupted.getM10(), corrupted.getM11(), corrupted.getM12(),
+                             corrupted.getM20(), corrupted.getM21(), corrupted.getM22());
+            matrix.normalize();
+            EuclidCoreTestTools.assertMatrix3DEquals(expected, matrix, 0.0);
+            assertTrue(matrix.isRotationMatrix(EPS));
+         }
+
+         // The symmetric strategies agree with each other.
+         Matrix3D firstOrder = new Matrix3D(corrupted);
+         Matrix3DTools.normalizeFirstOrder(firstOrder);
+         Matrix3D polar = new Matrix3D(corrupted);
+         Matrix3DTools.normalizePolar(polar);
+         EuclidCoreTestTools.assertMatrix3DEquals(polar, firstOrder, EPS);
+      }
+
+      // The normalizer is used by the operations that normalize the matrix.
+      matrix.setNormalizer(RotationMatrixNormalizer.getPolar());
+      RotationMatrix other = EuclidCoreRandomTools.nextRotationMatrix(random);
+      RotationMatrix expected = new RotationMatrix(other);
+      matrix.setIdentity();
+      matrix.multiply(other);
+      EuclidCoreTestTools.assertMatrix3DEquals(expected, matrix, EPS);
+   }
+
    @Test
    public void testSetAndNormalize() throws Exception
    {
@@ -1314,6 +1361,117 @@ public class RotationMatrixTest extends Matrix3DBasicsTest<RotationMatrix>
       }
    }
 
+   @Test
+   public void testIsZeroOrientation() throws Exception
+   {
+      Random random = new Random(23409L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RotationMatrix matrix = new RotationMatrix();
+         assertTrue(matrix.isZeroOrientation());
+         assertTrue(matrix.isMatrix2D());
+
+         matrix.setToYawMatrix(EuclidCoreRandomTools.nextDouble(random, 0.1, Math.PI));
+         assertFalse(matrix.isZeroOrientation());
+         assertTrue(matrix.isMatrix2D());
+
+         matrix.setToRollMatrix(EuclidCoreRandomTools.nextDouble(random, 0.1, Math.PI));
+         assertFalse(matrix.isZeroOrientation());
+         assertFalse(matrix.isMatrix2D());
+
+         matrix.setIdentity();
+         assertTrue(matrix.isZeroOrientation());
+         matrix.transpose();
+         assertTrue(matrix.isZeroOrientation());
+
+         RotationMatrix other = EuclidCoreRandomTools.nextRotationMatrix(random);
+         matrix.set(other);
+         assertFalse(matrix.isZeroOrientation());
+         assertTrue(other.isMatrix2D(Matrix3DFeatures.EPS_CHECK_2D) == matrix.isMatrix2D());
+
+         matrix.multiplyTransposeThis(other);
+         assertTrue(matrix.isIdentity(EPS));
+         matrix.setRows(new Vector3D(1.0, 0.0, 0.0), new Vector3D(0.0, 1.0, 0.0), new Vector3D(0.0, 0.0, 1.0));
+         assertTrue(matrix.isZeroOrientation());
+
+         matrix.appendPitchRotation(EuclidCoreRandomTools.nextDouble(random, 0.1, Math.PI));
+         assertFalse(matrix.isZeroOrientation());
+         assertFalse(matrix.isMatrix2D());
+
+         matrix.setToNaN();
+         assertFalse(matrix.isZeroOrientation());
+      }
+   }
+
+   @Test
+   public void testLazyNormalization() throws Exception
+   {
+      Random random = new Random(34098L);
+
+      { // Test the default behavior: normalization after every operation
+         RotationMatrix matrix = EuclidCoreRandomTools.nextRotationMatrix(random);
+         assertTrue(0.0 == matrix.getLazyNormalizationTolerance());
+         matrix.multiply(EuclidCoreRandomTools.nextRotationMatrix(random));
+         matrix.appendYawRotation(random.nextDouble());
+         assertEquals(0, matrix.getNumberOfOperationsSinceNormalization());
+      }
+
+      { // Test the tolerance is clamped
+         RotationMatrix matrix = new RotationMatrix();
+         matrix.setLazyNormalizationTolerance(-1.0);
+         assertTrue(0.0 == matrix.getLazyNormalizationTolerance());
+         matrix.setLazyNormalizationTolerance(1.0);
+         assertTrue(RotationMatrix.MAX_LAZY_NORMALIZATION_TOLERANCE == matrix.getLazyNormalizationTolerance());
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test a chain of multiplications is normalized only when the error bound exceeds the tolerance
+         int maximumNumberOfOperations = 1 + random.nextInt(50);
+         RotationMatrix matrixExpected = EuclidCoreRandomTools.nextRotationMatrix(random);
+         RotationMatrix matrixActual = new RotationMatrix(matrixExpected);
+         matrixActual.setLazyNormalizationTolerance(maximumNumberOfOperations * RotationMatrix.NORMALIZATION_DRIFT_PER_OPERATION);
+
+         for (int j = 1; j <= 3 * maximumNumberOfOperations; j++)
+         {
+            RotationMatrix other = EuclidCoreRandomTools.nextRotationMatrix(random);
+            matrixExpected.multiply(other);
+            matrixActual.multiply(other);
+            assertEquals(j % (maximumNumberOfOperations + 1), matrixActual.getNumberOfOperationsSinceNormalization());
+            assertTrue(matrixActual.isRotationMatrix());
+            EuclidCoreTestTools.assertMatrix3DEquals(matrixExpected, matrixActual, EPS);
+         }
+
+         matrixActual.normalize();
+         assertEquals(0, matrixActual.getNumberOfOperationsSinceNormalization());
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test the number of operations of both operands is accounted for
+         RotationMatrix m1 = EuclidCoreRandomTools.nextRotationMatrix(random);
+         RotationMatrix m2 = EuclidCoreRandomTools.nextRotationMatrix(random);
+         m1.setLazyNormalizationTolerance(RotationMatrix.MAX_LAZY_NORMALIZATION_TOLERANCE);
+         m2.setLazyNormalizationTolerance(RotationMatrix.MAX_LAZY_NORMALIZATION_TOLERANCE);
+         int n1 = random.nextInt(10);
+         int n2 = random.nextInt(10);
+         for (int j = 0; j < n1; j++)
+            m1.preMultiply(EuclidCoreRandomTools.nextRotationMatrix(random));
+         for (int j = 0; j < n2; j++)
+            m2.appendRollRotation(random.nextDouble());
+
+         RotationMatrix result = new RotationMatrix();
+         result.setLazyNormalizationTolerance(RotationMatrix.MAX_LAZY_NORMALIZATION_TOLERANCE);
+         RotationMatrixTools.multiply(m1, m2, result);
+         assertEquals(n1 + n2 + 1, result.getNumberOfOperationsSinceNormalization());
+
+         RotationMatrix copy = new RotationMatrix();
+         copy.set(result);
+         assertEquals(result.getNumberOfOperationsSinceNormalization(), copy.getNumberOfOperationsSinceNormalization());
+         copy.set(EuclidCoreRandomTools.nextQuaternion(random));
+         assertEquals(0, copy.getNumberOfOperationsSinceNormalization());
+      }
+   }
+
    @Test
    public void testSetAndInvert() throws Exception
    {
@@ -520,6 +520,75 @@ public class RotationScaleMatrixTest extends Matrix3DBasicsTest<RotationScaleMat
       }
    }
 
+   @Test
+   public void testSetRotationNormalizer() throws Exception
+   {
+      Random random = new Random(9823L);
+      RotationScaleMatrix matrix = new RotationScaleMatrix();
+      assertTrue(matrix.getRotationMatrix().getNormalizer() == RotationMatrixNormalizer.getGramSchmidt());
+
+      matrix.setRotationNormalizer(RotationMatrixNormalizer.getPolar());
+      assertTrue(matrix.getRotationMatrix().getNormalizer() == RotationMatrixNormalizer.getPolar());
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D corrupted = new Matrix3D(EuclidCoreRandomTools.nextRotationMatrix(random));
+         corrupted.add(EuclidCoreRandomTools.nextMatrix3D(random, 1.0e-2));
+         matrix.getRotationMatrix().setUnsafe(corrupted.getM00(), corrupted.getM01(), corrupted.getM02(), corrupted.getM10(), corrupted.getM11(),
+                                              corrupted.getM12(), corrupted.getM20(), corrupted.getM21(), corrupted.getM22());
+         matrix.normalizeRotationMatrix();
+         Matrix3DTools.normalizePolar(corrupted);
+         EuclidCoreTestTools.assertMatrix3DEquals(corrupted, matrix.getRotationMatrix(), 0.0);
+      }
+   }
+
+   @Test
+   public void testComposedMatrixCache() throws Exception
+   {
+      Random random = new Random(34587L);
+      RotationScaleMatrix matrix = EuclidCoreRandomTools.nextRotationScaleMatrix(random, 10.0);
+      Matrix3D expected = new Matrix3D();
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         switch (random.nextInt(6))
+         {
+         case 0:
+            matrix.setScale(EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0));
+            break;
+         case 1:
+            matrix.resetScale();
+            break;
+         case 2:
+            // Modifying the rotation part directly from its reference.
+            matrix.getRotationMatrix().set(EuclidCoreRandomTools.nextRotationMatrix(random));
+            break;
+         case 3:
+            matrix.getRotationMatrix().appendYawRotation(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+            break;
+         case 4:
+            matrix.set(EuclidCoreRandomTools.nextRotationScaleMatrix(random, 10.0));
+            break;
+         default:
+            matrix.setToNaN();
+            EuclidCoreTestTools.assertMatrix3DContainsOnlyNaN(matrix);
+            matrix.set(EuclidCoreRandomTools.nextRotationMatrix(random), EuclidCoreRandomTools.nextVector3D(random, 0.1, 10.0));
+            break;
+         }
+
+         expected.set(matrix.getRotationMatrix());
+         expected.scaleColumns(matrix.getScaleX(), matrix.getScaleY(), matrix.getScaleZ());
+         EuclidCoreTestTools.assertMatrix3DEquals(expected, matrix, 0.0);
+
+         Vector3D original = EuclidCoreRandomTools.nextVector3D(random);
+         Vector3D expectedTransformed = new Vector3D();
+         Vector3D actualTransformed = new Vector3D();
+         expected.transform(original, expectedTransformed);
+         matrix.transform(original, actualTransformed);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTransformed, actualTransformed, 0.0);
+      }
+   }
+
    @Test
    public void testResetScale() throws Exception
    {
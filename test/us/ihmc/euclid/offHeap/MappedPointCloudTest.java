@@ -0,0 +1,239 @@
+package us.ihmc.euclid.offHeap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3DArray;
+
+public class MappedPointCloudTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 20;
+   private static final double EPS = 1.0e-12;
+
+   @Rule
+   public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+   @Test
+   public void testCreateAndOpen() throws Exception
+   {
+      Random random = new Random(9823L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Path path = temporaryFolder.newFile().toPath();
+         Point3DArray expected = EuclidCoreRandomTools.nextPoint3DArray(random, random.nextInt(200), 10.0);
+
+         try (MappedPointCloud pointCloud = MappedPointCloud.create(path, expected))
+         {
+            assertEquals(expected.size(), pointCloud.size());
+            assertTrue(pointCloud.isWritable());
+         }
+
+         assertEquals(MappedPointCloud.HEADER_SIZE + 3L * expected.size() * OffHeapBuffer.BYTES_PER_DOUBLE, Files.size(path));
+
+         try (MappedPointCloud pointCloud = MappedPointCloud.open(path, false))
+         {
+            assertEquals(expected.size(), pointCloud.size());
+            assertFalse(pointCloud.isWritable());
+
+            Point3DArray actual = new Point3DArray();
+            pointCloud.get(actual);
+            assertTrue(expected.epsilonEquals(actual, 0.0));
+
+            Point3D point = new Point3D();
+            MappedPointCloud.View view = pointCloud.newView();
+
+            for (int j = 0; j < expected.size(); j++)
+            {
+               pointCloud.get(j, point);
+               EuclidCoreTestTools.assertTuple3DEquals(point, new Point3D(expected.getX(j), expected.getY(j), expected.getZ(j)), 0.0);
+               assertEquals(expected.getX(j), pointCloud.getX(j), 0.0);
+               assertEquals(expected.getY(j), pointCloud.getY(j), 0.0);
+               assertEquals(expected.getZ(j), pointCloud.getZ(j), 0.0);
+               view.setIndex(j);
+               assertEquals(j, view.getIndex());
+               EuclidCoreTestTools.assertTuple3DEquals(point, view, 0.0);
+            }
+
+            try
+            {
+               pointCloud.set(0, point);
+               fail("Should have thrown an exception");
+            }
+            catch (ReadOnlyBufferException | IndexOutOfBoundsException e)
+            {
+               // good
+            }
+
+            try
+            {
+               view.setIndex(expected.size());
+               fail("Should have thrown an exception");
+            }
+            catch (IndexOutOfBoundsException e)
+            {
+               // good
+            }
+         }
+      }
+   }
+
+   @Test
+   public void testSetAndReopen() throws Exception
+   {
+      Random random = new Random(2342L);
+      Path path = temporaryFolder.newFile().toPath();
+      int numberOfPoints = 100;
+      Point3D[] expected = new Point3D[numberOfPoints];
+
+      try (MappedPointCloud pointCloud = MappedPointCloud.create(path, numberOfPoints))
+      {
+         Point3D point = new Point3D();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            pointCloud.get(j, point);
+            EuclidCoreTestTools.assertTuple3DIsSetToZero(point);
+            expected[j] = EuclidCoreRandomTools.nextPoint3D(random);
+            pointCloud.set(j, expected[j]);
+         }
+
+         pointCloud.force();
+      }
+
+      try (MappedPointCloud pointCloud = MappedPointCloud.open(path, true))
+      {
+         Point3D point = new Point3D();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            pointCloud.get(j, point);
+            EuclidCoreTestTools.assertTuple3DEquals(expected[j], point, 0.0);
+         }
+      }
+   }
+
+   @Test
+   public void testTransform() throws Exception
+   {
+      Random random = new Random(5634L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         Point3DArray original = EuclidCoreRandomTools.nextPoint3DArray(random, random.nextInt(200), 10.0);
+         Point3DArray expected = new Point3DArray();
+         transform.transform(original, expected);
+         Point3DArray actual = new Point3DArray();
+
+         try (MappedPointCloud source = MappedPointCloud.create(temporaryFolder.newFile().toPath(), original);
+               MappedPointCloud destination = MappedPointCloud.create(temporaryFolder.newFile().toPath(), original.size()))
+         {
+            source.transform(transform, destination);
+            destination.get(actual);
+            assertTrue(expected.epsilonEquals(actual, EPS));
+            source.get(actual);
+            assertTrue(original.epsilonEquals(actual, 0.0));
+
+            source.applyTransform(transform);
+            source.get(actual);
+            assertTrue(expected.epsilonEquals(actual, EPS));
+
+            try (MappedPointCloud wrongSize = MappedPointCloud.create(temporaryFolder.newFile().toPath(), original.size() + 1))
+            {
+               source.transform(transform, wrongSize);
+               fail("Should have thrown an exception");
+            }
+            catch (IllegalArgumentException e)
+            {
+               // good
+            }
+         }
+      }
+
+      Path path = temporaryFolder.newFile().toPath();
+      MappedPointCloud.create(path, 10).close();
+
+      try (MappedPointCloud readOnly = MappedPointCloud.open(path, false))
+      {
+         readOnly.applyTransform(new RigidBodyTransform());
+         fail("Should have thrown an exception");
+      }
+      catch (ReadOnlyBufferException e)
+      {
+         // good
+      }
+   }
+
+   @Test
+   public void testInvalidFiles() throws Exception
+   {
+      File file = temporaryFolder.newFile();
+      Files.write(file.toPath(), new byte[] {1, 2, 3});
+
+      try
+      {
+         MappedPointCloud.open(file.toPath(), false);
+         fail("Should have thrown an exception");
+      }
+      catch (IOException e)
+      {
+         // good
+      }
+
+      Files.write(file.toPath(), new byte[MappedPointCloud.HEADER_SIZE]);
+
+      try
+      {
+         MappedPointCloud.open(file.toPath(), false);
+         fail("Should have thrown an exception");
+      }
+      catch (IOException e)
+      {
+         // good
+      }
+
+      Path path = temporaryFolder.newFile().toPath();
+      MappedPointCloud.create(path, 10).close();
+      byte[] truncated = new byte[MappedPointCloud.HEADER_SIZE + 10];
+      System.arraycopy(Files.readAllBytes(path), 0, truncated, 0, truncated.length);
+      Files.write(path, truncated);
+
+      try
+      {
+         MappedPointCloud.open(path, false);
+         fail("Should have thrown an exception");
+      }
+      catch (IOException e)
+      {
+         // good
+      }
+
+      try
+      {
+         MappedPointCloud.create(path, -1);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+   }
+}
@@ -0,0 +1,255 @@
+package us.ihmc.euclid.offHeap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class OffHeapPoint3DBufferTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-12;
+
+   @Test
+   public void testConstructors() throws Exception
+   {
+      Random random = new Random(3466L);
+
+      { // Test OffHeapPoint3DBuffer(int capacity)
+         int capacity = random.nextInt(100);
+         OffHeapPoint3DBuffer points = new OffHeapPoint3DBuffer(capacity);
+         assertEquals(0, points.size());
+         assertTrue(points.isEmpty());
+         assertEquals(capacity, points.capacity());
+         assertEquals(OffHeapPoint3DBuffer.STRIDE, points.getStride());
+         assertTrue(points.getByteBuffer().isDirect());
+         assertEquals(ByteOrder.nativeOrder(), points.getByteBuffer().order());
+
+         try
+         {
+            new OffHeapPoint3DBuffer(-1);
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalArgumentException e)
+         {
+            // good
+         }
+
+         try
+         {
+            new OffHeapPoint3DBuffer(Integer.MAX_VALUE / 2);
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalArgumentException e)
+         {
+            // good
+         }
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test OffHeapPoint3DBuffer(ByteBuffer byteBuffer)
+         int numberOfPoints = random.nextInt(100);
+         int padding = random.nextInt(OffHeapPoint3DBuffer.STRIDE * OffHeapBuffer.BYTES_PER_DOUBLE);
+         ByteBuffer byteBuffer = ByteBuffer.allocate(8 + numberOfPoints * OffHeapPoint3DBuffer.STRIDE * OffHeapBuffer.BYTES_PER_DOUBLE + padding);
+         byteBuffer.order(ByteOrder.nativeOrder());
+         ((Buffer) byteBuffer).position(8);
+         Point3D[] expected = new Point3D[numberOfPoints];
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            expected[j] = EuclidCoreRandomTools.nextPoint3D(random);
+            byteBuffer.putDouble(expected[j].getX());
+            byteBuffer.putDouble(expected[j].getY());
+            byteBuffer.putDouble(expected[j].getZ());
+         }
+
+         ((Buffer) byteBuffer).position(8);
+         OffHeapPoint3DBuffer points = new OffHeapPoint3DBuffer(byteBuffer);
+         assertEquals(8, byteBuffer.position());
+         assertEquals(numberOfPoints, points.capacity());
+         assertEquals(numberOfPoints, points.size());
+
+         Point3D actual = new Point3D();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            points.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected[j], actual, 0.0);
+         }
+      }
+   }
+
+   @Test
+   public void testAddGetAndSet() throws Exception
+   {
+      Random random = new Random(9872L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int numberOfPoints = random.nextInt(100);
+         OffHeapPoint3DBuffer points = new OffHeapPoint3DBuffer(numberOfPoints);
+         Point3D[] expected = new Point3D[numberOfPoints];
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            expected[j] = EuclidCoreRandomTools.nextPoint3D(random);
+
+            if (random.nextBoolean())
+               points.add(expected[j]);
+            else
+               points.add(expected[j].getX(), expected[j].getY(), expected[j].getZ());
+         }
+
+         assertEquals(numberOfPoints, points.size());
+
+         try
+         {
+            points.add(0.0, 0.0, 0.0);
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalStateException e)
+         {
+            // good
+         }
+
+         Point3D actual = new Point3D();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            points.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected[j], actual, 0.0);
+            assertEquals(expected[j].getX(), points.getX(j), 0.0);
+            assertEquals(expected[j].getY(), points.getY(j), 0.0);
+            assertEquals(expected[j].getZ(), points.getZ(j), 0.0);
+            assertEquals(expected[j].getX(), points.getDoubleBuffer().get(OffHeapPoint3DBuffer.STRIDE * j), 0.0);
+
+            expected[j] = EuclidCoreRandomTools.nextPoint3D(random);
+            points.set(j, expected[j]);
+            points.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected[j], actual, 0.0);
+         }
+
+         points.clear();
+         assertTrue(points.isEmpty());
+         assertEquals(numberOfPoints, points.capacity());
+
+         try
+         {
+            points.get(0, actual);
+            fail("Should have thrown an exception");
+         }
+         catch (IndexOutOfBoundsException e)
+         {
+            // good
+         }
+
+         try
+         {
+            points.setSize(numberOfPoints + 1);
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalArgumentException e)
+         {
+            // good
+         }
+
+         points.setSize(numberOfPoints);
+
+         for (int j = 0; j < numberOfPoints; j++)
+         { // The data is preserved.
+            points.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected[j], actual, 0.0);
+         }
+      }
+   }
+
+   @Test
+   public void testCursor() throws Exception
+   {
+      Random random = new Random(2312L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int numberOfPoints = 1 + random.nextInt(100);
+         OffHeapPoint3DBuffer points = new OffHeapPoint3DBuffer(numberOfPoints);
+         points.setSize(numberOfPoints);
+         OffHeapPoint3DBuffer.Cursor cursor = points.newCursor();
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         Point3D[] expected = new Point3D[numberOfPoints];
+         Point3D actual = new Point3D();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            expected[j] = EuclidCoreRandomTools.nextPoint3D(random);
+            cursor.setIndex(j);
+            assertEquals(j, cursor.getIndex());
+            cursor.set(expected[j]);
+            points.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected[j], actual, 0.0);
+            EuclidCoreTestTools.assertTuple3DEquals(expected[j], cursor, 0.0);
+
+            cursor.applyTransform(transform);
+            transform.transform(expected[j]);
+            points.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected[j], actual, EPS);
+         }
+
+         for (int j = 0; j < numberOfPoints; j++)
+         { // Making sure that writing with the cursor did not affect the other points.
+            points.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected[j], actual, EPS);
+         }
+
+         try
+         {
+            cursor.setIndex(numberOfPoints);
+            fail("Should have thrown an exception");
+         }
+         catch (IndexOutOfBoundsException e)
+         {
+            // good
+         }
+
+         assertFalse(cursor.containsNaN());
+      }
+
+      OffHeapPoint3DBuffer points = new OffHeapPoint3DBuffer(10);
+      OffHeapPoint3DBuffer.Cursor cursor = points.newCursor();
+      assertEquals(-1, cursor.getIndex());
+
+      try
+      {
+         cursor.getY();
+         fail("Should have thrown an exception");
+      }
+      catch (IndexOutOfBoundsException e)
+      {
+         // good
+      }
+
+      try
+      {
+         points.newCursor(0);
+         fail("Should have thrown an exception");
+      }
+      catch (IndexOutOfBoundsException e)
+      {
+         // good
+      }
+
+      points.setSize(10);
+      assertEquals(5, points.newCursor(5).getIndex());
+   }
+}
@@ -0,0 +1,138 @@
+package us.ihmc.euclid.offHeap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+public class OffHeapQuaternionBufferTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-12;
+
+   @Test
+   public void testAddGetAndSet() throws Exception
+   {
+      Random random = new Random(6523L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int numberOfQuaternions = random.nextInt(100);
+         OffHeapQuaternionBuffer quaternions = new OffHeapQuaternionBuffer(numberOfQuaternions);
+         Quaternion[] expected = new Quaternion[numberOfQuaternions];
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+         {
+            expected[j] = EuclidCoreRandomTools.nextQuaternion(random);
+            quaternions.add(expected[j]);
+         }
+
+         assertEquals(numberOfQuaternions, quaternions.size());
+
+         try
+         {
+            quaternions.add(new Quaternion());
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalStateException e)
+         {
+            // good
+         }
+
+         Quaternion actual = new Quaternion();
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+         {
+            quaternions.get(j, actual);
+            EuclidCoreTestTools.assertQuaternionEquals(expected[j], actual, 0.0);
+
+            expected[j] = EuclidCoreRandomTools.nextQuaternion(random);
+            quaternions.set(j, expected[j]);
+            quaternions.get(j, actual);
+            EuclidCoreTestTools.assertQuaternionEquals(expected[j], actual, 0.0);
+         }
+
+         try
+         {
+            quaternions.get(numberOfQuaternions, actual);
+            fail("Should have thrown an exception");
+         }
+         catch (IndexOutOfBoundsException e)
+         {
+            // good
+         }
+      }
+   }
+
+   @Test
+   public void testCursor() throws Exception
+   {
+      Random random = new Random(8734L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int numberOfQuaternions = 1 + random.nextInt(100);
+         OffHeapQuaternionBuffer quaternions = new OffHeapQuaternionBuffer(numberOfQuaternions);
+         quaternions.setSize(numberOfQuaternions);
+         OffHeapQuaternionBuffer.Cursor cursor = quaternions.newCursor();
+         Quaternion[] expected = new Quaternion[numberOfQuaternions];
+         Quaternion actual = new Quaternion();
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+         {
+            expected[j] = EuclidCoreRandomTools.nextQuaternion(random);
+            cursor.setIndex(j);
+            assertEquals(j, cursor.getIndex());
+            cursor.set(expected[j]);
+            quaternions.get(j, actual);
+            EuclidCoreTestTools.assertQuaternionEquals(expected[j], actual, EPS);
+
+            Quaternion other = EuclidCoreRandomTools.nextQuaternion(random);
+            cursor.multiply(other);
+            expected[j].multiply(other);
+            quaternions.get(j, actual);
+            EuclidCoreTestTools.assertQuaternionEquals(expected[j], actual, EPS);
+            EuclidCoreTestTools.assertQuaternionEquals(expected[j], cursor, EPS);
+         }
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+         { // Making sure that writing with the cursor did not affect the other quaternions.
+            quaternions.get(j, actual);
+            EuclidCoreTestTools.assertQuaternionEquals(expected[j], actual, EPS);
+         }
+      }
+
+      OffHeapQuaternionBuffer quaternions = new OffHeapQuaternionBuffer(10);
+      OffHeapQuaternionBuffer.Cursor cursor = quaternions.newCursor();
+      assertEquals(-1, cursor.getIndex());
+
+      try
+      {
+         cursor.getS();
+         fail("Should have thrown an exception");
+      }
+      catch (IndexOutOfBoundsException e)
+      {
+         // good
+      }
+
+      try
+      {
+         quaternions.newCursor(0);
+         fail("Should have thrown an exception");
+      }
+      catch (IndexOutOfBoundsException e)
+      {
+         // good
+      }
+
+      quaternions.setSize(10);
+      assertEquals(5, quaternions.newCursor(5).getIndex());
+   }
+}
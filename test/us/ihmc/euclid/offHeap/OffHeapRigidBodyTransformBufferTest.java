@@ -0,0 +1,114 @@
+package us.ihmc.euclid.offHeap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class OffHeapRigidBodyTransformBufferTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-12;
+
+   @Test
+   public void testAddGetAndSet() throws Exception
+   {
+      Random random = new Random(2398L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int numberOfTransforms = random.nextInt(20);
+         OffHeapRigidBodyTransformBuffer transforms = new OffHeapRigidBodyTransformBuffer(numberOfTransforms);
+         RigidBodyTransform[] expected = new RigidBodyTransform[numberOfTransforms];
+
+         for (int j = 0; j < numberOfTransforms; j++)
+         {
+            expected[j] = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+            transforms.add(expected[j]);
+         }
+
+         assertEquals(numberOfTransforms, transforms.size());
+
+         try
+         {
+            transforms.add(new RigidBodyTransform());
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalStateException e)
+         {
+            // good
+         }
+
+         RigidBodyTransform actual = new RigidBodyTransform();
+
+         for (int j = 0; j < numberOfTransforms; j++)
+         {
+            transforms.get(j, actual);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected[j], actual, 0.0);
+
+            expected[j] = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+            transforms.set(j, expected[j]);
+            transforms.get(j, actual);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected[j], actual, 0.0);
+         }
+
+         try
+         {
+            transforms.get(-1, actual);
+            fail("Should have thrown an exception");
+         }
+         catch (IndexOutOfBoundsException e)
+         {
+            // good
+         }
+      }
+   }
+
+   @Test
+   public void testTransform() throws Exception
+   {
+      Random random = new Random(7345L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int numberOfTransforms = 1 + random.nextInt(20);
+         OffHeapRigidBodyTransformBuffer transforms = new OffHeapRigidBodyTransformBuffer(numberOfTransforms);
+         RigidBodyTransform[] expectedTransforms = new RigidBodyTransform[numberOfTransforms];
+
+         for (int j = 0; j < numberOfTransforms; j++)
+         {
+            expectedTransforms[j] = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+            transforms.add(expectedTransforms[j]);
+         }
+
+         int numberOfPoints = random.nextInt(100);
+         OffHeapPoint3DBuffer pointsOriginal = new OffHeapPoint3DBuffer(numberOfPoints);
+         OffHeapPoint3DBuffer pointsTransformed = new OffHeapPoint3DBuffer(numberOfPoints);
+
+         for (int j = 0; j < numberOfPoints; j++)
+            pointsOriginal.add(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+
+         int index = random.nextInt(numberOfTransforms);
+         transforms.transform(index, pointsOriginal, pointsTransformed);
+         assertEquals(numberOfPoints, pointsTransformed.size());
+
+         Point3D expected = new Point3D();
+         Point3D actual = new Point3D();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            pointsOriginal.get(j, expected);
+            expectedTransforms[index].transform(expected);
+            pointsTransformed.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+         }
+      }
+   }
+}
@@ -0,0 +1,307 @@
+package us.ihmc.euclid.orientation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple2D.Vector2D;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.Vector4D;
+
+public class CachedOrientation3DTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-12;
+
+   @Test
+   public void testConstructors() throws Exception
+   {
+      Random random = new Random(6234L);
+
+      CachedOrientation3D orientation = new CachedOrientation3D();
+      EuclidCoreTestTools.assertQuaternionIsSetToZero(orientation.getQuaternion());
+      EuclidCoreTestTools.assertIdentity(orientation.getRotationMatrix(), EPS);
+      assertEquals(0.0, orientation.getYaw(), 0.0);
+      EuclidCoreTestTools.assertTuple3DIsSetToZero(orientation.getRotationVector());
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Quaternion quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+         orientation = new CachedOrientation3D(quaternion);
+         EuclidCoreTestTools.assertQuaternionEquals(quaternion, orientation.getQuaternion(), EPS);
+
+         CachedOrientation3D copy = new CachedOrientation3D(orientation);
+         EuclidCoreTestTools.assertQuaternionEquals(quaternion, copy.getQuaternion(), EPS);
+         assertCachesEqual(quaternion, copy);
+      }
+   }
+
+   @Test
+   public void testCachesAfterModifications() throws Exception
+   {
+      Random random = new Random(2374L);
+      Quaternion expected = new Quaternion();
+      CachedOrientation3D orientation = new CachedOrientation3D();
+
+      for (int i = 0; i < 10 * NUMBER_OF_ITERATIONS; i++)
+      {
+         // Reading the caches before modifying such that the invalidation is exercised.
+         if (random.nextBoolean())
+            assertCachesEqual(expected, orientation);
+
+         Quaternion other = EuclidCoreRandomTools.nextQuaternion(random);
+         double angle = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+
+         switch (random.nextInt(17))
+         {
+         case 0:
+            expected.set(other);
+            orientation.set(other);
+            break;
+         case 1:
+            RotationMatrix rotationMatrix = new RotationMatrix(other);
+            expected.set(rotationMatrix);
+            orientation.setRotationMatrix(rotationMatrix.getM00(), rotationMatrix.getM01(), rotationMatrix.getM02(), rotationMatrix.getM10(),
+                                          rotationMatrix.getM11(), rotationMatrix.getM12(), rotationMatrix.getM20(), rotationMatrix.getM21(),
+                                          rotationMatrix.getM22());
+            break;
+         case 2:
+            AxisAngle axisAngle = EuclidCoreRandomTools.nextAxisAngle(random);
+            expected.set(axisAngle);
+            orientation.setAxisAngle(axisAngle.getX(), axisAngle.getY(), axisAngle.getZ(), axisAngle.getAngle());
+            break;
+         case 3:
+            Vector3D rotationVector = EuclidCoreRandomTools.nextRotationVector(random);
+            expected.setRotationVector(rotationVector);
+            orientation.setRotationVector(rotationVector);
+            break;
+         case 4:
+            double[] yawPitchRoll = EuclidCoreRandomTools.nextYawPitchRoll(random);
+            expected.setYawPitchRoll(yawPitchRoll);
+            orientation.setYawPitchRoll(yawPitchRoll);
+            break;
+         case 5:
+            expected.invert();
+            orientation.invert();
+            break;
+         case 6:
+            expected.append(other);
+            orientation.append(other);
+            break;
+         case 7:
+            expected.appendInvertOther(other);
+            orientation.appendInvertOther(other);
+            break;
+         case 8:
+            expected.prepend(other);
+            orientation.prepend(other);
+            break;
+         case 9:
+            expected.prependInvertOther(other);
+            orientation.prependInvertOther(other);
+            break;
+         case 10:
+            expected.appendYawRotation(angle);
+            orientation.appendYawRotation(angle);
+            break;
+         case 11:
+            expected.appendPitchRotation(angle);
+            orientation.appendPitchRotation(angle);
+            break;
+         case 12:
+            expected.appendRollRotation(angle);
+            orientation.appendRollRotation(angle);
+            break;
+         case 13:
+            expected.prependYawRotation(angle);
+            orientation.prependYawRotation(angle);
+            break;
+         case 14:
+            expected.prependPitchRotation(angle);
+            orientation.prependPitchRotation(angle);
+            break;
+         case 15:
+            expected.prependRollRotation(angle);
+            orientation.prependRollRotation(angle);
+            break;
+         default:
+            RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+            expected.applyTransform(transform);
+            orientation.applyTransform(transform);
+            break;
+         }
+
+         EuclidCoreTestTools.assertQuaternionEquals(expected, orientation.getQuaternion(), EPS);
+         assertCachesEqual(expected, orientation);
+
+         // Avoiding the accumulation of numerical errors between the two quaternions.
+         expected.set(orientation.getQuaternion());
+      }
+   }
+
+   @Test
+   public void testTransformations() throws Exception
+   {
+      Random random = new Random(4576L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Quaternion quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+         CachedOrientation3D orientation = new CachedOrientation3D(quaternion);
+
+         Point3D pointOriginal = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         Point3D pointExpected = new Point3D();
+         Point3D pointActual = new Point3D();
+         quaternion.transform(pointOriginal, pointExpected);
+         orientation.transform(pointOriginal, pointActual);
+         EuclidCoreTestTools.assertTuple3DEquals(pointExpected, pointActual, EPS);
+         quaternion.inverseTransform(pointOriginal, pointExpected);
+         orientation.inverseTransform(pointOriginal, pointActual);
+         EuclidCoreTestTools.assertTuple3DEquals(pointExpected, pointActual, EPS);
+
+         pointActual.set(pointOriginal);
+         orientation.addTransform(pointActual);
+         quaternion.transform(pointOriginal, pointExpected);
+         pointExpected.add(pointOriginal);
+         EuclidCoreTestTools.assertTuple3DEquals(pointExpected, pointActual, EPS);
+
+         Vector4D vectorOriginal = EuclidCoreRandomTools.nextVector4D(random);
+         Vector4D vectorExpected = new Vector4D();
+         Vector4D vectorActual = new Vector4D();
+         quaternion.transform(vectorOriginal, vectorExpected);
+         orientation.transform(vectorOriginal, vectorActual);
+         EuclidCoreTestTools.assertTuple4DEquals(vectorExpected, vectorActual, EPS);
+         quaternion.inverseTransform(vectorOriginal, vectorExpected);
+         orientation.inverseTransform(vectorOriginal, vectorActual);
+         EuclidCoreTestTools.assertTuple4DEquals(vectorExpected, vectorActual, EPS);
+
+         Matrix3D matrixOriginal = EuclidCoreRandomTools.nextMatrix3D(random);
+         Matrix3D matrixExpected = new Matrix3D();
+         Matrix3D matrixActual = new Matrix3D();
+         quaternion.transform(matrixOriginal, matrixExpected);
+         orientation.transform(matrixOriginal, matrixActual);
+         EuclidCoreTestTools.assertMatrix3DEquals(matrixExpected, matrixActual, EPS);
+         quaternion.inverseTransform(matrixOriginal, matrixExpected);
+         orientation.inverseTransform(matrixOriginal, matrixActual);
+         EuclidCoreTestTools.assertMatrix3DEquals(matrixExpected, matrixActual, EPS);
+
+         RotationMatrix rotationMatrixOriginal = EuclidCoreRandomTools.nextRotationMatrix(random);
+         RotationMatrix rotationMatrixExpected = new RotationMatrix();
+         RotationMatrix rotationMatrixActual = new RotationMatrix();
+         quaternion.transform(rotationMatrixOriginal, rotationMatrixExpected);
+         orientation.transform(rotationMatrixOriginal, rotationMatrixActual);
+         EuclidCoreTestTools.assertMatrix3DEquals(rotationMatrixExpected, rotationMatrixActual, EPS);
+         quaternion.inverseTransform(rotationMatrixOriginal, rotationMatrixExpected);
+         orientation.inverseTransform(rotationMatrixOriginal, rotationMatrixActual);
+         EuclidCoreTestTools.assertMatrix3DEquals(rotationMatrixExpected, rotationMatrixActual, EPS);
+
+         Quaternion quaternionOriginal = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion quaternionExpected = new Quaternion();
+         Quaternion quaternionActual = new Quaternion();
+         quaternion.transform(quaternionOriginal, quaternionExpected);
+         orientation.transform(quaternionOriginal, quaternionActual);
+         EuclidCoreTestTools.assertQuaternionEquals(quaternionExpected, quaternionActual, EPS);
+         quaternion.inverseTransform(quaternionOriginal, quaternionExpected);
+         orientation.inverseTransform(quaternionOriginal, quaternionActual);
+         EuclidCoreTestTools.assertQuaternionEquals(quaternionExpected, quaternionActual, EPS);
+
+         // 2D transformations
+         quaternion.setToYawQuaternion(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+         orientation.set(quaternion);
+         Vector2D vector2DOriginal = EuclidCoreRandomTools.nextVector2D(random);
+         Vector2D vector2DExpected = new Vector2D();
+         Vector2D vector2DActual = new Vector2D();
+         quaternion.transform(vector2DOriginal, vector2DExpected);
+         orientation.transform(vector2DOriginal, vector2DActual);
+         EuclidCoreTestTools.assertTuple2DEquals(vector2DExpected, vector2DActual, EPS);
+         quaternion.inverseTransform(vector2DOriginal, vector2DExpected);
+         orientation.inverseTransform(vector2DOriginal, vector2DActual);
+         EuclidCoreTestTools.assertTuple2DEquals(vector2DExpected, vector2DActual, EPS);
+      }
+   }
+
+   @Test
+   public void testClearableAndComparisons() throws Exception
+   {
+      Random random = new Random(8923L);
+      Quaternion quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+      CachedOrientation3D orientation = new CachedOrientation3D(quaternion);
+      CachedOrientation3D other = new CachedOrientation3D(quaternion);
+
+      assertTrue(orientation.equals(other));
+      assertEquals(orientation.hashCode(), other.hashCode());
+      assertTrue(orientation.epsilonEquals(other, EPS));
+      other.appendYawRotation(1.0e-3);
+      assertFalse(orientation.equals(other));
+      assertFalse(orientation.epsilonEquals(other, 1.0e-5));
+      assertTrue(orientation.epsilonEquals(other, 1.0e-2));
+      assertTrue(orientation.geometricallyEquals(other, 1.1e-3));
+      assertFalse(orientation.geometricallyEquals(other, 0.9e-3));
+
+      // Negating the quaternion does not change the orientation.
+      other.setQuaternion(-quaternion.getX(), -quaternion.getY(), -quaternion.getZ(), -quaternion.getS());
+      assertFalse(orientation.epsilonEquals(other, EPS));
+      assertTrue(orientation.geometricallyEquals(other, EPS));
+
+      orientation.getRotationMatrix();
+      orientation.getYaw();
+      orientation.setToNaN();
+      assertTrue(orientation.containsNaN());
+      EuclidCoreTestTools.assertMatrix3DContainsOnlyNaN(orientation.getRotationMatrix());
+      assertTrue(Double.isNaN(orientation.getYaw()));
+
+      orientation.setToZero();
+      assertFalse(orientation.containsNaN());
+      EuclidCoreTestTools.assertIdentity(orientation.getRotationMatrix(), EPS);
+      assertEquals(0.0, orientation.getPitch(), 0.0);
+   }
+
+   private static void assertCachesEqual(Quaternion expected, CachedOrientation3D actual)
+   {
+      EuclidCoreTestTools.assertMatrix3DEquals(new RotationMatrix(expected), actual.getRotationMatrix(), EPS);
+      RotationMatrix rotationMatrix = new RotationMatrix();
+      actual.get(rotationMatrix);
+      EuclidCoreTestTools.assertMatrix3DEquals(new RotationMatrix(expected), rotationMatrix, EPS);
+
+      double[] expectedYawPitchRoll = new double[3];
+      double[] actualYawPitchRoll = new double[3];
+      expected.getYawPitchRoll(expectedYawPitchRoll);
+      actual.getYawPitchRoll(actualYawPitchRoll);
+      for (int i = 0; i < 3; i++)
+         assertEquals(expectedYawPitchRoll[i], actualYawPitchRoll[i], EPS);
+      assertEquals(expected.getYaw(), actual.getYaw(), EPS);
+      assertEquals(expected.getPitch(), actual.getPitch(), EPS);
+      assertEquals(expected.getRoll(), actual.getRoll(), EPS);
+
+      Vector3D expectedEuler = new Vector3D();
+      Vector3D actualEuler = new Vector3D();
+      expected.getEuler(expectedEuler);
+      actual.getEuler(actualEuler);
+      EuclidCoreTestTools.assertTuple3DEquals(expectedEuler, actualEuler, EPS);
+
+      Vector3D expectedRotationVector = new Vector3D();
+      Vector3D actualRotationVector = new Vector3D();
+      expected.getRotationVector(expectedRotationVector);
+      actual.getRotationVector(actualRotationVector);
+      EuclidCoreTestTools.assertTuple3DEquals(expectedRotationVector, actualRotationVector, EPS);
+      EuclidCoreTestTools.assertTuple3DEquals(expectedRotationVector, actual.getRotationVector(), EPS);
+
+      AxisAngle expectedAxisAngle = new AxisAngle();
+      AxisAngle actualAxisAngle = new AxisAngle();
+      expected.get(expectedAxisAngle);
+      actual.get(actualAxisAngle);
+      EuclidCoreTestTools.assertAxisAngleEquals(expectedAxisAngle, actualAxisAngle, EPS);
+   }
+}
@@ -0,0 +1,208 @@
+package us.ihmc.euclid.orientation;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.orientation.interfaces.Orientation3DReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple2D.Vector2D;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3DArray;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.Vector4D;
+
+public class PreparedRotationTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-12;
+
+   @Test
+   public void testConstructors() throws Exception
+   {
+      Random random = new Random(3452L);
+
+      PreparedRotation preparedRotation = new PreparedRotation();
+      EuclidCoreTestTools.assertIdentity(preparedRotation.getRotationMatrix(), EPS);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Quaternion quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+         preparedRotation = new PreparedRotation(quaternion);
+         EuclidCoreTestTools.assertRotationMatrixGeometricallyEquals(new RotationMatrix(quaternion), preparedRotation.getRotationMatrix(), EPS);
+
+         // The prepared rotation is a snapshot of the original orientation.
+         RotationMatrix expected = new RotationMatrix(quaternion);
+         quaternion.set(EuclidCoreRandomTools.nextQuaternion(random));
+         EuclidCoreTestTools.assertMatrix3DEquals(expected, preparedRotation.getRotationMatrix(), EPS);
+      }
+   }
+
+   @Test
+   public void testGetters() throws Exception
+   {
+      Random random = new Random(9745L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Quaternion quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+         PreparedRotation preparedRotation = new PreparedRotation(quaternion);
+
+         Quaternion actualQuaternion = new Quaternion();
+         preparedRotation.get(actualQuaternion);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(quaternion, actualQuaternion, EPS);
+
+         AxisAngle actualAxisAngle = new AxisAngle();
+         preparedRotation.get(actualAxisAngle);
+         EuclidCoreTestTools.assertAxisAngleGeometricallyEquals(new AxisAngle(quaternion), actualAxisAngle, EPS);
+
+         Vector3D expectedRotationVector = new Vector3D();
+         Vector3D actualRotationVector = new Vector3D();
+         quaternion.getRotationVector(expectedRotationVector);
+         preparedRotation.getRotationVector(actualRotationVector);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedRotationVector, actualRotationVector, EPS);
+
+         assertEquals(quaternion.getYaw(), preparedRotation.getYaw(), EPS);
+         assertEquals(quaternion.getPitch(), preparedRotation.getPitch(), EPS);
+         assertEquals(quaternion.getRoll(), preparedRotation.getRoll(), EPS);
+      }
+   }
+
+   @Test
+   public void testTransformations() throws Exception
+   {
+      Random random = new Random(2345L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Orientation3DReadOnly[] orientations = {EuclidCoreRandomTools.nextQuaternion(random), EuclidCoreRandomTools.nextAxisAngle(random),
+               EuclidCoreRandomTools.nextRotationMatrix(random)};
+
+         for (Orientation3DReadOnly orientation : orientations)
+         {
+            PreparedRotation preparedRotation = new PreparedRotation(orientation);
+
+            Point3D original = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+            Point3D expected = new Point3D();
+            Point3D actual = new Point3D();
+            orientation.transform(original, expected);
+            preparedRotation.transform(original, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+
+            orientation.inverseTransform(original, expected);
+            preparedRotation.inverseTransform(original, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+
+            Vector4D vector4DOriginal = EuclidCoreRandomTools.nextVector4D(random);
+            Vector4D vector4DExpected = new Vector4D();
+            Vector4D vector4DActual = new Vector4D();
+            orientation.transform(vector4DOriginal, vector4DExpected);
+            preparedRotation.transform(vector4DOriginal, vector4DActual);
+            EuclidCoreTestTools.assertTuple4DEquals(vector4DExpected, vector4DActual, EPS);
+
+            orientation.inverseTransform(vector4DOriginal, vector4DExpected);
+            preparedRotation.inverseTransform(vector4DOriginal, vector4DActual);
+            EuclidCoreTestTools.assertTuple4DEquals(vector4DExpected, vector4DActual, EPS);
+
+            Matrix3D matrixOriginal = EuclidCoreRandomTools.nextMatrix3D(random);
+            Matrix3D matrixExpected = new Matrix3D();
+            Matrix3D matrixActual = new Matrix3D();
+            orientation.transform(matrixOriginal, matrixExpected);
+            preparedRotation.transform(matrixOriginal, matrixActual);
+            EuclidCoreTestTools.assertMatrix3DEquals(matrixExpected, matrixActual, EPS);
+
+            orientation.inverseTransform(matrixOriginal, matrixExpected);
+            preparedRotation.inverseTransform(matrixOriginal, matrixActual);
+            EuclidCoreTestTools.assertMatrix3DEquals(matrixExpected, matrixActual, EPS);
+
+            Quaternion quaternionOriginal = EuclidCoreRandomTools.nextQuaternion(random);
+            Quaternion quaternionExpected = new Quaternion();
+            Quaternion quaternionActual = new Quaternion();
+            orientation.transform(quaternionOriginal, quaternionExpected);
+            preparedRotation.transform(quaternionOriginal, quaternionActual);
+            EuclidCoreTestTools.assertQuaternionGeometricallyEquals(quaternionExpected, quaternionActual, EPS);
+         }
+
+         // 2D transformations with an orientation in the XY-plane
+         Quaternion yawQuaternion = new Quaternion();
+         yawQuaternion.setToYawQuaternion(EuclidCoreRandomTools.nextDouble(random, Math.PI));
+         PreparedRotation preparedRotation = new PreparedRotation(yawQuaternion);
+         Vector2D original = EuclidCoreRandomTools.nextVector2D(random);
+         Vector2D expected = new Vector2D();
+         Vector2D actual = new Vector2D();
+         yawQuaternion.transform(original, expected);
+         preparedRotation.transform(original, actual);
+         EuclidCoreTestTools.assertTuple2DEquals(expected, actual, EPS);
+
+         yawQuaternion.inverseTransform(original, expected);
+         preparedRotation.inverseTransform(original, actual);
+         EuclidCoreTestTools.assertTuple2DEquals(expected, actual, EPS);
+      }
+   }
+
+   @Test
+   public void testTransformWithTuple3DArrays() throws Exception
+   {
+      Random random = new Random(7456L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Quaternion quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+         PreparedRotation preparedRotation = new PreparedRotation(quaternion);
+         int size = random.nextInt(100);
+         Point3DArray points = new Point3DArray(size);
+         Vector3DArray vectors = new Vector3DArray(size);
+
+         for (int j = 0; j < size; j++)
+         {
+            points.add(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+            vectors.add(EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0));
+         }
+
+         Point3DArray transformedPoints = new Point3DArray();
+         preparedRotation.transform(points, transformedPoints);
+         Vector3DArray inverseTransformedVectors = new Vector3DArray();
+         preparedRotation.inverseTransform(vectors, inverseTransformedVectors);
+         assertEquals(size, transformedPoints.size());
+         assertEquals(size, inverseTransformedVectors.size());
+
+         Point3D expectedPoint = new Point3D();
+         Point3D actualPoint = new Point3D();
+         Vector3D expectedVector = new Vector3D();
+         Vector3D actualVector = new Vector3D();
+
+         for (int j = 0; j < size; j++)
+         {
+            points.get(j, expectedPoint);
+            quaternion.transform(expectedPoint);
+            transformedPoints.get(j, actualPoint);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+
+            vectors.get(j, expectedVector);
+            quaternion.inverseTransform(expectedVector);
+            inverseTransformedVectors.get(j, actualVector);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, EPS);
+         }
+
+         // In-place transformations
+         preparedRotation.transform(transformedPoints);
+         preparedRotation.inverseTransform(transformedPoints);
+         preparedRotation.inverseTransform(transformedPoints);
+
+         for (int j = 0; j < size; j++)
+         {
+            points.get(j, expectedPoint);
+            transformedPoints.get(j, actualPoint);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+         }
+      }
+   }
+}
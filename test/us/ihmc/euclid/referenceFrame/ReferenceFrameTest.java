@@ -0,0 +1,215 @@
+package us.ihmc.euclid.referenceFrame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.exceptions.ReferenceFrameMismatchException;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class ReferenceFrameTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-10;
+
+   @Test
+   public void testConstructors() throws Exception
+   {
+      Random random = new Random(3453L);
+
+      ReferenceFrame root = new ReferenceFrame("root");
+      assertTrue(root.isRootFrame());
+      assertTrue(root == root.getRootFrame());
+      assertTrue(null == root.getParent());
+      assertEquals("root", root.getName());
+      assertEquals("root", root.toString());
+
+      ReferenceFrame child = new ReferenceFrame("child", root);
+      assertFalse(child.isRootFrame());
+      assertTrue(root == child.getRootFrame());
+      assertTrue(root == child.getParent());
+      assertEquals(0, child.getModificationCount());
+      RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+      child.getTransformToParent(transform);
+      EuclidCoreTestTools.assertRigidBodyTransformEquals(new RigidBodyTransform(), transform, EPS);
+
+      RigidBodyTransform expected = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+      ReferenceFrame grandChild = new ReferenceFrame("grandChild", child, expected);
+      assertTrue(root == grandChild.getRootFrame());
+      assertEquals(1, grandChild.getModificationCount());
+      grandChild.getTransformToParent(transform);
+      EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, transform, EPS);
+
+      try
+      {
+         new ReferenceFrame("orphan", null);
+         fail("Should have thrown an exception.");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+
+      try
+      {
+         root.setTransformToParent(expected);
+         fail("Should have thrown an exception.");
+      }
+      catch (RuntimeException e)
+      {
+         // good
+      }
+   }
+
+   @Test
+   public void testGetTransformToRoot() throws Exception
+   {
+      Random random = new Random(2346L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         List<ReferenceFrame> frames = nextFrameTree(random, "root", 20);
+         RigidBodyTransform expected = new RigidBodyTransform();
+         RigidBodyTransform actual = new RigidBodyTransform();
+
+         for (int j = 0; j < 10; j++)
+         {
+            for (ReferenceFrame frame : frames)
+            {
+               computeTransformToRoot(frame, expected);
+               frame.getTransformToRoot(actual);
+               EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+            }
+
+            ReferenceFrame frameToModify = frames.get(1 + random.nextInt(frames.size() - 1));
+            frameToModify.setTransformToParent(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+         }
+      }
+   }
+
+   @Test
+   public void testVersionStamps() throws Exception
+   {
+      Random random = new Random(786L);
+
+      ReferenceFrame root = new ReferenceFrame("root");
+      ReferenceFrame a = new ReferenceFrame("a", root, EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      ReferenceFrame b = new ReferenceFrame("b", a, EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      ReferenceFrame c = new ReferenceFrame("c", a, EuclidCoreRandomTools.nextRigidBodyTransform(random));
+
+      long aVersion = a.getTransformToRootVersion();
+      long bVersion = b.getTransformToRootVersion();
+      long cVersion = c.getTransformToRootVersion();
+
+      // Querying again does not recompose anything
+      assertEquals(aVersion, a.getTransformToRootVersion());
+      assertEquals(bVersion, b.getTransformToRootVersion());
+      assertEquals(cVersion, c.getTransformToRootVersion());
+
+      // Modifying a leaf only affects the leaf
+      b.setTransformToParent(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      assertEquals(aVersion, a.getTransformToRootVersion());
+      assertEquals(bVersion + 1, b.getTransformToRootVersion());
+      assertEquals(cVersion, c.getTransformToRootVersion());
+
+      // Modifying an ancestor affects all its descendants
+      a.setTransformToParent(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      assertEquals(aVersion + 1, a.getTransformToRootVersion());
+      assertEquals(bVersion + 2, b.getTransformToRootVersion());
+      assertEquals(cVersion + 1, c.getTransformToRootVersion());
+   }
+
+   @Test
+   public void testGetTransformToDesiredFrame() throws Exception
+   {
+      Random random = new Random(9823L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         List<ReferenceFrame> frames = nextFrameTree(random, "root", 20);
+         RigidBodyTransform transformToRoot = new RigidBodyTransform();
+         RigidBodyTransform desiredFrameTransformToRoot = new RigidBodyTransform();
+         RigidBodyTransform expected = new RigidBodyTransform();
+         RigidBodyTransform actual = new RigidBodyTransform();
+
+         for (int j = 0; j < 20; j++)
+         {
+            ReferenceFrame frame = frames.get(random.nextInt(frames.size()));
+            ReferenceFrame desiredFrame = frames.get(random.nextInt(frames.size()));
+
+            for (int k = 0; k < 2; k++)
+            {
+               computeTransformToRoot(frame, transformToRoot);
+               computeTransformToRoot(desiredFrame, desiredFrameTransformToRoot);
+               expected.set(desiredFrameTransformToRoot);
+               expected.multiplyInvertThis(transformToRoot);
+               frame.getTransformToDesiredFrame(actual, desiredFrame);
+               EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+
+               Point3D expectedPoint = EuclidCoreRandomTools.nextPoint3D(random);
+               Point3D actualPoint = new Point3D(expectedPoint);
+               expected.transform(expectedPoint);
+               frame.transformFromThisToDesiredFrame(desiredFrame, actualPoint);
+               EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+
+               ReferenceFrame frameToModify = frames.get(1 + random.nextInt(frames.size() - 1));
+               frameToModify.setTransformToParent(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+            }
+         }
+      }
+
+      ReferenceFrame frame = nextFrameTree(random, "root", 5).get(4);
+      ReferenceFrame otherFrame = nextFrameTree(random, "otherRoot", 5).get(4);
+
+      try
+      {
+         frame.getTransformToDesiredFrame(new RigidBodyTransform(), otherFrame);
+         fail("Should have thrown an exception.");
+      }
+      catch (ReferenceFrameMismatchException e)
+      {
+         // good
+      }
+   }
+
+   /**
+    * Generates a random tree of frames. The first frame of the list is the root, and each frame is
+    * attached to a random frame created before it.
+    */
+   private static List<ReferenceFrame> nextFrameTree(Random random, String rootName, int numberOfFrames)
+   {
+      List<ReferenceFrame> frames = new ArrayList<>();
+      frames.add(new ReferenceFrame(rootName));
+
+      for (int i = 1; i < numberOfFrames; i++)
+      {
+         ReferenceFrame parentFrame = frames.get(random.nextInt(frames.size()));
+         frames.add(new ReferenceFrame("frame" + i, parentFrame, EuclidCoreRandomTools.nextRigidBodyTransform(random)));
+      }
+
+      return frames;
+   }
+
+   private static void computeTransformToRoot(ReferenceFrame frame, RigidBodyTransform transformToRootToPack)
+   {
+      RigidBodyTransform transformToParent = new RigidBodyTransform();
+      transformToRootToPack.setIdentity();
+
+      while (!frame.isRootFrame())
+      {
+         frame.getTransformToParent(transformToParent);
+         transformToRootToPack.preMultiply(transformToParent);
+         frame = frame.getParent();
+      }
+   }
+}
@@ -507,4 +507,54 @@ public class AxisAngleConversionTest
          }
       }
    }
+
+   @Test
+   public void testBatchConversions() throws Exception
+   {
+      Random random = new Random(7823L);
+
+      for (int i = 0; i < 100; i++)
+      {
+         int numberOfRotations = random.nextInt(50);
+         int startIndex = random.nextInt(numberOfRotations + 1);
+         int endIndex = startIndex + random.nextInt(numberOfRotations - startIndex + 1);
+         double[] quaternions = new double[4 * numberOfRotations];
+
+         for (int j = 0; j < numberOfRotations; j++)
+         {
+            Quaternion quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+            if (random.nextDouble() < 0.1)
+               quaternion.setToZero();
+            quaternion.get(4 * j, quaternions);
+
+            if (random.nextDouble() < 0.1)
+               quaternions[4 * j + random.nextInt(4)] = Double.NaN;
+         }
+
+         double[] actual = new double[4 * numberOfRotations];
+         AxisAngle expected = new AxisAngle();
+
+         AxisAngleConversion.convertQuaternionsToAxisAngles(quaternions, actual, startIndex, endIndex);
+
+         for (int j = 0; j < numberOfRotations; j++)
+         {
+            int index = 4 * j;
+            AxisAngleConversion.convertQuaternionToAxisAngle(quaternions[index], quaternions[index + 1], quaternions[index + 2], quaternions[index + 3],
+                                                             expected);
+
+            if (j < startIndex || j >= endIndex)
+            {
+               for (int k = 0; k < 4; k++)
+                  assertEquals(0.0, actual[index + k], 0.0);
+            }
+            else
+            {
+               assertEquals(expected.getX(), actual[index], 0.0);
+               assertEquals(expected.getY(), actual[index + 1], 0.0);
+               assertEquals(expected.getZ(), actual[index + 2], 0.0);
+               assertEquals(expected.getAngle(), actual[index + 3], 0.0);
+            }
+         }
+      }
+   }
 }
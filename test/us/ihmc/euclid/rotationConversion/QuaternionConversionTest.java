@@ -477,4 +477,79 @@ public class QuaternionConversionTest
          assertTrue(rotationVector.equals(rotationVectorCopy));
       }
    }
+
+   @Test
+   public void testBatchConversions() throws Exception
+   {
+      Random random = new Random(23947L);
+
+      for (int i = 0; i < 100; i++)
+      {
+         int numberOfRotations = random.nextInt(50);
+         int startIndex = random.nextInt(numberOfRotations + 1);
+         int endIndex = startIndex + random.nextInt(numberOfRotations - startIndex + 1);
+         double[] rotationMatrices = new double[9 * numberOfRotations];
+         double[] rotationVectors = new double[3 * numberOfRotations];
+         double[] yawPitchRolls = new double[3 * numberOfRotations];
+
+         for (int j = 0; j < numberOfRotations; j++)
+         {
+            EuclidCoreRandomTools.nextRotationMatrix(random).get(9 * j, rotationMatrices);
+            Vector3D rotationVector = EuclidCoreRandomTools.nextRotationVector(random);
+            if (random.nextDouble() < 0.1)
+               rotationVector.scale(0.1 * EPSILON);
+            rotationVector.get(3 * j, rotationVectors);
+            for (int k = 0; k < 3; k++)
+               yawPitchRolls[3 * j + k] = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+
+            if (random.nextDouble() < 0.1)
+               rotationMatrices[9 * j + random.nextInt(9)] = Double.NaN;
+            if (random.nextDouble() < 0.1)
+               rotationVectors[3 * j + random.nextInt(3)] = Double.NaN;
+         }
+
+         Quaternion expected = new Quaternion();
+
+         double[] actual = new double[4 * numberOfRotations];
+         QuaternionConversion.convertMatricesToQuaternions(rotationMatrices, actual, startIndex, endIndex);
+
+         for (int j = 0; j < numberOfRotations; j++)
+         {
+            int index = 9 * j;
+            QuaternionConversion.convertMatrixToQuaternion(rotationMatrices[index], rotationMatrices[index + 1], rotationMatrices[index + 2],
+                                                           rotationMatrices[index + 3], rotationMatrices[index + 4], rotationMatrices[index + 5],
+                                                           rotationMatrices[index + 6], rotationMatrices[index + 7], rotationMatrices[index + 8], expected);
+            assertBatchElementEquals(expected, actual, j, startIndex, endIndex);
+         }
+
+         actual = new double[4 * numberOfRotations];
+         QuaternionConversion.convertRotationVectorsToQuaternions(rotationVectors, actual, startIndex, endIndex);
+
+         for (int j = 0; j < numberOfRotations; j++)
+         {
+            QuaternionConversion.convertRotationVectorToQuaternion(rotationVectors[3 * j], rotationVectors[3 * j + 1], rotationVectors[3 * j + 2], expected);
+            assertBatchElementEquals(expected, actual, j, startIndex, endIndex);
+         }
+
+         actual = new double[4 * numberOfRotations];
+         QuaternionConversion.convertYawPitchRollsToQuaternions(yawPitchRolls, actual, startIndex, endIndex);
+
+         for (int j = 0; j < numberOfRotations; j++)
+         {
+            QuaternionConversion.convertYawPitchRollToQuaternion(yawPitchRolls[3 * j], yawPitchRolls[3 * j + 1], yawPitchRolls[3 * j + 2], expected);
+            assertBatchElementEquals(expected, actual, j, startIndex, endIndex);
+         }
+      }
+   }
+
+   private static void assertBatchElementEquals(Quaternion expected, double[] actualArray, int index, int startIndex, int endIndex)
+   {
+      for (int k = 0; k < 4; k++)
+      {
+         if (index < startIndex || index >= endIndex)
+            assertEquals(0.0, actualArray[4 * index + k], 0.0);
+         else
+            assertEquals(expected.getElement(k), actualArray[4 * index + k], 0.0);
+      }
+   }
 }
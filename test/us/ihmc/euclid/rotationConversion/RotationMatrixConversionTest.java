@@ -312,4 +312,68 @@ public class RotationMatrixConversionTest
          assertTrue(rotationVector.equals(rotationVectorCopy));
       }
    }
+
+   @Test
+   public void testBatchConversions() throws Exception
+   {
+      Random random = new Random(98234L);
+
+      for (int i = 0; i < 100; i++)
+      {
+         int numberOfRotations = random.nextInt(50);
+         int startIndex = random.nextInt(numberOfRotations + 1);
+         int endIndex = startIndex + random.nextInt(numberOfRotations - startIndex + 1);
+         double[] quaternions = new double[4 * numberOfRotations];
+         double[] yawPitchRolls = new double[3 * numberOfRotations];
+
+         for (int j = 0; j < numberOfRotations; j++)
+         {
+            Quaternion quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+            double scale = random.nextDouble() < 0.1 ? 0.0 : EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0);
+            quaternion.setUnsafe(scale * quaternion.getX(), scale * quaternion.getY(), scale * quaternion.getZ(), scale * quaternion.getS());
+            quaternion.get(4 * j, quaternions);
+            for (int k = 0; k < 3; k++)
+               yawPitchRolls[3 * j + k] = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+
+            if (random.nextDouble() < 0.1)
+               quaternions[4 * j + random.nextInt(4)] = Double.NaN;
+         }
+
+         RotationMatrix expected = new RotationMatrix();
+
+         double[] actual = new double[9 * numberOfRotations];
+         RotationMatrixConversion.convertQuaternionsToMatrices(quaternions, actual, startIndex, endIndex);
+
+         for (int j = 0; j < numberOfRotations; j++)
+         {
+            RotationMatrixConversion.convertQuaternionToMatrix(quaternions[4 * j], quaternions[4 * j + 1], quaternions[4 * j + 2], quaternions[4 * j + 3],
+                                                               expected);
+            assertBatchElementEquals(expected, actual, j, startIndex, endIndex);
+         }
+
+         actual = new double[9 * numberOfRotations];
+         RotationMatrixConversion.convertYawPitchRollsToMatrices(yawPitchRolls, actual, startIndex, endIndex);
+
+         for (int j = 0; j < numberOfRotations; j++)
+         {
+            RotationMatrixConversion.convertYawPitchRollToMatrix(yawPitchRolls[3 * j], yawPitchRolls[3 * j + 1], yawPitchRolls[3 * j + 2], expected);
+            assertBatchElementEquals(expected, actual, j, startIndex, endIndex);
+         }
+      }
+   }
+
+   private static void assertBatchElementEquals(RotationMatrix expected, double[] actualArray, int index, int startIndex, int endIndex)
+   {
+      for (int row = 0; row < 3; row++)
+      {
+         for (int column = 0; column < 3; column++)
+         {
+            double actual = actualArray[9 * index + 3 * row + column];
+            if (index < startIndex || index >= endIndex)
+               assertEquals(0.0, actual, 0.0);
+            else
+               assertEquals(expected.getElement(row, column), actual, 0.0);
+         }
+      }
+   }
 }
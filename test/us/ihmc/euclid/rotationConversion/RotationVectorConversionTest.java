@@ -463,4 +463,44 @@ public class RotationVectorConversionTest
          }
       }
    }
+
+   @Test
+   public void testBatchConversions() throws Exception
+   {
+      Random random = new Random(2365L);
+
+      for (int i = 0; i < 100; i++)
+      {
+         int numberOfRotations = random.nextInt(50);
+         int startIndex = random.nextInt(numberOfRotations + 1);
+         int endIndex = startIndex + random.nextInt(numberOfRotations - startIndex + 1);
+         double[] quaternions = new double[4 * numberOfRotations];
+
+         for (int j = 0; j < numberOfRotations; j++)
+         {
+            Quaternion quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+            if (random.nextDouble() < 0.1)
+               quaternion.setToZero();
+            quaternion.get(4 * j, quaternions);
+
+            if (random.nextDouble() < 0.1)
+               quaternions[4 * j + random.nextInt(4)] = Double.NaN;
+         }
+
+         double[] actual = new double[3 * numberOfRotations];
+         Quaternion quaternion = new Quaternion();
+         Vector3D expected = new Vector3D();
+
+         RotationVectorConversion.convertQuaternionsToRotationVectors(quaternions, actual, startIndex, endIndex);
+
+         for (int j = 0; j < numberOfRotations; j++)
+         {
+            quaternion.setUnsafe(quaternions[4 * j], quaternions[4 * j + 1], quaternions[4 * j + 2], quaternions[4 * j + 3]);
+            RotationVectorConversion.convertQuaternionToRotationVector(quaternion, expected);
+
+            for (int k = 0; k < 3; k++)
+               assertEquals(j < startIndex || j >= endIndex ? 0.0 : expected.getElement(k), actual[3 * j + k], 0.0);
+         }
+      }
+   }
 }
@@ -723,4 +723,77 @@ public class YawPitchRollConversionTest
       EuclidCoreTestTools.assertAngleEquals(roll, actualEulerAngles.getX(), epsilon);
       assertTrue(rotationVector.equals(rotationVectorCopy));
    }
+
+   @Test
+   public void testBatchConversions() throws Exception
+   {
+      Random random = new Random(8734L);
+
+      for (int i = 0; i < 100; i++)
+      {
+         int numberOfRotations = random.nextInt(50);
+         int startIndex = random.nextInt(numberOfRotations + 1);
+         int endIndex = startIndex + random.nextInt(numberOfRotations - startIndex + 1);
+         double[] quaternions = new double[4 * numberOfRotations];
+         double[] rotationMatrices = new double[9 * numberOfRotations];
+
+         for (int j = 0; j < numberOfRotations; j++)
+         {
+            Quaternion quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+            double scale = random.nextDouble() < 0.1 ? 0.0 : EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0);
+            quaternion.setUnsafe(scale * quaternion.getX(), scale * quaternion.getY(), scale * quaternion.getZ(), scale * quaternion.getS());
+            quaternion.get(4 * j, quaternions);
+            EuclidCoreRandomTools.nextRotationMatrix(random).get(9 * j, rotationMatrices);
+
+            if (random.nextDouble() < 0.1)
+               quaternions[4 * j + random.nextInt(4)] = Double.NaN;
+            if (random.nextDouble() < 0.1)
+               rotationMatrices[9 * j + random.nextInt(9)] = Double.NaN;
+         }
+
+         double[] actualYawPitchRolls = new double[3 * numberOfRotations];
+         double[] expectedYawPitchRoll = new double[3];
+         Quaternion quaternion = new Quaternion();
+
+         YawPitchRollConversion.convertQuaternionsToYawPitchRolls(quaternions, actualYawPitchRolls, startIndex, endIndex);
+
+         for (int j = 0; j < numberOfRotations; j++)
+         {
+            if (j < startIndex || j >= endIndex)
+            {
+               for (int k = 0; k < 3; k++)
+                  assertEquals(0.0, actualYawPitchRolls[3 * j + k], 0.0);
+               continue;
+            }
+
+            quaternion.setUnsafe(quaternions[4 * j], quaternions[4 * j + 1], quaternions[4 * j + 2], quaternions[4 * j + 3]);
+            YawPitchRollConversion.convertQuaternionToYawPitchRoll(quaternion, expectedYawPitchRoll);
+            for (int k = 0; k < 3; k++)
+               assertEquals(expectedYawPitchRoll[k], actualYawPitchRolls[3 * j + k], 0.0);
+         }
+
+         actualYawPitchRolls = new double[3 * numberOfRotations];
+         RotationMatrix rotationMatrix = new RotationMatrix();
+
+         YawPitchRollConversion.convertMatricesToYawPitchRolls(rotationMatrices, actualYawPitchRolls, startIndex, endIndex);
+
+         for (int j = 0; j < numberOfRotations; j++)
+         {
+            if (j < startIndex || j >= endIndex)
+            {
+               for (int k = 0; k < 3; k++)
+                  assertEquals(0.0, actualYawPitchRolls[3 * j + k], 0.0);
+               continue;
+            }
+
+            int index = 9 * j;
+            rotationMatrix.setUnsafe(rotationMatrices[index], rotationMatrices[index + 1], rotationMatrices[index + 2], rotationMatrices[index + 3],
+                                     rotationMatrices[index + 4], rotationMatrices[index + 5], rotationMatrices[index + 6], rotationMatrices[index + 7],
+                                     rotationMatrices[index + 8]);
+            YawPitchRollConversion.convertMatrixToYawPitchRoll(rotationMatrix, expectedYawPitchRoll);
+            for (int k = 0; k < 3; k++)
+               assertEquals(expectedYawPitchRoll[k], actualYawPitchRolls[3 * j + k], 0.0);
+         }
+      }
+   }
 }
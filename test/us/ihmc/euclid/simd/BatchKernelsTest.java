@@ -0,0 +1,270 @@
+package us.ihmc.euclid.simd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.matrix.interfaces.RotationMatrixReadOnly;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tools.QuaternionTools;
+import us.ihmc.euclid.transform.AffineTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * Tests the scalar kernels against the geometry objects, and the default kernels, which are
+ * vectorized when the tests run on Java 17 or later with {@code --add-modules jdk.incubator.vector},
+ * bit-for-bit against the scalar kernels.
+ */
+public class BatchKernelsTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-12;
+
+   @Test
+   public void testTransform() throws Exception
+   {
+      Random random = new Random(3487L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int length = random.nextInt(100);
+         int startIndex = length == 0 ? 0 : random.nextInt(length);
+         int endIndex = startIndex + random.nextInt(length - startIndex + 1);
+         AffineTransform transform = EuclidCoreRandomTools.nextAffineTransform(random);
+         Matrix3D m = new Matrix3D(transform.getRotationScaleMatrix());
+         double tx = transform.getTranslationX(), ty = transform.getTranslationY(), tz = transform.getTranslationZ();
+         double[][] original = nextArrays(random, 3, length);
+         double[][] scalar = nextArrays(random, 3, length);
+         double[][] vectorized = copy(scalar);
+
+         BatchKernels.getScalar().transform(m.getM00(), m.getM01(), m.getM02(), m.getM10(), m.getM11(), m.getM12(), m.getM20(), m.getM21(), m.getM22(), tx,
+                                            ty, tz, original[0], original[1], original[2], scalar[0], scalar[1], scalar[2], startIndex, endIndex);
+         BatchKernels.getDefault().transform(m.getM00(), m.getM01(), m.getM02(), m.getM10(), m.getM11(), m.getM12(), m.getM20(), m.getM21(), m.getM22(),
+                                             tx, ty, tz, original[0], original[1], original[2], vectorized[0], vectorized[1], vectorized[2], startIndex,
+                                             endIndex);
+         assertBitwiseEquals(scalar, vectorized);
+
+         Point3D point = new Point3D();
+
+         for (int j = 0; j < length; j++)
+         {
+            if (j < startIndex || j >= endIndex)
+               continue;
+            point.set(original[0][j], original[1][j], original[2][j]);
+            transform.transform(point);
+            EuclidCoreTestTools.assertTuple3DEquals(point, new Point3D(scalar[0][j], scalar[1][j], scalar[2][j]), EPS);
+         }
+
+         // In-place transformation
+         double[][] inPlace = copy(original);
+         BatchKernels.getDefault().transform(m.getM00(), m.getM01(), m.getM02(), m.getM10(), m.getM11(), m.getM12(), m.getM20(), m.getM21(), m.getM22(),
+                                             tx, ty, tz, inPlace[0], inPlace[1], inPlace[2], inPlace[0], inPlace[1], inPlace[2], startIndex, endIndex);
+
+         for (int axis = 0; axis < 3; axis++)
+         {
+            for (int j = startIndex; j < endIndex; j++)
+               assertEquals(Double.doubleToLongBits(scalar[axis][j]), Double.doubleToLongBits(inPlace[axis][j]));
+         }
+      }
+   }
+
+   @Test
+   public void testTranslateThenTransform() throws Exception
+   {
+      Random random = new Random(8734L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int length = random.nextInt(100);
+         int startIndex = length == 0 ? 0 : random.nextInt(length);
+         int endIndex = startIndex + random.nextInt(length - startIndex + 1);
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RotationMatrixReadOnly r = transform.getRotationMatrix();
+         double tx = transform.getTranslationX(), ty = transform.getTranslationY(), tz = transform.getTranslationZ();
+         double[][] original = nextArrays(random, 3, length);
+         double[][] scalar = nextArrays(random, 3, length);
+         double[][] vectorized = copy(scalar);
+
+         // The inverse of the transform: R^T * (p - t)
+         BatchKernels.getScalar().translateThenTransform(r.getM00(), r.getM10(), r.getM20(), r.getM01(), r.getM11(), r.getM21(), r.getM02(), r.getM12(),
+                                                         r.getM22(), -tx, -ty, -tz, original[0], original[1], original[2], scalar[0], scalar[1], scalar[2],
+                                                         startIndex, endIndex);
+         BatchKernels.getDefault().translateThenTransform(r.getM00(), r.getM10(), r.getM20(), r.getM01(), r.getM11(), r.getM21(), r.getM02(), r.getM12(),
+                                                          r.getM22(), -tx, -ty, -tz, original[0], original[1], original[2], vectorized[0], vectorized[1],
+                                                          vectorized[2], startIndex, endIndex);
+         assertBitwiseEquals(scalar, vectorized);
+
+         Point3D point = new Point3D();
+
+         for (int j = startIndex; j < endIndex; j++)
+         {
+            point.set(original[0][j], original[1][j], original[2][j]);
+            transform.inverseTransform(point);
+            assertEquals(point.getX(), scalar[0][j], 0.0);
+            assertEquals(point.getY(), scalar[1][j], 0.0);
+            assertEquals(point.getZ(), scalar[2][j], 0.0);
+         }
+      }
+   }
+
+   @Test
+   public void testTranslate() throws Exception
+   {
+      Random random = new Random(2376L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int length = random.nextInt(100);
+         int startIndex = length == 0 ? 0 : random.nextInt(length);
+         int endIndex = startIndex + random.nextInt(length - startIndex + 1);
+         Vector3D translation = EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0);
+         double[][] original = nextArrays(random, 3, length);
+         double[][] scalar = nextArrays(random, 3, length);
+         double[][] vectorized = copy(scalar);
+
+         BatchKernels.getScalar().translate(translation.getX(), translation.getY(), translation.getZ(), original[0], original[1], original[2], scalar[0],
+                                            scalar[1], scalar[2], startIndex, endIndex);
+         BatchKernels.getDefault().translate(translation.getX(), translation.getY(), translation.getZ(), original[0], original[1], original[2], vectorized[0],
+                                             vectorized[1], vectorized[2], startIndex, endIndex);
+         assertBitwiseEquals(scalar, vectorized);
+
+         for (int j = startIndex; j < endIndex; j++)
+         {
+            assertEquals(original[0][j] + translation.getX(), scalar[0][j], 0.0);
+            assertEquals(original[1][j] + translation.getY(), scalar[1][j], 0.0);
+            assertEquals(original[2][j] + translation.getZ(), scalar[2][j], 0.0);
+         }
+      }
+   }
+
+   @Test
+   public void testNormalizeQuaternions() throws Exception
+   {
+      Random random = new Random(2398L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int length = random.nextInt(100);
+         double[][] scalar = nextArrays(random, 4, length);
+
+         for (int j = 0; j < length; j++)
+         {
+            double scale = random.nextDouble() < 0.1 ? 0.0 : EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0);
+            for (int axis = 0; axis < 4; axis++)
+               scalar[axis][j] *= scale;
+         }
+
+         double[][] vectorized = copy(scalar);
+         double[][] original = copy(scalar);
+         BatchKernels.getScalar().normalizeQuaternions(scalar[0], scalar[1], scalar[2], scalar[3], 0, length);
+         BatchKernels.getDefault().normalizeQuaternions(vectorized[0], vectorized[1], vectorized[2], vectorized[3], 0, length);
+         assertBitwiseEquals(scalar, vectorized);
+
+         Quaternion expected = new Quaternion();
+
+         for (int j = 0; j < length; j++)
+         {
+            expected.setUnsafe(original[0][j], original[1][j], original[2][j], original[3][j]);
+            expected.normalize();
+            Quaternion actual = new Quaternion();
+            actual.setUnsafe(scalar[0][j], scalar[1][j], scalar[2][j], scalar[3][j]);
+            EuclidCoreTestTools.assertQuaternionEquals(expected, actual, EPS);
+         }
+      }
+   }
+
+   @Test
+   public void testMultiplyQuaternions() throws Exception
+   {
+      Random random = new Random(9823L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int length = random.nextInt(100);
+         double[][] q1 = new double[4][length];
+         double[][] q2 = new double[4][length];
+
+         for (int j = 0; j < length; j++)
+         {
+            Quaternion quaternion1 = EuclidCoreRandomTools.nextQuaternion(random);
+            Quaternion quaternion2 = EuclidCoreRandomTools.nextQuaternion(random);
+            for (int axis = 0; axis < 4; axis++)
+            {
+               q1[axis][j] = quaternion1.getElement(axis);
+               q2[axis][j] = quaternion2.getElement(axis);
+            }
+         }
+
+         double[][] scalar = new double[4][length];
+         double[][] vectorized = new double[4][length];
+         BatchKernels.getScalar().multiplyQuaternions(q1[0], q1[1], q1[2], q1[3], q2[0], q2[1], q2[2], q2[3], scalar[0], scalar[1], scalar[2], scalar[3], 0,
+                                                      length);
+         BatchKernels.getDefault().multiplyQuaternions(q1[0], q1[1], q1[2], q1[3], q2[0], q2[1], q2[2], q2[3], vectorized[0], vectorized[1],
+                                                       vectorized[2], vectorized[3], 0, length);
+         assertBitwiseEquals(scalar, vectorized);
+
+         Quaternion quaternion1 = new Quaternion();
+         Quaternion quaternion2 = new Quaternion();
+         Quaternion expected = new Quaternion();
+
+         for (int j = 0; j < length; j++)
+         {
+            quaternion1.setUnsafe(q1[0][j], q1[1][j], q1[2][j], q1[3][j]);
+            quaternion2.setUnsafe(q2[0][j], q2[1][j], q2[2][j], q2[3][j]);
+            QuaternionTools.multiply(quaternion1, quaternion2, expected);
+            for (int axis = 0; axis < 4; axis++)
+               assertEquals(expected.getElement(axis), scalar[axis][j], 0.0);
+         }
+
+         // In-place multiplication
+         BatchKernels.getDefault().multiplyQuaternions(q1[0], q1[1], q1[2], q1[3], q2[0], q2[1], q2[2], q2[3], q1[0], q1[1], q1[2], q1[3], 0, length);
+         assertBitwiseEquals(scalar, q1);
+      }
+   }
+
+   @Test
+   public void testDefaultKernels() throws Exception
+   {
+      assertTrue(!BatchKernels.getScalar().isVectorized());
+
+      if (Boolean.getBoolean(BatchKernels.DISABLE_VECTORIZATION_PROPERTY))
+         assertTrue(BatchKernels.getDefault() == BatchKernels.getScalar());
+   }
+
+   private static double[][] nextArrays(Random random, int numberOfArrays, int length)
+   {
+      double[][] arrays = new double[numberOfArrays][length];
+      for (double[] array : arrays)
+      {
+         for (int i = 0; i < length; i++)
+            array[i] = EuclidCoreRandomTools.nextDouble(random, 10.0);
+      }
+      return arrays;
+   }
+
+   private static double[][] copy(double[][] arrays)
+   {
+      double[][] copy = new double[arrays.length][];
+      for (int i = 0; i < arrays.length; i++)
+         copy[i] = Arrays.copyOf(arrays[i], arrays[i].length);
+      return copy;
+   }
+
+   private static void assertBitwiseEquals(double[][] expected, double[][] actual)
+   {
+      for (int axis = 0; axis < expected.length; axis++)
+      {
+         for (int i = 0; i < expected[axis].length; i++)
+            assertEquals(Double.doubleToLongBits(expected[axis][i]), Double.doubleToLongBits(actual[axis][i]));
+      }
+   }
+}
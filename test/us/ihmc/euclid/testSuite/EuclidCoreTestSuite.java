@@ -11,17 +11,30 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.pitest.mutationtest.commandline.MutationCoverageReport;
 
+import us.ihmc.euclid.allocation.AllocationTest;
 import us.ihmc.euclid.axisAngle.AxisAngle32Test;
 import us.ihmc.euclid.axisAngle.AxisAngleTest;
+import us.ihmc.euclid.concurrent.ParallelBatchExecutorTest;
+import us.ihmc.euclid.concurrent.SeqLockContainerTest;
+import us.ihmc.euclid.flyweight.QuaternionFlyweightTest;
+import us.ihmc.euclid.flyweight.Tuple3DFlyweightTest;
 import us.ihmc.euclid.matrix.Matrix3DTest;
 import us.ihmc.euclid.matrix.RotationMatrixTest;
 import us.ihmc.euclid.matrix.RotationScaleMatrixTest;
+import us.ihmc.euclid.offHeap.MappedPointCloudTest;
+import us.ihmc.euclid.offHeap.OffHeapPoint3DBufferTest;
+import us.ihmc.euclid.offHeap.OffHeapQuaternionBufferTest;
+import us.ihmc.euclid.offHeap.OffHeapRigidBodyTransformBufferTest;
+import us.ihmc.euclid.orientation.CachedOrientation3DTest;
+import us.ihmc.euclid.orientation.PreparedRotationTest;
+import us.ihmc.euclid.referenceFrame.ReferenceFrameTest;
 import us.ihmc.euclid.rotationConversion.AxisAngleConversionTest;
 import us.ihmc.euclid.rotationConversion.CyclingConversionTest;
 import us.ihmc.euclid.rotationConversion.QuaternionConversionTest;
 import us.ihmc.euclid.rotationConversion.RotationMatrixConversionTest;
 import us.ihmc.euclid.rotationConversion.RotationVectorConversionTest;
 import us.ihmc.euclid.rotationConversion.YawPitchRollConversionTest;
+import us.ihmc.euclid.simd.BatchKernelsTest;
 import us.ihmc.euclid.tools.AxisAngleToolsTest;
 import us.ihmc.euclid.tools.EuclidCoreTestToolsTest;
 import us.ihmc.euclid.tools.EuclidCoreToolsTest;
@@ -33,17 +46,23 @@ import us.ihmc.euclid.tools.RotationScaleMatrixToolsTest;
 import us.ihmc.euclid.tools.TransformationToolsTest;
 import us.ihmc.euclid.tools.TupleToolsTest;
 import us.ihmc.euclid.transform.AffineTransformTest;
+import us.ihmc.euclid.transform.DualQuaternionTest;
+import us.ihmc.euclid.transform.QuaternionBasedTransformHistoryTest;
 import us.ihmc.euclid.transform.QuaternionBasedTransformTest;
+import us.ihmc.euclid.transform.RigidBodyTransform2DTest;
 import us.ihmc.euclid.transform.RigidBodyTransformTest;
 import us.ihmc.euclid.tuple2D.Point2D32Test;
 import us.ihmc.euclid.tuple2D.Point2DTest;
 import us.ihmc.euclid.tuple2D.Vector2D32Test;
 import us.ihmc.euclid.tuple2D.Vector2DTest;
 import us.ihmc.euclid.tuple3D.Point3D32Test;
+import us.ihmc.euclid.tuple3D.Point3DArrayTest;
+import us.ihmc.euclid.tuple3D.Point3DStatisticsTest;
 import us.ihmc.euclid.tuple3D.Point3DTest;
 import us.ihmc.euclid.tuple3D.Vector3D32Test;
 import us.ihmc.euclid.tuple3D.Vector3DTest;
 import us.ihmc.euclid.tuple4D.Quaternion32Test;
+import us.ihmc.euclid.tuple4D.QuaternionInterpolatorTest;
 import us.ihmc.euclid.tuple4D.QuaternionTest;
 import us.ihmc.euclid.tuple4D.Vector4D32Test;
 import us.ihmc.euclid.tuple4D.Vector4DTest;
@@ -52,7 +71,11 @@ import us.ihmc.euclid.tuple4D.Vector4DTest;
 @Suite.SuiteClasses({Point3DTest.class, Point3D32Test.class, Point2DTest.class, Point2D32Test.class, Vector3DTest.class, Vector3D32Test.class,
       Vector2DTest.class, Vector2D32Test.class, Vector4DTest.class, Vector4D32Test.class, AxisAngleTest.class, AxisAngle32Test.class, QuaternionTest.class,
       Quaternion32Test.class, Matrix3DTest.class, RotationMatrixTest.class, RotationScaleMatrixTest.class, RigidBodyTransformTest.class,
-      QuaternionBasedTransformTest.class, AffineTransformTest.class,
+      QuaternionBasedTransformTest.class, AffineTransformTest.class, Point3DArrayTest.class, ReferenceFrameTest.class, QuaternionBasedTransformHistoryTest.class,
+      SeqLockContainerTest.class, ParallelBatchExecutorTest.class, DualQuaternionTest.class, RigidBodyTransform2DTest.class,
+      OffHeapPoint3DBufferTest.class, OffHeapQuaternionBufferTest.class, OffHeapRigidBodyTransformBufferTest.class, MappedPointCloudTest.class,
+      Tuple3DFlyweightTest.class, QuaternionFlyweightTest.class, BatchKernelsTest.class, PreparedRotationTest.class,
+      CachedOrientation3DTest.class, QuaternionInterpolatorTest.class, Point3DStatisticsTest.class,
 
       // Tools tests
       EuclidCoreToolsTest.class, EuclidCoreTestToolsTest.class, QuaternionToolsTest.class, Matrix3DToolsTest.class, Matrix3DFeaturesTest.class,
@@ -60,7 +83,10 @@ import us.ihmc.euclid.tuple4D.Vector4DTest;
 
       // Conversion tests
       AxisAngleConversionTest.class, RotationVectorConversionTest.class, QuaternionConversionTest.class, RotationMatrixConversionTest.class,
-      YawPitchRollConversionTest.class, CyclingConversionTest.class})
+      YawPitchRollConversionTest.class, CyclingConversionTest.class,
+
+      // Allocation tests
+      AllocationTest.class})
 
 public class EuclidCoreTestSuite
 {
@@ -5,9 +5,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.Arrays;
 import java.util.Random;
 
 import org.ejml.data.DenseMatrix64F;
+import org.ejml.factory.DecompositionFactory;
+import org.ejml.interfaces.decomposition.SingularValueDecomposition;
 import org.ejml.ops.CommonOps;
 import org.junit.Test;
 
@@ -21,6 +24,7 @@ import us.ihmc.euclid.rotationConversion.RotationMatrixConversion;
 import us.ihmc.euclid.tuple2D.Vector2D;
 import us.ihmc.euclid.tuple2D.interfaces.Tuple2DBasics;
 import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DBasics;
 import us.ihmc.euclid.tuple4D.Quaternion;
 import us.ihmc.euclid.tuple4D.Vector4D;
@@ -109,6 +113,199 @@ public class Matrix3DToolsTest
       }
    }
 
+   @Test
+   public void testSolve() throws Exception
+   {
+      Random random = new Random(4587L);
+      Vector3D expected = new Vector3D();
+      Vector3D actual = new Vector3D();
+      Vector3D b = new Vector3D();
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D matrix = EuclidCoreRandomTools.nextMatrix3D(random, 10.0);
+         if (random.nextBoolean())
+         { // Permuting the rows such that the pivoting is exercised.
+            matrix.setRow(0, 0.0, EuclidCoreRandomTools.nextDouble(random, 10.0), EuclidCoreRandomTools.nextDouble(random, 10.0));
+         }
+         expected.set(EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0));
+         matrix.transform(expected, b);
+
+         assertTrue(Matrix3DTools.solve(matrix, b, actual));
+         EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+
+         // In-place
+         assertTrue(Matrix3DTools.solve(matrix, b, b));
+         EuclidCoreTestTools.assertTuple3DEquals(actual, b, 0.0);
+      }
+
+      // Near-singular matrix that is still solvable.
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D matrix = new Matrix3D();
+         matrix.setToDiagonal(1.0, 1.0, 1.0e-10);
+         Matrix3DTools.multiply(EuclidCoreRandomTools.nextRotationMatrix(random), matrix, matrix);
+         expected.set(EuclidCoreRandomTools.nextVector3D(random, -1.0, 1.0));
+         matrix.transform(expected, b);
+
+         assertTrue(Matrix3DTools.solve(matrix, b, actual));
+         EuclidCoreTestTools.assertTuple3DEquals(expected, actual, 1.0e-5);
+      }
+
+      // Singular matrices: one row is a multiple of another.
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D matrix = EuclidCoreRandomTools.nextMatrix3D(random, 10.0);
+         int row = random.nextInt(3);
+         int otherRow = (row + 1 + random.nextInt(2)) % 3;
+         matrix.setRow(otherRow, 2.0 * matrix.getElement(row, 0), 2.0 * matrix.getElement(row, 1), 2.0 * matrix.getElement(row, 2));
+         actual.setToZero();
+
+         assertFalse(Matrix3DTools.solve(matrix, EuclidCoreRandomTools.nextVector3D(random), actual));
+         EuclidCoreTestTools.assertTuple3DIsSetToZero(actual);
+      }
+
+      assertFalse(Matrix3DTools.solve(new Matrix3D(), EuclidCoreRandomTools.nextVector3D(random), actual));
+   }
+
+   @Test
+   public void testSolveTuple3DArray() throws Exception
+   {
+      Random random = new Random(6743L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D matrix = EuclidCoreRandomTools.nextMatrix3D(random, 10.0);
+         if (random.nextBoolean())
+            matrix.setRow(random.nextInt(2), 0.0, EuclidCoreRandomTools.nextDouble(random, 10.0), EuclidCoreRandomTools.nextDouble(random, 10.0));
+         int numberOfVectors = random.nextInt(100);
+         Vector3DArray bs = new Vector3DArray();
+         Vector3DArray solutions = new Vector3DArray(random.nextInt(10));
+         Vector3D expected = new Vector3D();
+         Vector3D actual = new Vector3D();
+
+         for (int j = 0; j < numberOfVectors; j++)
+            bs.add(EuclidCoreRandomTools.nextVector3D(random));
+
+         assertTrue(Matrix3DTools.solve(matrix, bs, solutions));
+         assertEquals(numberOfVectors, solutions.size());
+
+         for (int j = 0; j < numberOfVectors; j++)
+         {
+            bs.get(j, expected);
+            assertTrue(Matrix3DTools.solve(matrix, expected, expected));
+            solutions.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+         }
+
+         assertTrue(Matrix3DTools.solve(matrix, bs, bs));
+         assertTrue(solutions.epsilonEquals(bs, 0.0));
+      }
+
+      Vector3DArray bs = new Vector3DArray();
+      bs.add(EuclidCoreRandomTools.nextVector3D(random));
+      Vector3DArray solutions = new Vector3DArray();
+      assertFalse(Matrix3DTools.solve(new Matrix3D(), bs, solutions));
+      assertEquals(0, solutions.size());
+   }
+
+   @Test
+   public void testSolveSymmetricPositiveDefinite() throws Exception
+   {
+      Random random = new Random(89723L);
+      Vector3D expected = new Vector3D();
+      Vector3D actual = new Vector3D();
+      Vector3D b = new Vector3D();
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D matrix = nextSymmetricMatrix(random, 0.1, 10.0);
+         expected.set(EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0));
+         matrix.transform(expected, b);
+
+         assertTrue(Matrix3DTools.solveSymmetricPositiveDefinite(matrix, b, actual));
+         EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+
+         assertTrue(Matrix3DTools.solve(matrix, b, expected));
+         EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+
+         // In-place
+         assertTrue(Matrix3DTools.solveSymmetricPositiveDefinite(matrix, b, b));
+         EuclidCoreTestTools.assertTuple3DEquals(actual, b, 0.0);
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D matrix = nextSymmetricMatrix(random, 0.1, 10.0);
+         int numberOfVectors = random.nextInt(100);
+         Vector3DArray bs = new Vector3DArray();
+         Vector3DArray solutions = new Vector3DArray(random.nextInt(10));
+
+         for (int j = 0; j < numberOfVectors; j++)
+            bs.add(EuclidCoreRandomTools.nextVector3D(random));
+
+         assertTrue(Matrix3DTools.solveSymmetricPositiveDefinite(matrix, bs, solutions));
+         assertEquals(numberOfVectors, solutions.size());
+
+         for (int j = 0; j < numberOfVectors; j++)
+         {
+            bs.get(j, expected);
+            assertTrue(Matrix3DTools.solveSymmetricPositiveDefinite(matrix, expected, expected));
+            solutions.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+         }
+      }
+
+      // Indefinite and negative-definite matrices.
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D matrix = nextSymmetricMatrix(random, -10.0, -0.1);
+         actual.setToZero();
+         assertFalse(Matrix3DTools.solveSymmetricPositiveDefinite(matrix, EuclidCoreRandomTools.nextVector3D(random), actual));
+         EuclidCoreTestTools.assertTuple3DIsSetToZero(actual);
+
+         matrix.setToDiagonal(1.0, -1.0, 1.0);
+         assertFalse(Matrix3DTools.solveSymmetricPositiveDefinite(matrix, EuclidCoreRandomTools.nextVector3D(random), actual));
+         EuclidCoreTestTools.assertTuple3DIsSetToZero(actual);
+      }
+   }
+
+   @Test
+   public void testComputeCholeskyDecomposition() throws Exception
+   {
+      Random random = new Random(2347L);
+      Matrix3D lower = new Matrix3D();
+      Matrix3D reconstructed = new Matrix3D();
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D matrix = nextSymmetricMatrix(random, 0.1, 10.0);
+
+         assertTrue(Matrix3DTools.computeCholeskyDecomposition(matrix, lower));
+         assertTrue(lower.getM01() == 0.0 && lower.getM02() == 0.0 && lower.getM12() == 0.0);
+         assertTrue(lower.getM00() > 0.0 && lower.getM11() > 0.0 && lower.getM22() > 0.0);
+
+         Matrix3DTools.multiplyTransposeRight(lower, lower, reconstructed);
+         EuclidCoreTestTools.assertMatrix3DEquals(matrix, reconstructed, EPS);
+      }
+
+      Matrix3D expected = new Matrix3D(lower);
+      assertFalse(Matrix3DTools.computeCholeskyDecomposition(nextSymmetricMatrix(random, -10.0, -0.1), lower));
+      EuclidCoreTestTools.assertMatrix3DEquals(expected, lower, 0.0);
+   }
+
+   private static Matrix3D nextSymmetricMatrix(Random random, double minEigenValue, double maxEigenValue)
+   {
+      RotationMatrix eigenVectors = EuclidCoreRandomTools.nextRotationMatrix(random);
+      Matrix3D symmetric = new Matrix3D();
+      symmetric.setToDiagonal(EuclidCoreRandomTools.nextDouble(random, minEigenValue, maxEigenValue),
+                              EuclidCoreRandomTools.nextDouble(random, minEigenValue, maxEigenValue),
+                              EuclidCoreRandomTools.nextDouble(random, minEigenValue, maxEigenValue));
+      Matrix3DTools.multiply(eigenVectors, symmetric, symmetric);
+      Matrix3DTools.multiplyTransposeRight(symmetric, eigenVectors, symmetric);
+      return symmetric;
+   }
+
    @Test
    public void testMultiply() throws Exception
    {
@@ -627,6 +824,318 @@ public class Matrix3DToolsTest
       }
    }
 
+   @Test
+   public void testNormalizeFirstOrder() throws Exception
+   {
+      Random random = new Random(23954L);
+      Matrix3D matrixExpected = new Matrix3D();
+      Matrix3D matrixActual = new Matrix3D();
+
+      // Test that normalizing a proper rotation matrix does not change it.
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         matrixExpected.set(EuclidCoreRandomTools.nextRotationMatrix(random));
+         matrixActual.set(matrixExpected);
+
+         Matrix3DTools.normalizeFirstOrder(matrixActual);
+         EuclidCoreTestTools.assertMatrix3DEquals(matrixExpected, matrixActual, EPS);
+      }
+
+      // Test that a slightly corrupted rotation matrix is normalized to its polar factor.
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         matrixActual.set(EuclidCoreRandomTools.nextRotationMatrix(random));
+         matrixActual.add(EuclidCoreRandomTools.nextMatrix3D(random, 1.0e-3));
+         matrixExpected.set(matrixActual);
+
+         Matrix3DTools.normalizeFirstOrder(matrixActual);
+         assertTrue(matrixActual.isRotationMatrix(EPS));
+         Matrix3DTools.normalizePolar(matrixExpected);
+         EuclidCoreTestTools.assertMatrix3DEquals(matrixExpected, matrixActual, EPS);
+      }
+   }
+
+   @Test
+   public void testNormalizePolar() throws Exception
+   {
+      Random random = new Random(8734L);
+      Matrix3D matrixExpected = new Matrix3D();
+      Matrix3D matrixActual = new Matrix3D();
+
+      // Test that normalizing a proper rotation matrix does not change it.
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         matrixExpected.set(EuclidCoreRandomTools.nextRotationMatrix(random));
+         matrixActual.set(matrixExpected);
+
+         Matrix3DTools.normalizePolar(matrixActual);
+         EuclidCoreTestTools.assertMatrix3DEquals(matrixExpected, matrixActual, EPS);
+      }
+
+      // The polar decomposition of M = R * S, with R a rotation matrix and S a symmetric positive-definite matrix, is R.
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RotationMatrix rotation = EuclidCoreRandomTools.nextRotationMatrix(random);
+         RotationMatrix eigenVectors = EuclidCoreRandomTools.nextRotationMatrix(random);
+         Matrix3D symmetric = new Matrix3D();
+         symmetric.setToDiagonal(EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0), EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0),
+                                 EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0));
+         Matrix3DTools.multiply(eigenVectors, symmetric, symmetric);
+         Matrix3DTools.multiplyTransposeRight(symmetric, eigenVectors, symmetric);
+
+         Matrix3DTools.multiply(rotation, symmetric, matrixActual);
+         Matrix3DTools.normalizePolar(matrixActual);
+         EuclidCoreTestTools.assertMatrix3DEquals(rotation, matrixActual, EPS);
+      }
+
+      // Test that it makes a random matrix orthonormal, and that the polar factor Q of M is such that Q^T M is symmetric.
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D original = EuclidCoreRandomTools.nextMatrix3D(random, 1.0, 2.0);
+         if (original.determinant() < 0.0)
+            original.scale(-1.0);
+         matrixActual.set(original);
+         Matrix3DTools.normalizePolar(matrixActual);
+         assertTrue(matrixActual.isRotationMatrix(EPS));
+
+         Matrix3D symmetric = new Matrix3D();
+         Matrix3DTools.multiplyTransposeLeft(matrixActual, original, symmetric);
+         Matrix3D transpose = new Matrix3D(symmetric);
+         transpose.transpose();
+         EuclidCoreTestTools.assertMatrix3DEquals(transpose, symmetric, 1.0e-10);
+      }
+   }
+
+   @Test
+   public void testComputeSymmetricEigenDecomposition() throws Exception
+   {
+      Random random = new Random(34656L);
+      RotationMatrix eigenVectors = new RotationMatrix();
+      Vector3D eigenValues = new Vector3D();
+      Matrix3D reconstructed = new Matrix3D();
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RotationMatrix expectedEigenVectors = EuclidCoreRandomTools.nextRotationMatrix(random);
+         Vector3D expectedEigenValues = EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0);
+
+         switch (random.nextInt(4))
+         {
+         case 0: // Repeated eigenvalues.
+            expectedEigenValues.setY(expectedEigenValues.getX());
+            break;
+         case 1: // Singular matrix.
+            expectedEigenValues.setZ(0.0);
+            break;
+         case 2: // Diagonal matrix.
+            expectedEigenVectors.setIdentity();
+            break;
+         default:
+            break;
+         }
+
+         Matrix3D symmetric = new Matrix3D();
+         symmetric.setToDiagonal(expectedEigenValues);
+         Matrix3DTools.multiply(expectedEigenVectors, symmetric, symmetric);
+         Matrix3DTools.multiplyTransposeRight(symmetric, expectedEigenVectors, symmetric);
+
+         Matrix3DTools.computeSymmetricEigenDecomposition(symmetric, eigenVectors, eigenValues);
+
+         assertTrue(eigenValues.getX() >= eigenValues.getY());
+         assertTrue(eigenValues.getY() >= eigenValues.getZ());
+         assertEquals(expectedEigenValues.getX() + expectedEigenValues.getY() + expectedEigenValues.getZ(),
+                      eigenValues.getX() + eigenValues.getY() + eigenValues.getZ(), EPS);
+         assertEquals(EuclidCoreTools.max(expectedEigenValues.getX(), expectedEigenValues.getY(), expectedEigenValues.getZ()), eigenValues.getX(), EPS);
+         assertEquals(EuclidCoreTools.min(expectedEigenValues.getX(), expectedEigenValues.getY(), expectedEigenValues.getZ()), eigenValues.getZ(), EPS);
+
+         reconstructed.setToDiagonal(eigenValues);
+         Matrix3DTools.multiply(eigenVectors, reconstructed, reconstructed);
+         Matrix3DTools.multiplyTransposeRight(reconstructed, eigenVectors, reconstructed);
+         EuclidCoreTestTools.assertMatrix3DEquals(symmetric, reconstructed, EPS);
+      }
+
+      Matrix3DTools.computeSymmetricEigenDecomposition(new Matrix3D(), eigenVectors, eigenValues);
+      assertTrue(eigenVectors.isIdentity());
+      EuclidCoreTestTools.assertTuple3DIsSetToZero(eigenValues);
+
+      Matrix3D nanMatrix = new Matrix3D();
+      nanMatrix.setToNaN();
+      Matrix3DTools.computeSymmetricEigenDecomposition(nanMatrix, eigenVectors, eigenValues);
+      EuclidCoreTestTools.assertMatrix3DContainsOnlyNaN(eigenVectors);
+      EuclidCoreTestTools.assertTuple3DContainsOnlyNaN(eigenValues);
+   }
+
+   @Test
+   public void testComputeSingularValueDecomposition() throws Exception
+   {
+      Random random = new Random(23466L);
+      RotationMatrix u = new RotationMatrix();
+      RotationMatrix v = new RotationMatrix();
+      Vector3D singularValues = new Vector3D();
+      Matrix3D reconstructed = new Matrix3D();
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D matrix;
+
+         switch (random.nextInt(3))
+         {
+         case 0: // Rank deficient matrix.
+            matrix = new Matrix3D();
+            matrix.setToDiagonal(EuclidCoreRandomTools.nextDouble(random, 10.0), EuclidCoreRandomTools.nextDouble(random, 10.0), 0.0);
+            Matrix3DTools.multiply(EuclidCoreRandomTools.nextRotationMatrix(random), matrix, matrix);
+            Matrix3DTools.multiplyTransposeRight(matrix, EuclidCoreRandomTools.nextRotationMatrix(random), matrix);
+            break;
+         case 1: // Scaled rotation matrix, all its singular values are equal.
+            matrix = new Matrix3D(EuclidCoreRandomTools.nextRotationMatrix(random));
+            matrix.scale(EuclidCoreRandomTools.nextDouble(random, 10.0));
+            break;
+         default:
+            matrix = EuclidCoreRandomTools.nextMatrix3D(random, 10.0);
+            break;
+         }
+
+         Matrix3DTools.computeSingularValueDecomposition(matrix, u, singularValues, v);
+
+         assertTrue(singularValues.getX() >= 0.0);
+         assertTrue(singularValues.getY() >= 0.0);
+         assertTrue(singularValues.getX() >= singularValues.getY() - EPS);
+         assertTrue(singularValues.getY() >= Math.abs(singularValues.getZ()) - EPS);
+         assertEquals(matrix.determinant(), singularValues.getX() * singularValues.getY() * singularValues.getZ(), EPS);
+
+         reconstructed.setToDiagonal(singularValues);
+         Matrix3DTools.multiply(u, reconstructed, reconstructed);
+         Matrix3DTools.multiplyTransposeRight(reconstructed, v, reconstructed);
+         EuclidCoreTestTools.assertMatrix3DEquals(matrix, reconstructed, EPS);
+      }
+
+      // Comparing the singular values against EJML.
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D matrix = EuclidCoreRandomTools.nextMatrix3D(random, 10.0);
+         DenseMatrix64F denseMatrix = new DenseMatrix64F(3, 3);
+         matrix.get(denseMatrix);
+         SingularValueDecomposition<DenseMatrix64F> svd = DecompositionFactory.svd(3, 3, false, false, true);
+         assertTrue(svd.decompose(denseMatrix));
+         double[] expectedSingularValues = svd.getSingularValues();
+         Arrays.sort(expectedSingularValues);
+
+         Matrix3DTools.computeSingularValueDecomposition(matrix, u, singularValues, v);
+         assertEquals(expectedSingularValues[2], singularValues.getX(), EPS);
+         assertEquals(expectedSingularValues[1], singularValues.getY(), EPS);
+         assertEquals(expectedSingularValues[0], Math.abs(singularValues.getZ()), EPS);
+      }
+
+      Matrix3D nanMatrix = new Matrix3D();
+      nanMatrix.setToNaN();
+      Matrix3DTools.computeSingularValueDecomposition(nanMatrix, u, singularValues, v);
+      EuclidCoreTestTools.assertMatrix3DContainsOnlyNaN(u);
+      EuclidCoreTestTools.assertTuple3DContainsOnlyNaN(singularValues);
+      EuclidCoreTestTools.assertMatrix3DContainsOnlyNaN(v);
+   }
+
+   @Test
+   public void testDecompositionsWithExtremeMagnitudes() throws Exception
+   {
+      Random random = new Random(4387L);
+      RotationMatrix u = new RotationMatrix();
+      RotationMatrix v = new RotationMatrix();
+      Vector3D singularValues = new Vector3D();
+      RotationMatrix expectedU = new RotationMatrix();
+      RotationMatrix expectedV = new RotationMatrix();
+      Vector3D expectedSingularValues = new Vector3D();
+      RotationMatrix rotation = new RotationMatrix();
+      Matrix3D symmetric = new Matrix3D();
+      RotationMatrix expectedRotation = new RotationMatrix();
+      Matrix3D expectedSymmetric = new Matrix3D();
+
+      { // Scaled identity, forming A^T A without prescaling overflows.
+         Matrix3D matrix = new Matrix3D();
+         matrix.setToDiagonal(1.0e200, 1.0e200, 1.0e200);
+         Matrix3DTools.computeSingularValueDecomposition(matrix, u, singularValues, v);
+         EuclidCoreTestTools.assertTuple3DEquals(new Vector3D(1.0e200, 1.0e200, 1.0e200), singularValues, 1.0e200 * EPS);
+         Matrix3DTools.computePolarDecomposition(matrix, rotation, symmetric);
+         EuclidCoreTestTools.assertMatrix3DEquals(new RotationMatrix(), rotation, EPS);
+         EuclidCoreTestTools.assertMatrix3DEquals(matrix, symmetric, 1.0e200 * EPS);
+      }
+
+      { // The dynamic range exceeds the range of a double, the smallest singular value is lost but the decompositions remain valid.
+         Matrix3D matrix = new Matrix3D();
+         matrix.setToDiagonal(1.0e300, 1.0e-300, 1.0);
+         Matrix3DTools.computeSingularValueDecomposition(matrix, u, singularValues, v);
+         assertFalse(singularValues.containsNaN());
+         assertEquals(1.0e300, singularValues.getX(), 1.0e300 * EPS);
+         assertEquals(1.0, singularValues.getY(), EPS);
+         assertEquals(0.0, singularValues.getZ(), EPS);
+         Matrix3DTools.computePolarDecomposition(matrix, rotation, symmetric);
+         EuclidCoreTestTools.assertMatrix3DEquals(new RotationMatrix(), rotation, EPS);
+         assertEquals(1.0e300, symmetric.getM00(), 1.0e300 * EPS);
+         assertEquals(1.0, symmetric.getM22(), EPS);
+         assertEquals(0.0, symmetric.getM11(), EPS);
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Scaling the matrix scales the singular values and the symmetric part, and leaves the rotations unchanged.
+         Matrix3D matrix = EuclidCoreRandomTools.nextMatrix3D(random, 10.0);
+         Matrix3DTools.computeSingularValueDecomposition(matrix, expectedU, expectedSingularValues, expectedV);
+         Matrix3DTools.computePolarDecomposition(matrix, expectedRotation, expectedSymmetric);
+
+         double scale = random.nextBoolean() ? 1.0e200 : 1.0e-200;
+         matrix.scale(scale);
+         expectedSingularValues.scale(scale);
+         expectedSymmetric.scale(scale);
+
+         Matrix3DTools.computeSingularValueDecomposition(matrix, u, singularValues, v);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedU, u, EPS);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedSingularValues, singularValues, scale * EPS);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedV, v, EPS);
+
+         Matrix3DTools.computePolarDecomposition(matrix, rotation, symmetric);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedRotation, rotation, EPS);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedSymmetric, symmetric, scale * EPS);
+      }
+   }
+
+   @Test
+   public void testComputePolarDecomposition() throws Exception
+   {
+      Random random = new Random(9867L);
+      RotationMatrix rotation = new RotationMatrix();
+      Matrix3D symmetric = new Matrix3D();
+      Matrix3D reconstructed = new Matrix3D();
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D matrix = EuclidCoreRandomTools.nextMatrix3D(random, 10.0);
+
+         Matrix3DTools.computePolarDecomposition(matrix, rotation, symmetric);
+
+         Matrix3D transpose = new Matrix3D(symmetric);
+         transpose.transpose();
+         EuclidCoreTestTools.assertMatrix3DEquals(symmetric, transpose, 0.0);
+
+         Matrix3DTools.multiply(rotation, symmetric, reconstructed);
+         EuclidCoreTestTools.assertMatrix3DEquals(matrix, reconstructed, EPS);
+
+         if (matrix.determinant() > 0.0)
+         { // The rotation part is then the orthogonal polar factor.
+            Matrix3D expectedRotation = new Matrix3D(matrix);
+            Matrix3DTools.normalizePolar(expectedRotation);
+            EuclidCoreTestTools.assertMatrix3DEquals(expectedRotation, rotation, EPS);
+         }
+      }
+
+      // The output can be the same instance as the input.
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D matrix = EuclidCoreRandomTools.nextMatrix3D(random, 10.0);
+         Matrix3D expectedSymmetric = new Matrix3D();
+         Matrix3DTools.computePolarDecomposition(matrix, rotation, expectedSymmetric);
+         Matrix3DTools.computePolarDecomposition(matrix, rotation, matrix);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedSymmetric, matrix, 0.0);
+      }
+   }
+
    @Test
    public void testTransformTuple() throws Exception
    {
@@ -701,6 +1210,39 @@ public class Matrix3DToolsTest
       }
    }
 
+   @Test
+   public void testTransformTuple3DArray() throws Exception
+   {
+      Random random = new Random(6754L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D matrix = EuclidCoreRandomTools.nextMatrix3D(random, 10.0);
+         int numberOfVectors = random.nextInt(100);
+         Vector3DArray vectorsOriginal = new Vector3DArray();
+         Vector3DArray vectorsTransformed = new Vector3DArray(random.nextInt(10));
+         Vector3D expected = new Vector3D();
+         Vector3D actual = new Vector3D();
+
+         for (int j = 0; j < numberOfVectors; j++)
+            vectorsOriginal.add(EuclidCoreRandomTools.nextVector3D(random));
+
+         Matrix3DTools.transform(matrix, vectorsOriginal, vectorsTransformed);
+         assertEquals(numberOfVectors, vectorsTransformed.size());
+
+         for (int j = 0; j < numberOfVectors; j++)
+         {
+            vectorsOriginal.get(j, expected);
+            Matrix3DTools.transform(matrix, expected, expected);
+            vectorsTransformed.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+         }
+
+         Matrix3DTools.transform(matrix, vectorsOriginal, vectorsOriginal);
+         assertTrue(vectorsTransformed.epsilonEquals(vectorsOriginal, 0.0));
+      }
+   }
+
    @Test
    public void testAddTransformTuple() throws Exception
    {
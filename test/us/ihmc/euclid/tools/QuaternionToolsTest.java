@@ -1232,4 +1232,107 @@ public class QuaternionToolsTest
          EuclidCoreTestTools.assertQuaternionGeometricallyEquals(quaternionExpected, quaternionActual, EPSILON);
       }
    }
+
+   @Test
+   public void testFastSlerpWeight() throws Exception
+   {
+      Random random = new Random(34985L);
+
+      for (int i = 0; i < 1000 * NUMBER_OF_ITERATIONS; i++)
+      {
+         double halfTheta = EuclidCoreRandomTools.nextDouble(random, 0.0, 0.5 * Math.PI);
+         double alpha = EuclidCoreRandomTools.nextDouble(random, 0.0, 1.0);
+         double expected = Math.sin(alpha * halfTheta) / Math.sin(halfTheta);
+         assertEquals(expected, QuaternionTools.fastSlerpWeight(alpha, Math.cos(halfTheta)), 2.0e-5);
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         double alpha = EuclidCoreRandomTools.nextDouble(random, 0.0, 1.0);
+         assertEquals(alpha, QuaternionTools.fastSlerpWeight(alpha, 1.0), EPSILON);
+      }
+   }
+
+   @Test
+   public void testInterpolateFast() throws Exception
+   {
+      Random random = new Random(87345L);
+      Quaternion expected = new Quaternion();
+      Quaternion actual = new Quaternion();
+
+      for (int i = 0; i < 100 * NUMBER_OF_ITERATIONS; i++)
+      {
+         double maxAngle = random.nextBoolean() ? 1.0 : Math.PI;
+         Quaternion q0 = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion qf = new Quaternion(q0);
+         qf.multiply(EuclidCoreRandomTools.nextQuaternion(random, maxAngle));
+         if (random.nextBoolean())
+            qf.negate();
+         double alpha = EuclidCoreRandomTools.nextDouble(random, 0.0, 1.0);
+
+         expected.interpolate(q0, qf, alpha);
+         QuaternionTools.interpolateFast(q0, qf, alpha, actual);
+         assertEquals(0.0, expected.distancePrecise(actual), maxAngle == 1.0 ? 1.0e-11 : 2.0e-5);
+         assertEquals(1.0, actual.norm(), EPSILON);
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // End points
+         Quaternion q0 = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion qf = EuclidCoreRandomTools.nextQuaternion(random);
+         QuaternionTools.interpolateFast(q0, qf, 0.0, actual);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(q0, actual, EPSILON);
+         QuaternionTools.interpolateFast(q0, qf, 1.0, actual);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(qf, actual, EPSILON);
+
+         // In place
+         actual.set(q0);
+         expected.set(q0);
+         double alpha = EuclidCoreRandomTools.nextDouble(random, 0.0, 1.0);
+         QuaternionTools.interpolateFast(expected, qf, alpha, expected);
+         QuaternionTools.interpolateFast(actual, qf, alpha, actual);
+         QuaternionTools.interpolateFast(q0, qf, alpha, q0);
+         EuclidCoreTestTools.assertQuaternionEquals(expected, actual, EPSILON);
+         EuclidCoreTestTools.assertQuaternionEquals(expected, q0, EPSILON);
+      }
+   }
+
+   @Test
+   public void testInterpolateNormalized() throws Exception
+   {
+      Random random = new Random(2354L);
+      Quaternion expected = new Quaternion();
+      Quaternion actual = new Quaternion();
+
+      for (int i = 0; i < 100 * NUMBER_OF_ITERATIONS; i++)
+      {
+         double maxAngle = random.nextBoolean() ? 0.4 : Math.PI;
+         Quaternion q0 = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion qf = new Quaternion(q0);
+         qf.multiply(EuclidCoreRandomTools.nextQuaternion(random, maxAngle));
+         if (random.nextBoolean())
+            qf.negate();
+         double alpha = EuclidCoreRandomTools.nextDouble(random, 0.0, 1.0);
+
+         expected.interpolate(q0, qf, alpha);
+         QuaternionTools.interpolateNormalized(q0, qf, alpha, actual);
+         assertEquals(0.0, expected.distancePrecise(actual), maxAngle == 0.4 ? 3.0e-4 : 0.15);
+         assertEquals(1.0, actual.norm(), EPSILON);
+
+         // The NLERP and the SLERP agree at mid-point.
+         expected.interpolate(q0, qf, 0.5);
+         QuaternionTools.interpolateNormalized(q0, qf, 0.5, actual);
+         EuclidCoreTestTools.assertQuaternionEquals(expected, actual, EPSILON);
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // End points
+         Quaternion q0 = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion qf = EuclidCoreRandomTools.nextQuaternion(random);
+         QuaternionTools.interpolateNormalized(q0, qf, 0.0, actual);
+         EuclidCoreTestTools.assertQuaternionEquals(q0, actual, EPSILON);
+         QuaternionTools.interpolateNormalized(q0, qf, 1.0, actual);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(qf, actual, EPSILON);
+      }
+   }
 }
@@ -14,6 +14,7 @@ import org.ejml.ops.RandomMatrices;
 import org.junit.Test;
 
 import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.concurrent.ParallelBatchExecutor;
 import us.ihmc.euclid.matrix.Matrix3D;
 import us.ihmc.euclid.matrix.RotationMatrix;
 import us.ihmc.euclid.matrix.RotationScaleMatrix;
@@ -26,7 +27,9 @@ import us.ihmc.euclid.tools.EuclidCoreTestTools;
 import us.ihmc.euclid.tuple2D.Point2D;
 import us.ihmc.euclid.tuple2D.Vector2D;
 import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3DArray;
 import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 import us.ihmc.euclid.tuple4D.Quaternion;
@@ -2586,4 +2589,236 @@ public class AffineTransformTest extends TransformTest<AffineTransform>
       transfom2D.setScale(random.nextDouble(), random.nextDouble(), 1.0);
       return transfom2D;
    }
+
+   @Test
+   public void testHasRotationScaleAndTranslation() throws Exception
+   {
+      Random random = new Random(2342L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         AffineTransform transform = EuclidCoreRandomTools.nextAffineTransform(random);
+         assertTrue(transform.hasRotation());
+         assertTrue(transform.hasScale());
+         assertTrue(transform.hasTranslation());
+         transform.setRotationToZero();
+         assertFalse(transform.hasRotation());
+         assertTrue(transform.hasScale());
+         transform.resetScale();
+         assertFalse(transform.hasScale());
+         transform.setTranslationToZero();
+         assertFalse(transform.hasTranslation());
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test the operations with a pure translation
+         Vector3D translation = EuclidCoreRandomTools.nextVector3D(random);
+         AffineTransform pureTranslation = new AffineTransform();
+         pureTranslation.setTranslation(translation);
+         AffineTransform other = EuclidCoreRandomTools.nextAffineTransform(random);
+
+         Point3D point = EuclidCoreRandomTools.nextPoint3D(random);
+         Point3D expectedPoint = new Point3D();
+         Point3D actualPoint = new Point3D();
+         expectedPoint.add(point, translation);
+         pureTranslation.transform(point, actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+         pureTranslation.inverseTransform(actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(point, actualPoint, EPS);
+
+         AffineTransform expected = new AffineTransform(other);
+         expected.appendTranslation(translation);
+         AffineTransform actual = new AffineTransform(other);
+         actual.multiply(pureTranslation);
+         EuclidCoreTestTools.assertAffineTransformEquals(expected, actual, EPS);
+
+         expected.set(other);
+         expected.prependTranslation(translation);
+         actual.set(other);
+         actual.preMultiply(pureTranslation);
+         EuclidCoreTestTools.assertAffineTransformEquals(expected, actual, EPS);
+      }
+   }
+
+   @Test
+   public void testTransformWithPoint3DArray() throws Exception
+   {
+      Random random = new Random(9056L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         AffineTransform transform = EuclidCoreRandomTools.nextAffineTransform(random);
+         int numberOfPoints = random.nextInt(100);
+         Point3DArray pointsOriginal = new Point3DArray(random.nextInt(10));
+         Point3DArray pointsExpected = new Point3DArray();
+         Point3DArray pointsActual = new Point3DArray();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+            pointsOriginal.add(point);
+            transform.transform(point);
+            pointsExpected.add(point);
+         }
+
+         { // Test transform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+            transform.transform(pointsOriginal, pointsActual);
+            assertEquals(numberOfPoints, pointsActual.size());
+            assertTrue(pointsExpected.epsilonEquals(pointsActual, EPS));
+         }
+
+         { // Test transform(Point3DArray pointsToTransform)
+            pointsActual.set(pointsOriginal);
+            transform.transform(pointsActual);
+            assertTrue(pointsExpected.epsilonEquals(pointsActual, EPS));
+         }
+
+         { // Test inverseTransform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+            transform.inverseTransform(pointsExpected, pointsActual);
+            assertTrue(pointsOriginal.epsilonEquals(pointsActual, EPS));
+         }
+
+         { // Test inverseTransform(Point3DArray pointsToTransform)
+            pointsActual.set(pointsExpected);
+            transform.inverseTransform(pointsActual);
+            assertTrue(pointsOriginal.epsilonEquals(pointsActual, EPS));
+         }
+      }
+   }
+
+   @Test
+   public void testTransformWithVector3DArray() throws Exception
+   {
+      Random random = new Random(7823L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         AffineTransform transform = EuclidCoreRandomTools.nextAffineTransform(random);
+         int numberOfVectors = random.nextInt(100);
+         Vector3DArray vectorsOriginal = new Vector3DArray(random.nextInt(10));
+         Vector3DArray vectorsExpected = new Vector3DArray();
+         Vector3DArray vectorsActual = new Vector3DArray();
+
+         for (int j = 0; j < numberOfVectors; j++)
+         {
+            Vector3D vector = EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0);
+            vectorsOriginal.add(vector);
+            transform.transform(vector);
+            vectorsExpected.add(vector);
+         }
+
+         { // Test transform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+            transform.transform(vectorsOriginal, vectorsActual);
+            assertEquals(numberOfVectors, vectorsActual.size());
+            assertTrue(vectorsExpected.epsilonEquals(vectorsActual, EPS));
+         }
+
+         { // Test transform(Vector3DArray vectorsToTransform)
+            vectorsActual.set(vectorsOriginal);
+            transform.transform(vectorsActual);
+            assertTrue(vectorsExpected.epsilonEquals(vectorsActual, EPS));
+         }
+
+         { // Test inverseTransform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+            transform.inverseTransform(vectorsExpected, vectorsActual);
+            assertTrue(vectorsOriginal.epsilonEquals(vectorsActual, EPS));
+         }
+
+         { // Test inverseTransform(Vector3DArray vectorsToTransform)
+            vectorsActual.set(vectorsExpected);
+            transform.inverseTransform(vectorsActual);
+            assertTrue(vectorsOriginal.epsilonEquals(vectorsActual, EPS));
+         }
+      }
+   }
+
+   @Test
+   public void testTransformWithPoint3DArrayRounding() throws Exception
+   {
+      Random random = new Random(6723L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         // Without rotation nor scale, the batch transforms only translate the points, as the single-point transforms.
+         AffineTransform transform = new AffineTransform();
+         transform.setTranslation(EuclidCoreRandomTools.nextVector3D(random, -1.0e3, 1.0e3));
+         int numberOfPoints = random.nextInt(100);
+         Point3DArray pointsOriginal = new Point3DArray();
+         Point3DArray pointsExpected = new Point3DArray();
+         Point3DArray pointsActual = new Point3DArray();
+
+         for (int j = 0; j < numberOfPoints; j++)
+            pointsOriginal.add(EuclidCoreRandomTools.nextPoint3D(random, 1.0e3));
+
+         Point3D point = new Point3D();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            pointsOriginal.get(j, point);
+            transform.transform(point);
+            pointsExpected.add(point);
+         }
+
+         transform.transform(pointsOriginal, pointsActual);
+         assertTrue(pointsExpected.epsilonEquals(pointsActual, 0.0));
+
+         pointsExpected.clear();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            pointsOriginal.get(j, point);
+            transform.inverseTransform(point);
+            pointsExpected.add(point);
+         }
+
+         transform.inverseTransform(pointsOriginal, pointsActual);
+         assertTrue(pointsExpected.epsilonEquals(pointsActual, 0.0));
+      }
+   }
+
+   @Test
+   public void testParallelTransformWithTuple3DArrays() throws Exception
+   {
+      Random random = new Random(4598L);
+      ParallelBatchExecutor executor = new ParallelBatchExecutor(4);
+      executor.setSequentialThreshold(0);
+
+      try
+      {
+         for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+         {
+            AffineTransform transform = EuclidCoreRandomTools.nextAffineTransform(random);
+            int size = random.nextInt(1000);
+            executor.setChunkSize(1 + random.nextInt(100));
+            Point3DArray pointsOriginal = new Point3DArray();
+            Vector3DArray vectorsOriginal = new Vector3DArray();
+
+            for (int j = 0; j < size; j++)
+            {
+               pointsOriginal.add(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+               vectorsOriginal.add(EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0));
+            }
+
+            Point3DArray pointsExpected = new Point3DArray();
+            Point3DArray pointsActual = new Point3DArray();
+            transform.transform(pointsOriginal, pointsExpected);
+            transform.transform(pointsOriginal, pointsActual, executor);
+            assertTrue(pointsExpected.epsilonEquals(pointsActual, EPS));
+            transform.inverseTransform(pointsActual, pointsActual, executor);
+            assertTrue(pointsOriginal.epsilonEquals(pointsActual, EPS));
+
+            Vector3DArray vectorsExpected = new Vector3DArray();
+            Vector3DArray vectorsActual = new Vector3DArray();
+            transform.transform(vectorsOriginal, vectorsExpected);
+            transform.transform(vectorsOriginal, vectorsActual, executor);
+            assertTrue(vectorsExpected.epsilonEquals(vectorsActual, EPS));
+            transform.inverseTransform(vectorsActual, vectorsActual, executor);
+            assertTrue(vectorsOriginal.epsilonEquals(vectorsActual, EPS));
+         }
+      }
+      finally
+      {
+         executor.shutdown();
+      }
+   }
 }
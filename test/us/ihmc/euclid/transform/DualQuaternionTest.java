@@ -0,0 +1,340 @@
+package us.ihmc.euclid.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+import us.ihmc.euclid.tuple4D.Vector4D;
+
+public class DualQuaternionTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-10;
+
+   @Test
+   public void testConstructorsAndConversions() throws Exception
+   {
+      Random random = new Random(7634L);
+
+      DualQuaternion identity = new DualQuaternion();
+      EuclidCoreTestTools.assertQuaternionEquals(new Quaternion(), identity.getRealPart(), EPS);
+      EuclidCoreTestTools.assertTuple4DEquals(new Vector4D(), identity.getDualPart(), EPS);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform expected = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         QuaternionBasedTransform actual = new QuaternionBasedTransform();
+
+         DualQuaternion dualQuaternion = new DualQuaternion(expected);
+         dualQuaternion.get(actual);
+         EuclidCoreTestTools.assertQuaternionBasedTransformGeometricallyEquals(expected, actual, EPS);
+         assertEquals(expected.getTranslationVector().getX(), dualQuaternion.getTranslationX(), EPS);
+         assertEquals(expected.getTranslationVector().getY(), dualQuaternion.getTranslationY(), EPS);
+         assertEquals(expected.getTranslationVector().getZ(), dualQuaternion.getTranslationZ(), EPS);
+
+         // The real part and the dual part are orthogonal
+         assertEquals(0.0, dualQuaternion.getRealPart().dot(dualQuaternion.getDualPart()), EPS);
+
+         dualQuaternion = new DualQuaternion(expected.getQuaternion(), expected.getTranslationVector());
+         dualQuaternion.get(actual);
+         EuclidCoreTestTools.assertQuaternionBasedTransformGeometricallyEquals(expected, actual, EPS);
+
+         DualQuaternion copy = new DualQuaternion(dualQuaternion);
+         assertTrue(copy.equals(dualQuaternion));
+         assertEquals(dualQuaternion.hashCode(), copy.hashCode());
+
+         RigidBodyTransform expectedRigidBodyTransform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform actualRigidBodyTransform = new RigidBodyTransform();
+         dualQuaternion = new DualQuaternion(expectedRigidBodyTransform);
+         dualQuaternion.get(actualRigidBodyTransform);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedRigidBodyTransform, actualRigidBodyTransform, EPS);
+
+         Quaternion rotation = EuclidCoreRandomTools.nextQuaternion(random);
+         Vector3D translation = EuclidCoreRandomTools.nextVector3D(random);
+         dualQuaternion.setRotation(rotation);
+         dualQuaternion.getTranslation(translation);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedRigidBodyTransform.getTranslationVector(), translation, EPS);
+         translation = EuclidCoreRandomTools.nextVector3D(random);
+         dualQuaternion.setTranslation(translation);
+         Quaternion actualRotation = new Quaternion();
+         Vector3D actualTranslation = new Vector3D();
+         dualQuaternion.getRotation(actualRotation);
+         dualQuaternion.getTranslation(actualTranslation);
+         EuclidCoreTestTools.assertQuaternionEquals(rotation, actualRotation, EPS);
+         EuclidCoreTestTools.assertTuple3DEquals(translation, actualTranslation, EPS);
+      }
+   }
+
+   @Test
+   public void testNormalize() throws Exception
+   {
+      Random random = new Random(2343L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform expected = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         DualQuaternion dualQuaternion = new DualQuaternion(expected);
+         double scale = EuclidCoreRandomTools.nextDouble(random, 0.1, 10.0);
+         Vector4D realPart = new Vector4D(dualQuaternion.getRealPart());
+         Vector4D dualPart = new Vector4D(dualQuaternion.getDualPart());
+         realPart.scale(scale);
+         dualPart.scale(scale);
+         // Adding a component along the real part that should be removed by the normalization.
+         dualPart.scaleAdd(EuclidCoreRandomTools.nextDouble(random), realPart, dualPart);
+
+         DualQuaternion actual = new DualQuaternion();
+         actual.set(realPart, dualPart);
+         assertTrue(actual.epsilonEquals(new DualQuaternion(expected), EPS));
+
+         actual.setToNaN();
+         assertTrue(actual.containsNaN());
+         actual.normalize();
+         assertTrue(actual.containsNaN());
+         actual.setToZero();
+         assertFalse(actual.containsNaN());
+         assertTrue(actual.epsilonEquals(new DualQuaternion(), EPS));
+      }
+   }
+
+   @Test
+   public void testMultiply() throws Exception
+   {
+      Random random = new Random(9823L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform t1 = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         QuaternionBasedTransform t2 = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         DualQuaternion dq1 = new DualQuaternion(t1);
+         DualQuaternion dq2 = new DualQuaternion(t2);
+         QuaternionBasedTransform expected = new QuaternionBasedTransform();
+         QuaternionBasedTransform actual = new QuaternionBasedTransform();
+         DualQuaternion result = new DualQuaternion();
+
+         expected.set(t1);
+         expected.multiply(t2);
+         result.set(dq1);
+         result.multiply(dq2);
+         result.get(actual);
+         EuclidCoreTestTools.assertQuaternionBasedTransformGeometricallyEquals(expected, actual, EPS);
+
+         expected.set(t1);
+         expected.multiplyInvertThis(t2);
+         result.set(dq1);
+         result.multiplyInvertThis(dq2);
+         result.get(actual);
+         EuclidCoreTestTools.assertQuaternionBasedTransformGeometricallyEquals(expected, actual, EPS);
+
+         expected.set(t1);
+         expected.multiplyInvertOther(t2);
+         result.set(dq1);
+         result.multiplyInvertOther(dq2);
+         result.get(actual);
+         EuclidCoreTestTools.assertQuaternionBasedTransformGeometricallyEquals(expected, actual, EPS);
+
+         expected.set(t1);
+         expected.preMultiply(t2);
+         result.set(dq1);
+         result.preMultiply(dq2);
+         result.get(actual);
+         EuclidCoreTestTools.assertQuaternionBasedTransformGeometricallyEquals(expected, actual, EPS);
+
+         expected.set(t1);
+         expected.preMultiplyInvertThis(t2);
+         result.set(dq1);
+         result.preMultiplyInvertThis(dq2);
+         result.get(actual);
+         EuclidCoreTestTools.assertQuaternionBasedTransformGeometricallyEquals(expected, actual, EPS);
+
+         expected.set(t1);
+         expected.preMultiplyInvertOther(t2);
+         result.set(dq1);
+         result.preMultiplyInvertOther(dq2);
+         result.get(actual);
+         EuclidCoreTestTools.assertQuaternionBasedTransformGeometricallyEquals(expected, actual, EPS);
+
+         expected.set(t1);
+         expected.invert();
+         result.set(dq1);
+         result.invert();
+         result.get(actual);
+         EuclidCoreTestTools.assertQuaternionBasedTransformGeometricallyEquals(expected, actual, EPS);
+
+         result.multiply(dq1);
+         assertTrue(result.geometricallyEquals(new DualQuaternion(), EPS));
+      }
+   }
+
+   @Test
+   public void testTransform() throws Exception
+   {
+      Random random = new Random(5464L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform transform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         DualQuaternion dualQuaternion = new DualQuaternion(transform);
+
+         Point3D pointOriginal = EuclidCoreRandomTools.nextPoint3D(random);
+         Point3D expectedPoint = new Point3D();
+         Point3D actualPoint = new Point3D();
+         transform.transform(pointOriginal, expectedPoint);
+         dualQuaternion.transform(pointOriginal, actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+         dualQuaternion.inverseTransform(actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(pointOriginal, actualPoint, EPS);
+
+         Vector3D vectorOriginal = EuclidCoreRandomTools.nextVector3D(random);
+         Vector3D expectedVector = new Vector3D();
+         Vector3D actualVector = new Vector3D();
+         transform.transform(vectorOriginal, expectedVector);
+         dualQuaternion.transform(vectorOriginal, actualVector);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, EPS);
+         dualQuaternion.inverseTransform(actualVector);
+         EuclidCoreTestTools.assertTuple3DEquals(vectorOriginal, actualVector, EPS);
+
+         Quaternion quaternionOriginal = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion expectedQuaternion = new Quaternion();
+         Quaternion actualQuaternion = new Quaternion();
+         transform.transform(quaternionOriginal, expectedQuaternion);
+         dualQuaternion.transform(quaternionOriginal, actualQuaternion);
+         EuclidCoreTestTools.assertQuaternionEquals(expectedQuaternion, actualQuaternion, EPS);
+         dualQuaternion.inverseTransform(actualQuaternion);
+         EuclidCoreTestTools.assertQuaternionEquals(quaternionOriginal, actualQuaternion, EPS);
+
+         Vector4D vector4DOriginal = EuclidCoreRandomTools.nextVector4D(random);
+         Vector4D expectedVector4D = new Vector4D();
+         Vector4D actualVector4D = new Vector4D();
+         transform.transform(vector4DOriginal, expectedVector4D);
+         dualQuaternion.transform(vector4DOriginal, actualVector4D);
+         EuclidCoreTestTools.assertTuple4DEquals(expectedVector4D, actualVector4D, EPS);
+         dualQuaternion.inverseTransform(actualVector4D);
+         EuclidCoreTestTools.assertTuple4DEquals(vector4DOriginal, actualVector4D, EPS);
+
+         RotationMatrix matrixOriginal = EuclidCoreRandomTools.nextRotationMatrix(random);
+         RotationMatrix expectedMatrix = new RotationMatrix();
+         RotationMatrix actualMatrix = new RotationMatrix();
+         transform.transform(matrixOriginal, expectedMatrix);
+         dualQuaternion.transform(matrixOriginal, actualMatrix);
+         EuclidCoreTestTools.assertMatrix3DEquals(expectedMatrix, actualMatrix, EPS);
+         dualQuaternion.inverseTransform(actualMatrix);
+         EuclidCoreTestTools.assertMatrix3DEquals(matrixOriginal, actualMatrix, EPS);
+
+         RigidBodyTransform rigidBodyTransformOriginal = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform expectedRigidBodyTransform = new RigidBodyTransform();
+         RigidBodyTransform actualRigidBodyTransform = new RigidBodyTransform();
+         transform.transform(rigidBodyTransformOriginal, expectedRigidBodyTransform);
+         dualQuaternion.transform(rigidBodyTransformOriginal, actualRigidBodyTransform);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedRigidBodyTransform, actualRigidBodyTransform, EPS);
+         dualQuaternion.inverseTransform(actualRigidBodyTransform);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(rigidBodyTransformOriginal, actualRigidBodyTransform, EPS);
+
+         QuaternionBasedTransform quaternionBasedTransformOriginal = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         QuaternionBasedTransform expectedQuaternionBasedTransform = new QuaternionBasedTransform();
+         QuaternionBasedTransform actualQuaternionBasedTransform = new QuaternionBasedTransform();
+         transform.transform(quaternionBasedTransformOriginal, expectedQuaternionBasedTransform);
+         dualQuaternion.transform(quaternionBasedTransformOriginal, actualQuaternionBasedTransform);
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expectedQuaternionBasedTransform, actualQuaternionBasedTransform, EPS);
+         dualQuaternion.inverseTransform(actualQuaternionBasedTransform);
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(quaternionBasedTransformOriginal, actualQuaternionBasedTransform, EPS);
+
+         AffineTransform affineTransformOriginal = EuclidCoreRandomTools.nextAffineTransform(random);
+         AffineTransform expectedAffineTransform = new AffineTransform();
+         AffineTransform actualAffineTransform = new AffineTransform();
+         transform.transform(affineTransformOriginal, expectedAffineTransform);
+         dualQuaternion.transform(affineTransformOriginal, actualAffineTransform);
+         EuclidCoreTestTools.assertAffineTransformEquals(expectedAffineTransform, actualAffineTransform, EPS);
+         dualQuaternion.inverseTransform(actualAffineTransform);
+         EuclidCoreTestTools.assertAffineTransformEquals(affineTransformOriginal, actualAffineTransform, EPS);
+      }
+   }
+
+   @Test
+   public void testInterpolate() throws Exception
+   {
+      Random random = new Random(34534L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test the end points and that the rotation is the same as SLERP
+         DualQuaternion dq0 = new DualQuaternion(EuclidCoreRandomTools.nextQuaternionBasedTransform(random));
+         DualQuaternion dqf = new DualQuaternion(EuclidCoreRandomTools.nextQuaternionBasedTransform(random));
+         DualQuaternion actual = new DualQuaternion();
+
+         actual.interpolate(dq0, dqf, 0.0);
+         assertTrue(actual.geometricallyEquals(dq0, EPS));
+         actual.interpolate(dq0, dqf, 1.0);
+         assertTrue(actual.geometricallyEquals(dqf, EPS));
+
+         double alpha = random.nextDouble();
+         actual.interpolate(dq0, dqf, alpha);
+         Quaternion expectedRotation = new Quaternion();
+         expectedRotation.interpolate(dq0.getRealPart(), dqf.getRealPart(), alpha);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(expectedRotation, actual.getRealPart(), EPS);
+
+         actual.set(dq0);
+         actual.interpolate(dqf, alpha);
+         DualQuaternion expected = new DualQuaternion();
+         expected.interpolate(dq0, dqf, alpha);
+         assertTrue(expected.epsilonEquals(actual, EPS));
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Interpolating between identity and T^n with alpha = 1/n should result in T
+         DualQuaternion expected = new DualQuaternion(EuclidCoreRandomTools.nextQuaternionBasedTransform(random));
+         // Keeping the rotation angle small enough such that T^n does not wrap around.
+         Quaternion rotation = new Quaternion(expected.getRealPart());
+         rotation.setRotationVector(EuclidCoreRandomTools.nextVector3DWithFixedLength(random, EuclidCoreRandomTools.nextDouble(random, 0.0, 0.5)));
+         expected.setRotation(rotation);
+
+         int n = 1 + random.nextInt(5);
+         DualQuaternion power = new DualQuaternion();
+
+         for (int j = 0; j < n; j++)
+            power.multiply(expected);
+
+         DualQuaternion start = new DualQuaternion(EuclidCoreRandomTools.nextQuaternionBasedTransform(random));
+         DualQuaternion end = new DualQuaternion(start);
+         end.multiply(power);
+         DualQuaternion actual = new DualQuaternion();
+         actual.interpolate(start, end, 1.0 / n);
+         actual.preMultiplyInvertOther(start);
+         assertTrue(expected.geometricallyEquals(actual, EPS));
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Pure translation and near-zero rotations
+         Vector3D t0 = EuclidCoreRandomTools.nextVector3D(random);
+         Vector3D tf = EuclidCoreRandomTools.nextVector3D(random);
+         Quaternion rotation = EuclidCoreRandomTools.nextQuaternion(random);
+         DualQuaternion dq0 = new DualQuaternion(rotation, t0);
+         DualQuaternion dqf = new DualQuaternion(rotation, tf);
+         double alpha = random.nextDouble();
+
+         Vector3D expectedTranslation = new Vector3D();
+         expectedTranslation.interpolate(t0, tf, alpha);
+         DualQuaternion actual = new DualQuaternion();
+         actual.interpolate(dq0, dqf, alpha);
+         Vector3D actualTranslation = new Vector3D();
+         actual.getTranslation(actualTranslation);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTranslation, actualTranslation, EPS);
+         EuclidCoreTestTools.assertQuaternionGeometricallyEquals(rotation, actual.getRealPart(), EPS);
+
+         Quaternion rotationf = new Quaternion(rotation);
+         rotationf.appendYawRotation(1.0e-9);
+         dqf.setRotation(rotationf);
+         actual.interpolate(dq0, dqf, alpha);
+         actual.getTranslation(actualTranslation);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedTranslation, actualTranslation, 1.0e-8);
+      }
+   }
+}
@@ -0,0 +1,221 @@
+package us.ihmc.euclid.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+
+public class QuaternionBasedTransformHistoryTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-10;
+
+   @Test
+   public void testConstructor() throws Exception
+   {
+      QuaternionBasedTransformHistory history = new QuaternionBasedTransformHistory(10);
+      assertEquals(10, history.capacity());
+      assertEquals(0, history.size());
+      assertEquals(Long.MIN_VALUE, history.getOldestTimestamp());
+      assertEquals(Long.MIN_VALUE, history.getNewestTimestamp());
+      assertFalse(history.get(0L, new QuaternionBasedTransform()));
+
+      try
+      {
+         new QuaternionBasedTransformHistory(0);
+         fail("Should have thrown an exception.");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+   }
+
+   @Test
+   public void testPut() throws Exception
+   {
+      Random random = new Random(4356L);
+      int capacity = 20;
+      QuaternionBasedTransformHistory history = new QuaternionBasedTransformHistory(capacity);
+      QuaternionBasedTransform[] expectedTransforms = new QuaternionBasedTransform[3 * capacity];
+      QuaternionBasedTransform actual = new QuaternionBasedTransform();
+
+      for (int i = 0; i < expectedTransforms.length; i++)
+      {
+         expectedTransforms[i] = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         history.put(10L * i, expectedTransforms[i]);
+
+         assertEquals(Math.min(i + 1, capacity), history.size());
+         assertEquals(10L * Math.max(0, i - capacity + 1), history.getOldestTimestamp());
+         assertEquals(10L * i, history.getNewestTimestamp());
+
+         for (int j = 0; j <= i; j++)
+         {
+            if (j <= i - capacity)
+            { // Overwritten sample
+               assertFalse(history.get(10L * j, actual));
+            }
+            else
+            {
+               assertTrue(history.get(10L * j, actual));
+               EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expectedTransforms[j], actual, EPS);
+            }
+         }
+      }
+
+      try
+      {
+         history.put(history.getNewestTimestamp(), expectedTransforms[0]);
+         fail("Should have thrown an exception.");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+
+      history.clear();
+      assertEquals(0, history.size());
+      assertFalse(history.get(0L, actual));
+      history.put(0L, expectedTransforms[0]);
+      assertTrue(history.get(0L, actual));
+      EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expectedTransforms[0], actual, EPS);
+   }
+
+   @Test
+   public void testGet() throws Exception
+   {
+      Random random = new Random(23423L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int capacity = 1 + random.nextInt(50);
+         QuaternionBasedTransformHistory history = new QuaternionBasedTransformHistory(capacity);
+         int numberOfSamples = random.nextInt(3 * capacity);
+         long[] timestamps = new long[numberOfSamples];
+         QuaternionBasedTransform[] transforms = new QuaternionBasedTransform[numberOfSamples];
+         long timestamp = random.nextInt(1000) - 500;
+
+         for (int j = 0; j < numberOfSamples; j++)
+         {
+            timestamp += 1 + random.nextInt(100);
+            timestamps[j] = timestamp;
+            transforms[j] = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+            history.put(timestamps[j], transforms[j]);
+         }
+
+         QuaternionBasedTransform expected = new QuaternionBasedTransform();
+         QuaternionBasedTransform actual = new QuaternionBasedTransform();
+         int firstSampleIndex = Math.max(0, numberOfSamples - capacity);
+
+         if (numberOfSamples == 0)
+         {
+            assertFalse(history.get(timestamp, actual));
+            continue;
+         }
+
+         // Outside the range of the history
+         assertFalse(history.get(timestamps[firstSampleIndex] - 1, actual));
+         assertFalse(history.get(timestamps[numberOfSamples - 1] + 1, actual));
+
+         for (int j = firstSampleIndex; j < numberOfSamples - 1; j++)
+         {
+            long t0 = timestamps[j];
+            long tf = timestamps[j + 1];
+
+            for (long t = t0; t < tf; t++)
+            {
+               double alpha = (double) (t - t0) / (double) (tf - t0);
+               expected.interpolate(transforms[j], transforms[j + 1], alpha);
+               assertTrue(history.get(t, actual));
+               EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expected, actual, EPS);
+            }
+         }
+
+         assertTrue(history.get(timestamps[numberOfSamples - 1], actual));
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(transforms[numberOfSamples - 1], actual, EPS);
+      }
+   }
+
+   @Test
+   public void testConcurrentAccess() throws Exception
+   {
+      final int capacity = 50;
+      final int numberOfSamples = 20000;
+      final QuaternionBasedTransformHistory history = new QuaternionBasedTransformHistory(capacity);
+      final AtomicBoolean isWriting = new AtomicBoolean(true);
+      final AtomicReference<Throwable> readerError = new AtomicReference<>();
+
+      Thread[] readers = new Thread[3];
+
+      for (int i = 0; i < readers.length; i++)
+      {
+         final Random random = new Random(345L + i);
+
+         readers[i] = new Thread(new Runnable()
+         {
+            @Override
+            public void run()
+            {
+               QuaternionBasedTransform expected = new QuaternionBasedTransform();
+               QuaternionBasedTransform actual = new QuaternionBasedTransform();
+
+               try
+               {
+                  while (isWriting.get())
+                  {
+                     long newestTimestamp = history.getNewestTimestamp();
+                     if (newestTimestamp == Long.MIN_VALUE)
+                        continue;
+
+                     long timestamp = newestTimestamp - random.nextInt(2 * capacity);
+
+                     if (history.get(timestamp, actual))
+                     {
+                        // The samples being on a single axis, the interpolation is exact.
+                        computeSample(timestamp, expected);
+                        EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expected, actual, 1.0e-7);
+                     }
+                  }
+               }
+               catch (Throwable e)
+               {
+                  readerError.compareAndSet(null, e);
+               }
+            }
+         });
+         readers[i].start();
+      }
+
+      QuaternionBasedTransform sample = new QuaternionBasedTransform();
+
+      for (int i = 0; i < numberOfSamples; i++)
+      {
+         computeSample(2L * i, sample);
+         history.put(2L * i, sample);
+      }
+
+      isWriting.set(false);
+
+      for (Thread reader : readers)
+         reader.join();
+
+      if (readerError.get() != null)
+         throw new AssertionError("A reader failed.", readerError.get());
+   }
+
+   private static void computeSample(long timestamp, QuaternionBasedTransform sampleToPack)
+   {
+      double angle = 1.0e-3 * timestamp;
+      sampleToPack.setRotationYaw(angle);
+      sampleToPack.setTranslation(0.5 * timestamp, -2.0 * timestamp, 3.0);
+   }
+}
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.Random;
 
@@ -11,15 +12,20 @@ import org.ejml.data.DenseMatrix64F;
 import org.junit.Test;
 
 import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.concurrent.ParallelBatchExecutor;
 import us.ihmc.euclid.matrix.Matrix3D;
 import us.ihmc.euclid.matrix.RotationMatrix;
 import us.ihmc.euclid.matrix.RotationScaleMatrix;
+import us.ihmc.euclid.offHeap.OffHeapPoint3DBuffer;
+import us.ihmc.euclid.offHeap.OffHeapQuaternionBuffer;
 import us.ihmc.euclid.tools.EuclidCoreRandomTools;
 import us.ihmc.euclid.tools.EuclidCoreTestTools;
 import us.ihmc.euclid.tuple2D.Point2D;
 import us.ihmc.euclid.tuple2D.Vector2D;
 import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3DArray;
 import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
 import us.ihmc.euclid.tuple4D.Quaternion;
@@ -1948,4 +1954,401 @@ public class QuaternionBasedTransformTest extends TransformTest<QuaternionBasedT
       QuaternionBasedTransform qTransform2D = new QuaternionBasedTransform(rTransform2D);
       return qTransform2D;
    }
+
+   @Test
+   public void testHasRotationAndTranslation() throws Exception
+   {
+      Random random = new Random(8734L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform transform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         assertTrue(transform.hasRotation());
+         assertTrue(transform.hasTranslation());
+         transform.setRotationToZero();
+         assertFalse(transform.hasRotation());
+         transform.setTranslationToZero();
+         assertFalse(transform.hasTranslation());
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test the operations with a pure translation
+         Vector3D translation = EuclidCoreRandomTools.nextVector3D(random);
+         QuaternionBasedTransform pureTranslation = new QuaternionBasedTransform();
+         pureTranslation.setTranslation(translation);
+         QuaternionBasedTransform other = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+
+         Point3D point = EuclidCoreRandomTools.nextPoint3D(random);
+         Point3D expectedPoint = new Point3D();
+         Point3D actualPoint = new Point3D();
+         expectedPoint.add(point, translation);
+         pureTranslation.transform(point, actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+         pureTranslation.inverseTransform(actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(point, actualPoint, EPS);
+
+         QuaternionBasedTransform expected = new QuaternionBasedTransform(other);
+         expected.prependTranslation(translation);
+         QuaternionBasedTransform actual = new QuaternionBasedTransform(pureTranslation);
+         actual.multiply(other);
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expected, actual, EPS);
+
+         expected.set(other);
+         expected.appendTranslation(translation);
+         actual.set(other);
+         actual.multiply(pureTranslation);
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expected, actual, EPS);
+
+         expected.set(other);
+         expected.prependTranslation(translation);
+         actual.set(other);
+         actual.preMultiply(pureTranslation);
+         EuclidCoreTestTools.assertQuaternionBasedTransformEquals(expected, actual, EPS);
+
+         actual.set(pureTranslation);
+         actual.invert();
+         assertFalse(actual.hasRotation());
+         translation.negate();
+         EuclidCoreTestTools.assertTuple3DEquals(translation, actual.getTranslationVector(), EPS);
+      }
+   }
+
+   @Test
+   public void testTransformWithPoint3DArray() throws Exception
+   {
+      Random random = new Random(8723L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform transform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         int numberOfPoints = random.nextInt(100);
+         Point3DArray pointsOriginal = new Point3DArray(random.nextInt(10));
+         Point3DArray pointsExpected = new Point3DArray();
+         Point3DArray pointsActual = new Point3DArray();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+            pointsOriginal.add(point);
+            transform.transform(point);
+            pointsExpected.add(point);
+         }
+
+         { // Test transform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+            transform.transform(pointsOriginal, pointsActual);
+            assertEquals(numberOfPoints, pointsActual.size());
+            assertTrue(pointsExpected.epsilonEquals(pointsActual, EPS));
+         }
+
+         { // Test transform(Point3DArray pointsToTransform)
+            pointsActual.set(pointsOriginal);
+            transform.transform(pointsActual);
+            assertTrue(pointsExpected.epsilonEquals(pointsActual, EPS));
+         }
+
+         { // Test inverseTransform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+            transform.inverseTransform(pointsExpected, pointsActual);
+            assertTrue(pointsOriginal.epsilonEquals(pointsActual, EPS));
+         }
+
+         { // Test inverseTransform(Point3DArray pointsToTransform)
+            pointsActual.set(pointsExpected);
+            transform.inverseTransform(pointsActual);
+            assertTrue(pointsOriginal.epsilonEquals(pointsActual, EPS));
+         }
+      }
+   }
+
+   @Test
+   public void testTransformWithVector3DArray() throws Exception
+   {
+      Random random = new Random(7823L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform transform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         int numberOfVectors = random.nextInt(100);
+         Vector3DArray vectorsOriginal = new Vector3DArray(random.nextInt(10));
+         Vector3DArray vectorsExpected = new Vector3DArray();
+         Vector3DArray vectorsActual = new Vector3DArray();
+
+         for (int j = 0; j < numberOfVectors; j++)
+         {
+            Vector3D vector = EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0);
+            vectorsOriginal.add(vector);
+            transform.transform(vector);
+            vectorsExpected.add(vector);
+         }
+
+         { // Test transform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+            transform.transform(vectorsOriginal, vectorsActual);
+            assertEquals(numberOfVectors, vectorsActual.size());
+            assertTrue(vectorsExpected.epsilonEquals(vectorsActual, EPS));
+         }
+
+         { // Test transform(Vector3DArray vectorsToTransform)
+            vectorsActual.set(vectorsOriginal);
+            transform.transform(vectorsActual);
+            assertTrue(vectorsExpected.epsilonEquals(vectorsActual, EPS));
+         }
+
+         { // Test inverseTransform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+            transform.inverseTransform(vectorsExpected, vectorsActual);
+            assertTrue(vectorsOriginal.epsilonEquals(vectorsActual, EPS));
+         }
+
+         { // Test inverseTransform(Vector3DArray vectorsToTransform)
+            vectorsActual.set(vectorsExpected);
+            transform.inverseTransform(vectorsActual);
+            assertTrue(vectorsOriginal.epsilonEquals(vectorsActual, EPS));
+         }
+      }
+   }
+
+   @Test
+   public void testTransformWithPoint3DArrayRounding() throws Exception
+   {
+      Random random = new Random(6723L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         // Without rotation, the batch transforms only translate the points, as the single-point transforms.
+         QuaternionBasedTransform transform = new QuaternionBasedTransform();
+         transform.setTranslation(EuclidCoreRandomTools.nextVector3D(random, -1.0e3, 1.0e3));
+         int numberOfPoints = random.nextInt(100);
+         Point3DArray pointsOriginal = new Point3DArray();
+         Point3DArray pointsExpected = new Point3DArray();
+         Point3DArray pointsActual = new Point3DArray();
+
+         for (int j = 0; j < numberOfPoints; j++)
+            pointsOriginal.add(EuclidCoreRandomTools.nextPoint3D(random, 1.0e3));
+
+         Point3D point = new Point3D();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            pointsOriginal.get(j, point);
+            transform.transform(point);
+            pointsExpected.add(point);
+         }
+
+         transform.transform(pointsOriginal, pointsActual);
+         assertTrue(pointsExpected.epsilonEquals(pointsActual, 0.0));
+
+         pointsExpected.clear();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            pointsOriginal.get(j, point);
+            transform.inverseTransform(point);
+            pointsExpected.add(point);
+         }
+
+         transform.inverseTransform(pointsOriginal, pointsActual);
+         assertTrue(pointsExpected.epsilonEquals(pointsActual, 0.0));
+      }
+   }
+
+   @Test
+   public void testParallelTransformWithTuple3DArrays() throws Exception
+   {
+      Random random = new Random(4598L);
+      ParallelBatchExecutor executor = new ParallelBatchExecutor(4);
+      executor.setSequentialThreshold(0);
+
+      try
+      {
+         for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+         {
+            QuaternionBasedTransform transform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+            int size = random.nextInt(1000);
+            executor.setChunkSize(1 + random.nextInt(100));
+            Point3DArray pointsOriginal = new Point3DArray();
+            Vector3DArray vectorsOriginal = new Vector3DArray();
+
+            for (int j = 0; j < size; j++)
+            {
+               pointsOriginal.add(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+               vectorsOriginal.add(EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0));
+            }
+
+            Point3DArray pointsExpected = new Point3DArray();
+            Point3DArray pointsActual = new Point3DArray();
+            transform.transform(pointsOriginal, pointsExpected);
+            transform.transform(pointsOriginal, pointsActual, executor);
+            assertTrue(pointsExpected.epsilonEquals(pointsActual, EPS));
+            transform.inverseTransform(pointsActual, pointsActual, executor);
+            assertTrue(pointsOriginal.epsilonEquals(pointsActual, EPS));
+
+            Vector3DArray vectorsExpected = new Vector3DArray();
+            Vector3DArray vectorsActual = new Vector3DArray();
+            transform.transform(vectorsOriginal, vectorsExpected);
+            transform.transform(vectorsOriginal, vectorsActual, executor);
+            assertTrue(vectorsExpected.epsilonEquals(vectorsActual, EPS));
+            transform.inverseTransform(vectorsActual, vectorsActual, executor);
+            assertTrue(vectorsOriginal.epsilonEquals(vectorsActual, EPS));
+         }
+      }
+      finally
+      {
+         executor.shutdown();
+      }
+   }
+
+   @Test
+   public void testTransformWithOffHeapPoint3DBuffer() throws Exception
+   {
+      Random random = new Random(5676L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform transform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         int numberOfPoints = 1 + random.nextInt(100);
+         OffHeapPoint3DBuffer pointsOriginal = new OffHeapPoint3DBuffer(numberOfPoints);
+         OffHeapPoint3DBuffer pointsActual = new OffHeapPoint3DBuffer(numberOfPoints);
+         Point3D expected = new Point3D();
+         Point3D actual = new Point3D();
+
+         for (int j = 0; j < numberOfPoints; j++)
+            pointsOriginal.add(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+
+         transform.transform(pointsOriginal, pointsActual);
+         assertEquals(numberOfPoints, pointsActual.size());
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            pointsOriginal.get(j, expected);
+            transform.transform(expected);
+            pointsActual.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+         }
+
+         transform.inverseTransform(pointsActual, pointsActual);
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            pointsOriginal.get(j, expected);
+            pointsActual.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+         }
+
+         try
+         {
+            transform.transform(pointsOriginal, new OffHeapPoint3DBuffer(numberOfPoints - 1));
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalArgumentException e)
+         {
+            // good
+         }
+      }
+   }
+
+   @Test
+   public void testInverseTransformWithOffHeapPoint3DBufferAndLargeTranslation() throws Exception
+   { // The inverse is applied as R^T * (p - t), as for a single point, which does not lose the precision of points close to a large translation.
+      Random random = new Random(2388L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform transform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         transform.setTranslation(EuclidCoreRandomTools.nextVector3D(random, 1.0e6, 1.0e7));
+         int numberOfPoints = 1 + random.nextInt(100);
+         OffHeapPoint3DBuffer pointsOriginal = new OffHeapPoint3DBuffer(numberOfPoints);
+         OffHeapPoint3DBuffer pointsActual = new OffHeapPoint3DBuffer(numberOfPoints);
+         Point3D expected = new Point3D();
+         Point3D actual = new Point3D();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            Point3D point = new Point3D(transform.getTranslationVector());
+            point.add(EuclidCoreRandomTools.nextVector3D(random, -1.0e-3, 1.0e-3));
+            pointsOriginal.add(point);
+         }
+
+         transform.inverseTransform(pointsOriginal, pointsActual);
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            pointsOriginal.get(j, expected);
+            transform.inverseTransform(expected);
+            pointsActual.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actual, 1.0e-12);
+         }
+      }
+   }
+
+   @Test
+   public void testTransformWithOffHeapQuaternionBuffer() throws Exception
+   {
+      Random random = new Random(4566L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform transform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         int numberOfQuaternions = random.nextInt(100);
+         OffHeapQuaternionBuffer quaternionsOriginal = new OffHeapQuaternionBuffer(numberOfQuaternions);
+         OffHeapQuaternionBuffer quaternionsActual = new OffHeapQuaternionBuffer(numberOfQuaternions);
+         Quaternion expected = new Quaternion();
+         Quaternion actual = new Quaternion();
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+            quaternionsOriginal.add(EuclidCoreRandomTools.nextQuaternion(random));
+
+         transform.transform(quaternionsOriginal, quaternionsActual);
+         assertEquals(numberOfQuaternions, quaternionsActual.size());
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+         {
+            quaternionsOriginal.get(j, expected);
+            transform.transform(expected);
+            quaternionsActual.get(j, actual);
+            EuclidCoreTestTools.assertQuaternionEquals(expected, actual, EPS);
+         }
+
+         transform.inverseTransform(quaternionsActual, quaternionsActual);
+
+         for (int j = 0; j < numberOfQuaternions; j++)
+         {
+            quaternionsOriginal.get(j, expected);
+            quaternionsActual.get(j, actual);
+            EuclidCoreTestTools.assertQuaternionEquals(expected, actual, EPS);
+         }
+      }
+   }
+
+   @Test
+   public void testTransformWithOffHeapQuaternionBufferNormalizesResults() throws Exception
+   {
+      Random random = new Random(4567L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionBasedTransform transform = EuclidCoreRandomTools.nextQuaternionBasedTransform(random);
+         OffHeapQuaternionBuffer quaternions = new OffHeapQuaternionBuffer(2);
+         Quaternion quaternion = EuclidCoreRandomTools.nextQuaternion(random);
+         double scale = EuclidCoreRandomTools.nextDouble(random, 0.5, 2.0);
+         quaternion.setUnsafe(scale * quaternion.getX(), scale * quaternion.getY(), scale * quaternion.getZ(), scale * quaternion.getS());
+         quaternions.add(quaternion);
+         quaternion.setUnsafe(0.0, 0.0, 0.0, 0.0);
+         quaternions.add(quaternion);
+
+         Quaternion expected = new Quaternion();
+         Quaternion actual = new Quaternion();
+
+         transform.transform(quaternions, quaternions);
+         quaternions.get(0, actual);
+         assertEquals(1.0, actual.norm(), EPS);
+         quaternions.get(1, actual);
+         EuclidCoreTestTools.assertQuaternionEquals(expected, actual, 0.0);
+
+         quaternions.set(1, EuclidCoreRandomTools.nextQuaternion(random));
+         quaternions.get(1, expected);
+         transform.inverseTransform(quaternions, quaternions);
+         transform.inverseTransform(expected);
+         quaternions.get(1, actual);
+         assertEquals(1.0, actual.norm(), EPS);
+         EuclidCoreTestTools.assertQuaternionEquals(expected, actual, EPS);
+      }
+   }
 }
@@ -0,0 +1,317 @@
+package us.ihmc.euclid.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.exceptions.NotAMatrix2DException;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tools.EuclidCoreTools;
+import us.ihmc.euclid.tuple2D.Point2D;
+import us.ihmc.euclid.tuple2D.Vector2D;
+
+public class RigidBodyTransform2DTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-10;
+
+   @Test
+   public void testConstructorsAndConversions() throws Exception
+   {
+      Random random = new Random(9823L);
+
+      RigidBodyTransform2D identity = new RigidBodyTransform2D();
+      assertEquals(0.0, identity.getYaw(), 0.0);
+      assertEquals(1.0, identity.getCosYaw(), 0.0);
+      assertEquals(0.0, identity.getSinYaw(), 0.0);
+      assertEquals(0.0, identity.getTranslationX(), 0.0);
+      assertEquals(0.0, identity.getTranslationY(), 0.0);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         double yaw = EuclidCoreRandomTools.nextDouble(random, Math.PI);
+         double x = EuclidCoreRandomTools.nextDouble(random, 10.0);
+         double y = EuclidCoreRandomTools.nextDouble(random, 10.0);
+
+         RigidBodyTransform expected = new RigidBodyTransform();
+         expected.setRotationYaw(yaw);
+         expected.setTranslation(x, y, EuclidCoreRandomTools.nextDouble(random, 10.0));
+
+         RigidBodyTransform2D transform2D = new RigidBodyTransform2D(expected);
+         assertEquals(yaw, transform2D.getYaw(), EPS);
+         assertEquals(Math.cos(yaw), transform2D.getCosYaw(), EPS);
+         assertEquals(Math.sin(yaw), transform2D.getSinYaw(), EPS);
+         assertEquals(x, transform2D.getTranslationX(), EPS);
+         assertEquals(y, transform2D.getTranslationY(), EPS);
+
+         RigidBodyTransform actual = new RigidBodyTransform();
+         transform2D.get(actual);
+         expected.setTranslationZ(0.0);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+
+         RigidBodyTransform2D copy = new RigidBodyTransform2D(transform2D);
+         assertTrue(copy.equals(transform2D));
+         assertEquals(transform2D.hashCode(), copy.hashCode());
+         assertTrue(copy.epsilonEquals(new RigidBodyTransform2D(yaw, x, y), EPS));
+      }
+
+      try
+      {
+         new RigidBodyTransform2D(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+         fail("Should have thrown a NotAMatrix2DException.");
+      }
+      catch (NotAMatrix2DException e)
+      {
+         // good
+      }
+   }
+
+   @Test
+   public void testTransform() throws Exception
+   {
+      Random random = new Random(2342L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform2D transform2D = nextRigidBodyTransform2D(random);
+         RigidBodyTransform transform = new RigidBodyTransform();
+         transform2D.get(transform);
+
+         Point2D pointOriginal = EuclidCoreRandomTools.nextPoint2D(random, 10.0);
+         Point2D expectedPoint = new Point2D();
+         Point2D actualPoint = new Point2D();
+         transform.transform(pointOriginal, expectedPoint, true);
+         transform2D.transform(pointOriginal, actualPoint);
+         EuclidCoreTestTools.assertTuple2DEquals(expectedPoint, actualPoint, EPS);
+         transform2D.inverseTransform(actualPoint);
+         EuclidCoreTestTools.assertTuple2DEquals(pointOriginal, actualPoint, EPS);
+
+         transform.inverseTransform(pointOriginal, expectedPoint, true);
+         transform2D.inverseTransform(pointOriginal, actualPoint);
+         EuclidCoreTestTools.assertTuple2DEquals(expectedPoint, actualPoint, EPS);
+
+         Vector2D vectorOriginal = EuclidCoreRandomTools.nextVector2D(random, -10.0, 10.0);
+         Vector2D expectedVector = new Vector2D();
+         Vector2D actualVector = new Vector2D();
+         transform.transform(vectorOriginal, expectedVector, true);
+         transform2D.transform(vectorOriginal, actualVector);
+         EuclidCoreTestTools.assertTuple2DEquals(expectedVector, actualVector, EPS);
+         transform2D.inverseTransform(actualVector);
+         EuclidCoreTestTools.assertTuple2DEquals(vectorOriginal, actualVector, EPS);
+
+         transform.inverseTransform(vectorOriginal, expectedVector, true);
+         transform2D.inverseTransform(vectorOriginal, actualVector);
+         EuclidCoreTestTools.assertTuple2DEquals(expectedVector, actualVector, EPS);
+      }
+   }
+
+   @Test
+   public void testBatchTransform() throws Exception
+   {
+      Random random = new Random(4576L);
+      int numberOfPoints = 50;
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform2D transform2D = nextRigidBodyTransform2D(random);
+
+         Point2D[] points = new Point2D[numberOfPoints];
+         double[] xs = new double[numberOfPoints + 3];
+         double[] ys = new double[numberOfPoints + 3];
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            points[j] = EuclidCoreRandomTools.nextPoint2D(random, 10.0);
+            xs[j] = points[j].getX();
+            ys[j] = points[j].getY();
+         }
+
+         double[] xsTransformed = new double[numberOfPoints];
+         double[] ysTransformed = new double[numberOfPoints];
+         transform2D.transformPoints(xs, ys, xsTransformed, ysTransformed, numberOfPoints);
+         double[] xsVectors = new double[numberOfPoints];
+         double[] ysVectors = new double[numberOfPoints];
+         transform2D.transformVectors(xs, ys, xsVectors, ysVectors, numberOfPoints);
+
+         Point2D expectedPoint = new Point2D();
+         Vector2D expectedVector = new Vector2D();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            transform2D.transform(points[j], expectedPoint);
+            assertEquals(expectedPoint.getX(), xsTransformed[j], EPS);
+            assertEquals(expectedPoint.getY(), ysTransformed[j], EPS);
+            transform2D.transform(new Vector2D(points[j]), expectedVector);
+            assertEquals(expectedVector.getX(), xsVectors[j], EPS);
+            assertEquals(expectedVector.getY(), ysVectors[j], EPS);
+         }
+
+         transform2D.inverseTransformVectors(xsVectors, ysVectors, xsVectors, ysVectors, numberOfPoints);
+         Point2D[] pointsCopy = new Point2D[numberOfPoints];
+         for (int j = 0; j < numberOfPoints; j++)
+            pointsCopy[j] = new Point2D(points[j]);
+         transform2D.transform(pointsCopy);
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            assertEquals(xs[j], xsVectors[j], EPS);
+            assertEquals(ys[j], ysVectors[j], EPS);
+            assertEquals(xsTransformed[j], pointsCopy[j].getX(), EPS);
+            assertEquals(ysTransformed[j], pointsCopy[j].getY(), EPS);
+         }
+
+         transform2D.inverseTransform(pointsCopy);
+         double lastX = xs[numberOfPoints];
+         transform2D.inverseTransformPoints(xsTransformed, ysTransformed, numberOfPoints);
+         transform2D.transformPoints(xs, ys, numberOfPoints);
+         transform2D.inverseTransformPoints(xs, ys, xs, ys, numberOfPoints);
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            EuclidCoreTestTools.assertTuple2DEquals(points[j], pointsCopy[j], EPS);
+            assertEquals(points[j].getX(), xsTransformed[j], EPS);
+            assertEquals(points[j].getY(), ysTransformed[j], EPS);
+            assertEquals(points[j].getX(), xs[j], EPS);
+            assertEquals(points[j].getY(), ys[j], EPS);
+         }
+         // Elements beyond numberOfPoints are not modified.
+         assertEquals(lastX, xs[numberOfPoints], 0.0);
+      }
+   }
+
+   @Test
+   public void testMultiplyAndInvert() throws Exception
+   {
+      Random random = new Random(3453L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform2D t1 = nextRigidBodyTransform2D(random);
+         RigidBodyTransform2D t2 = nextRigidBodyTransform2D(random);
+         RigidBodyTransform expected = new RigidBodyTransform();
+         RigidBodyTransform other = new RigidBodyTransform();
+         RigidBodyTransform actual = new RigidBodyTransform();
+
+         RigidBodyTransform2D result = new RigidBodyTransform2D(t1);
+         result.multiply(t2);
+         t1.get(expected);
+         t2.get(other);
+         expected.multiply(other);
+         result.get(actual);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+         assertEquals(EuclidCoreTools.trimAngleMinusPiToPi(t1.getYaw() + t2.getYaw()), result.getYaw(), EPS);
+
+         result.set(t1);
+         result.multiplyInvertOther(t2);
+         t1.get(expected);
+         expected.multiplyInvertOther(other);
+         result.get(actual);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+
+         result.set(t1);
+         result.preMultiply(t2);
+         t1.get(expected);
+         expected.preMultiply(other);
+         result.get(actual);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+
+         result.set(t1);
+         result.preMultiplyInvertOther(t2);
+         t1.get(expected);
+         expected.preMultiplyInvertOther(other);
+         result.get(actual);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+
+         result.set(t1);
+         result.invert();
+         t1.get(expected);
+         expected.invert();
+         result.get(actual);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+         result.multiply(t1);
+         assertTrue(result.geometricallyEquals(new RigidBodyTransform2D(), EPS));
+      }
+   }
+
+   @Test
+   public void testRotationConsistency() throws Exception
+   {
+      Random random = new Random(2390L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         double yaw = EuclidCoreRandomTools.nextDouble(random, 10.0 * Math.PI);
+         RigidBodyTransform2D transform = new RigidBodyTransform2D(yaw, 0.0, 0.0);
+         assertTrue(transform.getYaw() >= -Math.PI && transform.getYaw() < Math.PI);
+         assertEquals(0.0, EuclidCoreTools.angleDifferenceMinusPiToPi(yaw, transform.getYaw()), EPS);
+
+         RigidBodyTransform2D product = new RigidBodyTransform2D(0.5 * yaw, 0.0, 0.0);
+         product.multiply(new RigidBodyTransform2D(0.5 * yaw, 0.0, 0.0));
+         assertTrue(transform.epsilonEquals(product, EPS) || Math.abs(Math.abs(transform.getYaw()) - Math.PI) < EPS);
+         assertTrue(transform.geometricallyEquals(product, EPS));
+      }
+
+      // Long chains of multiplications do not let the cosine and sine drift away from the yaw angle.
+      RigidBodyTransform2D chain = new RigidBodyTransform2D();
+      RigidBodyTransform2D expected = new RigidBodyTransform2D();
+      double yaw = 0.0;
+
+      for (int i = 0; i < 1000000; i++)
+      {
+         RigidBodyTransform2D increment = new RigidBodyTransform2D(EuclidCoreRandomTools.nextDouble(random, 0.1), 0.0, 0.0);
+         yaw += increment.getYaw();
+
+         if (random.nextBoolean())
+            chain.multiply(increment);
+         else
+            chain.preMultiply(increment);
+      }
+
+      expected.setRotation(yaw);
+      assertEquals(1.0, EuclidCoreTools.norm(chain.getCosYaw(), chain.getSinYaw()), 1.0e-15);
+      assertEquals(expected.getCosYaw(), chain.getCosYaw(), 1.0e-9);
+      assertEquals(expected.getSinYaw(), chain.getSinYaw(), 1.0e-9);
+      assertEquals(Math.cos(chain.getYaw()), chain.getCosYaw(), 1.0e-9);
+      assertEquals(Math.sin(chain.getYaw()), chain.getSinYaw(), 1.0e-9);
+   }
+
+   @Test
+   public void testGeometricallyEquals() throws Exception
+   {
+      Random random = new Random(7656L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform2D t1 = nextRigidBodyTransform2D(random);
+         RigidBodyTransform2D t2 = new RigidBodyTransform2D(t1.getYaw() + 2.0 * Math.PI, t1.getTranslationX(), t1.getTranslationY());
+         // The yaw angle is trimmed when set.
+         assertTrue(t1.epsilonEquals(t2, EPS));
+         assertTrue(t1.geometricallyEquals(t2, EPS));
+
+         // Yaw angles on each side of the discontinuity at pi.
+         t2.setRotation(Math.PI - 0.1 * EPS);
+         RigidBodyTransform2D t3 = new RigidBodyTransform2D(-Math.PI + 0.1 * EPS, t1.getTranslationX(), t1.getTranslationY());
+         t2.setTranslation(t1.getTranslationX(), t1.getTranslationY());
+         assertFalse(t2.epsilonEquals(t3, EPS));
+         assertTrue(t2.geometricallyEquals(t3, EPS));
+
+         t2.setRotation(t1.getYaw() + 1.1 * EPS);
+         assertFalse(t1.geometricallyEquals(t2, EPS));
+         t2.setRotation(t1.getYaw());
+         t2.setTranslation(t1.getTranslationX() + 1.1 * EPS, t1.getTranslationY());
+         assertFalse(t1.geometricallyEquals(t2, EPS));
+      }
+   }
+
+   private static RigidBodyTransform2D nextRigidBodyTransform2D(Random random)
+   {
+      return new RigidBodyTransform2D(EuclidCoreRandomTools.nextDouble(random, Math.PI), EuclidCoreRandomTools.nextDouble(random, 10.0),
+                                      EuclidCoreRandomTools.nextDouble(random, 10.0));
+   }
+}
@@ -15,18 +15,24 @@ import org.ejml.ops.RandomMatrices;
 import org.junit.Test;
 
 import us.ihmc.euclid.axisAngle.AxisAngle;
+import us.ihmc.euclid.concurrent.ParallelBatchExecutor;
 import us.ihmc.euclid.exceptions.NotAMatrix2DException;
 import us.ihmc.euclid.matrix.Matrix3D;
 import us.ihmc.euclid.matrix.RotationMatrix;
+import us.ihmc.euclid.matrix.RotationMatrixNormalizer;
 import us.ihmc.euclid.matrix.RotationScaleMatrix;
 import us.ihmc.euclid.matrix.interfaces.Matrix3DBasics;
 import us.ihmc.euclid.matrix.interfaces.Matrix3DReadOnly;
+import us.ihmc.euclid.offHeap.OffHeapPoint3DBuffer;
 import us.ihmc.euclid.tools.EuclidCoreRandomTools;
 import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tools.Matrix3DTools;
 import us.ihmc.euclid.tuple2D.Point2D;
 import us.ihmc.euclid.tuple2D.Vector2D;
 import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Point3DArray;
 import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple3D.Vector3DArray;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 import us.ihmc.euclid.tuple3D.interfaces.Vector3DBasics;
 import us.ihmc.euclid.tuple4D.Quaternion;
@@ -325,6 +331,28 @@ public class RigidBodyTransformTest extends TransformTest<RigidBodyTransform>
       }
    }
 
+   @Test
+   public void testSetRotationNormalizer() throws Exception
+   {
+      Random random = new Random(3465L);
+      RigidBodyTransform transform = new RigidBodyTransform();
+      transform.setRotationNormalizer(RotationMatrixNormalizer.getFirstOrder());
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Matrix3D corrupted = new Matrix3D(EuclidCoreRandomTools.nextRotationMatrix(random));
+         corrupted.add(EuclidCoreRandomTools.nextMatrix3D(random, 1.0e-4));
+         transform.setRotationUnsafe(corrupted.getM00(), corrupted.getM01(), corrupted.getM02(), corrupted.getM10(), corrupted.getM11(),
+                                     corrupted.getM12(), corrupted.getM20(), corrupted.getM21(), corrupted.getM22());
+         transform.normalizeRotationPart();
+         Matrix3DTools.normalizeFirstOrder(corrupted);
+
+         Matrix3D actual = new Matrix3D();
+         transform.getRotation(actual);
+         EuclidCoreTestTools.assertMatrix3DEquals(corrupted, actual, 0.0);
+      }
+   }
+
    @Test
    public void testDeterminantRotationPart() throws Exception
    {
@@ -2917,4 +2945,484 @@ public class RigidBodyTransformTest extends TransformTest<RigidBodyTransform>
       transfom2D.setTranslation(EuclidCoreRandomTools.nextVector3D(random));
       return transfom2D;
    }
+
+   @Test
+   public void testLazyNormalization() throws Exception
+   {
+      Random random = new Random(65423L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform expected = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform actual = new RigidBodyTransform(expected);
+         actual.setRotationLazyNormalizationTolerance(RotationMatrix.MAX_LAZY_NORMALIZATION_TOLERANCE);
+         RotationMatrix rotation = new RotationMatrix();
+
+         for (int j = 0; j < 20; j++)
+         {
+            RigidBodyTransform other = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+            expected.multiply(other);
+            actual.multiply(other);
+            actual.getRotation(rotation);
+            assertEquals(j + 1, rotation.getNumberOfOperationsSinceNormalization());
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+         }
+
+         actual.normalizeRotationPart();
+         actual.getRotation(rotation);
+         assertEquals(0, rotation.getNumberOfOperationsSinceNormalization());
+      }
+   }
+
+   @Test
+   public void testHasRotationAndTranslation() throws Exception
+   {
+      Random random = new Random(345L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         assertTrue(transform.hasRotation());
+         assertTrue(transform.hasTranslation());
+
+         transform.setRotationToZero();
+         assertFalse(transform.hasRotation());
+         assertTrue(transform.isRotation2D());
+         transform.setTranslationToZero();
+         assertFalse(transform.hasTranslation());
+
+         transform.setRotationYaw(EuclidCoreRandomTools.nextDouble(random, 0.1, Math.PI));
+         assertTrue(transform.hasRotation());
+         assertTrue(transform.isRotation2D());
+         transform.appendRollRotation(EuclidCoreRandomTools.nextDouble(random, 0.1, Math.PI));
+         assertFalse(transform.isRotation2D());
+         transform.setTranslation(EuclidCoreRandomTools.nextVector3D(random));
+         assertTrue(transform.hasTranslation());
+
+         transform.setIdentity();
+         assertFalse(transform.hasRotation());
+         assertFalse(transform.hasTranslation());
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test the operations with a pure translation
+         Vector3D translation = EuclidCoreRandomTools.nextVector3D(random);
+         RigidBodyTransform pureTranslation = new RigidBodyTransform();
+         pureTranslation.setTranslation(translation);
+         RigidBodyTransform other = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+
+         Point3D point = EuclidCoreRandomTools.nextPoint3D(random);
+         Point3D expectedPoint = new Point3D();
+         Point3D actualPoint = new Point3D();
+         expectedPoint.add(point, translation);
+         pureTranslation.transform(point, actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+         pureTranslation.inverseTransform(actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(point, actualPoint, EPS);
+
+         Vector3D vector = EuclidCoreRandomTools.nextVector3D(random);
+         Vector3D actualVector = new Vector3D();
+         pureTranslation.transform(vector, actualVector);
+         EuclidCoreTestTools.assertTuple3DEquals(vector, actualVector, EPS);
+         pureTranslation.inverseTransform(vector, actualVector);
+         EuclidCoreTestTools.assertTuple3DEquals(vector, actualVector, EPS);
+
+         RigidBodyTransform expected = new RigidBodyTransform(other);
+         expected.prependTranslation(translation);
+         RigidBodyTransform actual = new RigidBodyTransform(pureTranslation);
+         actual.multiply(other);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+
+         expected.set(other);
+         expected.appendTranslation(translation);
+         actual.set(other);
+         actual.multiply(pureTranslation);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+
+         expected.set(other);
+         expected.prependTranslation(translation);
+         actual.set(other);
+         actual.preMultiply(pureTranslation);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+
+         expected.set(other);
+         expected.appendTranslation(translation);
+         actual.set(pureTranslation);
+         actual.preMultiply(other);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+
+         actual.set(pureTranslation);
+         actual.invert();
+         assertFalse(actual.hasRotation());
+         translation.negate();
+         EuclidCoreTestTools.assertTuple3DEquals(translation, actual.getTranslationVector(), EPS);
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test the operations with a pure rotation
+         RigidBodyTransform pureRotation = new RigidBodyTransform();
+         pureRotation.setRotation(EuclidCoreRandomTools.nextRotationMatrix(random));
+         RigidBodyTransform expected = new RigidBodyTransform(pureRotation);
+         expected.setTranslation(1.0, 0.0, 0.0);
+         expected.invert();
+         expected.setTranslationToZero();
+         RigidBodyTransform actual = new RigidBodyTransform(pureRotation);
+         actual.invert();
+         assertFalse(actual.hasTranslation());
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPS);
+      }
+   }
+
+   @Test
+   public void testInverseCache() throws Exception
+   {
+      Random random = new Random(98734L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform expected = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform actual = new RigidBodyTransform(expected);
+         assertFalse(actual.isInverseCacheEnabled());
+         actual.setInverseCacheEnabled(true);
+         assertTrue(actual.isInverseCacheEnabled());
+         assertEquals(0, actual.getInverseCacheHitCount());
+         assertEquals(0, actual.getInverseCacheMissCount());
+
+         Point3D expectedPoint = new Point3D();
+         Point3D actualPoint = new Point3D();
+         int numberOfCalls = 1 + random.nextInt(10);
+
+         for (int j = 0; j < numberOfCalls; j++)
+         {
+            Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+            expected.inverseTransform(point, expectedPoint);
+            actual.inverseTransform(point, actualPoint);
+            EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+         }
+
+         assertEquals(1, actual.getInverseCacheMissCount());
+         assertEquals(numberOfCalls - 1, actual.getInverseCacheHitCount());
+
+         // Any modification of the transform invalidates the cache
+         switch (random.nextInt(4))
+         {
+         case 0:
+            expected.setTranslationX(random.nextDouble());
+            actual.setTranslationX(expected.getTranslationX());
+            break;
+         case 1:
+            double yaw = random.nextDouble();
+            expected.appendYawRotation(yaw);
+            actual.appendYawRotation(yaw);
+            break;
+         case 2:
+            expected.set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+            actual.set(expected);
+            break;
+         default:
+            expected.multiply(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+            actual.set(expected);
+            break;
+         }
+
+         Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         expected.inverseTransform(point, expectedPoint);
+         actual.inverseTransform(point, actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPS);
+         assertEquals(2, actual.getInverseCacheMissCount());
+
+         RigidBodyTransform other = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         RigidBodyTransform expectedProduct = new RigidBodyTransform(other);
+         RigidBodyTransform actualProduct = new RigidBodyTransform(other);
+         long hitCount = actual.getInverseCacheHitCount();
+         expectedProduct.multiplyInvertOther(expected);
+         actualProduct.multiplyInvertOther(actual);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedProduct, actualProduct, EPS);
+         // multiplyInvertOther does not modify its argument, not even its cache
+         assertEquals(2, actual.getInverseCacheMissCount());
+         assertEquals(hitCount, actual.getInverseCacheHitCount());
+
+         // An outdated cache is not used by multiplyInvertOther
+         expected.appendPitchRotation(random.nextDouble());
+         actual.set(expected);
+         expectedProduct.set(other);
+         actualProduct.set(other);
+         expectedProduct.multiplyInvertOther(expected);
+         actualProduct.multiplyInvertOther(actual);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedProduct, actualProduct, EPS);
+         assertEquals(2, actual.getInverseCacheMissCount());
+         assertEquals(hitCount, actual.getInverseCacheHitCount());
+
+         actual.setInverseCacheEnabled(false);
+         assertEquals(0, actual.getInverseCacheHitCount());
+         actual.inverseTransform(point, actualPoint);
+         assertEquals(0, actual.getInverseCacheMissCount());
+      }
+   }
+
+   @Test
+   public void testTransformWithPoint3DArray() throws Exception
+   {
+      Random random = new Random(5634L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         int numberOfPoints = random.nextInt(100);
+         Point3DArray pointsOriginal = new Point3DArray(random.nextInt(10));
+         Point3DArray pointsExpected = new Point3DArray();
+         Point3DArray pointsActual = new Point3DArray();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+            pointsOriginal.add(point);
+            transform.transform(point);
+            pointsExpected.add(point);
+         }
+
+         { // Test transform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+            transform.transform(pointsOriginal, pointsActual);
+            assertEquals(numberOfPoints, pointsActual.size());
+            assertTrue(pointsExpected.epsilonEquals(pointsActual, EPS));
+         }
+
+         { // Test transform(Point3DArray pointsToTransform)
+            pointsActual.set(pointsOriginal);
+            transform.transform(pointsActual);
+            assertTrue(pointsExpected.epsilonEquals(pointsActual, EPS));
+         }
+
+         { // Test inverseTransform(Point3DArray pointsOriginal, Point3DArray pointsTransformed)
+            transform.inverseTransform(pointsExpected, pointsActual);
+            assertTrue(pointsOriginal.epsilonEquals(pointsActual, EPS));
+         }
+
+         { // Test inverseTransform(Point3DArray pointsToTransform)
+            pointsActual.set(pointsExpected);
+            transform.inverseTransform(pointsActual);
+            assertTrue(pointsOriginal.epsilonEquals(pointsActual, EPS));
+         }
+      }
+   }
+
+   @Test
+   public void testTransformWithVector3DArray() throws Exception
+   {
+      Random random = new Random(7823L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         int numberOfVectors = random.nextInt(100);
+         Vector3DArray vectorsOriginal = new Vector3DArray(random.nextInt(10));
+         Vector3DArray vectorsExpected = new Vector3DArray();
+         Vector3DArray vectorsActual = new Vector3DArray();
+
+         for (int j = 0; j < numberOfVectors; j++)
+         {
+            Vector3D vector = EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0);
+            vectorsOriginal.add(vector);
+            transform.transform(vector);
+            vectorsExpected.add(vector);
+         }
+
+         { // Test transform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+            transform.transform(vectorsOriginal, vectorsActual);
+            assertEquals(numberOfVectors, vectorsActual.size());
+            assertTrue(vectorsExpected.epsilonEquals(vectorsActual, EPS));
+         }
+
+         { // Test transform(Vector3DArray vectorsToTransform)
+            vectorsActual.set(vectorsOriginal);
+            transform.transform(vectorsActual);
+            assertTrue(vectorsExpected.epsilonEquals(vectorsActual, EPS));
+         }
+
+         { // Test inverseTransform(Vector3DArray vectorsOriginal, Vector3DArray vectorsTransformed)
+            transform.inverseTransform(vectorsExpected, vectorsActual);
+            assertTrue(vectorsOriginal.epsilonEquals(vectorsActual, EPS));
+         }
+
+         { // Test inverseTransform(Vector3DArray vectorsToTransform)
+            vectorsActual.set(vectorsExpected);
+            transform.inverseTransform(vectorsActual);
+            assertTrue(vectorsOriginal.epsilonEquals(vectorsActual, EPS));
+         }
+      }
+   }
+
+   @Test
+   public void testTransformWithPoint3DArrayRounding() throws Exception
+   {
+      Random random = new Random(6723L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         // The batch transforms round the same way as the single-point transforms.
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         if (i % 2 == 0)
+            transform.setRotationToZero();
+         int numberOfPoints = random.nextInt(100);
+         Point3DArray pointsOriginal = new Point3DArray();
+         Point3DArray pointsExpected = new Point3DArray();
+         Point3DArray pointsActual = new Point3DArray();
+
+         for (int j = 0; j < numberOfPoints; j++)
+            pointsOriginal.add(EuclidCoreRandomTools.nextPoint3D(random, 1.0e3));
+
+         Point3D point = new Point3D();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            pointsOriginal.get(j, point);
+            transform.transform(point);
+            pointsExpected.add(point);
+         }
+
+         transform.transform(pointsOriginal, pointsActual);
+         assertTrue(pointsExpected.epsilonEquals(pointsActual, 0.0));
+
+         pointsExpected.clear();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            pointsOriginal.get(j, point);
+            transform.inverseTransform(point);
+            pointsExpected.add(point);
+         }
+
+         transform.inverseTransform(pointsOriginal, pointsActual);
+         assertTrue(pointsExpected.epsilonEquals(pointsActual, 0.0));
+      }
+   }
+
+   @Test
+   public void testParallelTransformWithTuple3DArrays() throws Exception
+   {
+      Random random = new Random(4598L);
+      ParallelBatchExecutor executor = new ParallelBatchExecutor(4);
+      executor.setSequentialThreshold(0);
+
+      try
+      {
+         for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+         {
+            RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+            int size = random.nextInt(1000);
+            executor.setChunkSize(1 + random.nextInt(100));
+            Point3DArray pointsOriginal = new Point3DArray();
+            Vector3DArray vectorsOriginal = new Vector3DArray();
+
+            for (int j = 0; j < size; j++)
+            {
+               pointsOriginal.add(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+               vectorsOriginal.add(EuclidCoreRandomTools.nextVector3D(random, -10.0, 10.0));
+            }
+
+            Point3DArray pointsExpected = new Point3DArray();
+            Point3DArray pointsActual = new Point3DArray();
+            transform.transform(pointsOriginal, pointsExpected);
+            transform.transform(pointsOriginal, pointsActual, executor);
+            assertTrue(pointsExpected.epsilonEquals(pointsActual, EPS));
+            transform.inverseTransform(pointsActual, pointsActual, executor);
+            assertTrue(pointsOriginal.epsilonEquals(pointsActual, EPS));
+
+            Vector3DArray vectorsExpected = new Vector3DArray();
+            Vector3DArray vectorsActual = new Vector3DArray();
+            transform.transform(vectorsOriginal, vectorsExpected);
+            transform.transform(vectorsOriginal, vectorsActual, executor);
+            assertTrue(vectorsExpected.epsilonEquals(vectorsActual, EPS));
+            transform.inverseTransform(vectorsActual, vectorsActual, executor);
+            assertTrue(vectorsOriginal.epsilonEquals(vectorsActual, EPS));
+         }
+      }
+      finally
+      {
+         executor.shutdown();
+      }
+   }
+
+   @Test
+   public void testTransformWithOffHeapPoint3DBuffer() throws Exception
+   {
+      Random random = new Random(9834L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         int numberOfPoints = 1 + random.nextInt(100);
+         OffHeapPoint3DBuffer pointsOriginal = new OffHeapPoint3DBuffer(numberOfPoints);
+         OffHeapPoint3DBuffer pointsActual = new OffHeapPoint3DBuffer(numberOfPoints);
+         Point3D expected = new Point3D();
+         Point3D actual = new Point3D();
+
+         for (int j = 0; j < numberOfPoints; j++)
+            pointsOriginal.add(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+
+         transform.transform(pointsOriginal, pointsActual);
+         assertEquals(numberOfPoints, pointsActual.size());
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            pointsOriginal.get(j, expected);
+            transform.transform(expected);
+            pointsActual.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+         }
+
+         transform.inverseTransform(pointsActual, pointsActual);
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            pointsOriginal.get(j, expected);
+            pointsActual.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actual, EPS);
+         }
+
+         try
+         {
+            transform.transform(pointsOriginal, new OffHeapPoint3DBuffer(numberOfPoints - 1));
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalArgumentException e)
+         {
+            // good
+         }
+      }
+   }
+
+   @Test
+   public void testInverseTransformWithOffHeapPoint3DBufferAndLargeTranslation() throws Exception
+   { // The inverse is applied as R^T * (p - t), exactly as for a single point, which does not lose the precision of points close to a large translation.
+      Random random = new Random(2387L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         transform.setTranslation(EuclidCoreRandomTools.nextVector3D(random, 1.0e6, 1.0e7));
+         int numberOfPoints = 1 + random.nextInt(100);
+         OffHeapPoint3DBuffer pointsOriginal = new OffHeapPoint3DBuffer(numberOfPoints);
+         OffHeapPoint3DBuffer pointsActual = new OffHeapPoint3DBuffer(numberOfPoints);
+         Point3D expected = new Point3D();
+         Point3D actual = new Point3D();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            Point3D point = new Point3D(transform.getTranslationVector());
+            point.add(EuclidCoreRandomTools.nextVector3D(random, -1.0e-3, 1.0e-3));
+            pointsOriginal.add(point);
+         }
+
+         transform.inverseTransform(pointsOriginal, pointsActual);
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            pointsOriginal.get(j, expected);
+            transform.inverseTransform(expected);
+            pointsActual.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, actual, 0.0);
+         }
+      }
+   }
 }
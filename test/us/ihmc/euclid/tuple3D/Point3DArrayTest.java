@@ -0,0 +1,223 @@
+package us.ihmc.euclid.tuple3D;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+
+public class Point3DArrayTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-12;
+
+   @Test
+   public void testConstructors() throws Exception
+   {
+      Random random = new Random(3452L);
+
+      { // Test Point3DArray()
+         Point3DArray points = new Point3DArray();
+         assertEquals(0, points.size());
+         assertTrue(points.isEmpty());
+         assertEquals(Point3DArray.DEFAULT_INITIAL_CAPACITY, points.capacity());
+      }
+
+      { // Test Point3DArray(int initialCapacity)
+         int capacity = random.nextInt(100);
+         Point3DArray points = new Point3DArray(capacity);
+         assertEquals(0, points.size());
+         assertEquals(capacity, points.capacity());
+
+         try
+         {
+            new Point3DArray(-1);
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalArgumentException e)
+         {
+            // good
+         }
+      }
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      { // Test Point3DArray(Point3DArray other)
+         Point3DArray expected = EuclidCoreRandomTools.nextPoint3DArray(random, random.nextInt(50));
+         Point3DArray actual = new Point3DArray(expected);
+         assertTrue(expected.epsilonEquals(actual, 0.0));
+      }
+   }
+
+   @Test
+   public void testAddGetAndSet() throws Exception
+   {
+      Random random = new Random(78654L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         int numberOfPoints = random.nextInt(100);
+         Point3D[] expected = new Point3D[numberOfPoints];
+         Point3DArray points = new Point3DArray(0);
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            expected[j] = EuclidCoreRandomTools.nextPoint3D(random);
+            if (random.nextBoolean())
+               points.add(expected[j]);
+            else
+               points.add(expected[j].getX(), expected[j].getY(), expected[j].getZ());
+         }
+
+         assertEquals(numberOfPoints, points.size());
+         assertTrue(points.capacity() >= numberOfPoints);
+
+         Point3D actual = new Point3D();
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            points.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected[j], actual, EPS);
+            assertEquals(expected[j].getX(), points.getX(j), EPS);
+            assertEquals(expected[j].getY(), points.getY(j), EPS);
+            assertEquals(expected[j].getZ(), points.getZ(j), EPS);
+            assertEquals(expected[j].getX(), points.getXArray()[j], EPS);
+            assertEquals(expected[j].getY(), points.getYArray()[j], EPS);
+            assertEquals(expected[j].getZ(), points.getZArray()[j], EPS);
+         }
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            expected[j] = EuclidCoreRandomTools.nextPoint3D(random);
+            if (random.nextBoolean())
+               points.set(j, expected[j]);
+            else
+               points.set(j, expected[j].getX(), expected[j].getY(), expected[j].getZ());
+         }
+
+         for (int j = 0; j < numberOfPoints; j++)
+         {
+            points.get(j, actual);
+            EuclidCoreTestTools.assertTuple3DEquals(expected[j], actual, EPS);
+         }
+      }
+   }
+
+   @Test
+   public void testIndexOutOfBounds() throws Exception
+   {
+      Random random = new Random(2342L);
+      Point3DArray points = EuclidCoreRandomTools.nextPoint3DArray(random, random.nextInt(50));
+      int[] invalidIndices = {-1, points.size(), points.size() + 1};
+
+      for (int index : invalidIndices)
+      {
+         try
+         {
+            points.getX(index);
+            fail("Should have thrown an exception");
+         }
+         catch (IndexOutOfBoundsException e)
+         {
+            // good
+         }
+
+         try
+         {
+            points.set(index, 0.0, 0.0, 0.0);
+            fail("Should have thrown an exception");
+         }
+         catch (IndexOutOfBoundsException e)
+         {
+            // good
+         }
+
+         try
+         {
+            points.get(index, new Point3D());
+            fail("Should have thrown an exception");
+         }
+         catch (IndexOutOfBoundsException e)
+         {
+            // good
+         }
+      }
+   }
+
+   @Test
+   public void testSetSizeAndClear() throws Exception
+   {
+      Random random = new Random(90345L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Point3DArray points = EuclidCoreRandomTools.nextPoint3DArray(random, random.nextInt(50));
+         Point3DArray original = new Point3DArray(points);
+
+         int newSize = random.nextInt(200);
+         points.setSize(newSize);
+         assertEquals(newSize, points.size());
+
+         for (int j = 0; j < newSize; j++)
+         {
+            if (j < original.size())
+            {
+               assertEquals(original.getX(j), points.getX(j), 0.0);
+               assertEquals(original.getY(j), points.getY(j), 0.0);
+               assertEquals(original.getZ(j), points.getZ(j), 0.0);
+            }
+            else
+            {
+               assertTrue(0.0 == points.getX(j));
+               assertTrue(0.0 == points.getY(j));
+               assertTrue(0.0 == points.getZ(j));
+            }
+         }
+
+         int capacity = points.capacity();
+         points.clear();
+         assertTrue(points.isEmpty());
+         assertEquals(capacity, points.capacity());
+
+         // Growing again after shrinking has to reset the stale points.
+         points.setSize(newSize);
+         for (int j = 0; j < newSize; j++)
+         {
+            assertTrue(0.0 == points.getX(j));
+            assertTrue(0.0 == points.getY(j));
+            assertTrue(0.0 == points.getZ(j));
+         }
+      }
+   }
+
+   @Test
+   public void testEpsilonEquals() throws Exception
+   {
+      Random random = new Random(23423L);
+      double epsilon = 1.0e-3;
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Point3DArray points1 = EuclidCoreRandomTools.nextPoint3DArray(random, random.nextInt(50));
+         if (points1.isEmpty())
+            continue;
+         Point3DArray points2 = new Point3DArray(points1);
+         assertTrue(points1.epsilonEquals(points2, epsilon));
+
+         int index = random.nextInt(points1.size());
+         points2.set(index, points1.getX(index) + 0.999 * epsilon, points1.getY(index), points1.getZ(index));
+         assertTrue(points1.epsilonEquals(points2, epsilon));
+         points2.set(index, points1.getX(index), points1.getY(index) - 1.001 * epsilon, points1.getZ(index));
+         assertFalse(points1.epsilonEquals(points2, epsilon));
+
+         points2.set(points1);
+         points2.add(0.0, 0.0, 0.0);
+         assertFalse(points1.epsilonEquals(points2, epsilon));
+      }
+   }
+}
@@ -0,0 +1,288 @@
+package us.ihmc.euclid.tuple3D;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.concurrent.ParallelBatchExecutor;
+import us.ihmc.euclid.matrix.Matrix3D;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+
+public class Point3DStatisticsTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-10;
+
+   @Test
+   public void testEmpty() throws Exception
+   {
+      Point3DStatistics statistics = new Point3DStatistics();
+      assertTrue(statistics.isEmpty());
+      assertEquals(0L, statistics.getNumberOfPoints());
+
+      Point3D point = new Point3D();
+      Matrix3D covariance = new Matrix3D();
+      statistics.getMean(point);
+      EuclidCoreTestTools.assertTuple3DContainsOnlyNaN(point);
+      statistics.getMinimum(point);
+      EuclidCoreTestTools.assertTuple3DContainsOnlyNaN(point);
+      statistics.getMaximum(point);
+      EuclidCoreTestTools.assertTuple3DContainsOnlyNaN(point);
+      statistics.getCovariance(covariance);
+      EuclidCoreTestTools.assertMatrix3DContainsOnlyNaN(covariance);
+
+      statistics.add(1.0, 2.0, 3.0);
+      assertFalse(statistics.isEmpty());
+      statistics.getCovariance(covariance);
+      EuclidCoreTestTools.assertMatrix3DEquals(new Matrix3D(), covariance, 0.0);
+      statistics.getSampleCovariance(covariance);
+      EuclidCoreTestTools.assertMatrix3DContainsOnlyNaN(covariance);
+
+      statistics.clear();
+      assertTrue(statistics.isEmpty());
+      statistics.getMean(point);
+      EuclidCoreTestTools.assertTuple3DContainsOnlyNaN(point);
+   }
+
+   @Test
+   public void testAdd() throws Exception
+   {
+      Random random = new Random(34534L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Point3DArray points = EuclidCoreRandomTools.nextPoint3DArray(random, random.nextInt(200) + 2, 5.0, 15.0);
+         Point3DStatistics statistics = new Point3DStatistics();
+         Point3D point = new Point3D();
+
+         for (int j = 0; j < points.size(); j++)
+         {
+            points.get(j, point);
+            statistics.add(point);
+         }
+
+         assertStatisticsEqual(points, 0, points.size(), statistics, EPS);
+      }
+   }
+
+   @Test
+   public void testAddBatch() throws Exception
+   {
+      Random random = new Random(7653L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Point3DArray points = EuclidCoreRandomTools.nextPoint3DArray(random, random.nextInt(200) + 2, 5.0, 15.0);
+         int startIndex = random.nextInt(points.size() - 1);
+         int endIndex = startIndex + 2 + random.nextInt(points.size() - startIndex - 1);
+
+         Point3DStatistics statistics = new Point3DStatistics();
+         statistics.add(points.getXArray(), points.getYArray(), points.getZArray(), startIndex, endIndex);
+         assertStatisticsEqual(points, startIndex, endIndex, statistics, EPS);
+
+         statistics.clear();
+         statistics.add(points);
+         assertStatisticsEqual(points, 0, points.size(), statistics, EPS);
+
+         // Adding an empty range does not change anything.
+         Point3DStatistics expected = new Point3DStatistics(statistics);
+         statistics.add(points.getXArray(), points.getYArray(), points.getZArray(), startIndex, startIndex);
+         assertStatisticsEqual(expected, statistics, 0.0);
+      }
+   }
+
+   @Test
+   public void testMerge() throws Exception
+   {
+      Random random = new Random(2376L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Point3DArray points = EuclidCoreRandomTools.nextPoint3DArray(random, random.nextInt(200) + 2, 5.0, 15.0);
+         int splitIndex = random.nextInt(points.size() + 1);
+
+         Point3DStatistics first = new Point3DStatistics();
+         Point3DStatistics second = new Point3DStatistics();
+         first.add(points.getXArray(), points.getYArray(), points.getZArray(), 0, splitIndex);
+         for (int j = splitIndex; j < points.size(); j++)
+            second.add(points.getX(j), points.getY(j), points.getZ(j));
+
+         Point3DStatistics merged = new Point3DStatistics(first);
+         merged.merge(second);
+         assertStatisticsEqual(points, 0, points.size(), merged, EPS);
+
+         merged.set(second);
+         merged.merge(first);
+         assertStatisticsEqual(points, 0, points.size(), merged, EPS);
+      }
+
+      // Reduction of a parallel stream.
+      Point3DArray points = EuclidCoreRandomTools.nextPoint3DArray(random, 10000, 5.0, 15.0);
+      Point3D[] pointObjects = new Point3D[points.size()];
+      for (int i = 0; i < points.size(); i++)
+         pointObjects[i] = new Point3D(points.getX(i), points.getY(i), points.getZ(i));
+
+      Point3DStatistics statistics = Arrays.stream(pointObjects).parallel().collect(Point3DStatistics::new, Point3DStatistics::add,
+                                                                                    Point3DStatistics::merge);
+      assertStatisticsEqual(points, 0, points.size(), statistics, EPS);
+   }
+
+   @Test
+   public void testAddWithExecutor() throws Exception
+   {
+      Random random = new Random(9823L);
+      ParallelBatchExecutor executor = new ParallelBatchExecutor(4);
+      executor.setSequentialThreshold(100);
+      executor.setChunkSize(64);
+
+      try
+      {
+         for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+         {
+            Point3DArray points = EuclidCoreRandomTools.nextPoint3DArray(random, random.nextInt(2000) + 2, 5.0, 15.0);
+            Point3DStatistics statistics = new Point3DStatistics();
+            statistics.add(points, executor);
+            assertStatisticsEqual(points, 0, points.size(), statistics, EPS);
+
+            statistics.clear();
+            statistics.add(points, null);
+            assertStatisticsEqual(points, 0, points.size(), statistics, EPS);
+         }
+      }
+      finally
+      {
+         executor.shutdown();
+      }
+   }
+
+   @Test
+   public void testNumericalStability() throws Exception
+   {
+      Random random = new Random(4576L);
+      // Points far from the origin with a small spread, a naive sum of squares would lose all the precision.
+      Point3DArray points = new Point3DArray();
+      Point3DArray centeredPoints = new Point3DArray();
+      Point3D offset = new Point3D(1.0e8, -1.0e8, 1.0e8);
+
+      for (int i = 0; i < 1000; i++)
+      {
+         Point3D point = EuclidCoreRandomTools.nextPoint3D(random, 1.0);
+         point.add(offset);
+         points.add(point);
+         // Exact subtraction as both terms are close to each other.
+         point.sub(offset);
+         centeredPoints.add(point);
+      }
+
+      Point3DStatistics centeredStatistics = new Point3DStatistics();
+      centeredStatistics.add(centeredPoints);
+      assertStatisticsEqual(centeredPoints, 0, centeredPoints.size(), centeredStatistics, EPS);
+      Matrix3D expectedCovariance = new Matrix3D();
+      centeredStatistics.getCovariance(expectedCovariance);
+      Point3D expectedMean = new Point3D();
+      centeredStatistics.getMean(expectedMean);
+      expectedMean.add(offset);
+
+      // The running mean can only be resolved to the ulp of the offset which bounds the achievable accuracy.
+      Point3DStatistics statistics = new Point3DStatistics();
+      Matrix3D actualCovariance = new Matrix3D();
+      Point3D actualMean = new Point3D();
+
+      for (int i = 0; i < points.size(); i++)
+         statistics.add(points.getX(i), points.getY(i), points.getZ(i));
+      statistics.getCovariance(actualCovariance);
+      EuclidCoreTestTools.assertMatrix3DEquals(expectedCovariance, actualCovariance, 1.0e-7);
+      statistics.getMean(actualMean);
+      EuclidCoreTestTools.assertTuple3DEquals(expectedMean, actualMean, 1.0e-6);
+
+      statistics.clear();
+      statistics.add(points);
+      statistics.getCovariance(actualCovariance);
+      EuclidCoreTestTools.assertMatrix3DEquals(expectedCovariance, actualCovariance, 1.0e-7);
+      statistics.getMean(actualMean);
+      EuclidCoreTestTools.assertTuple3DEquals(expectedMean, actualMean, 1.0e-6);
+   }
+
+   private static void assertStatisticsEqual(Point3DStatistics expected, Point3DStatistics actual, double epsilon)
+   {
+      assertEquals(expected.getNumberOfPoints(), actual.getNumberOfPoints());
+      Point3D expectedPoint = new Point3D();
+      Point3D actualPoint = new Point3D();
+      Matrix3D expectedCovariance = new Matrix3D();
+      Matrix3D actualCovariance = new Matrix3D();
+
+      expected.getMean(expectedPoint);
+      actual.getMean(actualPoint);
+      EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, epsilon);
+      expected.getMinimum(expectedPoint);
+      actual.getMinimum(actualPoint);
+      EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, epsilon);
+      expected.getMaximum(expectedPoint);
+      actual.getMaximum(actualPoint);
+      EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, epsilon);
+      expected.getCovariance(expectedCovariance);
+      actual.getCovariance(actualCovariance);
+      EuclidCoreTestTools.assertMatrix3DEquals(expectedCovariance, actualCovariance, epsilon);
+   }
+
+   /**
+    * Compares the statistics against a straightforward two-pass computation over the points with an
+    * index in [{@code startIndex}, {@code endIndex}[.
+    */
+   private static void assertStatisticsEqual(Point3DArray points, int startIndex, int endIndex, Point3DStatistics actual, double epsilon)
+   {
+      int n = endIndex - startIndex;
+      assertEquals(n, actual.getNumberOfPoints());
+
+      Point3D mean = new Point3D();
+      Point3D min = new Point3D(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
+      Point3D max = new Point3D(Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY);
+
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         mean.add(points.getX(i), points.getY(i), points.getZ(i));
+         min.set(Math.min(min.getX(), points.getX(i)), Math.min(min.getY(), points.getY(i)), Math.min(min.getZ(), points.getZ(i)));
+         max.set(Math.max(max.getX(), points.getX(i)), Math.max(max.getY(), points.getY(i)), Math.max(max.getZ(), points.getZ(i)));
+      }
+      mean.scale(1.0 / n);
+
+      double cXX = 0.0, cXY = 0.0, cXZ = 0.0, cYY = 0.0, cYZ = 0.0, cZZ = 0.0;
+
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         double dx = points.getX(i) - mean.getX();
+         double dy = points.getY(i) - mean.getY();
+         double dz = points.getZ(i) - mean.getZ();
+         cXX += dx * dx;
+         cXY += dx * dy;
+         cXZ += dx * dz;
+         cYY += dy * dy;
+         cYZ += dy * dz;
+         cZZ += dz * dz;
+      }
+
+      Matrix3D covariance = new Matrix3D(cXX, cXY, cXZ, cXY, cYY, cYZ, cXZ, cYZ, cZZ);
+      Matrix3D sampleCovariance = new Matrix3D(covariance);
+      covariance.scale(1.0 / n);
+      sampleCovariance.scale(1.0 / (n - 1));
+
+      Point3D actualPoint = new Point3D();
+      Matrix3D actualCovariance = new Matrix3D();
+      actual.getMean(actualPoint);
+      EuclidCoreTestTools.assertTuple3DEquals(mean, actualPoint, epsilon);
+      actual.getMinimum(actualPoint);
+      EuclidCoreTestTools.assertTuple3DEquals(min, actualPoint, 0.0);
+      actual.getMaximum(actualPoint);
+      EuclidCoreTestTools.assertTuple3DEquals(max, actualPoint, 0.0);
+      actual.getCovariance(actualCovariance);
+      EuclidCoreTestTools.assertMatrix3DEquals(covariance, actualCovariance, epsilon);
+      actual.getSampleCovariance(actualCovariance);
+      EuclidCoreTestTools.assertMatrix3DEquals(sampleCovariance, actualCovariance, epsilon);
+   }
+}
@@ -1466,6 +1466,39 @@ public abstract class QuaternionBasicsTest<T extends QuaternionBasics> extends T
       }
    }
 
+   @Test
+   public void testInterpolateNormalizedAndFast() throws Exception
+   {
+      Random random = new Random(98234L);
+      T qExpected = createEmptyTuple();
+      T qActual = createEmptyTuple();
+      // The fast SLERP is approximated, see QuaternionTools.interpolateFast(...).
+      double fastEpsilon = Math.max(2.0e-5, 10.0 * getEpsilon());
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         T q0 = createRandomTuple(random);
+         T qf = createRandomTuple(random);
+         double alpha = EuclidCoreRandomTools.nextDouble(random, 0.0, 1.0);
+
+         qExpected.interpolate(q0, qf, alpha);
+         qActual.interpolateFast(q0, qf, alpha);
+         assertEquals(0.0, qExpected.distancePrecise(qActual), fastEpsilon);
+
+         qActual.set(q0);
+         qActual.interpolateFast(qf, alpha);
+         assertEquals(0.0, qExpected.distancePrecise(qActual), fastEpsilon);
+
+         QuaternionTools.interpolateNormalized(q0, qf, alpha, qExpected);
+         qActual.interpolateNormalized(q0, qf, alpha);
+         EuclidCoreTestTools.assertQuaternionEquals(qExpected, qActual, getEpsilon());
+
+         qActual.set(q0);
+         qActual.interpolateNormalized(qf, alpha);
+         EuclidCoreTestTools.assertQuaternionEquals(qExpected, qActual, getEpsilon());
+      }
+   }
+
    @Test
    public void testInterpolate() throws Exception
    {
@@ -0,0 +1,141 @@
+package us.ihmc.euclid.tuple4D;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.tools.QuaternionTools;
+
+public class QuaternionInterpolatorTest
+{
+   private static final int NUMBER_OF_ITERATIONS = 100;
+   private static final double EPS = 1.0e-12;
+
+   @Test
+   public void testConstructors() throws Exception
+   {
+      Random random = new Random(2345L);
+      Quaternion actual = new Quaternion();
+
+      QuaternionInterpolator interpolator = new QuaternionInterpolator();
+      interpolator.interpolate(random.nextDouble(), actual);
+      EuclidCoreTestTools.assertQuaternionIsSetToZero(actual);
+
+      Quaternion q0 = EuclidCoreRandomTools.nextQuaternion(random);
+      Quaternion qf = EuclidCoreRandomTools.nextQuaternion(random);
+      interpolator = new QuaternionInterpolator(q0, qf);
+      interpolator.interpolate(0.0, actual);
+      EuclidCoreTestTools.assertQuaternionEquals(q0, actual, EPS);
+      interpolator.interpolate(1.0, actual);
+      EuclidCoreTestTools.assertQuaternionGeometricallyEquals(qf, actual, EPS);
+   }
+
+   @Test
+   public void testInterpolate() throws Exception
+   {
+      Random random = new Random(9832L);
+      QuaternionInterpolator interpolator = new QuaternionInterpolator();
+      Quaternion expected = new Quaternion();
+      Quaternion actual = new Quaternion();
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         Quaternion q0 = EuclidCoreRandomTools.nextQuaternion(random);
+         Quaternion qf;
+
+         switch (random.nextInt(3))
+         {
+         case 0:
+            qf = EuclidCoreRandomTools.nextQuaternion(random);
+            break;
+         case 1:
+            // Quaternions close enough to fall back to the linear interpolation.
+            qf = new Quaternion(q0);
+            qf.appendYawRotation(1.0e-7);
+            break;
+         default:
+            qf = new Quaternion(q0);
+            qf.negate();
+            break;
+         }
+
+         interpolator.set(q0, qf);
+
+         for (int j = 0; j < 10; j++)
+         {
+            double alpha = EuclidCoreRandomTools.nextDouble(random, 0.0, 1.0);
+
+            expected.interpolate(q0, qf, alpha);
+            interpolator.interpolate(alpha, actual);
+            EuclidCoreTestTools.assertQuaternionEquals(expected, actual, EPS);
+
+            QuaternionTools.interpolateFast(q0, qf, alpha, expected);
+            interpolator.interpolateFast(alpha, actual);
+            EuclidCoreTestTools.assertQuaternionEquals(expected, actual, EPS);
+
+            QuaternionTools.interpolateNormalized(q0, qf, alpha, expected);
+            interpolator.interpolateNormalized(alpha, actual);
+            EuclidCoreTestTools.assertQuaternionEquals(expected, actual, EPS);
+         }
+      }
+   }
+
+   @Test
+   public void testBatchInterpolate() throws Exception
+   {
+      Random random = new Random(4576L);
+
+      for (int i = 0; i < NUMBER_OF_ITERATIONS; i++)
+      {
+         QuaternionInterpolator interpolator = new QuaternionInterpolator(EuclidCoreRandomTools.nextQuaternion(random),
+                                                                          EuclidCoreRandomTools.nextQuaternion(random));
+         int numberOfAlphas = random.nextInt(50) + 1;
+         int startIndex = random.nextInt(numberOfAlphas);
+         int endIndex = startIndex + random.nextInt(numberOfAlphas - startIndex + 1);
+         double[] alphas = new double[numberOfAlphas];
+         for (int j = 0; j < numberOfAlphas; j++)
+            alphas[j] = EuclidCoreRandomTools.nextDouble(random, 0.0, 1.0);
+
+         double[] slerps = new double[4 * numberOfAlphas];
+         double[] fastSlerps = new double[4 * numberOfAlphas];
+         double[] nlerps = new double[4 * numberOfAlphas];
+         interpolator.interpolate(alphas, slerps, startIndex, endIndex);
+         interpolator.interpolateFast(alphas, fastSlerps, startIndex, endIndex);
+         interpolator.interpolateNormalized(alphas, nlerps, startIndex, endIndex);
+
+         Quaternion expected = new Quaternion();
+
+         for (int j = 0; j < numberOfAlphas; j++)
+         {
+            boolean inRange = j >= startIndex && j < endIndex;
+
+            interpolator.interpolate(alphas[j], expected);
+            assertPackedQuaternionEquals(expected, slerps, j, inRange);
+            interpolator.interpolateFast(alphas[j], expected);
+            assertPackedQuaternionEquals(expected, fastSlerps, j, inRange);
+            interpolator.interpolateNormalized(alphas[j], expected);
+            assertPackedQuaternionEquals(expected, nlerps, j, inRange);
+         }
+      }
+   }
+
+   private static void assertPackedQuaternionEquals(Quaternion expected, double[] quaternions, int index, boolean inRange)
+   {
+      if (inRange)
+      {
+         assertEquals(expected.getX(), quaternions[4 * index], 0.0);
+         assertEquals(expected.getY(), quaternions[4 * index + 1], 0.0);
+         assertEquals(expected.getZ(), quaternions[4 * index + 2], 0.0);
+         assertEquals(expected.getS(), quaternions[4 * index + 3], 0.0);
+      }
+      else
+      {
+         for (int i = 0; i < 4; i++)
+            assertEquals(0.0, quaternions[4 * index + i], 0.0);
+      }
+   }
+}